@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Compares lookup throughput of REST (HTTP/1.1 JSON), unary gRPC and the pipelined FindByDocuments stream.
+# Requires a running Postgres (see docker/) with the document present, a packaged jar
+# (./mvnw -DskipTests package), `hey` and `ghz`.
+#
+#   scripts/bench-grpc.sh [concurrency] [duration] [document] [documents per stream]
+set -euo pipefail
+
+CONCURRENCY=${1:-50}
+DURATION=${2:-30s}
+DOCUMENT=${3:-12345678909}
+STREAM_DOCUMENTS=${4:-500}
+PORT=${PORT:-8080}
+GRPC_PORT=${GRPC_PORT:-9696}
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+TRANSACTION_ID=${TRANSACTION_ID:-00000000-0000-0000-0000-000000000001}
+GRPC_AUTH_TOKEN=${GRPC_AUTH_TOKEN:-bench}
+# Lift the lookup rate limit so the runs measure lookups, not refusals
+ARGS=(--server.port="$PORT" --user.grpc.enabled=true --user.grpc.port="$GRPC_PORT" --user.rate-limit.enabled=false
+      --user.grpc.auth-token="$GRPC_AUTH_TOKEN")
+
+java -jar "$JAR" --spring.profiles.active="${BASE_PROFILES:-dev}" "${ARGS[@]}" > target/bench-grpc.log 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null || true' EXIT
+until curl -sf "http://localhost:${PORT}/actuator/health/readiness" > /dev/null; do sleep 1; done
+
+METADATA="{\"x-transaction-id\":\"${TRANSACTION_ID}\",\"authorization\":\"Bearer ${GRPC_AUTH_TOKEN}\"}"
+GHZ=(ghz --insecure --proto src/main/proto/user.proto -m "$METADATA" -c "$CONCURRENCY" -z "$DURATION")
+
+echo "== REST GET /users/document (${CONCURRENCY} concurrent, ${DURATION})"
+hey -z "$DURATION" -c "$CONCURRENCY" -H "x-transaction-id: ${TRANSACTION_ID}" \
+    "http://localhost:${PORT}/users/document/${DOCUMENT}" \
+    | tee target/bench-grpc-rest.txt | grep -E "Requests/sec|Average|99%|\[[0-9]{3}\]"
+
+echo "== gRPC FindByDocument (${CONCURRENCY} concurrent, ${DURATION})"
+"${GHZ[@]}" --call atuantes.user.v1.UserService.FindByDocument -d "{\"document\":\"${DOCUMENT}\"}" \
+    "localhost:${GRPC_PORT}" | tee target/bench-grpc-unary.txt | grep -E "Requests/sec|Average|99 %|\[OK\]|\[[A-Z][a-z]"
+
+echo "== gRPC FindByDocuments (${CONCURRENCY} streams of ${STREAM_DOCUMENTS} documents, ${DURATION})"
+"${GHZ[@]}" --call atuantes.user.v1.UserService.FindByDocuments -d "{\"document\":\"${DOCUMENT}\"}" \
+    --stream-call-count "$STREAM_DOCUMENTS" "localhost:${GRPC_PORT}" \
+    | tee target/bench-grpc-stream.txt | grep -E "Requests/sec|Average|\[OK\]" \
+    | awk -v n="$STREAM_DOCUMENTS" '/Requests\/sec/ {printf "  Documents/sec:\t%.2f\n", $2 * n} {print}'
+
+ps -o rss=,nlwp= -p "$PID" | awk '{printf "RSS %d MB, OS threads %d\n", $1/1024, $2}'
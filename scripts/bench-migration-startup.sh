@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Measures the startup time a serving instance saves by checking the schema version instead of running Flyway.
+# Requires a migrated Postgres (see docker/, or run the jar once with --spring.profiles.active=migrate) and a
+# packaged jar (./mvnw -DskipTests package).
+#
+#   scripts/bench-migration-startup.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+PROFILES=${PROFILES:-dev}
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+
+started_ms() {
+  local mode=$1 flyway=$2 pid started
+  java -jar "$JAR" --spring.profiles.active="$PROFILES" --server.port="$PORT" \
+       --spring.flyway.enabled="$flyway" --user.warm-up.enabled=false > "target/startup-${mode}.log" 2>&1 &
+  pid=$!
+  until started=$(grep -o 'Started Application in [0-9.]* seconds' "target/startup-${mode}.log"); do
+    kill -0 "$pid" 2>/dev/null || { tail -n 20 "target/startup-${mode}.log"; exit 1; }
+    sleep 0.1
+  done
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  echo "$started" | awk '{print $4 * 1000}'
+}
+
+for i in $(seq 1 "$RUNS"); do
+  echo "flyway $(started_ms flyway true)"
+  echo "check $(started_ms check false)"
+done | tee target/bench-migration-startup.txt
+
+awk '{ total[$1] += $2; n[$1]++ }
+     END { f = total["flyway"] / n["flyway"]; c = total["check"] / n["check"]
+           printf "mean startup with Flyway %d ms, with schema-version check %d ms, saved %d ms per instance\n",
+                  f, c, f - c }' target/bench-migration-startup.txt
@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# Compares cold starts of the plain jar, the AOT + AppCDS layout and the native image: time to the first
+# served request, time until the readiness probe reports UP (after warm-up), the startup time Spring reports
+# and resident memory after a short load burst. The report is written to target/bench-startup.txt.
+# Requires a running Postgres (see docker/) and `hey`, plus the artifacts of the selected modes:
+#   jvm     ./mvnw -DskipTests package
+#   cds     ./mvnw -Pcds -DskipTests verify
+#   native  ./mvnw -Pnative -Daot.profiles=dev -DskipTests native:compile
+#
+#   MODES="jvm cds" scripts/bench-startup.sh [runs] [document]
+set -euo pipefail
+
+RUNS=${1:-5}
+DOCUMENT=${2:-12345678909}
+MODES=${MODES:-jvm cds native}
+PORT=${PORT:-8080}
+PROFILES=${PROFILES:-dev}
+TRANSACTION_ID=${TRANSACTION_ID:-00000000-0000-0000-0000-000000000001}
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+NATIVE=${NATIVE:-target/ma-plataform-api}
+URL="http://localhost:${PORT}/users/document/${DOCUMENT}"
+
+now_ms() { date +%s%3N; }
+
+command_for() {
+  case $1 in
+    jvm) echo java -jar "$JAR" ;;
+    cds) echo target/cds/run.sh ;;
+    native) echo "$NATIVE" ;;
+  esac
+}
+
+measure() {
+  local mode=$1 start pid first ready started rss
+  start=$(now_ms)
+  $(command_for "$mode") --spring.profiles.active="$PROFILES" --server.port="$PORT" \
+      > "target/startup-${mode}.log" 2>&1 &
+  pid=$!
+  # Any HTTP status counts: the 404 for an unknown document still went through the whole stack
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' -H "x-transaction-id: ${TRANSACTION_ID}" "$URL")" != 000 ]; do
+    sleep 0.01
+  done
+  first=$(( $(now_ms) - start ))
+  until curl -sf "http://localhost:${PORT}/actuator/health/readiness" > /dev/null; do sleep 0.05; done
+  ready=$(( $(now_ms) - start ))
+  started=$(grep -o 'Started Application in [0-9.]* seconds' "target/startup-${mode}.log" | awk '{print $4 * 1000}')
+  hey -z 10s -c 50 -H "x-transaction-id: ${TRANSACTION_ID}" "$URL" > /dev/null
+  rss=$(ps -o rss= -p "$pid")
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  echo "${mode} ${first} ${ready} ${started:-0} $(( rss / 1024 ))"
+}
+
+for i in $(seq 1 "$RUNS"); do
+  for mode in $MODES; do
+    measure "$mode"
+  done
+done > target/bench-startup.runs
+
+{
+  printf '%-8s %18s %12s %14s %8s\n' mode first-request-ms ready-ms spring-start-ms rss-mb
+  awk '{printf "%-8s %18d %12d %14d %8d\n", $1, $2, $3, $4, $5}' target/bench-startup.runs
+  echo
+  awk '{ first[$1] += $2; ready[$1] += $3; started[$1] += $4; rss[$1] += $5; n[$1]++ }
+       END { for (m in n) printf "mean %-6s first request %d ms, ready %d ms, spring start %d ms, RSS %d MB\n",
+                                  m, first[m] / n[m], ready[m] / n[m], started[m] / n[m], rss[m] / n[m] }' \
+      target/bench-startup.runs
+} | tee target/bench-startup.txt
@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Compares platform and virtual request threads at high concurrency against a slow database.
+# Requires a running Postgres (see docker/), a packaged jar (./mvnw -DskipTests package) and `hey`.
+#
+#   scripts/bench-virtual-threads.sh [concurrency] [duration] [document]
+set -euo pipefail
+
+CONCURRENCY=${1:-800}
+DURATION=${2:-60s}
+DOCUMENT=${3:-12345678909}
+PORT=${PORT:-8080}
+# A small pool makes the database the bottleneck long before the CPU is busy
+POOL_SIZE=${POOL_SIZE:-10}
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+TRANSACTION_ID=${TRANSACTION_ID:-00000000-0000-0000-0000-000000000001}
+
+run() {
+  local mode=$1 profiles=$2
+  echo "== ${mode} threads (${CONCURRENCY} concurrent, ${DURATION})"
+  java -jar "$JAR" --spring.profiles.active="$profiles" --server.port="$PORT" \
+       --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+       > "target/bench-${mode}.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+  until curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; do sleep 1; done
+
+  hey -z 10s -c 50 -H "x-transaction-id: ${TRANSACTION_ID}" "http://localhost:${PORT}/users/document/${DOCUMENT}" > /dev/null
+  hey -z "$DURATION" -c "$CONCURRENCY" -H "x-transaction-id: ${TRANSACTION_ID}" "http://localhost:${PORT}/users/document/${DOCUMENT}" \
+      | tee "target/bench-${mode}.txt" \
+      | grep -E "Requests/sec|Average|99%|\[[0-9]{3}\]"
+
+  if [ "$mode" = virtual ]; then
+    curl -s "http://localhost:${PORT}/actuator/virtualthreads"; echo
+  fi
+  ps -o rss=,nlwp= -p "$pid" | awk '{printf "RSS %d MB, OS threads %d\n", $1/1024, $2}'
+}
+
+run platform "${BASE_PROFILES:-dev}"
+run virtual "${BASE_PROFILES:-dev},virtual-threads"
@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Rolling-deploy rehearsal for the peer cache handoff with two local instances: the first one is warmed with
+# lookups, the second one copies its hottest users during warm-up and serves them without touching Postgres.
+# Requires a running Postgres (see docker/), a packaged jar (./mvnw -DskipTests package) and `hey`.
+#
+#   scripts/cache-handoff.sh [document] [requests]
+set -euo pipefail
+
+DOCUMENT=${1:-12345678909}
+REQUESTS=${2:-2000}
+PEER_PORT=${PEER_PORT:-8080}
+NEW_PORT=${NEW_PORT:-8081}
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+TRANSACTION_ID=${TRANSACTION_ID:-00000000-0000-0000-0000-000000000001}
+ARGS=(--spring.profiles.active="${BASE_PROFILES:-dev}" --user.cache.enabled=true --user.rate-limit.enabled=false)
+
+ready() {
+  until curl -sf "http://localhost:$1/actuator/health/readiness" > /dev/null; do sleep 1; done
+}
+
+java -jar "$JAR" "${ARGS[@]}" --server.port="$PEER_PORT" > target/cache-handoff-peer.log 2>&1 &
+PEER=$!
+trap 'kill $PEER ${NEW:-} 2>/dev/null || true' EXIT
+ready "$PEER_PORT"
+hey -n "$REQUESTS" -c 10 -H "x-transaction-id: ${TRANSACTION_ID}" \
+    "http://localhost:${PEER_PORT}/users/document/${DOCUMENT}" > /dev/null
+echo "== peer cache"
+curl -s "http://localhost:${PEER_PORT}/actuator/usercache"; echo
+
+java -jar "$JAR" "${ARGS[@]}" --server.port="$NEW_PORT" --user.cache.handoff.enabled=true \
+     --user.cache.handoff.peer-url="http://localhost:${PEER_PORT}/actuator/usercache/hottest" \
+     > target/cache-handoff-new.log 2>&1 &
+NEW=$!
+ready "$NEW_PORT"
+grep -E "User cache (snapshot|reconcile)|Warm-up - peer cache handoff" target/cache-handoff-new.log || true
+curl -sf -o /dev/null -H "x-transaction-id: ${TRANSACTION_ID}" "http://localhost:${NEW_PORT}/users/document/${DOCUMENT}"
+echo "== new instance cache after one lookup (expect a hit, no miss)"
+curl -s "http://localhost:${NEW_PORT}/actuator/usercache"; echo
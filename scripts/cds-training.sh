@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Training run for the AppCDS archive, invoked by the `cds` Maven profile after packaging.
+# Extracts the repackaged jar into a CDS-friendly layout, starts it with -XX:ArchiveClassesAtExit, drives both
+# endpoints (success and error paths) against the local database and stops it so the JVM dumps the archive.
+# Requires the database from docker/ (or DB_* variables pointing at one).
+#
+#   scripts/cds-training.sh <jar> <destination>
+set -euo pipefail
+
+JAR=$1
+DESTINATION=$2
+PORT=${CDS_TRAINING_PORT:-18080}
+PROFILES=${CDS_TRAINING_PROFILES:-dev}
+TRANSACTION_ID=00000000-0000-0000-0000-000000000001
+BASE="http://localhost:${PORT}"
+
+rm -rf "$DESTINATION"
+java -Djarmode=tools -jar "$JAR" extract --destination "$DESTINATION"
+APP_JAR=$(basename "$JAR")
+
+java -XX:ArchiveClassesAtExit="$DESTINATION/application.jsa" -Dspring.aot.enabled=true \
+     -jar "$DESTINATION/$APP_JAR" --spring.profiles.active="$PROFILES" --server.port="$PORT" \
+     > "$DESTINATION/training.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+  curl -sf "$BASE/actuator/health/readiness" > /dev/null && break
+  kill -0 "$pid" 2>/dev/null || { cat "$DESTINATION/training.log"; exit 1; }
+  sleep 1
+done
+
+request() {
+  curl -s -o /dev/null -H "x-transaction-id: ${TRANSACTION_ID}" -H 'Content-Type: application/json' "$@"
+}
+
+for i in $(seq 1 200); do
+  # The first create succeeds and later ones take the duplicate-document path; both are worth archiving
+  request -X POST "$BASE/user" -d '{"fullName":"CDS Training","document":"52998224725",
+    "email":"cds-training@example.com","phone":"+55 11 90000-0000","birthdate":"1990-01-01","category":"OTHER"}'
+  request -X POST "$BASE/user" -d '{"fullName":"","document":"1","email":"invalid","birthdate":"2990-01-01"}'
+  request "$BASE/users/document/52998224725"
+  request "$BASE/users/document/11144477735"
+  request "$BASE/users/document/12345678900"
+done
+
+# A normal JVM exit is what writes the dynamic archive
+kill -TERM "$pid"
+wait "$pid" || true
+trap - EXIT
+test -s "$DESTINATION/application.jsa"
+
+cat > "$DESTINATION/run.sh" <<LAUNCHER
+#!/usr/bin/env sh
+# The archive only matches this exact layout and JDK; the JVM silently falls back to a normal start otherwise
+cd "\$(dirname "\$0")"
+exec java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \$JAVA_OPTS -jar ${APP_JAR} "\$@"
+LAUNCHER
+chmod +x "$DESTINATION/run.sh"
+echo "AppCDS archive: $(du -h "$DESTINATION/application.jsa" | cut -f1) at $DESTINATION/application.jsa"
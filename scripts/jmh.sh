@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+# Runs the JMH benchmarks in src/test, e.g.
+#   scripts/jmh.sh UserJsonBenchmark -prof gc
+#   scripts/jmh.sh UserAdapterBenchmark -p adapter=jdbc      (needs the local database, see docker/)
+# The first argument selects benchmarks by regex; the rest go to JMH. Results are written to target/jmh-*.json.
+set -euo pipefail
+
+BENCHMARK=${1:?benchmark name or regex}
+shift
+./mvnw -q -DskipTests test-compile dependency:build-classpath \
+       -Dmdep.includeScope=test -Dmdep.outputFile=target/test-classpath.txt
+java -cp "target/test-classes:target/classes:$(cat target/test-classpath.txt)" org.openjdk.jmh.Main \
+     "$BENCHMARK" -rf json -rff "target/jmh-${BENCHMARK//[^A-Za-z0-9]/_}.json" "$@"
@@ -5,6 +5,8 @@ import com.atuantes.mentes.user.application.command.CreateUserCommand;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
 import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.UseCaseEvent;
 import com.atuantes.mentes.user.domain.service.UserInsert;
 import lombok.extern.slf4j.Slf4j;
 
@@ -12,18 +14,24 @@ import java.util.UUID;
 
 @Slf4j
 public record CreateUserUseCase(CreateUserCommandToUser createUserCommandToUser,
-                                UserInsert userInsert) {
+                                UserInsert userInsert,
+                                DocumentHasher documentHasher) {
 
     public User createUser(CreateUserCommand command, UUID transactionId) {
 
         log.info(LogMessage.LOG_START_USE_CASE.getMessage(), "create user", transactionId);
+        UseCaseEvent event = new UseCaseEvent("create user");
+        event.begin();
+        try {
+            User user = createUserCommandToUser.toUser(command);
 
-        User user = createUserCommandToUser.toUser(command);
+            var createdUser = userInsert.insert(user, transactionId);
 
-        var createdUser = userInsert.insert(user, transactionId);
+            log.info(LogMessage.LOG_END_USE_CASE.getMessage(), "create user", transactionId);
 
-        log.info(LogMessage.LOG_END_USE_CASE.getMessage(), "create user", transactionId);
-
-        return createdUser;
+            return createdUser;
+        } finally {
+            event.commit(transactionId, command.getDocument(), documentHasher);
+        }
     }
 }
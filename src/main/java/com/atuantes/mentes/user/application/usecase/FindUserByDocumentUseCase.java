@@ -3,22 +3,30 @@ package com.atuantes.mentes.user.application.usecase;
 
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.UseCaseEvent;
 import com.atuantes.mentes.user.domain.service.FindUserByDocument;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
 
 @Slf4j
-public record FindUserByDocumentUseCase(FindUserByDocument findUserByDocument) {
+public record FindUserByDocumentUseCase(FindUserByDocument findUserByDocument,
+                                        DocumentHasher documentHasher) {
 
     public User findUserByDocument(String document, UUID transactionId) {
 
         log.info(LogMessage.LOG_START_USE_CASE.getMessage(), "find user by document", transactionId);
+        UseCaseEvent event = new UseCaseEvent("find user by document");
+        event.begin();
+        try {
+            var user = findUserByDocument.execute(document, transactionId);
 
-        var user = findUserByDocument.execute(document, transactionId);
+            log.info(LogMessage.LOG_END_USE_CASE.getMessage(), "find user by document", transactionId);
 
-        log.info(LogMessage.LOG_END_USE_CASE.getMessage(), "find user by document", transactionId);
-
-        return user;
+            return user;
+        } finally {
+            event.commit(transactionId, document, documentHasher);
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.atuantes.mentes.user.application.usecase;
+
+
+import com.atuantes.mentes.user.application.command.CreateUserCommand;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.UseCaseEvent;
+import com.atuantes.mentes.user.domain.service.ReactiveUserInsert;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+public record ReactiveCreateUserUseCase(CreateUserCommandToUser createUserCommandToUser,
+                                        ReactiveUserInsert userInsert,
+                                        DocumentHasher documentHasher) {
+
+    public Mono<User> createUser(CreateUserCommand command, UUID transactionId) {
+        return Mono.defer(() -> {
+            log.info(LogMessage.LOG_START_USE_CASE.getMessage(), "create user", transactionId);
+            UseCaseEvent event = new UseCaseEvent("create user");
+            event.begin();
+            return Mono.fromCallable(() -> createUserCommandToUser.toUser(command))
+                    .flatMap(user -> userInsert.insert(user, transactionId))
+                    .doOnSuccess(createdUser ->
+                            log.info(LogMessage.LOG_END_USE_CASE.getMessage(), "create user", transactionId))
+                    .doFinally(signal -> event.commit(transactionId, command.getDocument(), documentHasher));
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.atuantes.mentes.user.application.usecase;
+
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.UseCaseEvent;
+import com.atuantes.mentes.user.domain.service.ReactiveFindUserByDocument;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+public record ReactiveFindUserByDocumentUseCase(ReactiveFindUserByDocument findUserByDocument,
+                                                DocumentHasher documentHasher) {
+
+    public Mono<User> findUserByDocument(String document, UUID transactionId) {
+        return Mono.defer(() -> {
+            log.info(LogMessage.LOG_START_USE_CASE.getMessage(), "find user by document", transactionId);
+            UseCaseEvent event = new UseCaseEvent("find user by document");
+            event.begin();
+            return findUserByDocument.execute(document, transactionId)
+                    .doOnSuccess(user ->
+                            log.info(LogMessage.LOG_END_USE_CASE.getMessage(), "find user by document", transactionId))
+                    .doFinally(signal -> event.commit(transactionId, document, documentHasher));
+        });
+    }
+}
@@ -2,9 +2,16 @@ package com.atuantes.mentes.user.domain.bootstrap;
 
 import com.atuantes.mentes.user.application.usecase.CreateUserUseCase;
 import com.atuantes.mentes.user.application.usecase.FindUserByDocumentUseCase;
+import com.atuantes.mentes.user.application.usecase.ReactiveCreateUserUseCase;
+import com.atuantes.mentes.user.application.usecase.ReactiveFindUserByDocumentUseCase;
 import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.ReactiveFindUserByDocument;
+import com.atuantes.mentes.user.domain.service.ReactiveUserInsert;
 import com.atuantes.mentes.user.domain.service.UserInsert;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,15 +19,36 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class BeanFactory {
 
+    @Bean
+    public DocumentHasher documentHasher(@Value("${user.jfr.document-key:}") String documentKey) {
+        return new DocumentHasher(documentKey);
+    }
+
     @Bean
     public CreateUserUseCase createUserUseCase(CreateUserCommandToUser createUserCommandToUser,
-                                               UserInsert userInsert) {
-        return new CreateUserUseCase(createUserCommandToUser, userInsert);
+                                               UserInsert userInsert, DocumentHasher documentHasher) {
+        return new CreateUserUseCase(createUserCommandToUser, userInsert, documentHasher);
+    }
+
+    @Bean
+    public FindUserByDocumentUseCase findUserByDocumentUseCase(FindUserByDocument findUserByDocument,
+                                                               DocumentHasher documentHasher) {
+        return new FindUserByDocumentUseCase(findUserByDocument, documentHasher);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveCreateUserUseCase reactiveCreateUserUseCase(CreateUserCommandToUser createUserCommandToUser,
+                                                               ReactiveUserInsert userInsert,
+                                                               DocumentHasher documentHasher) {
+        return new ReactiveCreateUserUseCase(createUserCommandToUser, userInsert, documentHasher);
     }
 
     @Bean
-    public FindUserByDocumentUseCase findUserByDocumentUseCase(FindUserByDocument findUserByDocument) {
-        return new FindUserByDocumentUseCase(findUserByDocument);
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveFindUserByDocumentUseCase reactiveFindUserByDocumentUseCase(
+            ReactiveFindUserByDocument findUserByDocument, DocumentHasher documentHasher) {
+        return new ReactiveFindUserByDocumentUseCase(findUserByDocument, documentHasher);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.atuantes.mentes.user.domain.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class UserServiceUnavailableException extends UserException {
+
+    private final Duration retryAfter;
+
+    public UserServiceUnavailableException(String code, String message) {
+        this(code, message, null);
+    }
+
+    public UserServiceUnavailableException(String code, String message, Duration retryAfter) {
+        super(code, message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.atuantes.mentes.user.domain.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class UserTooManyRequestsException extends UserException {
+
+    private final Duration retryAfter;
+
+    public UserTooManyRequestsException(String code, String message, Duration retryAfter) {
+        super(code, message, HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfter = retryAfter;
+    }
+}
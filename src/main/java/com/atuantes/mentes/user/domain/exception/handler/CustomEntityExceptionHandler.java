@@ -1,10 +1,13 @@
 package com.atuantes.mentes.user.domain.exception.handler;
 
 import com.atuantes.mentes.user.domain.exception.UserException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.exception.UserTooManyRequestsException;
 import com.atuantes.mentes.user.domain.exception.model.ExceptionResponse;
 import com.atuantes.mentes.user.domain.message.LogMessage;
 import com.atuantes.mentes.user.domain.message.UserMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,6 +28,7 @@ import java.util.stream.Collectors;
 @Slf4j
 @RestController
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CustomEntityExceptionHandler extends ResponseEntityExceptionHandler {
 
     @Override
@@ -71,4 +76,32 @@ public class CustomEntityExceptionHandler extends ResponseEntityExceptionHandler
                 .build();
         return new ResponseEntity<>(exceptionResponse, HttpStatusCode.valueOf(ex.getStatus().value()));
     }
+
+    @ExceptionHandler(UserServiceUnavailableException.class)
+    public final ResponseEntity<ExceptionResponse> handleServiceUnavailableException(UserServiceUnavailableException ex,
+                                                                                     WebRequest request) {
+        // Load shedding is expected under pressure and is counted in metrics, so it is not logged per request
+        return retryable(ex, ex.getRetryAfter(), request);
+    }
+
+    @ExceptionHandler(UserTooManyRequestsException.class)
+    public final ResponseEntity<ExceptionResponse> handleTooManyRequestsException(UserTooManyRequestsException ex,
+                                                                                  WebRequest request) {
+        return retryable(ex, ex.getRetryAfter(), request);
+    }
+
+    private static ResponseEntity<ExceptionResponse> retryable(UserException ex, Duration retryAfter, WebRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .code(ex.getCode())
+                .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .details(request.getDescription(false))
+                .errors(List.of(ex.getMessage()))
+                .build();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatus());
+        if (retryAfter != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        }
+        return response.body(exceptionResponse);
+    }
 }
@@ -0,0 +1,114 @@
+package com.atuantes.mentes.user.domain.exception.handler;
+
+import com.atuantes.mentes.user.domain.exception.UserException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.exception.model.ExceptionResponse;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * WebFlux counterpart of {@link CustomEntityExceptionHandler}, producing the same {@link ExceptionResponse} bodies.
+ */
+@Slf4j
+@RestController
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEntityExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public final ResponseEntity<ExceptionResponse> handleBindException(WebExchangeBindException ex,
+                                                                       ServerWebExchange exchange) {
+        var errors = ex.getBindingResult().getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .toList();
+
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .code("VAL-0001")
+                .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .details(details(exchange))
+                .errors(errors)
+                .build();
+
+        return new ResponseEntity<>(exceptionResponse, ex.getStatusCode());
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public final ResponseEntity<ExceptionResponse> handleResponseStatusException(ResponseStatusException ex,
+                                                                                 ServerWebExchange exchange) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .details(details(exchange))
+                .errors(List.of(String.valueOf(ex.getReason())))
+                .build();
+
+        return new ResponseEntity<>(exceptionResponse, ex.getStatusCode());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public final ResponseEntity<ExceptionResponse> handleAllException(Exception ex, ServerWebExchange exchange) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .details(details(exchange))
+                .errors(List.of(String.valueOf(ex.getMessage())))
+                .build();
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(UserException.class)
+    public final ResponseEntity<ExceptionResponse> handleUserException(UserException ex, ServerWebExchange exchange) {
+        log.error(LogMessage.LOG_ERROR.getMessage(), ex.getClass().getName(), ex.getCode(), ex.getMessage());
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .code(ex.getCode())
+                .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .details(details(exchange))
+                .errors(List.of(ex.getMessage()))
+                .build();
+        return new ResponseEntity<>(exceptionResponse, HttpStatusCode.valueOf(ex.getStatus().value()));
+    }
+
+    @ExceptionHandler(UserServiceUnavailableException.class)
+    public final ResponseEntity<ExceptionResponse> handleServiceUnavailableException(UserServiceUnavailableException ex,
+                                                                                     ServerWebExchange exchange) {
+        // Load shedding is expected under pressure and is counted in metrics, so it is not logged per request
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .code(ex.getCode())
+                .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .details(details(exchange))
+                .errors(List.of(ex.getMessage()))
+                .build();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (ex.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000)));
+        }
+        return response.body(exceptionResponse);
+    }
+
+    // Same shape as WebRequest#getDescription(false) on the servlet stack
+    private static String details(ServerWebExchange exchange) {
+        return "uri=" + exchange.getRequest().getPath().value();
+    }
+}
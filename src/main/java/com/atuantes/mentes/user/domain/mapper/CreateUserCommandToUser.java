@@ -6,6 +6,7 @@ import com.atuantes.mentes.user.domain.exception.UserIllegalArgumentException;
 import com.atuantes.mentes.user.domain.exception.UserInvalidDocumentException;
 import com.atuantes.mentes.user.domain.message.LogMessage;
 import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class CreateUserCommandToUser {
 
     public User toUser(CreateUserCommand command) {
+        long start = ServerTiming.start();
         try {
             return new User(
                     command.getFullName(),
@@ -31,6 +33,8 @@ public class CreateUserCommandToUser {
                     UserErrorMessage.CREATE_USER_COMMAND_TO_USER_MAPPER_ERROR.getCode(), e.getMessage(), null);
             throw new UserIllegalArgumentException(UserErrorMessage.CREATE_USER_COMMAND_TO_USER_MAPPER_ERROR.getCode(),
                     UserErrorMessage.CREATE_USER_COMMAND_TO_USER_MAPPER_ERROR.getMessage());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.MAPPING, start);
         }
     }
 }
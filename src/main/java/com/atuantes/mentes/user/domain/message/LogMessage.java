@@ -16,6 +16,25 @@ public enum LogMessage {
     LOG_END_SERVICE("   end - service - {} - Transaction ID: {}"),
     LOG_START_REPOSITORY("   start - repository - {} - Transaction ID: {}"),
     LOG_END_REPOSITORY("   end - repository - {} - Transaction ID: {}"),
+    LOG_JFR_RECORDING("JFR recording - {} - Recording ID: {}"),
+    LOG_REPLICA_DOWN("Read replica {} unavailable, routing reads to other replicas or primary - {}"),
+    LOG_VIRTUAL_THREAD_PINNED("Virtual thread pinned its carrier for {} ms at {} - occurrences at this site: {}"),
+    LOG_RATE_LIMIT("Document lookup rate limit - {}"),
+    LOG_CONCURRENCY_LIMIT("Repository concurrency limit reached - limit {}, priority {}"),
+    LOG_CIRCUIT_BREAKER("Repository circuit breaker {} -> {} - {} of the last {} calls failed"),
+    LOG_POOL_RESIZE("Resizing pool {} from {} to {} connections - bottleneck: {}"),
+    LOG_SCHEMA_VERSION("Schema version {} - this build requires at least {}"),
+    LOG_MIGRATION("Migrations applied - schema version {} - {} migrations in history"),
+    LOG_WARM_UP("Warm-up - {} - {} in {} ms"),
+    LOG_GRPC_SERVER("gRPC server {} on port {}"),
+    LOG_SLOW_QUERY("Slow query - {} ms - SQL: [{}] - Bind types: {}"),
+    LOG_USER_CACHE_SNAPSHOT("User cache snapshot - {} - {} users, {} bytes in {} ms"),
+    LOG_USER_CACHE_RECONCILE("User cache reconcile - {} stale users since {} {} in {} ms"),
+    LOG_USER_DELETIONS_PRUNE("User deletions pruned - {} older than {} in {} ms"),
+    LOG_USER_CACHE_PRELOAD("User cache preload - {} - {} of {} ranges, {} users in {} ms, {} users/s"),
+    LOG_USER_CACHE_RESIZE("User cache resized from {} to {} bytes - live heap and direct memory at {}% of the "
+            + "memory limit, {}% of it the cache's - {} users "
+            + "evicted - hit rate {}% before the resize"),
     ;
 
     private final String message;
@@ -21,7 +21,11 @@ public enum UserErrorMessage {
 
     DUPLICATE_DOCUMENT_ERROR("USER-0006", UserMessage.DUPLICATE_DOCUMENT_ERROR.getMessage()),
 
-    USER_NOT_FOUND("USER-0007", "Usuário não encontrado para o documento informado.")
+    USER_NOT_FOUND("USER-0007", "Usuário não encontrado para o documento informado."),
+
+    SERVICE_UNAVAILABLE("USER-0008", UserMessage.SERVICE_UNAVAILABLE.getMessage()),
+
+    TOO_MANY_REQUESTS("USER-0009", UserMessage.TOO_MANY_REQUESTS.getMessage())
     ;
 
     private final String code;
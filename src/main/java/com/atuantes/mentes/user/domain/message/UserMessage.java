@@ -13,6 +13,8 @@ public enum UserMessage {
     INVALID_CPF("O documento fornecido não representa um CPF válido."),
     USER_INSERT_ERROR("Ocorreu um erro ao inserir o usuário no repositório."),
     DUPLICATE_DOCUMENT_ERROR("Já existe um usuário cadastrado com o mesmo documento."),
+    SERVICE_UNAVAILABLE("O serviço está temporariamente sobrecarregado. Tente novamente em instantes."),
+    TOO_MANY_REQUESTS("Limite de consultas excedido para este cliente. Tente novamente mais tarde."),
     ERROR_OCCURS_WHILE_PROCESSING_REQUEST("Ocorreu um erro ao processar a solicitação do usuário.");
 
     private final String message;
@@ -0,0 +1,155 @@
+package com.atuantes.mentes.user.domain.observability;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Per-request latency breakdown reported through the {@code Server-Timing} response header.
+ * Recording only happens on threads where {@link #begin()} was called, so the cost for
+ * requests that did not opt in is a single thread-local lookup per measured section.
+ * <p>
+ * Phases nest: the query timer runs around the connection acquire, and the mapping timer around the document
+ * validation the constructors do. A phase only counts its own time, less that of the phases measured inside it,
+ * so no time is reported twice.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private ServerTiming() {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Phase {
+        MAPPING("mapping", "DTO and command mapping"),
+        VALIDATION("validation", "Document validation"),
+        ACQUIRE("acquire", "Connection acquire"),
+        QUERY("query", "Query execution"),
+        ENCODING("encoding", "Response encoding");
+
+        private final String metric;
+        private final String description;
+    }
+
+    public static void begin() {
+        CURRENT.set(new Recording());
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static long start() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start == 0L) {
+            return;
+        }
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            long now = System.nanoTime();
+            long nanos = Math.max(0, now - start - recording.measuredSince(start));
+            recording.nanos[phase.ordinal()] += nanos;
+            recording.counts[phase.ordinal()]++;
+            recording.measured(now, nanos);
+        }
+    }
+
+    /**
+     * Starts a recording for work done on this request's behalf on another thread, which {@link #resume}s it
+     * there; once that work is known to have finished, {@link #join} adds it to this thread's recording.
+     *
+     * @return null when this thread is not recording
+     */
+    @Nullable
+    public static Recording fork() {
+        return CURRENT.get() == null ? null : new Recording();
+    }
+
+    public static void resume(@Nullable Recording recording) {
+        if (recording != null) {
+            CURRENT.set(recording);
+        }
+    }
+
+    public static void join(@Nullable Recording recording) {
+        Recording current = CURRENT.get();
+        if (recording == null || current == null) {
+            return;
+        }
+        long nanos = 0;
+        for (int i = 0; i < current.nanos.length; i++) {
+            current.nanos[i] += recording.nanos[i];
+            current.counts[i] += recording.counts[i];
+            nanos += recording.nanos[i];
+        }
+        current.measured(System.nanoTime(), nanos);
+    }
+
+    public static String header(long totalNanos) {
+        Recording recording = CURRENT.get();
+        StringBuilder header = new StringBuilder(160);
+        if (recording != null) {
+            for (Phase phase : Phase.values()) {
+                if (recording.counts[phase.ordinal()] > 0) {
+                    append(header, phase.getMetric(), phase.getDescription(), recording.nanos[phase.ordinal()]);
+                    header.append(", ");
+                }
+            }
+        }
+        append(header, "total", "Total application time", totalNanos);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String metric, String description, long nanos) {
+        header.append(metric)
+                .append(";desc=\"").append(description).append('"')
+                .append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    public static final class Recording {
+
+        // Phases stopped last, with the total measured once each stopped; enough for any nesting a request has
+        private static final int STOPS = 16;
+
+        private final long[] nanos = new long[Phase.values().length];
+        private final int[] counts = new int[Phase.values().length];
+        private final long[] stoppedAt = new long[STOPS];
+        private final long[] measuredThen = new long[STOPS];
+        private int stops;
+        private long measured;
+
+        private void measured(long now, long nanos) {
+            measured += nanos;
+            stoppedAt[stops % STOPS] = now;
+            measuredThen[stops % STOPS] = measured;
+            stops++;
+        }
+
+        /**
+         * @return time recorded by phases that stopped after {@code start}, i.e. were measured inside a phase
+         * started then
+         */
+        private long measuredSince(long start) {
+            int oldest = Math.max(0, stops - STOPS);
+            for (int i = stops - 1; i >= oldest; i--) {
+                if (stoppedAt[i % STOPS] - start <= 0) {
+                    return measured - measuredThen[i % STOPS];
+                }
+            }
+            return oldest == 0 ? measured : measured - measuredThen[oldest % STOPS];
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.atuantes.mentes.user.ConnectionAcquire")
+@Label("Connection Acquire")
+@Description("Time spent obtaining a JDBC connection from the pool")
+public class ConnectionAcquireEvent extends UserEvent {
+
+    @Label("Acquired")
+    public boolean acquired;
+}
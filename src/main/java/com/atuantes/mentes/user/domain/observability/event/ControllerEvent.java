@@ -0,0 +1,18 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.atuantes.mentes.user.Controller")
+@Label("User Controller")
+@Description("Request handled by a user controller, from entry to exit")
+public class ControllerEvent extends UserEvent {
+
+    @Label("Operation")
+    public String operation;
+
+    public ControllerEvent(String operation) {
+        this.operation = operation;
+    }
+}
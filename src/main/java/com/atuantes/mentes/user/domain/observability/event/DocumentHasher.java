@@ -0,0 +1,60 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+/**
+ * Hashes documents for the {@link UserEvent}s. Documents are personal data and a CPF has too few digits to survive
+ * a plain hash, so recordings only carry a keyed one over the digits, which still allows correlation whatever the
+ * input formatting. Instances sharing a key produce the same hash for a document, so events can be correlated
+ * across their recordings; without one each process uses a random key.
+ */
+public final class DocumentHasher {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final SecretKey key;
+    private final ThreadLocal<Mac> mac;
+
+    public DocumentHasher(String key) {
+        this.key = key == null || key.isEmpty()
+                ? randomKey()
+                : new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public long hash(String document) {
+        if (document == null) {
+            return 0L;
+        }
+        Mac keyed = mac.get();
+        for (int i = 0; i < document.length(); i++) {
+            char c = document.charAt(i);
+            if (c >= '0' && c <= '9') {
+                keyed.update((byte) c);
+            }
+        }
+        return ByteBuffer.wrap(keyed.doFinal()).getLong();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac keyed = Mac.getInstance(HMAC);
+            keyed.init(key);
+            return keyed;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC unavailable for document hashes", e);
+        }
+    }
+
+    private static SecretKey randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new SecretKeySpec(key, HMAC);
+    }
+}
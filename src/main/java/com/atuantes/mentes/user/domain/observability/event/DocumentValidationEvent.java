@@ -0,0 +1,14 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.atuantes.mentes.user.DocumentValidation")
+@Label("Document Validation")
+@Description("CPF validation of a user document")
+public class DocumentValidationEvent extends UserEvent {
+
+    @Label("Valid")
+    public boolean valid;
+}
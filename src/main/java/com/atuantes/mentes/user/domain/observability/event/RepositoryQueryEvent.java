@@ -0,0 +1,21 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.atuantes.mentes.user.RepositoryQuery")
+@Label("Repository Query")
+@Description("Query executed through UserRepository")
+public class RepositoryQueryEvent extends UserEvent {
+
+    @Label("Query")
+    public String query;
+
+    @Label("Row Count")
+    public int rowCount;
+
+    public RepositoryQueryEvent(String query) {
+        this.query = query;
+    }
+}
@@ -0,0 +1,18 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.atuantes.mentes.user.UseCase")
+@Label("User Use Case")
+@Description("Execution of a user use case")
+public class UseCaseEvent extends UserEvent {
+
+    @Label("Operation")
+    public String operation;
+
+    public UseCaseEvent(String operation) {
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,36 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@StackTrace(false)
+@Category({"Atuantes Mentes", "User"})
+public abstract class UserEvent extends Event {
+
+    @Label("Transaction ID")
+    protected String transactionId;
+
+    @Label("Document Hash")
+    protected long documentHash;
+
+    public void setTransactionId(Object transactionId) {
+        this.transactionId = transactionId == null ? null : transactionId.toString();
+    }
+
+    public void setDocumentHash(long documentHash) {
+        this.documentHash = documentHash;
+    }
+
+    /**
+     * Commits the event if it is enabled, hashing {@code document} only then.
+     */
+    public void commit(Object transactionId, String document, DocumentHasher hasher) {
+        if (shouldCommit()) {
+            setTransactionId(transactionId);
+            setDocumentHash(hasher.hash(document));
+            commit();
+        }
+    }
+}
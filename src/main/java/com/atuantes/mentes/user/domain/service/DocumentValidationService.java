@@ -4,6 +4,8 @@ package com.atuantes.mentes.user.domain.service;
 import com.atuantes.mentes.user.domain.exception.UserInvalidDocumentException;
 import com.atuantes.mentes.user.domain.message.LogMessage;
 import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.observability.event.DocumentValidationEvent;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -11,11 +13,22 @@ public class DocumentValidationService {
 
     public static void documentValidation(String document) throws UserInvalidDocumentException {
         log.info(LogMessage.LOG_START_SERVICE.getMessage(), "document validation", null);
-        if (document == null || document.isBlank()) {
-            throw new UserInvalidDocumentException(UserErrorMessage.INVALID_DOCUMENT.getCode(),
-                    UserErrorMessage.INVALID_DOCUMENT.getMessage());
+        long start = ServerTiming.start();
+        DocumentValidationEvent event = new DocumentValidationEvent();
+        event.begin();
+        try {
+            if (document == null || document.isBlank()) {
+                throw new UserInvalidDocumentException(UserErrorMessage.INVALID_DOCUMENT.getCode(),
+                        UserErrorMessage.INVALID_DOCUMENT.getMessage());
+            }
+            documentVerification(document);
+            event.valid = true;
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.VALIDATION, start);
+            // Runs inside domain constructors, so no hasher or transaction id is at hand; JFR's thread and
+            // timestamps place this event inside the use-case event that carries both
+            event.commit();
         }
-        documentVerification(document);
         log.info(LogMessage.LOG_END_SERVICE.getMessage(), "document validation", null);
     }
 
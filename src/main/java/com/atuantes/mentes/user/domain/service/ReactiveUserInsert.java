@@ -0,0 +1,10 @@
+package com.atuantes.mentes.user.domain.service;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveUserInsert {
+    Mono<User> insert(User user, UUID transactionId);
+}
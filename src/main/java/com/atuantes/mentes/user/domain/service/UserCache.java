@@ -0,0 +1,45 @@
+package com.atuantes.mentes.user.domain.service;
+
+import com.atuantes.mentes.user.domain.entity.User;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Cache tier in front of {@link FindUserByDocument}, keyed by the normalised (digits only) document.
+ */
+public interface UserCache {
+
+    /**
+     * @return a copy of the cached user, or null when the document is not cached or its entry has expired
+     */
+    User get(String document);
+
+    /**
+     * Read for when the database cannot answer: ignores the ttl and does not count as a hit or a miss.
+     *
+     * @param maxStaleness how long past the ttl an entry may still be served
+     * @return a copy of the cached user with the time it was cached, or null when the document is not cached or its
+     * entry expired more than {@code maxStaleness} ago
+     */
+    default Stale getStale(String document, Duration maxStaleness) {
+        return null;
+    }
+
+    void put(String document, User user);
+
+    void invalidate(String document);
+
+    /**
+     * Replaces the set of documents the tier must not evict to make room for others, typically the current hot
+     * keys. Tiers that never evict for space can ignore it.
+     */
+    default void pin(Collection<String> documents) {
+    }
+
+    /**
+     * @param cachedAt epoch millis when the user was cached
+     */
+    record Stale(User user, long cachedAt) {
+    }
+}
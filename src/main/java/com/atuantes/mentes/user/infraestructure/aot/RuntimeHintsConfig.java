@@ -0,0 +1,9 @@
+package com.atuantes.mentes.user.infraestructure.aot;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(UserRuntimeHints.class)
+public class RuntimeHintsConfig {
+}
@@ -0,0 +1,48 @@
+package com.atuantes.mentes.user.infraestructure.aot;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.model.ExceptionResponse;
+import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.atuantes.mentes.user.presentation.util.ValidAge;
+import com.atuantes.mentes.user.presentation.util.ValidAgeValidator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * Reachability metadata for the native image. Spring AOT covers controllers and the Spring Data repository
+ * itself; this adds what the code reaches reflectively: Jackson binding of the request/response types and
+ * the Lombok-generated accessors of {@link User}, the {@link ValidAge} validator Hibernate Validator
+ * instantiates, and the JDK proxies wrapped around {@link UserRepository} and JDBC statements.
+ */
+public class UserRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                CreateUserDto.class, ExceptionResponse.class, User.class, Category.class);
+
+        hints.reflection().registerType(ValidAge.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ValidAgeValidator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Proxied by the concurrency limiter and read by the warm-up task for its @Query SQL
+        hints.reflection().registerType(UserRepository.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.proxies().registerJdkProxy(UserRepository.class);
+
+        // Statement timing proxies forward every call reflectively to the driver objects
+        hints.reflection().registerType(Connection.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(PreparedStatement.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker.StaleRead;
+
+import java.util.UUID;
+
+/**
+ * Serves lookups from the {@link UserCache} and only goes to the wrapped adapter on a miss, caching what it
+ * returns. Not-found results are not cached, so a user is visible as soon as it is inserted. Neither are
+ * {@link StaleRead stale reads}: caching the old copy again would restart its age and hide that it is stale.
+ */
+public class CachingFindUserByDocument implements FindUserByDocument {
+
+    private final FindUserByDocument delegate;
+    private final UserCache cache;
+
+    public CachingFindUserByDocument(FindUserByDocument delegate, UserCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public User execute(String document, UUID transactionId) {
+        User cached = cache.get(document);
+        if (cached != null) {
+            return cached;
+        }
+        User user = delegate.execute(document, transactionId);
+        if (!StaleRead.isMarked()) {
+            cache.put(document, user);
+        }
+        return user;
+    }
+}
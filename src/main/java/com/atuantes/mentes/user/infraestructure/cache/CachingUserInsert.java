@@ -0,0 +1,28 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.domain.service.UserInsert;
+
+import java.util.UUID;
+
+/**
+ * Caches each user once the wrapped adapter has inserted it, since a new user is usually looked up right after.
+ */
+public class CachingUserInsert implements UserInsert {
+
+    private final UserInsert delegate;
+    private final UserCache cache;
+
+    public CachingUserInsert(UserInsert delegate, UserCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public User insert(User user, UUID transactionId) {
+        User inserted = delegate.insert(user, transactionId);
+        cache.put(inserted.getDocument(), inserted);
+        return inserted;
+    }
+}
@@ -0,0 +1,216 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing map from a packed document to a record offset and an access count, in three primitive arrays:
+ * no boxing, no entry objects, sixteen bytes per slot. Linear probing with backward-shift deletion, so there are no tombstones and
+ * lookups never degrade after churn. Not thread-safe; guarded by the owning segment's lock.
+ */
+final class LongIntHashIndex {
+
+    static final int ABSENT = -1;
+
+    private static final float MAX_LOAD = 0.75f;
+
+    // Keys are stored plus one so that zero can mark an empty slot
+    private long[] keys;
+    private int[] values;
+    private int[] counts;
+    private int mask;
+    private int size;
+
+    LongIntHashIndex(int expectedSize) {
+        int capacity = 16;
+        while (capacity * MAX_LOAD < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        long stored = key + 1;
+        for (int slot = slot(stored); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == stored) {
+                return values[slot];
+            }
+            if (current == 0) {
+                return ABSENT;
+            }
+        }
+    }
+
+    /**
+     * Like {@link #get(long)}, and counts the access. Called under a shared lock, so concurrent increments of the
+     * same key can be lost: the count is a popularity estimate, not an exact tally.
+     */
+    int getAndCount(long key) {
+        long stored = key + 1;
+        for (int slot = slot(stored); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == stored) {
+                int count = counts[slot];
+                if (count != Integer.MAX_VALUE) {
+                    counts[slot] = count + 1;
+                }
+                return values[slot];
+            }
+            if (current == 0) {
+                return ABSENT;
+            }
+        }
+    }
+
+    /**
+     * @return the accesses counted for the key, 0 when absent
+     */
+    int count(long key) {
+        int slot = find(key + 1);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    void count(long key, int count) {
+        int slot = find(key + 1);
+        if (slot >= 0) {
+            counts[slot] = count;
+        }
+    }
+
+    /**
+     * Passes the access count of every key to {@code consumer}.
+     */
+    void forEachCount(IntConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return the previous value, or {@link #ABSENT}; a replaced key keeps its access count
+     */
+    int put(long key, int value) {
+        long stored = key + 1;
+        int slot = slot(stored);
+        for (; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == stored) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = stored;
+        values[slot] = value;
+        counts[slot] = 0;
+        if (++size > keys.length * MAX_LOAD) {
+            resize(keys.length << 1);
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Removes the key only while it still maps to {@code value}, so evicting an old record never drops the
+     * mapping of a newer record for the same document.
+     */
+    boolean remove(long key, int value) {
+        int slot = find(key + 1);
+        if (slot < 0 || values[slot] != value) {
+            return false;
+        }
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * @return the removed value, or {@link #ABSENT}
+     */
+    int remove(long key) {
+        int slot = find(key + 1);
+        if (slot < 0) {
+            return ABSENT;
+        }
+        int value = values[slot];
+        delete(slot);
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        return (long) keys.length * (Long.BYTES + 2 * Integer.BYTES);
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    private int find(long stored) {
+        for (int slot = slot(stored); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == stored) {
+                return slot;
+            }
+            if (current == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void delete(int slot) {
+        size--;
+        // Shift back every following entry of the probe run that would otherwise become unreachable
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                counts[gap] = counts[next];
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long stored) {
+        // Murmur3 finaliser: consecutive documents must not land in consecutive slots
+        long h = stored;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
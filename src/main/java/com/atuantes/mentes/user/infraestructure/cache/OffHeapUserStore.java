@@ -0,0 +1,662 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link UserCache} that keeps users outside the Java heap, so a working set of millions of users adds almost
+ * nothing for the collector to trace or copy. Users are stored as {@link UserRecordLayout} records in direct
+ * {@link ByteBuffer}s and found through a {@link LongIntHashIndex} from the packed CPF to the record offset.
+ * <p>
+ * The store is split into segments by key hash, each with its own lock, buffer and index. A segment buffer is a
+ * circular log: records are appended at the head and, when the head catches up with the tail, the oldest records
+ * are evicted (FIFO). Replacing or invalidating a user only updates the index; the old bytes are reclaimed when
+ * the tail passes them. Reads take the segment's read lock and decode a fresh {@link User}, so callers never share
+ * mutable state with the cache.
+ * <p>
+ * {@code MemorySegment} would lift the 2 GB per-buffer limit, but it is still a preview API on Java 21; with
+ * segments of at most {@code Integer.MAX_VALUE} bytes each, direct buffers cover the same sizes.
+ */
+public class OffHeapUserStore implements UserCache, MeterBinder {
+
+    public static final long NOT_CACHED = Long.MIN_VALUE;
+
+    private final Segment[] segments;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long[] pinned = new long[0];
+
+    public OffHeapUserStore(UserCacheProperties properties) {
+        this(properties.capacity().toBytes(), properties.segments(), properties.ttl().toMillis(),
+                System::currentTimeMillis);
+    }
+
+    OffHeapUserStore(long capacity, int segmentCount, long ttlMillis, LongSupplier clock) {
+        int count = Integer.highestOneBit(Math.max(1, segmentCount - 1)) << 1;
+        int segmentCapacity = segmentCapacity(capacity, count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public User get(String document) {
+        long key = UserRecordLayout.pack(document);
+        if (key == UserRecordLayout.NOT_PACKABLE) {
+            return null;
+        }
+        User user = segment(key).get(key, clock.getAsLong() - ttlMillis);
+        (user == null ? misses : hits).increment();
+        return user;
+    }
+
+    @Override
+    public Stale getStale(String document, Duration maxStaleness) {
+        long key = UserRecordLayout.pack(document);
+        if (key == UserRecordLayout.NOT_PACKABLE) {
+            return null;
+        }
+        return segment(key).getStale(key, clock.getAsLong() - ttlMillis - maxStaleness.toMillis());
+    }
+
+    @Override
+    public void put(String document, User user) {
+        load(document, user);
+    }
+
+    /**
+     * Caches {@code user} like {@link #put}, for bulk loads that stop once the store is full: unlike
+     * {@link #evictions()}, the count ignores what other writers and resizes evict meanwhile.
+     *
+     * @return users evicted to make room for this one
+     */
+    int load(String document, User user) {
+        long key = UserRecordLayout.pack(document);
+        if (key == UserRecordLayout.NOT_PACKABLE) {
+            return 0;
+        }
+        byte[] record = UserRecordLayout.encode(key, user, clock.getAsLong());
+        return record == null ? 0 : segment(key).put(key, record);
+    }
+
+    @Override
+    public void invalidate(String document) {
+        long key = UserRecordLayout.pack(document);
+        if (key != UserRecordLayout.NOT_PACKABLE) {
+            segment(key).invalidate(key);
+        }
+    }
+
+    /**
+     * Hands each segment's live records to {@code sink}, one segment at a time under its read lock: lookups carry
+     * on, writes to that segment wait until the sink returns.
+     */
+    public void forEachSegment(SegmentSink sink) throws IOException {
+        int[] budget = {Integer.MAX_VALUE};
+        for (Segment segment : segments) {
+            segment.drainTo(sink, 0, Integer.MAX_VALUE, budget);
+        }
+    }
+
+    /**
+     * Like {@link #forEachSegment(SegmentSink)}, restricted to the {@code limit} most accessed users: first every
+     * user above the k-th highest access count, then users at exactly that count until the limit is reached.
+     */
+    public void forEachHottest(int limit, SegmentSink sink) throws IOException {
+        int threshold = countThreshold(limit);
+        int[] budget = {limit};
+        if (threshold < Integer.MAX_VALUE) {
+            for (Segment segment : segments) {
+                segment.drainTo(sink, threshold + 1, Integer.MAX_VALUE, budget);
+            }
+        }
+        for (Segment segment : segments) {
+            segment.drainTo(sink, threshold, threshold, budget);
+        }
+    }
+
+    /**
+     * @return the row version of the cached user (see {@link UserRecordLayout#version(ByteBuffer, int)}), or
+     * {@link #NOT_CACHED} when the document is not cached
+     */
+    public long version(String document) {
+        long key = UserRecordLayout.pack(document);
+        return key == UserRecordLayout.NOT_PACKABLE ? NOT_CACHED : segment(key).version(key);
+    }
+
+    /**
+     * Copies one encoded record, e.g. from a snapshot, into the store. It keeps the {@code cachedAt} it was
+     * written with, capped at now in case the source's clock runs ahead, so a restored user expires and counts as
+     * stale on the same schedule as if it had never left the cache.
+     */
+    public void restore(ByteBuffer source, int offset) {
+        int length = UserRecordLayout.length(source, offset);
+        long key = UserRecordLayout.key(source, offset);
+        long cachedAt = Math.min(UserRecordLayout.cachedAt(source, offset), clock.getAsLong());
+        segment(key).put(key, source, offset, length, cachedAt);
+    }
+
+    /**
+     * A pinned user is never evicted to make room: when the ring reaches its record, the record is moved to the
+     * head instead. It still expires with the ttl and can be invalidated.
+     */
+    @Override
+    public void pin(Collection<String> documents) {
+        long[] keys = documents.stream()
+                .mapToLong(UserRecordLayout::pack)
+                .filter(key -> key != UserRecordLayout.NOT_PACKABLE)
+                .sorted()
+                .distinct()
+                .toArray();
+        pinned = keys;
+    }
+
+    /**
+     * Moves every segment into a new buffer for its share of {@code capacity}, compacting it on the way; the old
+     * buffers are released when the collector next runs their cleaners. When shrinking, pinned users are kept
+     * first, then the most recently cached ones, and the rest are evicted. Each segment is locked only while it is
+     * copied.
+     *
+     * @return users evicted because they no longer fit
+     */
+    public long resize(long capacity) {
+        int segmentCapacity = segmentCapacity(capacity, segments.length);
+        long evicted = 0;
+        for (Segment segment : segments) {
+            evicted += segment.resize(segmentCapacity);
+        }
+        evictions.add(evicted);
+        return evicted;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long entries() {
+        long entries = 0;
+        for (Segment segment : segments) {
+            entries += segment.entries();
+        }
+        return entries;
+    }
+
+    /**
+     * Off-heap bytes currently holding records, live or not yet reclaimed.
+     */
+    public long usedBytes() {
+        long used = 0;
+        for (Segment segment : segments) {
+            used += segment.usedBytes();
+        }
+        return used;
+    }
+
+    public long capacityBytes() {
+        long capacity = 0;
+        for (Segment segment : segments) {
+            capacity += segment.data.capacity();
+        }
+        return capacity;
+    }
+
+    /**
+     * Heap bytes of the primitive indexes, the only part of the cache the collector sees.
+     */
+    public long indexBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.indexBytes();
+        }
+        return bytes;
+    }
+
+    public double bytesPerEntry() {
+        long entries = entries();
+        return entries == 0 ? 0 : (double) (usedBytes() + indexBytes()) / entries;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("user.cache.entries", this, OffHeapUserStore::entries)
+                .description("Users in the off-heap cache")
+                .register(registry);
+        Gauge.builder("user.cache.off-heap.used", this, OffHeapUserStore::usedBytes)
+                .description("Off-heap bytes holding cached user records")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("user.cache.off-heap.capacity", this, OffHeapUserStore::capacityBytes)
+                .description("Off-heap bytes allocated for cached user records")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("user.cache.index.heap", this, OffHeapUserStore::indexBytes)
+                .description("Heap bytes of the cache index")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("user.cache.requests", this, OffHeapUserStore::hits)
+                .description("User cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("user.cache.requests", this, OffHeapUserStore::misses)
+                .description("User cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("user.cache.evictions", this, OffHeapUserStore::evictions)
+                .description("Users evicted to make room for newer records")
+                .register(registry);
+    }
+
+    private int countThreshold(int limit) {
+        int[][] counts = {new int[1024]};
+        int[] size = {0};
+        for (Segment segment : segments) {
+            segment.forEachCount(count -> {
+                if (size[0] == counts[0].length) {
+                    counts[0] = Arrays.copyOf(counts[0], size[0] * 2);
+                }
+                counts[0][size[0]++] = count;
+            });
+        }
+        if (size[0] <= limit) {
+            return 0;
+        }
+        int[] sorted = Arrays.copyOf(counts[0], size[0]);
+        Arrays.sort(sorted);
+        return sorted[sorted.length - limit];
+    }
+
+    private static int segmentCapacity(long capacity, int segments) {
+        long segmentCapacity = capacity / segments;
+        if (segmentCapacity > Integer.MAX_VALUE || segmentCapacity < 1024) {
+            throw new IllegalArgumentException("Segment capacity must be between 1 KB and 2 GB, got "
+                    + segmentCapacity + " bytes; adjust user.cache.capacity or user.cache.segments");
+        }
+        return (int) segmentCapacity;
+    }
+
+    private Segment segment(long key) {
+        // Fibonacci hashing on the high bits; the index probes with a different mix of the same key
+        return segments[(int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & (segments.length - 1)];
+    }
+
+    private final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        // Replaced only by resize, under the write lock; volatile for the size checks made before locking
+        private volatile ByteBuffer data;
+        private LongIntHashIndex index = new LongIntHashIndex(1024);
+        // Pinned records pushed out by the current put, re-appended once it is in place
+        private final ArrayDeque<Rescued> rescued = new ArrayDeque<>();
+        // Records the current put evicted
+        private int evicted;
+
+        // Live bytes are [tail, head) or, once wrapped, [tail, limit) and [0, head)
+        private int head;
+        private int tail;
+        private int limit;
+        private boolean wrapped;
+        private int records;
+
+        Segment(int capacity) {
+            this.data = ByteBuffer.allocateDirect(capacity);
+            this.limit = capacity;
+        }
+
+        User get(long key, long notBefore) {
+            long stamp = lock.readLock();
+            try {
+                int offset = index.getAndCount(key);
+                if (offset == LongIntHashIndex.ABSENT || UserRecordLayout.cachedAt(data, offset) < notBefore) {
+                    return null;
+                }
+                return UserRecordLayout.decode(data, offset);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        Stale getStale(long key, long notBefore) {
+            long stamp = lock.readLock();
+            try {
+                int offset = index.get(key);
+                if (offset == LongIntHashIndex.ABSENT) {
+                    return null;
+                }
+                long cachedAt = UserRecordLayout.cachedAt(data, offset);
+                return cachedAt < notBefore ? null : new Stale(UserRecordLayout.decode(data, offset), cachedAt);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * @return records evicted to make room
+         */
+        int put(long key, byte[] record) {
+            if (tooLarge(record.length)) {
+                return 0;
+            }
+            long stamp = lock.writeLock();
+            try {
+                evicted = 0;
+                int offset = allocate(record.length);
+                data.put(offset, record);
+                records++;
+                index.put(key, offset);
+                reinsertRescued();
+                return evicted;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void put(long key, ByteBuffer source, int sourceOffset, int length, long cachedAt) {
+            if (tooLarge(length)) {
+                return;
+            }
+            long stamp = lock.writeLock();
+            try {
+                int offset = allocate(length);
+                data.put(offset, source, sourceOffset, length);
+                UserRecordLayout.cachedAt(data, offset, cachedAt);
+                records++;
+                index.put(key, offset);
+                reinsertRescued();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void drainTo(SegmentSink sink, int minCount, int maxCount, int[] budget) throws IOException {
+            long stamp = lock.readLock();
+            try {
+                int[] live = new int[Math.min(index.size(), budget[0])];
+                int count = live(live, minCount, maxCount);
+                int bytes = 0;
+                for (int i = 0; i < count; i++) {
+                    bytes += UserRecordLayout.length(data, live[i]);
+                }
+                budget[0] -= count;
+                sink.accept(data, live, count, bytes);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * @return records that did not fit in the new buffer
+         */
+        int resize(int capacity) {
+            long stamp = lock.writeLock();
+            try {
+                int[] live = new int[index.size()];
+                int count = live(live, 0, Integer.MAX_VALUE);
+                boolean[] keep = new boolean[count];
+                int kept = 0;
+                long room = capacity;
+                for (int pass = 0; pass < 2; pass++) {
+                    boolean pinnedPass = pass == 0;
+                    for (int i = count - 1; i >= 0; i--) {
+                        long key = UserRecordLayout.key(data, live[i]);
+                        if (keep[i] || pinnedPass != Arrays.binarySearch(pinned, key) >= 0) {
+                            continue;
+                        }
+                        int length = UserRecordLayout.length(data, live[i]);
+                        if (length > room) {
+                            break;
+                        }
+                        keep[i] = true;
+                        kept++;
+                        room -= length;
+                    }
+                }
+                ByteBuffer resized = ByteBuffer.allocateDirect(capacity);
+                LongIntHashIndex resizedIndex = new LongIntHashIndex(Math.max(1024, kept));
+                int position = 0;
+                for (int i = 0; i < count; i++) {
+                    if (keep[i]) {
+                        int length = UserRecordLayout.length(data, live[i]);
+                        long key = UserRecordLayout.key(data, live[i]);
+                        resized.put(position, data, live[i], length);
+                        resizedIndex.put(key, position);
+                        resizedIndex.count(key, index.count(key));
+                        position += length;
+                    }
+                }
+                data = resized;
+                index = resizedIndex;
+                head = position;
+                tail = 0;
+                limit = capacity;
+                wrapped = false;
+                records = kept;
+                return count - kept;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void invalidate(long key) {
+            long stamp = lock.writeLock();
+            try {
+                index.remove(key);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Fills {@code live} with the offsets of the live records whose access count is within the bounds, oldest
+         * first, up to its length.
+         *
+         * @return the offsets set
+         */
+        private int live(int[] live, int minCount, int maxCount) {
+            int count = 0;
+            int offset = tail;
+            int end = wrapped ? limit : head;
+            for (int visited = 0; visited < records && count < live.length; visited++) {
+                if (offset == end && wrapped) {
+                    offset = 0;
+                    end = head;
+                }
+                long key = UserRecordLayout.key(data, offset);
+                if (index.get(key) == offset && counted(key, minCount, maxCount)) {
+                    live[count++] = offset;
+                }
+                offset += UserRecordLayout.length(data, offset);
+            }
+            return count;
+        }
+
+        private boolean counted(long key, int minCount, int maxCount) {
+            if (minCount == 0 && maxCount == Integer.MAX_VALUE) {
+                return true;
+            }
+            int count = index.count(key);
+            return count >= minCount && count <= maxCount;
+        }
+
+        long version(long key) {
+            long stamp = lock.readLock();
+            try {
+                int offset = index.get(key);
+                return offset == LongIntHashIndex.ABSENT ? NOT_CACHED : UserRecordLayout.version(data, offset);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void forEachCount(IntConsumer consumer) {
+            long stamp = lock.readLock();
+            try {
+                index.forEachCount(consumer);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                index.clear();
+                records = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        long entries() {
+            long stamp = lock.readLock();
+            try {
+                return index.size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long usedBytes() {
+            long stamp = lock.readLock();
+            try {
+                return wrapped ? (limit - tail) + head : head - tail;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long indexBytes() {
+            long stamp = lock.readLock();
+            try {
+                return index.bytes();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private boolean tooLarge(int length) {
+            // A record larger than an eighth of the segment would evict too much to be worth caching
+            return length > data.capacity() / 8;
+        }
+
+        private int allocate(int length) {
+            while (true) {
+                if (records == 0) {
+                    head = 0;
+                    tail = 0;
+                    limit = data.capacity();
+                    wrapped = false;
+                }
+                if (!wrapped) {
+                    if (data.capacity() - head >= length) {
+                        return advanceHead(length);
+                    }
+                    limit = head;
+                    head = 0;
+                    wrapped = true;
+                }
+                if (tail - head >= length) {
+                    return advanceHead(length);
+                }
+                evictOldest();
+            }
+        }
+
+        private int advanceHead(int length) {
+            int offset = head;
+            head += length;
+            return offset;
+        }
+
+        private void reinsertRescued() {
+            // Each pinned record is moved at most once per put, so a segment full of pinned users still terminates
+            int moves = 0;
+            while (!rescued.isEmpty()) {
+                Rescued pinnedRecord = rescued.poll();
+                if (moves++ > pinned.length) {
+                    evictions.increment();
+                    evicted++;
+                    continue;
+                }
+                int offset = allocate(pinnedRecord.record().length);
+                data.put(offset, pinnedRecord.record());
+                records++;
+                index.put(pinnedRecord.key(), offset);
+                index.count(pinnedRecord.key(), pinnedRecord.count());
+            }
+        }
+
+        private void evictOldest() {
+            int offset = tail;
+            long key = UserRecordLayout.key(data, offset);
+            int length = UserRecordLayout.length(data, offset);
+            int count = index.count(key);
+            if (index.remove(key, offset)) {
+                if (Arrays.binarySearch(pinned, key) >= 0) {
+                    byte[] record = new byte[length];
+                    data.get(offset, record);
+                    rescued.add(new Rescued(key, record, count));
+                } else {
+                    evictions.increment();
+                    evicted++;
+                }
+            }
+            tail += length;
+            records--;
+            if (tail == limit) {
+                tail = 0;
+                limit = data.capacity();
+                wrapped = false;
+            }
+        }
+    }
+
+    private record Rescued(long key, byte[] record, int count) {
+    }
+
+    @FunctionalInterface
+    public interface SegmentSink {
+
+        /**
+         * @param offsets offsets in {@code data} of the segment's live records, oldest first; only the first
+         *                {@code count} are set
+         * @param bytes   total length of those records
+         */
+        void accept(ByteBuffer data, int[] offsets, int count, int bytes) throws IOException;
+    }
+}
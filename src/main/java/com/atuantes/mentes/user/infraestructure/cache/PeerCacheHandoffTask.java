@@ -0,0 +1,113 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import com.atuantes.mentes.user.infraestructure.warmup.WarmUpTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the {@link OffHeapUserStore} with a running peer's most accessed users before this instance reports ready,
+ * so a rolling deploy does not turn each new instance's cold cache into database load.
+ * <p>
+ * The peer's records carry their row version (updated_at, else created_at) and the transfer carries the peer's
+ * watermark. Users whose row changed after the peer cached them are found by the {@link UserCacheReconciler} and
+ * refetched right away, still within the warm-up, since they are known to be hot.
+ */
+@Slf4j
+@Order(20)
+public class PeerCacheHandoffTask implements WarmUpTask {
+
+    private final OffHeapUserStore store;
+    private final UserCacheReconciler reconciler;
+    private final ObjectProvider<FindUserByDocument> findUserByDocument;
+    private final UserCacheProperties.Handoff properties;
+    private final HttpClient httpClient;
+
+    public PeerCacheHandoffTask(OffHeapUserStore store, UserCacheReconciler reconciler,
+                                ObjectProvider<FindUserByDocument> findUserByDocument,
+                                UserCacheProperties.Handoff properties) {
+        this(store, reconciler, findUserByDocument, properties,
+                HttpClient.newBuilder().connectTimeout(properties.timeout()).build());
+    }
+
+    PeerCacheHandoffTask(OffHeapUserStore store, UserCacheReconciler reconciler,
+                         ObjectProvider<FindUserByDocument> findUserByDocument,
+                         UserCacheProperties.Handoff properties, HttpClient httpClient) {
+        this.store = store;
+        this.reconciler = reconciler;
+        this.findUserByDocument = findUserByDocument;
+        this.properties = properties;
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public String name() {
+        return "peer cache handoff";
+    }
+
+    @Override
+    public void warmUp() throws Exception {
+        long start = System.nanoTime();
+        URI uri = UriComponentsBuilder.fromUri(properties.peerUrl())
+                .queryParam("limit", properties.limit())
+                .build()
+                .toUri();
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/octet-stream")
+                .timeout(properties.timeout())
+                .GET();
+        if (properties.secret() != null && !properties.secret().isBlank()) {
+            request.header("Authorization", "Bearer " + properties.secret());
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Peer " + uri + " answered " + response.statusCode());
+        }
+        UserCacheSnapshot.Summary summary = UserCacheSnapshot.restore(store, ByteBuffer.wrap(response.body()),
+                reconciler.horizon());
+        if (summary == null) {
+            throw new IOException("Peer " + uri + " sent a payload in another layout version");
+        }
+        log.info(LogMessage.LOG_USER_CACHE_SNAPSHOT.getMessage(), "received from " + uri, summary.records(),
+                summary.bytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        refetchStale(summary.watermark());
+    }
+
+    private void refetchStale(long watermark) {
+        long start = System.nanoTime();
+        List<String> stale = reconciler.staleSince(watermark);
+        UUID transactionId = UUID.randomUUID();
+        // Competes with live traffic only for what the concurrency limiter leaves to batch work
+        RequestPriority.set(RequestPriority.BATCH);
+        try {
+            for (String document : stale) {
+                store.invalidate(document);
+                try {
+                    findUserByDocument.getObject().execute(document, transactionId);
+                } catch (UserNotFoundException e) {
+                    // Row deleted; nothing to cache
+                }
+            }
+        } finally {
+            RequestPriority.clear();
+        }
+        log.info(LogMessage.LOG_USER_CACHE_RECONCILE.getMessage(), stale.size(), Instant.ofEpochMilli(watermark),
+                "refetched", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
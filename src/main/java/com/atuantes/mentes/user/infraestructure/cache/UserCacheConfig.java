@@ -0,0 +1,81 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableConfigurationProperties(UserCacheProperties.class)
+@ConditionalOnProperty(prefix = "user.cache", name = "enabled", havingValue = "true")
+public class UserCacheConfig {
+
+    @Bean
+    public OffHeapUserStore offHeapUserStore(UserCacheProperties properties) {
+        return new OffHeapUserStore(properties);
+    }
+
+    @Bean
+    public static UserCachePostProcessor userCachePostProcessor(ObjectProvider<UserCache> userCache) {
+        return new UserCachePostProcessor(userCache);
+    }
+
+    @Bean
+    public UserCacheReconciler userCacheReconciler(OffHeapUserStore offHeapUserStore, JdbcClient jdbcClient,
+                                                   UserCacheProperties properties) {
+        return new UserCacheReconciler(offHeapUserStore, jdbcClient, properties.snapshot());
+    }
+
+    @Bean
+    public UserCachePreloader userCachePreloader(OffHeapUserStore offHeapUserStore, DataSource dataSource,
+                                                 UserCacheProperties properties) {
+        return new UserCachePreloader(offHeapUserStore, dataSource, properties.preload());
+    }
+
+    @Bean
+    public UserCacheEndpoint userCacheEndpoint(OffHeapUserStore offHeapUserStore,
+                                               UserCachePreloader userCachePreloader) {
+        return new UserCacheEndpoint(offHeapUserStore, userCachePreloader);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.cache.preload", name = "enabled", havingValue = "true")
+    public UserCachePreloadTask userCachePreloadTask(UserCachePreloader userCachePreloader,
+                                                     UserCacheProperties properties) {
+        return new UserCachePreloadTask(userCachePreloader, properties.preload());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.cache.sizing", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public UserCacheSizer userCacheSizer(OffHeapUserStore offHeapUserStore, UserCacheProperties properties) {
+        return new UserCacheSizer(offHeapUserStore, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.cache.snapshot", name = "enabled", havingValue = "true")
+    public UserCacheSnapshotService userCacheSnapshotService(OffHeapUserStore offHeapUserStore,
+                                                             UserCacheReconciler userCacheReconciler,
+                                                             @Qualifier("applicationTaskExecutor") Executor executor,
+                                                             UserCacheProperties properties) {
+        return new UserCacheSnapshotService(offHeapUserStore, userCacheReconciler, executor, properties.snapshot());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.cache.handoff", name = "enabled", havingValue = "true")
+    public PeerCacheHandoffTask peerCacheHandoffTask(OffHeapUserStore offHeapUserStore,
+                                                     UserCacheReconciler userCacheReconciler,
+                                                     ObjectProvider<FindUserByDocument> findUserByDocument,
+                                                     UserCacheProperties properties) {
+        return new PeerCacheHandoffTask(offHeapUserStore, userCacheReconciler, findUserByDocument,
+                properties.handoff());
+    }
+}
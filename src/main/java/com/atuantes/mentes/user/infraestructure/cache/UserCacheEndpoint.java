@@ -0,0 +1,44 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * State of the off-heap user cache. {@code POST /preload} starts a {@link UserCachePreloader} run, whose progress
+ * the state then includes; since that puts load on the database, the endpoint is not exposed by default. Peers
+ * read the hottest users through {@link UserCacheHandoffController} instead, behind a shared secret.
+ */
+@Endpoint(id = "usercache")
+public class UserCacheEndpoint {
+
+    private final OffHeapUserStore store;
+    private final UserCachePreloader preloader;
+
+    public UserCacheEndpoint(OffHeapUserStore store, @Nullable UserCachePreloader preloader) {
+        this.store = store;
+        this.preloader = preloader;
+    }
+
+    @ReadOperation
+    public CacheStatus status() {
+        return new CacheStatus(store.entries(), store.usedBytes(), store.capacityBytes(), store.indexBytes(),
+                store.hits(), store.misses(), store.evictions(), preloader == null ? null : preloader.progress());
+    }
+
+    @WriteOperation
+    public UserCachePreloader.Progress preload(@Selector String action) {
+        if (!"preload".equals(action) || preloader == null) {
+            throw new InvalidEndpointRequestException("Unknown action: " + action, "Only 'preload' is supported");
+        }
+        preloader.start();
+        return preloader.progress();
+    }
+
+    public record CacheStatus(long entries, long usedBytes, long capacityBytes, long indexBytes, long hits,
+                              long misses, long evictions, UserCachePreloader.Progress preload) {
+    }
+}
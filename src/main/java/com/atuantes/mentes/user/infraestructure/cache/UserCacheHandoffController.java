@@ -0,0 +1,60 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Serves the most accessed users in the {@link UserCacheSnapshot} format, which a starting peer restores through
+ * {@link PeerCacheHandoffTask}. The payload is full user records, so it is only served to callers presenting
+ * {@code user.cache.handoff.secret} as a bearer token (compared in constant time); without a configured secret
+ * the path answers 404.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "user.cache", name = "enabled", havingValue = "true")
+public class UserCacheHandoffController {
+
+    public static final String PATH = "/internal/usercache/hottest";
+
+    private static final String BEARER = "Bearer ";
+
+    private final OffHeapUserStore store;
+    private final UserCacheProperties properties;
+    private final byte[] secret;
+
+    public UserCacheHandoffController(OffHeapUserStore store, UserCacheProperties properties) {
+        this.store = store;
+        this.properties = properties;
+        String secret = properties.handoff().secret();
+        this.secret = secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping(value = PATH, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> hottest(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                          @Nullable String authorization,
+                                          @RequestParam(required = false) @Nullable Integer limit)
+            throws IOException {
+        if (secret == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (authorization == null || !authorization.startsWith(BEARER) || !MessageDigest.isEqual(secret,
+                authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        int maximum = properties.handoff().limit();
+        int users = limit == null ? maximum : Math.max(0, Math.min(limit, maximum));
+        return ResponseEntity.ok(UserCacheSnapshot.encodeHottest(store, users, System.currentTimeMillis(),
+                properties.snapshot().clockSkew().toMillis()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.domain.service.UserInsert;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+/**
+ * Puts the {@link UserCache} in front of whichever persistence adapter is active, Spring Data or JDBC. Runs before
+ * decorators that must see every lookup, cache hits included.
+ */
+public class UserCachePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<UserCache> cache;
+
+    public UserCachePostProcessor(ObjectProvider<UserCache> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (bean instanceof FindUserByDocument findUserByDocument) {
+            return new CachingFindUserByDocument(findUserByDocument, cache.getObject());
+        }
+        if (bean instanceof UserInsert userInsert) {
+            return new CachingUserInsert(userInsert, cache.getObject());
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.infraestructure.warmup.WarmUpTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the {@link UserCachePreloader} during warm-up, for at most {@code budget}: past it the instance reports ready
+ * and the scans carry on in the background. It runs before the {@link PeerCacheHandoffTask}, so the peer's hottest
+ * users, which a full preload would push out of a FIFO store, are the last ones in.
+ */
+@Slf4j
+@Order(15)
+public class UserCachePreloadTask implements WarmUpTask {
+
+    private final UserCachePreloader preloader;
+    private final UserCacheProperties.Preload properties;
+
+    public UserCachePreloadTask(UserCachePreloader preloader, UserCacheProperties.Preload properties) {
+        this.preloader = preloader;
+        this.properties = properties;
+    }
+
+    @Override
+    public String name() {
+        return "user cache preload";
+    }
+
+    @Override
+    public void warmUp() throws Exception {
+        try {
+            UserCachePreloader.Progress progress = preloader.start()
+                    .get(properties.budget().toMillis(), TimeUnit.MILLISECONDS);
+            if (progress.status() == UserCachePreloader.Status.FAILED) {
+                throw new IllegalStateException("Preload failed after " + progress.users() + " users");
+            }
+        } catch (TimeoutException e) {
+            UserCachePreloader.Progress progress = preloader.progress();
+            log.info(LogMessage.LOG_USER_CACHE_PRELOAD.getMessage(), "budget spent, continuing in the background",
+                    progress.rangesDone(), progress.ranges(), progress.users(), progress.elapsedMillis(),
+                    progress.usersPerSecond());
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.infraestructure.persistence.jdbc.JdbcUserStatements;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads {@code users.users} into the {@link OffHeapUserStore} in bulk, so a cold instance does not answer from the
+ * database until organic traffic has warmed it.
+ * <p>
+ * The table is split into {@code parallelism} ranges of the document, which is unique and indexed and, as a CPF,
+ * spread evenly over its eleven digits; the first and last ranges are open-ended, so every row is covered whatever
+ * its document looks like. Each range is streamed on its own connection through a server-side cursor:
+ * pgjdbc only fetches {@code fetchSize} rows at a time inside a transaction, so each scan runs in a read-only one,
+ * routed to a replica when there are any, like the other reads.
+ * <p>
+ * The store is FIFO, so once a row it loads has to evict another, every further row would only push out one just
+ * loaded: the preload stops there, with the cache full. Evictions caused by traffic or by a resize meanwhile do not
+ * count.
+ */
+@Slf4j
+public class UserCachePreloader implements DisposableBean {
+
+    static final String SCAN = "SELECT id, active, full_name, document, email, phone, birthdate, category, "
+            + "created_at, updated_at FROM users.users WHERE document >= ? AND document < ?";
+    static final String SCAN_FIRST = "SELECT id, active, full_name, document, email, phone, birthdate, category, "
+            + "created_at, updated_at FROM users.users WHERE document < ?";
+    static final String SCAN_LAST = "SELECT id, active, full_name, document, email, phone, birthdate, category, "
+            + "created_at, updated_at FROM users.users WHERE document >= ?";
+    static final String SCAN_ALL = "SELECT id, active, full_name, document, email, phone, birthdate, category, "
+            + "created_at, updated_at FROM users.users";
+
+    private static final long DOCUMENTS = 100_000_000_000L;
+
+    private final OffHeapUserStore store;
+    private final DataSource dataSource;
+    private final int parallelism;
+    private final int fetchSize;
+    private final long progressIntervalMillis;
+    private final ExecutorService scanners;
+    private final ScheduledExecutorService reporter;
+
+    private CompletableFuture<Progress> running;
+    private volatile Run current;
+
+    public UserCachePreloader(OffHeapUserStore store, DataSource dataSource, UserCacheProperties.Preload properties) {
+        this.store = store;
+        this.dataSource = dataSource;
+        this.parallelism = Math.max(1, properties.parallelism());
+        this.fetchSize = properties.fetchSize();
+        this.progressIntervalMillis = properties.progressInterval().toMillis();
+        AtomicInteger threads = new AtomicInteger();
+        this.scanners = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "user-cache-preload-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-cache-preload-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a preload, or returns the one already running.
+     *
+     * @return completes with the final progress once every range has been scanned or the cache is full
+     */
+    public synchronized CompletableFuture<Progress> start() {
+        if (running != null && !running.isDone()) {
+            return running;
+        }
+        Run run = new Run(ranges(parallelism));
+        current = run;
+        List<CompletableFuture<Void>> scans = new ArrayList<>();
+        for (Range range : run.ranges) {
+            scans.add(CompletableFuture.runAsync(() -> scan(run, range), scanners));
+        }
+        ScheduledFuture<?> progress = reporter.scheduleAtFixedRate(() -> log(run.progress(Status.RUNNING)),
+                progressIntervalMillis, progressIntervalMillis, TimeUnit.MILLISECONDS);
+        running = CompletableFuture.allOf(scans.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> {
+                    progress.cancel(false);
+                    Status status = error != null ? Status.FAILED : run.full ? Status.FULL : Status.COMPLETED;
+                    if (error != null) {
+                        Throwable cause = error.getCause() == null ? error : error.getCause();
+                        log.error(LogMessage.LOG_ERROR.getMessage(), cause.getClass().getName(), "user cache preload",
+                                cause.getMessage());
+                    }
+                    run.finished = run.progress(status);
+                    log(run.finished);
+                    return run.finished;
+                });
+        return running;
+    }
+
+    /**
+     * @return the progress of the current or last preload, or null if none was started
+     */
+    public Progress progress() {
+        Run run = current;
+        if (run == null) {
+            return null;
+        }
+        Progress finished = run.finished;
+        return finished != null ? finished : run.progress(Status.RUNNING);
+    }
+
+    private void scan(Run run, Range range) {
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readOnly();
+             Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(range.sql())) {
+                statement.setFetchSize(fetchSize);
+                int parameter = 1;
+                if (range.lower() != null) {
+                    statement.setString(parameter++, range.lower());
+                }
+                if (range.upper() != null) {
+                    statement.setString(parameter, range.upper());
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    int row = 0;
+                    while (!run.stopped() && resultSet.next()) {
+                        User user = JdbcUserStatements.USER.mapRow(resultSet, row++);
+                        run.users.increment();
+                        // Only this preload's own evictions: traffic and resizes evict without the cache being full
+                        if (store.load(user.getDocument(), user) > 0) {
+                            run.full = true;
+                        }
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+            run.rangesDone.incrementAndGet();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Preload of documents " + range + " failed", e);
+        }
+    }
+
+    private void log(Progress progress) {
+        log.info(LogMessage.LOG_USER_CACHE_PRELOAD.getMessage(), progress.status(), progress.rangesDone(),
+                progress.ranges(), progress.users(), progress.elapsedMillis(), progress.usersPerSecond());
+    }
+
+    /**
+     * Splits the eleven-digit document space into {@code count} ranges of equal width.
+     */
+    static List<Range> ranges(int count) {
+        if (count == 1) {
+            return List.of(new Range(SCAN_ALL, null, null));
+        }
+        List<Range> ranges = new ArrayList<>(count);
+        String lower = null;
+        for (int i = 1; i <= count; i++) {
+            String upper = i == count ? null : String.format("%011d", DOCUMENTS / count * i);
+            String sql = lower == null ? SCAN_FIRST : upper == null ? SCAN_LAST : SCAN;
+            ranges.add(new Range(sql, lower, upper));
+            lower = upper;
+        }
+        return ranges;
+    }
+
+    @Override
+    public void destroy() {
+        Run run = current;
+        if (run != null) {
+            run.cancelled = true;
+        }
+        reporter.shutdownNow();
+        scanners.shutdownNow();
+    }
+
+    private final class Run {
+
+        private final List<Range> ranges;
+        private final long startedAt = System.nanoTime();
+        private final LongAdder users = new LongAdder();
+        private final AtomicInteger rangesDone = new AtomicInteger();
+        private volatile boolean full;
+        private volatile boolean cancelled;
+        private volatile Progress finished;
+
+        Run(List<Range> ranges) {
+            this.ranges = ranges;
+        }
+
+        boolean stopped() {
+            return full || cancelled;
+        }
+
+        Progress progress(Status status) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            long loaded = users.sum();
+            return new Progress(status, ranges.size(), rangesDone.get(), loaded, millis,
+                    millis == 0 ? 0 : loaded * 1000 / millis);
+        }
+    }
+
+    /**
+     * @param lower inclusive, or null for no lower bound
+     * @param upper exclusive, or null for no upper bound
+     */
+    record Range(String sql, String lower, String upper) {
+
+        @Override
+        public String toString() {
+            return "[" + (lower == null ? "" : lower) + ", " + (upper == null ? "" : upper) + ")";
+        }
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FULL, FAILED
+    }
+
+    public record Progress(Status status, int ranges, int rangesDone, long users, long elapsedMillis,
+                           long usersPerSecond) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param capacity off-heap bytes for user records, split evenly across segments; counts against
+ *                 {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size
+ * @param segments independently locked partitions of the store, rounded up to a power of two
+ * @param ttl      age after which an entry is no longer served and the lookup goes to the database again
+ * @param snapshot periodic on-disk copy of the cache, restored on startup
+ * @param handoff  copy of a running peer's most accessed users, taken before this instance reports ready
+ * @param sizing   shrinking and regrowing the cache with memory pressure; {@code capacity} is then the most it grows to
+ * @param preload  bulk load of users.users into the cache, during warm-up or on demand
+ */
+@ConfigurationProperties("user.cache")
+public record UserCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256MB") DataSize capacity,
+        @DefaultValue("16") int segments,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue Snapshot snapshot,
+        @DefaultValue Handoff handoff,
+        @DefaultValue Sizing sizing,
+        @DefaultValue Preload preload) {
+
+    /**
+     * @param path      snapshot file; should survive restarts, e.g. a volume rather than the container layer
+     * @param interval  time between snapshots; one more is written on graceful shutdown
+     * @param maxAge    older snapshots, and users cached earlier than this, are not restored, since reconciling
+     *                  them would scan most of the table; users.user_deletions is pruned past it
+     * @param clockSkew allowed difference between this node's clock and the database's, subtracted from the
+     *                  watermark so a change is never missed because the clocks disagree; it also covers the
+     *                  longest write transaction, since a row stamped by a statement only shows once it commits
+     */
+    public record Snapshot(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("user-cache.snapshot") Path path,
+            @DefaultValue("1m") Duration interval,
+            @DefaultValue("24h") Duration maxAge,
+            @DefaultValue("30s") Duration clockSkew) {
+    }
+
+    /**
+     * @param peerUrl hottest-users path of a peer, e.g. {@code http://ma-service/internal/usercache/hottest};
+     *                behind a load-balanced service a starting instance only reaches peers that are already ready
+     * @param limit   most accessed users asked for, and the most a peer serves in one response
+     * @param timeout for the whole transfer; the warm-up carries on without it after that
+     * @param secret  bearer token shared by the instances; a peer without one does not serve its users
+     */
+    public record Handoff(
+            @DefaultValue("false") boolean enabled,
+            URI peerUrl,
+            @DefaultValue("100000") int limit,
+            @DefaultValue("10s") Duration timeout,
+            String secret) {
+    }
+
+    /**
+     * @param minCapacity  the cache never shrinks below this
+     * @param shrinkAbove  memory in use after a collection, live heap plus direct buffers, as a fraction of the
+     *                     container's memory limit, at which the cache halves
+     * @param growBelow    memory in use after a collection under which the cache grows by a quarter of its capacity
+     * @param growCooldown time after a resize before the cache grows again, so it does not oscillate around a
+     *                     workload that fills memory in bursts
+     * @param minShare     the cache only shrinks when its own buffers and index are at least this fraction of the
+     *                     memory in use; below it, halving the cache would free little and cost the hit rate
+     */
+    public record Sizing(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("16MB") DataSize minCapacity,
+            @DefaultValue("0.85") double shrinkAbove,
+            @DefaultValue("0.6") double growBelow,
+            @DefaultValue("1m") Duration growCooldown,
+            @DefaultValue("0.25") double minShare) {
+    }
+
+    /**
+     * @param parallelism      document ranges scanned at once, each on its own connection; the pool must keep
+     *                         enough connections for live traffic when the preload is started on demand
+     * @param fetchSize        rows per round trip of each scan's cursor
+     * @param budget           longest the warm-up waits for the preload; the scans carry on in the background
+     *                         after that, without holding back readiness
+     * @param progressInterval time between progress log lines while the preload runs
+     */
+    public record Preload(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("4") int parallelism,
+            @DefaultValue("1000") int fetchSize,
+            @DefaultValue("30s") Duration budget,
+            @DefaultValue("5s") Duration progressInterval) {
+    }
+}
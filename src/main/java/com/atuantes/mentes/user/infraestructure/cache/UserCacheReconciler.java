@@ -0,0 +1,128 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the users restored into the {@link OffHeapUserStore} (from a snapshot or a peer) that are older than their
+ * row. Only rows changed after the source's watermark can differ, so a single query over those rows is enough;
+ * an entry is stale when its version (updated_at, else created_at) is older than the row's, or when its row was
+ * deleted (or moved to another document) since, as recorded in {@code users.user_deletions}. Both sides of the
+ * query are indexed on their timestamp. It runs on the primary: a lagging replica could hide the very changes it
+ * looks for.
+ * <p>
+ * Deletions are kept for as long as a snapshot is restored, the snapshot max-age, and pruned every hour past
+ * that. Snapshots and peer transfers only restore users cached after the same {@link #horizon() horizon}, so no
+ * watermark reaches back to deletions that are gone.
+ */
+@Slf4j
+public class UserCacheReconciler implements SmartInitializingSingleton, DisposableBean {
+
+    static final String CHANGED_SINCE = "SELECT document, COALESCE(updated_at, created_at) FROM users.users "
+            + "WHERE COALESCE(updated_at, created_at) > ? "
+            + "UNION ALL SELECT document, NULL FROM users.user_deletions WHERE deleted_at > ?";
+
+    static final String PRUNE = "DELETE FROM users.user_deletions WHERE deleted_at < ?";
+
+    private static final long PRUNE_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final OffHeapUserStore store;
+    private final JdbcClient jdbcClient;
+    private final long maxAgeMillis;
+    private final long clockSkewMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public UserCacheReconciler(OffHeapUserStore store, JdbcClient jdbcClient, UserCacheProperties.Snapshot properties) {
+        this.store = store;
+        this.jdbcClient = jdbcClient;
+        this.maxAgeMillis = properties.maxAge().toMillis();
+        this.clockSkewMillis = properties.clockSkew().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-deletions-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        scheduler.scheduleWithFixedDelay(this::prune, PRUNE_INTERVAL_MILLIS, PRUNE_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return epoch millis before which cached users cannot be reconciled, and so are not restored
+     */
+    public long horizon() {
+        return System.currentTimeMillis() - maxAgeMillis;
+    }
+
+    /**
+     * @return the documents of cached users older than their row, in no particular order
+     */
+    public List<String> staleSince(long watermark) {
+        List<String> stale = new ArrayList<>();
+        OffsetDateTime since = OffsetDateTime.ofInstant(Instant.ofEpochMilli(watermark), ZoneOffset.UTC);
+        jdbcClient.sql(CHANGED_SINCE)
+                .param(since)
+                .param(since)
+                .query((RowCallbackHandler) resultSet -> {
+                    String document = resultSet.getString(1);
+                    long cached = store.version(document);
+                    if (cached == OffHeapUserStore.NOT_CACHED) {
+                        return;
+                    }
+                    // Same conversion as the persistence adapters, so versions compare in the same time base
+                    OffsetDateTime changedAt = resultSet.getObject(2, OffsetDateTime.class);
+                    if (changedAt == null) {
+                        stale.add(document);
+                        return;
+                    }
+                    long version = UserRecordLayout.version(
+                            changedAt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime(), null);
+                    if (cached < version) {
+                        stale.add(document);
+                    }
+                });
+        return stale;
+    }
+
+    /**
+     * Deletes the deletions older than any watermark a restore can carry: the horizon, less the skew the writer
+     * subtracted from it and the skew between this node's clock and the database's.
+     */
+    void prune() {
+        long start = System.nanoTime();
+        long before = horizon() - 2 * clockSkewMillis;
+        try {
+            int pruned = jdbcClient.sql(PRUNE)
+                    .param(OffsetDateTime.ofInstant(Instant.ofEpochMilli(before), ZoneOffset.UTC))
+                    .update();
+            log.info(LogMessage.LOG_USER_DELETIONS_PRUNE.getMessage(), pruned, Instant.ofEpochMilli(before),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            // The next run deletes what this one left
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "user deletions prune",
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,210 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import com.sun.management.OperatingSystemMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Sizes the {@link OffHeapUserStore} to the memory it runs in, so one configuration fits containers of any size:
+ * {@code user.cache.capacity} is the most the cache grows to, and it gives memory back when the container runs
+ * short.
+ * <p>
+ * The records live in direct buffers and only the index is on the heap, so the signal is what the process really
+ * keeps after each collection: the old generation's occupancy plus the direct buffer pool, against the container's
+ * memory limit. Over {@code shrinkAbove} the cache halves, but only if its own buffers and index make up at least
+ * {@code minShare} of that memory: pressure the cache did not cause is not relieved by throwing away its hit rate.
+ * Under {@code growBelow}, once {@code growCooldown} has passed, it grows by a quarter of its maximum.
+ * <p>
+ * Notifications arrive on the JVM's service thread; resizing copies every segment, so it runs on a thread of its
+ * own. Segments are resized one at a time, so a shrink only needs one halved segment's buffer on top of what is in
+ * use. The replaced buffers are only freed by a collection, so only a collection that started after the last
+ * resize can trigger another shrink.
+ */
+@Slf4j
+public class UserCacheSizer implements SmartInitializingSingleton, DisposableBean {
+
+    private final OffHeapUserStore store;
+    private final long maxCapacity;
+    private final long minCapacity;
+    private final double shrinkAbove;
+    private final double growBelow;
+    private final long growCooldownMillis;
+    private final double minShare;
+    private final long memoryLimit;
+    private final LongSupplier clock;
+    private final ExecutorService executor;
+    private final List<Registration> registrations = new ArrayList<>();
+
+    // JVM uptime in millis, the clock collections are timed with
+    private long lastResize = Long.MIN_VALUE / 2;
+    private long hitsAtResize;
+    private long missesAtResize;
+
+    public UserCacheSizer(OffHeapUserStore store, UserCacheProperties properties) {
+        this(store, properties.sizing(), memoryLimit(), ManagementFactory.getRuntimeMXBean()::getUptime);
+    }
+
+    /**
+     * @param store       a store at its configured capacity, which is the most it grows back to
+     * @param memoryLimit bytes the process may use, the container's limit when it has one
+     */
+    UserCacheSizer(OffHeapUserStore store, UserCacheProperties.Sizing sizing, long memoryLimit, LongSupplier clock) {
+        this.store = store;
+        this.maxCapacity = store.capacityBytes();
+        this.minCapacity = Math.min(maxCapacity, sizing.minCapacity().toBytes());
+        this.shrinkAbove = sizing.shrinkAbove();
+        this.growBelow = sizing.growBelow();
+        this.growCooldownMillis = sizing.growCooldown().toMillis();
+        this.minShare = sizing.minShare();
+        this.memoryLimit = memoryLimit;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-cache-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MemoryPoolMXBean oldGeneration = oldGeneration();
+        if (oldGeneration == null || memoryLimit <= 0) {
+            return;
+        }
+        BufferPoolMXBean direct = directBufferPool();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                register(emitter, (notification, handback) ->
+                        afterCollection(notification, oldGeneration.getName(), direct));
+            }
+        }
+    }
+
+    private void afterCollection(Notification notification, String oldGeneration, BufferPoolMXBean direct) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GcInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()).getGcInfo();
+        MemoryUsage usage = info.getMemoryUsageAfterGc().get(oldGeneration);
+        if (usage != null) {
+            long directBytes = direct == null ? 0 : direct.getMemoryUsed();
+            executor.execute(() -> onCollection(usage.getUsed(), directBytes, info.getStartTime()));
+        }
+    }
+
+    /**
+     * @param liveHeap    old generation bytes used after a collection
+     * @param directBytes direct buffer bytes in use after it, the cache's records included
+     * @param started     JVM uptime in millis when the collection started
+     */
+    synchronized void onCollection(long liveHeap, long directBytes, long started) {
+        long inUse = liveHeap + directBytes;
+        double pressure = (double) inUse / memoryLimit;
+        double share = inUse <= 0 ? 0 : (double) (store.capacityBytes() + store.indexBytes()) / inUse;
+        long capacity = store.capacityBytes();
+        long target = capacity;
+        if (pressure >= shrinkAbove) {
+            if (share >= minShare && started > lastResize && capacity > minCapacity) {
+                target = Math.max(minCapacity, capacity / 2);
+            }
+        } else if (pressure < growBelow && capacity < maxCapacity
+                && clock.getAsLong() - lastResize >= growCooldownMillis) {
+            target = Math.min(maxCapacity, capacity + maxCapacity / 4);
+        }
+        if (target == capacity) {
+            return;
+        }
+        try {
+            long evicted = store.resize(target);
+            log.info(LogMessage.LOG_USER_CACHE_RESIZE.getMessage(), capacity, store.capacityBytes(),
+                    Math.round(pressure * 100), Math.round(Math.min(1, share) * 100), evicted, hitRatePercent());
+        } catch (RuntimeException e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "user cache resize", e.getMessage());
+        } finally {
+            lastResize = clock.getAsLong();
+        }
+    }
+
+    private long hitRatePercent() {
+        long hits = store.hits();
+        long misses = store.misses();
+        long lookups = hits - hitsAtResize + misses - missesAtResize;
+        long percent = lookups == 0 ? 0 : Math.round(100.0 * (hits - hitsAtResize) / lookups);
+        hitsAtResize = hits;
+        missesAtResize = misses;
+        return percent;
+    }
+
+    private void register(NotificationEmitter emitter, NotificationListener listener) {
+        emitter.addNotificationListener(listener, null, null);
+        registrations.add(new Registration(emitter, listener));
+    }
+
+    /**
+     * The container's memory limit when there is one (the JVM reads it from the cgroup), the machine's otherwise.
+     */
+    private static long memoryLimit() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof OperatingSystemMXBean os) {
+            return os.getTotalMemorySize();
+        }
+        return Runtime.getRuntime().maxMemory();
+    }
+
+    private static BufferPoolMXBean directBufferPool() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The heap pool that supports a usage threshold, which is how the old (tenured) generation of every HotSpot
+     * collector is told apart from eden and survivor spaces.
+     */
+    private static MemoryPoolMXBean oldGeneration() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        for (Registration registration : registrations) {
+            try {
+                registration.emitter().removeNotificationListener(registration.listener());
+            } catch (ListenerNotFoundException e) {
+                // Already gone
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    private record Registration(NotificationEmitter emitter, NotificationListener listener) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Memory-mapped snapshot of an {@link OffHeapUserStore}, also the payload of a peer handoff. The file is a header
+ * followed by the live records, byte for byte in {@link UserRecordLayout}, so writing is a copy out of each segment
+ * and restoring is a copy back in, with no decoding either way:
+ * <pre>
+ * int   magic
+ * int   version      {@link UserRecordLayout#VERSION}; other versions are ignored
+ * long  writtenAt    epoch millis
+ * long  watermark    epoch millis; changes to users.users after this instant may be missing from the snapshot
+ * long  records
+ * long  bytes        records only, header excluded
+ * </pre>
+ * The watermark is the oldest {@code cachedAt} among the records, less the allowed clock skew between this node
+ * and the database: every record was read from the database after it, so any row that changed later is the only
+ * thing a restored snapshot can be wrong about. Restores skip the records cached before a horizon, which the
+ * {@link UserCacheReconciler} can no longer reconcile, and move the watermark up to the oldest record kept. The
+ * header is written last and the file is moved into place
+ * atomically, so a crash mid-write leaves the previous snapshot untouched. The file holds personal data, so on
+ * POSIX file systems it is readable and writable by its owner only.
+ */
+final class UserCacheSnapshot {
+
+    static final int MAGIC = 0x55435331;
+    static final int HEADER_BYTES = 2 * Integer.BYTES + 4 * Long.BYTES;
+
+    // Restores map the file a window at a time; records never straddle a window
+    private static final long WINDOW_BYTES = 256L * 1024 * 1024;
+
+    private UserCacheSnapshot() {
+    }
+
+    static Summary write(OffHeapUserStore store, Path file, long writtenAt, long clockSkewMillis) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp", ownerOnly(directory));
+        try {
+            long[] totals = {0, 0, Long.MAX_VALUE};
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                store.forEachSegment((data, offsets, count, bytes) -> {
+                    if (count == 0) {
+                        return;
+                    }
+                    MappedByteBuffer target = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + totals[1],
+                            bytes);
+                    int position = 0;
+                    for (int i = 0; i < count; i++) {
+                        int length = UserRecordLayout.length(data, offsets[i]);
+                        target.put(position, data, offsets[i], length);
+                        totals[2] = Math.min(totals[2], UserRecordLayout.cachedAt(data, offsets[i]));
+                        position += length;
+                    }
+                    target.force();
+                    totals[0] += count;
+                    totals[1] += bytes;
+                });
+                long watermark = totals[0] == 0 ? writtenAt : totals[2] - clockSkewMillis;
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+                header.putInt(MAGIC).putInt(UserRecordLayout.VERSION)
+                        .putLong(writtenAt).putLong(watermark).putLong(totals[0]).putLong(totals[1]);
+                header.force();
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return new Summary(writtenAt, watermark, totals[0], HEADER_BYTES + totals[1]);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Path directory) {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[] {
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))};
+    }
+
+    /**
+     * @return what was restored, or null when there is no usable snapshot: missing, written by another layout
+     * version, truncated, or written before {@code notBefore}; records cached before it are skipped
+     */
+    static Summary restore(OffHeapUserStore store, Path file, long notBefore) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            Summary header = header(channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES), channel.size(),
+                    notBefore);
+            if (header == null) {
+                return null;
+            }
+            long position = HEADER_BYTES;
+            long end = header.bytes();
+            long[] totals = totals();
+            while (position < end) {
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(WINDOW_BYTES, end - position));
+                position += restoreRecords(store, window, file + " at byte " + position, notBefore, totals);
+            }
+            return checked(header, totals, file.toString());
+        }
+    }
+
+    /**
+     * Encodes the {@code limit} most accessed users of {@code store} in the snapshot format, for a peer to
+     * {@link #restore(OffHeapUserStore, ByteBuffer) restore}.
+     */
+    static byte[] encodeHottest(OffHeapUserStore store, int limit, long writtenAt, long clockSkewMillis)
+            throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        long[] totals = {0, Long.MAX_VALUE};
+        byte[] copy = new byte[4096];
+        store.forEachHottest(limit, (data, offsets, count, bytes) -> {
+            for (int i = 0; i < count; i++) {
+                int length = UserRecordLayout.length(data, offsets[i]);
+                byte[] record = length <= copy.length ? copy : new byte[length];
+                data.get(offsets[i], record, 0, length);
+                records.write(record, 0, length);
+                totals[1] = Math.min(totals[1], UserRecordLayout.cachedAt(data, offsets[i]));
+            }
+            totals[0] += count;
+        });
+        long watermark = totals[0] == 0 ? writtenAt : totals[1] - clockSkewMillis;
+        ByteBuffer payload = ByteBuffer.allocate(HEADER_BYTES + records.size());
+        payload.putInt(MAGIC).putInt(UserRecordLayout.VERSION)
+                .putLong(writtenAt).putLong(watermark).putLong(totals[0]).putLong(records.size());
+        payload.put(records.toByteArray());
+        return payload.array();
+    }
+
+    /**
+     * @return what was restored from an {@link #encodeHottest encoded} payload, or null when it was written by
+     * another layout version or is truncated; records cached before {@code notBefore} are skipped
+     */
+    static Summary restore(OffHeapUserStore store, ByteBuffer payload, long notBefore) throws IOException {
+        if (payload.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = payload.slice();
+        Summary header = header(buffer, buffer.limit(), Long.MIN_VALUE);
+        if (header == null) {
+            return null;
+        }
+        ByteBuffer records = buffer.slice(HEADER_BYTES, buffer.limit() - HEADER_BYTES);
+        long[] totals = totals();
+        restoreRecords(store, records, "payload at byte " + HEADER_BYTES, notBefore, totals);
+        return checked(header, totals, "payload");
+    }
+
+    /**
+     * @return the header, with {@code bytes} as the expected total size, or null when the snapshot is unusable
+     */
+    private static Summary header(ByteBuffer header, long size, long notBefore) {
+        long writtenAt = header.getLong(2 * Integer.BYTES);
+        long watermark = header.getLong(2 * Integer.BYTES + Long.BYTES);
+        long records = header.getLong(2 * Integer.BYTES + 2 * Long.BYTES);
+        long bytes = header.getLong(2 * Integer.BYTES + 3 * Long.BYTES);
+        if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != UserRecordLayout.VERSION
+                || writtenAt < notBefore || size != HEADER_BYTES + bytes) {
+            return null;
+        }
+        return new Summary(writtenAt, watermark, records, HEADER_BYTES + bytes);
+    }
+
+    /**
+     * @return records read, records restored, oldest {@code cachedAt} read and oldest {@code cachedAt} restored
+     */
+    private static long[] totals() {
+        return new long[] {0, 0, Long.MAX_VALUE, Long.MAX_VALUE};
+    }
+
+    /**
+     * Restores the whole records at the start of {@code window} that were cached from {@code notBefore} on, adding
+     * to {@code totals}.
+     *
+     * @return the bytes consumed; a record cut off at the end of the window is left for the next one
+     */
+    private static int restoreRecords(OffHeapUserStore store, ByteBuffer window, String source, long notBefore,
+                                      long[] totals) throws IOException {
+        int offset = 0;
+        while (offset + Integer.BYTES <= window.limit()) {
+            int length = UserRecordLayout.length(window, offset);
+            if (length < UserRecordLayout.HEADER_BYTES) {
+                throw new IOException("Corrupt user cache snapshot " + source + " + " + offset);
+            }
+            if (offset + length > window.limit()) {
+                break;
+            }
+            long cachedAt = UserRecordLayout.cachedAt(window, offset);
+            totals[0]++;
+            totals[2] = Math.min(totals[2], cachedAt);
+            if (cachedAt >= notBefore) {
+                store.restore(window, offset);
+                totals[1]++;
+                totals[3] = Math.min(totals[3], cachedAt);
+            }
+            offset += length;
+        }
+        if (offset == 0 && window.limit() > 0) {
+            throw new IOException("Corrupt user cache snapshot " + source);
+        }
+        return offset;
+    }
+
+    /**
+     * @return the header, with the records restored and, when old ones were skipped, the watermark moved up by as
+     * much as the oldest record kept is newer than the oldest record read, so it keeps the writer's clock skew
+     */
+    private static Summary checked(Summary header, long[] totals, String source) throws IOException {
+        if (totals[0] != header.records()) {
+            throw new IOException("User cache snapshot " + source + " holds " + totals[0] + " records, header says "
+                    + header.records());
+        }
+        if (totals[1] == totals[0]) {
+            return header;
+        }
+        long watermark = totals[1] == 0 ? header.writtenAt() : header.watermark() + totals[3] - totals[2];
+        return new Summary(header.writtenAt(), watermark, totals[1], header.bytes());
+    }
+
+    record Summary(long writtenAt, long watermark, long records, long bytes) {
+    }
+}
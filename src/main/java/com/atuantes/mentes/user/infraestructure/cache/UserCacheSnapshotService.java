@@ -0,0 +1,116 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restores the {@link OffHeapUserStore} from its {@link UserCacheSnapshot} as soon as the singletons exist, before
+ * the first request, and writes a new snapshot periodically and on shutdown.
+ * <p>
+ * Restored users are served straight away. In the background, the {@link UserCacheReconciler} invalidates every
+ * user whose row changed since the snapshot was taken, so the window in which a restored user can be stale lasts
+ * one query over {@code users.users}. No snapshot is written until that query has run: a snapshot taken
+ * earlier would carry unreconciled users under a newer watermark.
+ */
+@Slf4j
+public class UserCacheSnapshotService implements SmartInitializingSingleton, DisposableBean {
+
+    private final OffHeapUserStore store;
+    private final UserCacheReconciler reconciler;
+    private final Executor executor;
+    private final Path path;
+    private final long intervalMillis;
+    private final long clockSkewMillis;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean reconciled;
+
+    public UserCacheSnapshotService(OffHeapUserStore store, UserCacheReconciler reconciler, Executor executor,
+                                    UserCacheProperties.Snapshot properties) {
+        this.store = store;
+        this.reconciler = reconciler;
+        this.executor = executor;
+        this.path = properties.path();
+        this.intervalMillis = properties.interval().toMillis();
+        this.clockSkewMillis = properties.clockSkew().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-cache-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+        scheduler.scheduleWithFixedDelay(this::write, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void restore() {
+        long start = System.nanoTime();
+        try {
+            UserCacheSnapshot.Summary summary = UserCacheSnapshot.restore(store, path, reconciler.horizon());
+            if (summary != null) {
+                log.info(LogMessage.LOG_USER_CACHE_SNAPSHOT.getMessage(), "restored " + path, summary.records(),
+                        summary.bytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                executor.execute(() -> reconcile(summary.watermark()));
+                return;
+            }
+        } catch (Exception e) {
+            // A partial restore cannot be reconciled against a watermark it may not have reached
+            store.clear();
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), path, e.getMessage());
+        }
+        reconciled = true;
+    }
+
+    void reconcile(long watermark) {
+        long start = System.nanoTime();
+        try {
+            List<String> stale = reconciler.staleSince(watermark);
+            stale.forEach(store::invalidate);
+            log.info(LogMessage.LOG_USER_CACHE_RECONCILE.getMessage(), stale.size(), Instant.ofEpochMilli(watermark),
+                    "invalidated", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            // Nothing restored can be trusted without the reconcile; the database is the source of truth
+            store.clear();
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "user cache reconcile",
+                    e.getMessage());
+        } finally {
+            reconciled = true;
+        }
+    }
+
+    void write() {
+        // Until the old snapshot has been read and reconciled, writing would replace it with a cold cache or with
+        // users that may be stale
+        if (!reconciled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            UserCacheSnapshot.Summary summary = UserCacheSnapshot.write(store, path, System.currentTimeMillis(),
+                    clockSkewMillis);
+            log.info(LogMessage.LOG_USER_CACHE_SNAPSHOT.getMessage(), "written " + path, summary.records(),
+                    summary.bytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), path, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        write();
+    }
+}
@@ -0,0 +1,263 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Binary layout of a cached {@link User}. A record is a fixed header followed by the optional fixed-width fields
+ * present in {@code flags} and the length-prefixed UTF-8 strings:
+ * <pre>
+ * int   length       whole record, header included
+ * long  key          packed document, see {@link #pack(String)}
+ * long  cachedAt     epoch millis when the record was written
+ * byte  flags        active, and which optional fields follow
+ * byte  category     ordinal, -1 for null
+ * long  id.msb, long id.lsb                      if HAS_ID
+ * int   birthdate    epoch day                   if HAS_BIRTHDATE
+ * long  createdAt    epoch micros, UTC-naive     if HAS_CREATED_AT
+ * long  updatedAt    epoch micros, UTC-naive     if HAS_UPDATED_AT
+ * short length + bytes: fullName, email, phone, and document unless it equals the key (-1 length for null)
+ * </pre>
+ * Timestamps keep microseconds, the precision of a Postgres {@code timestamp}. A typical user takes about 110
+ * bytes, against the ~530 retained on the heap by a {@link User} and its strings, UUID and dates.
+ */
+final class UserRecordLayout {
+
+    /**
+     * Bumped on any change to the layout, so snapshots written by an older build are ignored.
+     */
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES;
+    static final long NOT_PACKABLE = -1L;
+    static final long NO_VERSION = Long.MIN_VALUE + 1;
+
+    private static final int CACHED_AT_OFFSET = Integer.BYTES + Long.BYTES;
+    private static final int DOCUMENT_DIGITS = 11;
+    private static final int MAX_STRING_BYTES = Short.MAX_VALUE;
+
+    private static final byte ACTIVE = 1;
+    private static final byte HAS_ID = 1 << 1;
+    private static final byte HAS_BIRTHDATE = 1 << 2;
+    private static final byte HAS_CREATED_AT = 1 << 3;
+    private static final byte HAS_UPDATED_AT = 1 << 4;
+    private static final byte DOCUMENT_IS_KEY = 1 << 5;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private UserRecordLayout() {
+    }
+
+    /**
+     * @return the eleven digits of a CPF as a long, or {@link #NOT_PACKABLE} for anything else
+     */
+    static long pack(String document) {
+        if (document == null || document.length() != DOCUMENT_DIGITS) {
+            return NOT_PACKABLE;
+        }
+        long packed = 0;
+        for (int i = 0; i < DOCUMENT_DIGITS; i++) {
+            char c = document.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_PACKABLE;
+            }
+            packed = packed * 10 + (c - '0');
+        }
+        return packed;
+    }
+
+    static String unpack(long key) {
+        char[] digits = new char[DOCUMENT_DIGITS];
+        for (int i = DOCUMENT_DIGITS - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + key % 10);
+            key /= 10;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * @return the encoded record, or null when a string is too long for the layout
+     */
+    static byte[] encode(long key, User user, long cachedAt) {
+        byte[] fullName = utf8(user.getFullName());
+        byte[] email = utf8(user.getEmail());
+        byte[] phone = utf8(user.getPhone());
+        boolean documentIsKey = user.getDocument() != null && pack(user.getDocument()) == key;
+        byte[] document = documentIsKey ? null : utf8(user.getDocument());
+        if (tooLong(fullName) || tooLong(email) || tooLong(phone) || tooLong(document)) {
+            return null;
+        }
+        byte flags = 0;
+        int length = HEADER_BYTES + 2;
+        if (user.isActive()) {
+            flags |= ACTIVE;
+        }
+        if (user.getId() != null) {
+            flags |= HAS_ID;
+            length += 2 * Long.BYTES;
+        }
+        if (user.getBirthdate() != null) {
+            flags |= HAS_BIRTHDATE;
+            length += Integer.BYTES;
+        }
+        if (user.getCreatedAt() != null) {
+            flags |= HAS_CREATED_AT;
+            length += Long.BYTES;
+        }
+        if (user.getUpdatedAt() != null) {
+            flags |= HAS_UPDATED_AT;
+            length += Long.BYTES;
+        }
+        if (documentIsKey) {
+            flags |= DOCUMENT_IS_KEY;
+        }
+        length += stringBytes(fullName) + stringBytes(email) + stringBytes(phone)
+                + (documentIsKey ? 0 : stringBytes(document));
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length).putLong(key).putLong(cachedAt);
+        buffer.put(flags).put((byte) (user.getCategory() == null ? -1 : user.getCategory().ordinal()));
+        if (user.getId() != null) {
+            buffer.putLong(user.getId().getMostSignificantBits()).putLong(user.getId().getLeastSignificantBits());
+        }
+        if (user.getBirthdate() != null) {
+            buffer.putInt((int) user.getBirthdate().toEpochDay());
+        }
+        if (user.getCreatedAt() != null) {
+            buffer.putLong(toMicros(user.getCreatedAt()));
+        }
+        if (user.getUpdatedAt() != null) {
+            buffer.putLong(toMicros(user.getUpdatedAt()));
+        }
+        putString(buffer, fullName);
+        putString(buffer, email);
+        putString(buffer, phone);
+        if (!documentIsKey) {
+            putString(buffer, document);
+        }
+        return buffer.array();
+    }
+
+    static int length(ByteBuffer data, int offset) {
+        return data.getInt(offset);
+    }
+
+    static long key(ByteBuffer data, int offset) {
+        return data.getLong(offset + Integer.BYTES);
+    }
+
+    static long cachedAt(ByteBuffer data, int offset) {
+        return data.getLong(offset + CACHED_AT_OFFSET);
+    }
+
+    static void cachedAt(ByteBuffer data, int offset, long cachedAt) {
+        data.putLong(offset + CACHED_AT_OFFSET, cachedAt);
+    }
+
+    /**
+     * @return the row version of the record: its updatedAt, or createdAt if never updated, in epoch micros; or
+     * {@link #NO_VERSION} when it has neither
+     */
+    static long version(ByteBuffer data, int offset) {
+        int position = offset + HEADER_BYTES;
+        byte flags = data.get(position);
+        position += 2;
+        if ((flags & HAS_ID) != 0) {
+            position += 2 * Long.BYTES;
+        }
+        if ((flags & HAS_BIRTHDATE) != 0) {
+            position += Integer.BYTES;
+        }
+        long version = NO_VERSION;
+        if ((flags & HAS_CREATED_AT) != 0) {
+            version = data.getLong(position);
+            position += Long.BYTES;
+        }
+        if ((flags & HAS_UPDATED_AT) != 0) {
+            version = data.getLong(position);
+        }
+        return version;
+    }
+
+    static long version(LocalDateTime updatedAt, LocalDateTime createdAt) {
+        LocalDateTime version = updatedAt != null ? updatedAt : createdAt;
+        return version == null ? NO_VERSION : toMicros(version);
+    }
+
+    static User decode(ByteBuffer data, int offset) {
+        int position = offset + HEADER_BYTES;
+        byte flags = data.get(position++);
+        byte category = data.get(position++);
+        User user = new User();
+        user.setActive((flags & ACTIVE) != 0);
+        user.setCategory(category < 0 ? null : CATEGORIES[category]);
+        if ((flags & HAS_ID) != 0) {
+            user.setId(new UUID(data.getLong(position), data.getLong(position + Long.BYTES)));
+            position += 2 * Long.BYTES;
+        }
+        if ((flags & HAS_BIRTHDATE) != 0) {
+            user.setBirthdate(LocalDate.ofEpochDay(data.getInt(position)));
+            position += Integer.BYTES;
+        }
+        if ((flags & HAS_CREATED_AT) != 0) {
+            user.setCreatedAt(fromMicros(data.getLong(position)));
+            position += Long.BYTES;
+        }
+        if ((flags & HAS_UPDATED_AT) != 0) {
+            user.setUpdatedAt(fromMicros(data.getLong(position)));
+            position += Long.BYTES;
+        }
+        String[] strings = new String[4];
+        int count = (flags & DOCUMENT_IS_KEY) != 0 ? 3 : 4;
+        for (int i = 0; i < count; i++) {
+            short length = data.getShort(position);
+            position += Short.BYTES;
+            if (length >= 0) {
+                byte[] bytes = new byte[length];
+                data.get(position, bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+        user.setFullName(strings[0]);
+        user.setEmail(strings[1]);
+        user.setPhone(strings[2]);
+        user.setDocument(count == 3 ? unpack(key(data, offset)) : strings[3]);
+        return user;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean tooLong(byte[] value) {
+        return value != null && value.length > MAX_STRING_BYTES;
+    }
+
+    private static int stringBytes(byte[] value) {
+        return Short.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) value.length).put(value);
+        }
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        long seconds = Math.floorDiv(micros, 1_000_000);
+        return LocalDateTime.ofEpochSecond(seconds, (int) (micros - seconds * 1_000_000) * 1000, ZoneOffset.UTC);
+    }
+}
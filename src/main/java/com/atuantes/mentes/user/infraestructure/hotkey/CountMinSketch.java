@@ -0,0 +1,124 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+/**
+ * Count-min sketch over 64-bit key hashes: {@code depth} rows of {@code width} counters, each key adding one to a
+ * counter per row, and its estimate being the smallest of them. The estimate never undercounts, except for the
+ * lost updates below, and overcounts only by what other keys added to the same counters.
+ * <p>
+ * The sketch is blocked: a key's counters all sit in one 64-byte block, chosen by the high half of its hash, with
+ * each row owning {@code 16 / depth} of the block's counters. A lookup then touches one cache line instead of
+ * {@code depth}, which is most of its cost, and two keys can only share a counter when they share a block. Counters
+ * are plain ints updated without a lock or CAS, so concurrent increments of the same counter can be lost: the
+ * estimates are for telling the hottest keys apart, not an exact tally.
+ */
+final class CountMinSketch {
+
+    private static final int BLOCK_COUNTERS = 16;
+    private static final int MAX_BLOCKS = 1 << 24;
+
+    private final int[] counters;
+    private final int depth;
+    private final int laneBits;
+    private final int laneMask;
+    private final int blockMask;
+
+    /**
+     * @param width counters per row, rounded up so the sketch fills a power of two of blocks
+     * @param depth rows, rounded up to a power of two, at most 16
+     */
+    CountMinSketch(int width, int depth) {
+        if (depth < 1 || depth > BLOCK_COUNTERS) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + BLOCK_COUNTERS + ", got " + depth);
+        }
+        this.depth = powerOfTwo(depth);
+        this.laneBits = Integer.numberOfTrailingZeros(BLOCK_COUNTERS / this.depth);
+        this.laneMask = (1 << laneBits) - 1;
+        int blocks = powerOfTwo((int) Math.min(MAX_BLOCKS, (long) width * this.depth / BLOCK_COUNTERS));
+        this.counters = new int[blocks * BLOCK_COUNTERS];
+        this.blockMask = blocks - 1;
+    }
+
+    /**
+     * Counts one occurrence of the key.
+     *
+     * @return the key's estimate, this occurrence included
+     */
+    int increment(long hash) {
+        int block = ((int) (hash >>> 32) & blockMask) * BLOCK_COUNTERS;
+        int lanes = (int) hash;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(block, lanes, row);
+            int count = counters[index];
+            if (count != Integer.MAX_VALUE) {
+                counters[index] = ++count;
+            }
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    int estimate(long hash) {
+        int block = ((int) (hash >>> 32) & blockMask) * BLOCK_COUNTERS;
+        int lanes = (int) hash;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(block, lanes, row)]);
+        }
+        return estimate;
+    }
+
+    private int index(int block, int lanes, int row) {
+        return block + (row << laneBits) + (lanes >>> (row * laneBits) & laneMask);
+    }
+
+    /**
+     * @return occurrences counted, decayed like the estimates; every key adds exactly one to the first row
+     */
+    long total() {
+        long total = 0;
+        for (int block = 0; block < counters.length; block += BLOCK_COUNTERS) {
+            for (int lane = 0; lane <= laneMask; lane++) {
+                total += counters[block + lane];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Halves every counter, so counts fade with a half-life of one call.
+     */
+    void decay() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+    }
+
+    /**
+     * Mixes a document into a 64-bit hash with MurmurHash3's finalizer, seeded per instance. A document of up to 15
+     * digits, every CPF, is mixed from its digits packed four bits each, which is cheaper than parsing it and keeps
+     * distinct documents from ever sharing a hash; anything else falls back to the string hash.
+     */
+    static long hash(String document, long seed) {
+        long value = 0;
+        int length = document.length();
+        for (int i = 0; i < length; i++) {
+            int digit = document.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || length > 15) {
+                value = document.hashCode() | 1L << 62;
+                break;
+            }
+            value = value << 4 | digit;
+        }
+        long hash = value ^ seed;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ hash >>> 33;
+    }
+
+    private static int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
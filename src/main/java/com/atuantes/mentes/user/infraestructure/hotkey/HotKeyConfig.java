@@ -0,0 +1,33 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HotKeyProperties.class)
+@ConditionalOnProperty(prefix = "user.hot-keys", name = "enabled", havingValue = "true")
+public class HotKeyConfig {
+
+    @Bean
+    public HotKeyTracker hotKeyTracker(HotKeyProperties properties, ObjectProvider<UserCache> userCaches) {
+        HotKeyTracker tracker = new HotKeyTracker(properties);
+        // Every cache tier keeps the heavy hitters of the last window from being evicted
+        userCaches.orderedStream().forEach(cache -> tracker.addListener(cache::pin));
+        return tracker;
+    }
+
+    @Bean
+    public static HotKeyPostProcessor hotKeyPostProcessor(ObjectProvider<HotKeyTracker> hotKeyTracker) {
+        return new HotKeyPostProcessor(hotKeyTracker);
+    }
+
+    @Bean
+    public HotKeyEndpoint hotKeyEndpoint(HotKeyTracker hotKeyTracker, DocumentHasher documentHasher) {
+        return new HotKeyEndpoint(hotKeyTracker, documentHasher);
+    }
+}
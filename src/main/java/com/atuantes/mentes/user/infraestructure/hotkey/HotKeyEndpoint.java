@@ -0,0 +1,44 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * The documents with the most lookups in the current decay window. Documents are never shown in full: each one is
+ * reported masked down to its last two digits and as the keyed hash flight recordings carry in
+ * {@code documentHash}, so a hot key can be matched against a recording or against a document the operator
+ * already knows, without the endpoint listing CPF numbers.
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyTracker tracker;
+    private final DocumentHasher documentHasher;
+
+    public HotKeyEndpoint(HotKeyTracker tracker, DocumentHasher documentHasher) {
+        this.tracker = tracker;
+        this.documentHasher = documentHasher;
+    }
+
+    @ReadOperation
+    public HotKeyReport hotKeys() {
+        return new HotKeyReport(tracker.total(), tracker.hotKeys().stream()
+                .map(hotKey -> new HotKey(mask(hotKey.document()), documentHasher.hash(hotKey.document()),
+                        hotKey.estimate(), hotKey.share()))
+                .toList());
+    }
+
+    static String mask(String document) {
+        int visible = Math.min(2, document.length());
+        return "*".repeat(document.length() - visible) + document.substring(document.length() - visible);
+    }
+
+    public record HotKeyReport(long lookups, List<HotKey> hotKeys) {
+    }
+
+    public record HotKey(String document, long documentHash, long estimate, double share) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+/**
+ * Wraps {@link FindUserByDocument} last, outside any cache tier, so lookups served from a cache are counted too.
+ */
+public class HotKeyPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<HotKeyTracker> tracker;
+
+    public HotKeyPostProcessor(ObjectProvider<HotKeyTracker> tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (bean instanceof FindUserByDocument findUserByDocument) {
+            return new HotKeyTrackingFindUserByDocument(findUserByDocument, tracker.getObject());
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
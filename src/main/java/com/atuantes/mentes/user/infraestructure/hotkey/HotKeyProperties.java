@@ -0,0 +1,22 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param width         counters per sketch row, rounded up to a power of two; a document's estimate overcounts by
+ *                      at most e / width of the window's lookups
+ * @param depth         sketch rows; each one more makes an overcount beyond that bound e times less likely
+ * @param topK          heavy hitters tracked, reported and pinned in the user cache
+ * @param decayInterval time after which all counts are halved and the cache pins are refreshed
+ */
+@ConfigurationProperties("user.hot-keys")
+public record HotKeyProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("16384") int width,
+        @DefaultValue("4") int depth,
+        @DefaultValue("32") int topK,
+        @DefaultValue("1m") Duration decayInterval) {
+}
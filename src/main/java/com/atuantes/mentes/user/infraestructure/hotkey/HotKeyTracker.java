@@ -0,0 +1,188 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Finds the documents that make up the largest share of lookups: every lookup is counted in a
+ * {@link CountMinSketch}, and the {@code topK} documents with the highest estimates are kept as heavy hitters.
+ * <p>
+ * The path taken by every lookup is one hash, {@code depth} increments in one cache line and a comparison with a
+ * floor just above the coldest heavy hitter's estimate; it takes the lock only when a document's estimate beats
+ * that floor and the document is not a heavy hitter yet. Every {@code decayInterval} the sketch is halved, so a document that
+ * stops being looked up drops out within a few windows, and the listeners receive the current heavy hitters.
+ */
+@Slf4j
+public class HotKeyTracker implements MeterBinder, DisposableBean {
+
+    private final CountMinSketch sketch;
+    private final int topK;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final LongAdder promotions = new LongAdder();
+    private final List<Consumer<List<String>>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    // Guarded by this; the volatile fields below are derived from it for the lock-free path
+    private final Map<Long, String> heavyHitters = new HashMap<>();
+    private volatile long[] heavyHitterHashes = new long[0];
+    private volatile int floor;
+
+    public HotKeyTracker(HotKeyProperties properties) {
+        this(properties.width(), properties.depth(), properties.topK());
+        long interval = properties.decayInterval().toMillis();
+        scheduler.scheduleAtFixedRate(this::decay, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    HotKeyTracker(int width, int depth, int topK) {
+        this.sketch = new CountMinSketch(width, depth);
+        this.topK = topK;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-key-decay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void record(String document) {
+        long hash = CountMinSketch.hash(document, seed);
+        int estimate = sketch.increment(hash);
+        if (estimate > floor && Arrays.binarySearch(heavyHitterHashes, hash) < 0) {
+            offer(hash, document, estimate);
+        }
+    }
+
+    /**
+     * Called with the current heavy hitters at the end of every decay window.
+     */
+    public void addListener(Consumer<List<String>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return the heavy hitters, highest estimate first, with their estimated lookups in the current window (the
+     * count decayed so far) and their share of all lookups in it
+     */
+    public List<HotKey> hotKeys() {
+        Map<Long, String> snapshot;
+        synchronized (this) {
+            snapshot = new HashMap<>(heavyHitters);
+        }
+        long total = Math.max(1, total());
+        List<HotKey> hotKeys = new ArrayList<>(snapshot.size());
+        snapshot.forEach((hash, document) -> {
+            int estimate = sketch.estimate(hash);
+            hotKeys.add(new HotKey(document, estimate, (double) estimate / total));
+        });
+        hotKeys.sort(Comparator.comparingLong(HotKey::estimate).reversed());
+        return hotKeys;
+    }
+
+    /**
+     * @return lookups counted in the current window, decayed like the estimates
+     */
+    public long total() {
+        return sketch.total();
+    }
+
+    void decay() {
+        sketch.decay();
+        List<String> documents;
+        synchronized (this) {
+            floor = currentFloor();
+            documents = List.copyOf(heavyHitters.values());
+        }
+        for (Consumer<List<String>> listener : listeners) {
+            try {
+                listener.accept(documents);
+            } catch (RuntimeException e) {
+                log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "hot key listener",
+                        e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void offer(long hash, String document, int estimate) {
+        if (heavyHitters.containsKey(hash)) {
+            return;
+        }
+        if (heavyHitters.size() >= topK) {
+            long coldest = 0;
+            int coldestEstimate = Integer.MAX_VALUE;
+            for (Long candidate : heavyHitters.keySet()) {
+                int candidateEstimate = sketch.estimate(candidate);
+                if (candidateEstimate < coldestEstimate) {
+                    coldest = candidate;
+                    coldestEstimate = candidateEstimate;
+                }
+            }
+            if (estimate <= floorAbove(coldestEstimate)) {
+                // The heavy hitters gained counts since the floor was computed; raise it to stop the retries
+                floor = floorAbove(coldestEstimate);
+                return;
+            }
+            heavyHitters.remove(coldest);
+        }
+        heavyHitters.put(hash, document);
+        promotions.increment();
+        heavyHitterHashes = heavyHitters.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        floor = currentFloor();
+    }
+
+    private int currentFloor() {
+        if (heavyHitters.size() < topK) {
+            return 0;
+        }
+        int lowest = Integer.MAX_VALUE;
+        for (Long hash : heavyHitters.keySet()) {
+            lowest = Math.min(lowest, sketch.estimate(hash));
+        }
+        return floorAbove(lowest);
+    }
+
+    /**
+     * A document has to beat the coldest heavy hitter by a quarter to replace it, so documents looked up about as
+     * often as each other do not keep trading places, each time through the lock.
+     */
+    private static int floorAbove(int coldestEstimate) {
+        return coldestEstimate + (coldestEstimate >>> 2);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("user.hot-keys.promotions", promotions, LongAdder::sum)
+                .description("Documents that entered the heavy hitters")
+                .register(registry);
+        Gauge.builder("user.hot-keys.top-share", this, tracker -> tracker.hotKeys().stream()
+                        .mapToDouble(HotKey::share).sum())
+                .description("Share of the current window's lookups that went to the heavy hitters")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public record HotKey(String document, long estimate, double share) {
+    }
+}
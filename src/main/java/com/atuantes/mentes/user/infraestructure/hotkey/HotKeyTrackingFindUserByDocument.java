@@ -0,0 +1,26 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+
+import java.util.UUID;
+
+/**
+ * Counts every lookup in the {@link HotKeyTracker}, cache hits included, before passing it on.
+ */
+public class HotKeyTrackingFindUserByDocument implements FindUserByDocument {
+
+    private final FindUserByDocument delegate;
+    private final HotKeyTracker tracker;
+
+    public HotKeyTrackingFindUserByDocument(FindUserByDocument delegate, HotKeyTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public User execute(String document, UUID transactionId) {
+        tracker.record(document);
+        return delegate.execute(document, transactionId);
+    }
+}
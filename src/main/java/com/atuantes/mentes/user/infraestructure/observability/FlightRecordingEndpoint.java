@@ -0,0 +1,66 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingService flightRecordingService;
+
+    @ReadOperation
+    public FlightRecordingService.RecordingStatus status() {
+        return flightRecordingService.status();
+    }
+
+    @Nullable
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector String action) throws IOException {
+        if (!"dump".equals(action)) {
+            throw new InvalidEndpointRequestException("Unknown action: " + action, "Only 'dump' is supported");
+        }
+        return flightRecordingService.dump().map(TemporaryFileResource::new).orElse(null);
+    }
+
+    @WriteOperation
+    public FlightRecordingService.RecordingStatus start(@Nullable String settings) {
+        return flightRecordingService.start(settings);
+    }
+
+    @DeleteOperation
+    public FlightRecordingService.RecordingStatus stop() {
+        return flightRecordingService.stop();
+    }
+
+    /**
+     * Deletes the dump as soon as it has been streamed, rather than leaving recordings on disk until the JVM exits.
+     */
+    static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(getFile().toPath(), StandardOpenOption.DELETE_ON_CLOSE);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class FlightRecordingService implements SmartInitializingSingleton, DisposableBean {
+
+    private static final String RECORDING_NAME = "ma-service";
+    // The environment and system properties hold the database credentials, and the JVM command line may too
+    private static final List<String> PRIVATE_EVENTS = List.of("jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final boolean continuous;
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+
+    public FlightRecordingService(@Value("${user.jfr.continuous:true}") boolean continuous,
+                                  @Value("${user.jfr.settings:default}") String settings,
+                                  @Value("${user.jfr.max-age:30m}") Duration maxAge,
+                                  @Value("${user.jfr.max-size-mb:128}") long maxSizeMb) {
+        this.continuous = continuous;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (continuous && FlightRecorder.isAvailable()) {
+            start(settings);
+        }
+    }
+
+    public synchronized RecordingStatus start(String settingsName) {
+        if (isRunning()) {
+            return status();
+        }
+        try {
+            Map<String, String> recordingSettings = new HashMap<>(Configuration.getConfiguration(
+                    settingsName == null ? settings : settingsName).getSettings());
+            PRIVATE_EVENTS.forEach(event -> recordingSettings.put(event + "#enabled", "false"));
+            Recording newRecording = new Recording(recordingSettings);
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSizeBytes);
+            newRecording.start();
+            recording = newRecording;
+            log.info(LogMessage.LOG_JFR_RECORDING.getMessage(), "started", recording.getId());
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settingsName, e);
+        }
+        return status();
+    }
+
+    /**
+     * @return a temporary file holding the recording so far; the caller deletes it once read
+     */
+    public synchronized Optional<Path> dump() throws IOException {
+        if (!isRunning()) {
+            return Optional.empty();
+        }
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        file.toFile().deleteOnExit();
+        recording.dump(file);
+        log.info(LogMessage.LOG_JFR_RECORDING.getMessage(), "dumped to " + file, recording.getId());
+        return Optional.of(file);
+    }
+
+    public synchronized RecordingStatus stop() {
+        if (recording != null) {
+            log.info(LogMessage.LOG_JFR_RECORDING.getMessage(), "stopped", recording.getId());
+            recording.close();
+            recording = null;
+        }
+        return status();
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus(null, RecordingState.CLOSED.name(), null, null, 0L);
+        }
+        return new RecordingStatus(recording.getId(), recording.getState().name(), recording.getStartTime(),
+                recording.getMaxAge(), recording.getSize());
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    public record RecordingStatus(Long id, String state, Instant startTime, Duration maxAge, long size) {
+    }
+}
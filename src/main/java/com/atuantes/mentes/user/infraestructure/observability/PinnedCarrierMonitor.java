@@ -0,0 +1,106 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} events in-process and aggregates them by the first
+ * non-JDK frame, which is where the offending {@code synchronized} block or native call lives
+ * (typically the JDBC driver or the pool).
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class PinnedCarrierMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 128;
+
+    private final Duration threshold;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public PinnedCarrierMonitor(@Value("${user.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        String site = siteOf(event.getStackTrace());
+        LongAdder counter = sites.get(site);
+        if (counter == null) {
+            counter = sites.size() < MAX_SITES ? sites.computeIfAbsent(site, key -> new LongAdder()) : null;
+        }
+        long occurrences = 1;
+        if (counter != null) {
+            counter.increment();
+            occurrences = counter.sum();
+        }
+        // Log the first occurrence of each site and then every power of two, to stay readable under load
+        if (Long.bitCount(occurrences) == 1) {
+            log.warn(LogMessage.LOG_VIRTUAL_THREAD_PINNED.getMessage(), event.getDuration().toMillis(), site, occurrences);
+        }
+    }
+
+    static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    public long pinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    public Map<String, Long> sites() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        sites.forEach((site, counter) -> snapshot.put(site, counter.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "pool")
+public class PoolEndpoint {
+
+    private final PoolMonitor poolMonitor;
+    private final PoolSizeAdvisor poolSizeAdvisor;
+
+    @ReadOperation
+    public PoolReport pools() {
+        List<PoolState> pools = poolMonitor.pools().stream()
+                .map(pool -> new PoolState(pool.name(), pool.active(), pool.idle(), pool.pending(),
+                        pool.maximumPoolSize()))
+                .toList();
+        return new PoolReport(poolSizeAdvisor.cpuLoad(), pools, poolSizeAdvisor.advice());
+    }
+
+    public record PoolReport(double cpuLoad, List<PoolState> pools, List<PoolSizeAdvisor.Advice> advice) {
+    }
+
+    public record PoolState(String name, int active, int idle, int pending, int maximumPoolSize) {
+    }
+}
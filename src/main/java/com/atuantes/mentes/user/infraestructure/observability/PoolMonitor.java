@@ -0,0 +1,111 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-pool acquire and usage statistics fed by Hikari's metrics tracker. The counters cover the window
+ * since the last {@link Pool#drain()}, which is what {@link PoolSizeAdvisor} evaluates.
+ */
+@Component
+public class PoolMonitor {
+
+    /**
+     * Checkouts that waited longer than this are counted as having queued for a connection.
+     */
+    static final long WAITED_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public IMetricsTracker register(String poolName, PoolStats stats, HikariConfigMXBean config) {
+        Pool pool = new Pool(poolName, stats, config);
+        pools.put(poolName, pool);
+        return pool;
+    }
+
+    public List<Pool> pools() {
+        return List.copyOf(pools.values());
+    }
+
+    public static final class Pool implements IMetricsTracker {
+
+        private final String name;
+        private final PoolStats stats;
+        private final HikariConfigMXBean config;
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LatencyHistogram usage = new LatencyHistogram();
+        private final LongAdder waited = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        Pool(String name, PoolStats stats, HikariConfigMXBean config) {
+            this.name = name;
+            this.stats = stats;
+            this.config = config;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+            if (elapsedAcquiredNanos >= WAITED_NANOS) {
+                waited.increment();
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariConfigMXBean config() {
+            return config;
+        }
+
+        public int active() {
+            return stats.getActiveConnections();
+        }
+
+        public int idle() {
+            return stats.getIdleConnections();
+        }
+
+        public int pending() {
+            return stats.getPendingThreads();
+        }
+
+        public int maximumPoolSize() {
+            return config.getMaximumPoolSize();
+        }
+
+        /**
+         * Returns the statistics gathered since the previous call and starts a new window.
+         */
+        public Window drain() {
+            Window window = new Window(usage.count(), acquire.percentileMillis(0.95), usage.meanMillis(),
+                    usage.percentileMillis(0.95), waited.sumThenReset(), timeouts.sumThenReset());
+            acquire.reset();
+            usage.reset();
+            return window;
+        }
+    }
+
+    public record Window(long checkouts, double acquireP95Ms, double usageMeanMs, double usageP95Ms,
+                         long waitedCheckouts, long timeouts) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically sizes each pool from Little's law: connections busy on average = checkout rate x mean
+ * usage time. The recommendation adds square-root staffing headroom for bursts and stays within the
+ * configured bounds. Growing only helps when the pool itself is the bottleneck, so a pool is never
+ * grown while usage time is inflated (the database is slow) or the process is CPU-bound.
+ */
+@Slf4j
+@Component
+public class PoolSizeAdvisor implements SmartInitializingSingleton, DisposableBean {
+
+    static final double WAITED_RATIO_THRESHOLD = 0.05;
+    static final double SLOW_USAGE_FACTOR = 2.0;
+
+    private static final double BASELINE_ALPHA = 0.1;
+
+    private final PoolMonitor poolMonitor;
+    private final Duration interval;
+    private final boolean apply;
+    private final int minSize;
+    private final int maxSize;
+    private final double cpuBoundThreshold;
+    private final Map<String, Double> usageBaselines = new ConcurrentHashMap<>();
+    private final Map<String, Advice> advice = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private long lastEvaluation = System.nanoTime();
+
+    public PoolSizeAdvisor(PoolMonitor poolMonitor,
+                           @Value("${user.pool.advisor.interval:30s}") Duration interval,
+                           @Value("${user.pool.advisor.apply:false}") boolean apply,
+                           @Value("${user.pool.advisor.min-size:2}") int minSize,
+                           @Value("${user.pool.advisor.max-size:50}") int maxSize,
+                           @Value("${user.pool.advisor.cpu-bound-threshold:0.85}") double cpuBoundThreshold) {
+        this.poolMonitor = poolMonitor;
+        this.interval = interval;
+        this.apply = apply;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.cpuBoundThreshold = cpuBoundThreshold;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-size-advisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::evaluate, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void evaluate() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-3, (now - lastEvaluation) / 1e9);
+        lastEvaluation = now;
+        double cpuLoad = cpuLoad();
+        for (PoolMonitor.Pool pool : poolMonitor.pools()) {
+            try {
+                Advice poolAdvice = advise(pool.name(), pool.drain(), pool.maximumPoolSize(), pool.pending(),
+                        seconds, cpuLoad);
+                advice.put(pool.name(), poolAdvice);
+                if (apply && poolAdvice.recommendedMaximumPoolSize() != pool.maximumPoolSize()) {
+                    log.info(LogMessage.LOG_POOL_RESIZE.getMessage(), pool.name(), pool.maximumPoolSize(),
+                            poolAdvice.recommendedMaximumPoolSize(), poolAdvice.bottleneck());
+                    pool.config().setMaximumPoolSize(poolAdvice.recommendedMaximumPoolSize());
+                }
+            } catch (Exception e) {
+                log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), pool.name(), e.getMessage());
+            }
+        }
+    }
+
+    Advice advise(String poolName, PoolMonitor.Window window, int currentSize, int pending, double seconds,
+                  double cpuLoad) {
+        double checkoutsPerSecond = window.checkouts() / seconds;
+        double busyConnections = checkoutsPerSecond * window.usageMeanMs() / 1000.0;
+        double waitedRatio = window.checkouts() == 0 ? 0.0 : (double) window.waitedCheckouts() / window.checkouts();
+        boolean queueing = waitedRatio > WAITED_RATIO_THRESHOLD || window.timeouts() > 0 || pending > 0;
+
+        double baseline = usageBaselines.getOrDefault(poolName, window.usageMeanMs());
+        boolean slowUsage = baseline > 0 && window.usageMeanMs() > SLOW_USAGE_FACTOR * baseline;
+        if (window.checkouts() > 0 && !slowUsage) {
+            usageBaselines.put(poolName, baseline + BASELINE_ALPHA * (window.usageMeanMs() - baseline));
+        }
+
+        Bottleneck bottleneck;
+        if (cpuLoad >= cpuBoundThreshold) {
+            bottleneck = Bottleneck.CPU_BOUND;
+        } else if (slowUsage) {
+            bottleneck = Bottleneck.DB_BOUND;
+        } else if (queueing) {
+            bottleneck = Bottleneck.POOL_BOUND;
+        } else {
+            bottleneck = Bottleneck.NONE;
+        }
+
+        int littlesLaw = (int) Math.ceil(busyConnections + Math.sqrt(busyConnections));
+        int recommended = switch (bottleneck) {
+            // Waiting despite the estimate means bursts exceed it, so grow by at least one
+            case POOL_BOUND -> Math.max(littlesLaw, currentSize + 1);
+            // More connections would only add load to a slow database or a saturated CPU
+            case DB_BOUND, CPU_BOUND -> Math.min(currentSize, Math.max(littlesLaw, minSize));
+            // Shrink one step at a time so a quiet window does not cost the next burst
+            case NONE -> littlesLaw < currentSize ? currentSize - 1 : currentSize;
+        };
+        recommended = Math.max(minSize, Math.min(maxSize, recommended));
+
+        return new Advice(poolName, Instant.now(), bottleneck, currentSize, recommended, checkoutsPerSecond,
+                busyConnections, window.acquireP95Ms(), window.usageMeanMs(), window.usageP95Ms(), waitedRatio,
+                window.timeouts(), pending, cpuLoad);
+    }
+
+    public List<Advice> advice() {
+        return List.copyOf(advice.values());
+    }
+
+    public double cpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            double load = sunOs.getProcessCpuLoad();
+            return load < 0 ? 0.0 : load;
+        }
+        double average = os.getSystemLoadAverage();
+        return average < 0 ? 0.0 : Math.min(1.0, average / os.getAvailableProcessors());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public enum Bottleneck {
+        NONE,
+        POOL_BOUND,
+        DB_BOUND,
+        CPU_BOUND
+    }
+
+    public record Advice(String pool, Instant evaluatedAt, Bottleneck bottleneck, int maximumPoolSize,
+                         int recommendedMaximumPoolSize, double checkoutsPerSecond, double busyConnections,
+                         double acquireP95Ms, double usageMeanMs, double usageP95Ms, double waitedRatio,
+                         long timeouts, int pendingThreads, double cpuLoad) {
+    }
+}
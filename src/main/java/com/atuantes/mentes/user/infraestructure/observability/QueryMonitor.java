@@ -0,0 +1,204 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency distribution per SQL statement plus a ring buffer of statements slower than the configured
+ * threshold. Plans for slow statements are captured off the request path with a generic-plan EXPLAIN
+ * on a separate connection, at most once per statement per cooldown.
+ */
+@Slf4j
+@Component
+public class QueryMonitor implements DisposableBean {
+
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private final long thresholdNanos;
+    private final long explainCooldownNanos;
+    private final boolean explainEnabled;
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final Map<String, String> plans = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+    private final AtomicLong slowQuerySequence = new AtomicLong();
+    private final AtomicLong explainSequence = new AtomicLong();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public QueryMonitor(@Value("${user.slow-query.threshold:200ms}") Duration threshold,
+                        @Value("${user.slow-query.capacity:64}") int capacity,
+                        @Value("${user.slow-query.explain.enabled:true}") boolean explainEnabled,
+                        @Value("${user.slow-query.explain.cooldown:1m}") Duration explainCooldown) {
+        this.thresholdNanos = threshold.toNanos();
+        this.slowQueries = new AtomicReferenceArray<>(capacity);
+        this.explainEnabled = explainEnabled;
+        this.explainCooldownNanos = explainCooldown.toNanos();
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public void record(String sql, List<String> bindTypes, long nanos, DataSource explainDataSource) {
+        LatencyHistogram histogram = histograms.get(sql);
+        if (histogram == null && histograms.size() < MAX_TRACKED_STATEMENTS) {
+            histogram = histograms.computeIfAbsent(sql, key -> new LatencyHistogram());
+        }
+        if (histogram != null) {
+            histogram.record(nanos);
+        }
+        if (nanos >= thresholdNanos) {
+            onSlowQuery(sql, bindTypes, nanos, explainDataSource);
+        }
+    }
+
+    private void onSlowQuery(String sql, List<String> bindTypes, long nanos, DataSource explainDataSource) {
+        long sequence = slowQuerySequence.getAndIncrement();
+        int slot = (int) (sequence % slowQueries.length());
+        SlowQuery slowQuery = new SlowQuery(sequence, Instant.now(), sql, List.copyOf(bindTypes),
+                nanos / 1_000_000.0, planFor(sql));
+        slowQueries.set(slot, slowQuery);
+        log.warn(LogMessage.LOG_SLOW_QUERY.getMessage(), slowQuery.durationMs(), sql, bindTypes);
+
+        if (explainEnabled && explainDataSource != null && shouldExplain(sql)) {
+            explainExecutor.execute(() -> explain(sql, bindTypes.size(), explainDataSource));
+        }
+    }
+
+    private boolean shouldExplain(String sql) {
+        long now = System.nanoTime();
+        Long previous = lastExplained.get(sql);
+        if (previous != null && now - previous < explainCooldownNanos) {
+            return false;
+        }
+        return previous == null
+                ? lastExplained.putIfAbsent(sql, now) == null
+                : lastExplained.replace(sql, previous, now);
+    }
+
+    private String planFor(String sql) {
+        return plans.get(sql);
+    }
+
+    void explain(String sql, int parameterCount, DataSource dataSource) {
+        String statementName = "ma_explain_" + explainSequence.incrementAndGet();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // Bind values are not kept, so the plan is the generic one Postgres uses for the prepared statement
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE " + statementName + " AS " + toPositionalParameters(sql));
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN (ANALYZE off, BUFFERS) EXECUTE "
+                        + statementName + nullArguments(parameterCount))) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                plans.put(sql, plan.toString());
+                attachPlan(sql, plan.toString());
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+                // Prepared statements outlive the transaction, so the pooled session must be cleaned explicitly
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DEALLOCATE " + statementName);
+                } catch (SQLException ignored) {
+                    // the statement was never prepared
+                }
+            }
+        } catch (Exception e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "EXPLAIN", e.getMessage());
+        }
+    }
+
+    private void attachPlan(String sql, String plan) {
+        for (int i = 0; i < slowQueries.length(); i++) {
+            SlowQuery slowQuery = slowQueries.get(i);
+            if (slowQuery != null && slowQuery.plan() == null && slowQuery.sql().equals(sql)) {
+                slowQueries.compareAndSet(i, slowQuery, slowQuery.withPlan(plan));
+            }
+        }
+    }
+
+    static String toPositionalParameters(String sql) {
+        StringBuilder converted = new StringBuilder(sql.length() + 8);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                converted.append('$').append(++parameter);
+            } else {
+                converted.append(c);
+            }
+        }
+        return converted.toString();
+    }
+
+    private static String nullArguments(int parameterCount) {
+        if (parameterCount == 0) {
+            return "";
+        }
+        return "(" + String.join(", ", Collections.nCopies(parameterCount, "NULL")) + ")";
+    }
+
+    public List<SlowQuery> recentSlowQueries() {
+        List<SlowQuery> recent = new ArrayList<>(slowQueries.length());
+        for (int i = 0; i < slowQueries.length(); i++) {
+            SlowQuery slowQuery = slowQueries.get(i);
+            if (slowQuery != null) {
+                recent.add(slowQuery);
+            }
+        }
+        recent.sort((a, b) -> Long.compare(b.sequence(), a.sequence()));
+        return recent;
+    }
+
+    public Map<String, LatencyHistogram.Summary> latencies() {
+        Map<String, LatencyHistogram.Summary> latencies = new LinkedHashMap<>();
+        histograms.forEach((sql, histogram) -> latencies.put(sql, histogram.summary()));
+        return latencies;
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.shutdownNow();
+    }
+
+    public record SlowQuery(long sequence, Instant timestamp, String sql, List<String> bindTypes,
+                            double durationMs, String plan) {
+
+        SlowQuery withPlan(String newPlan) {
+            return new SlowQuery(sequence, timestamp, sql, bindTypes, durationMs, newPlan);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final QueryMonitor queryMonitor;
+
+    @ReadOperation
+    public SlowQueryReport slowQueries() {
+        return new SlowQueryReport(queryMonitor.latencies(), queryMonitor.recentSlowQueries());
+    }
+
+    public record SlowQueryReport(Map<String, LatencyHistogram.Summary> latencies,
+                                  List<QueryMonitor.SlowQuery> recent) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "virtualthreads")
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsEndpoint {
+
+    private final PinnedCarrierMonitor pinnedCarrierMonitor;
+    private final ObjectProvider<RepositoryConcurrencyLimiter> repositoryConcurrencyLimiter;
+
+    public VirtualThreadsEndpoint(PinnedCarrierMonitor pinnedCarrierMonitor,
+                                  ObjectProvider<RepositoryConcurrencyLimiter> repositoryConcurrencyLimiter) {
+        this.pinnedCarrierMonitor = pinnedCarrierMonitor;
+        this.repositoryConcurrencyLimiter = repositoryConcurrencyLimiter;
+    }
+
+    @ReadOperation
+    public VirtualThreadsReport report() {
+        RepositoryConcurrencyLimiter limiter = repositoryConcurrencyLimiter.getIfAvailable();
+        return new VirtualThreadsReport(pinnedCarrierMonitor.pinnedEvents(), pinnedCarrierMonitor.sites(),
+                limiter == null ? null : new Limiter(limiter.limit(), limiter.inFlight(),
+                        limiter.rejected(RequestPriority.INTERACTIVE), limiter.rejected(RequestPriority.BATCH)));
+    }
+
+    public record VirtualThreadsReport(long pinnedEvents, Map<String, Long> pinnedSites, Limiter repositoryLimiter) {
+    }
+
+    public record Limiter(int limit, int inFlight, long rejectedInteractive, long rejectedBatch) {
+    }
+}
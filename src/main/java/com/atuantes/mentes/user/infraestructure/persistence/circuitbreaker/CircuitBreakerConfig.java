@@ -0,0 +1,29 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.BoundedExecutors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
+@ConditionalOnProperty(prefix = "user.circuit-breaker", name = "enabled", havingValue = "true")
+public class CircuitBreakerConfig {
+
+    @Bean
+    public RepositoryCircuitBreaker repositoryCircuitBreaker(CircuitBreakerProperties properties,
+                                                             Environment environment) {
+        return new RepositoryCircuitBreaker(properties,
+                BoundedExecutors.create("stale-fallback-", properties.maxConcurrency(), environment));
+    }
+
+    @Bean
+    public static CircuitBreakerPostProcessor circuitBreakerPostProcessor(
+            ObjectProvider<RepositoryCircuitBreaker> repositoryCircuitBreaker, ObjectProvider<UserCache> userCache) {
+        return new CircuitBreakerPostProcessor(repositoryCircuitBreaker, userCache);
+    }
+}
@@ -0,0 +1,51 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.ReactiveFindUserByDocument;
+import com.atuantes.mentes.user.domain.service.ReactiveUserInsert;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.domain.service.UserInsert;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+/**
+ * Wraps the persistence adapters first, under any cache tier, so cache hits never count as database calls and
+ * are still served while the breaker is open. The reactive adapters share the same breaker, since both stacks
+ * talk to the same database.
+ */
+public class CircuitBreakerPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<RepositoryCircuitBreaker> breaker;
+    private final ObjectProvider<UserCache> cache;
+
+    public CircuitBreakerPostProcessor(ObjectProvider<RepositoryCircuitBreaker> breaker,
+                                       ObjectProvider<UserCache> cache) {
+        this.breaker = breaker;
+        this.cache = cache;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (bean instanceof FindUserByDocument findUserByDocument) {
+            return new CircuitBreakingFindUserByDocument(findUserByDocument, breaker.getObject(), cache);
+        }
+        if (bean instanceof UserInsert userInsert) {
+            return new CircuitBreakingUserInsert(userInsert, breaker.getObject());
+        }
+        if (bean instanceof ReactiveFindUserByDocument findUserByDocument) {
+            return new CircuitBreakingReactiveFindUserByDocument(findUserByDocument, breaker.getObject());
+        }
+        if (bean instanceof ReactiveUserInsert userInsert) {
+            return new CircuitBreakingReactiveUserInsert(userInsert, breaker.getObject());
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,33 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param window         calls whose outcomes make up the failure rate
+ * @param minimumCalls   calls the window must hold before the breaker may open
+ * @param failureRate    fraction of failed calls in the window that opens the breaker
+ * @param deadline       calls slower than this count as failed, and a read that has a stale copy to fall back on
+ *                       waits no longer than this for the database
+ * @param openDuration   time the breaker rejects calls before letting trial calls through
+ * @param trialCalls     calls let through at once after {@code openDuration}; all have to succeed to close the
+ *                       breaker
+ * @param maxStaleness   how long past the cache ttl a cached copy of a user is still served while the database
+ *                       cannot answer; the breaker only sees cache misses, so this is measured from expiry
+ * @param maxConcurrency lookups with a stale copy waited on at once; past it, lookups run on the caller's thread
+ *                       and cannot fall back on the copy at the deadline
+ */
+@ConfigurationProperties("user.circuit-breaker")
+public record CircuitBreakerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50") int window,
+        @DefaultValue("20") int minimumCalls,
+        @DefaultValue("0.5") double failureRate,
+        @DefaultValue("1s") Duration deadline,
+        @DefaultValue("10s") Duration openDuration,
+        @DefaultValue("3") int trialCalls,
+        @DefaultValue("5m") Duration maxStaleness,
+        @DefaultValue("32") int maxConcurrency) {
+}
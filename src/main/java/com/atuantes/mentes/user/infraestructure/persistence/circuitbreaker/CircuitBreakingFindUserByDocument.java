@@ -0,0 +1,100 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs lookups through the {@link RepositoryCircuitBreaker} and, when the database cannot answer, returns the
+ * user's last cached copy if it is younger than {@code maxStaleness}, marking it as a {@link StaleRead}. A
+ * rejection, by the breaker or by the concurrency limit, is such a case too.
+ * <p>
+ * It sits under the cache tier, so it only sees misses, expired entries included. When such a copy exists the
+ * query runs on the breaker's own bounded executor and is waited for until the breaker's deadline; past it the
+ * copy is returned and the query finishes in the background, still counted by the breaker. Without a copy there
+ * is nothing to fall back on, and the query runs on the caller's thread as usual; so it does when the executor is
+ * full. The request's priority, read routing and {@code Server-Timing} recording follow the query to the worker.
+ */
+public class CircuitBreakingFindUserByDocument implements FindUserByDocument {
+
+    private final FindUserByDocument delegate;
+    private final RepositoryCircuitBreaker breaker;
+    private final ObjectProvider<UserCache> cache;
+
+    public CircuitBreakingFindUserByDocument(FindUserByDocument delegate, RepositoryCircuitBreaker breaker,
+                                             ObjectProvider<UserCache> cache) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.cache = cache;
+    }
+
+    @Override
+    public User execute(String document, UUID transactionId) {
+        StaleRead.clear();
+        UserCache userCache = cache.getIfAvailable();
+        UserCache.Stale stale = userCache == null ? null : userCache.getStale(document, breaker.maxStaleness());
+        if (stale == null) {
+            return breaker.execute(() -> delegate.execute(document, transactionId));
+        }
+        RequestPriority priority = RequestPriority.current();
+        long requiredLsn = DataSourceRoute.requiredLsn();
+        ServerTiming.Recording timing = ServerTiming.fork();
+        CompletableFuture<User> lookup;
+        try {
+            lookup = CompletableFuture.supplyAsync(() -> {
+                RequestPriority.set(priority);
+                DataSourceRoute.requireLsn(requiredLsn);
+                ServerTiming.resume(timing);
+                try {
+                    return breaker.execute(() -> delegate.execute(document, transactionId));
+                } finally {
+                    RequestPriority.clear();
+                    DataSourceRoute.clear();
+                    if (timing != null) {
+                        ServerTiming.end();
+                    }
+                }
+            }, breaker.fallbackExecutor());
+        } catch (RejectedExecutionException e) {
+            // Too many lookups waiting on the database already; this one waits on the caller's thread
+            return breaker.execute(() -> delegate.execute(document, transactionId));
+        }
+        try {
+            User user = lookup.get(breaker.deadline().toNanos(), TimeUnit.NANOSECONDS);
+            ServerTiming.join(timing);
+            return user;
+        } catch (TimeoutException e) {
+            return serveStale(stale);
+        } catch (ExecutionException e) {
+            ServerTiming.join(timing);
+            if (e.getCause() instanceof RuntimeException cause) {
+                if (cause instanceof UserServiceUnavailableException || RepositoryCircuitBreaker.isFailure(cause)) {
+                    return serveStale(stale);
+                }
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return serveStale(stale);
+        }
+    }
+
+    private User serveStale(UserCache.Stale stale) {
+        breaker.onStaleRead();
+        StaleRead.mark(stale.cachedAt());
+        return stale.user();
+    }
+}
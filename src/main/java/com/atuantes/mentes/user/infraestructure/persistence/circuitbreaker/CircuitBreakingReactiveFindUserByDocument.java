@@ -0,0 +1,28 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.ReactiveFindUserByDocument;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Runs reactive lookups through the {@link RepositoryCircuitBreaker}. The reactive stack has no cache tier, so
+ * there is no stale copy to fall back on: while the breaker is open lookups fail at once with a 503.
+ */
+public class CircuitBreakingReactiveFindUserByDocument implements ReactiveFindUserByDocument {
+
+    private final ReactiveFindUserByDocument delegate;
+    private final RepositoryCircuitBreaker breaker;
+
+    public CircuitBreakingReactiveFindUserByDocument(ReactiveFindUserByDocument delegate,
+                                                     RepositoryCircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public Mono<User> execute(String document, UUID transactionId) {
+        return breaker.execute(delegate.execute(document, transactionId));
+    }
+}
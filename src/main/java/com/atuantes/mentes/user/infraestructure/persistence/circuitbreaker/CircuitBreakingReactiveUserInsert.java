@@ -0,0 +1,27 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.ReactiveUserInsert;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Runs reactive inserts through the {@link RepositoryCircuitBreaker}: while it is open they fail at once with a
+ * 503.
+ */
+public class CircuitBreakingReactiveUserInsert implements ReactiveUserInsert {
+
+    private final ReactiveUserInsert delegate;
+    private final RepositoryCircuitBreaker breaker;
+
+    public CircuitBreakingReactiveUserInsert(ReactiveUserInsert delegate, RepositoryCircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public Mono<User> insert(User user, UUID transactionId) {
+        return breaker.execute(delegate.insert(user, transactionId));
+    }
+}
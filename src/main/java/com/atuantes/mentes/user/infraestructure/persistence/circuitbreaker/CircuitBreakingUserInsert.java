@@ -0,0 +1,26 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.UserInsert;
+
+import java.util.UUID;
+
+/**
+ * Runs inserts through the {@link RepositoryCircuitBreaker}: while it is open they fail at once with a 503, as
+ * there is nothing to fall back on for a write.
+ */
+public class CircuitBreakingUserInsert implements UserInsert {
+
+    private final UserInsert delegate;
+    private final RepositoryCircuitBreaker breaker;
+
+    public CircuitBreakingUserInsert(UserInsert delegate, RepositoryCircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public User insert(User user, UUID transactionId) {
+        return breaker.execute(() -> delegate.insert(user, transactionId));
+    }
+}
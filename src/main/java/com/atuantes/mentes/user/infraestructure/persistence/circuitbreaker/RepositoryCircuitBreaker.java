@@ -0,0 +1,319 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.exception.UserException;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops sending calls to a database that keeps failing or answering past its deadline, so callers get a 503 with
+ * a {@code Retry-After} hint, or a stale cached user, at once instead of each waiting out the outage.
+ * <p>
+ * Closed, the outcomes of the last {@code window} calls are kept; once {@code failureRate} of them failed, the
+ * breaker opens and rejects every call for {@code openDuration}. Then it is half open: {@code trialCalls} calls go
+ * through, the rest are still rejected. If all trials succeed the breaker closes with an empty window, and the
+ * first failed trial opens it again. A call fails when it throws anything but a business outcome (user not found,
+ * duplicate document, invalid input) or a rejection by the concurrency limit, or when it succeeds after
+ * {@code deadline}. Every lookup and insert passes through here, so it takes no lock.
+ */
+@Slf4j
+public class RepositoryCircuitBreaker implements MeterBinder, DisposableBean {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final AtomicIntegerArray outcomes;
+    private final int minimumCalls;
+    private final double failureRate;
+    private final long deadlineNanos;
+    private final long openNanos;
+    private final int trialCalls;
+    private final Duration maxStaleness;
+    private final LongSupplier clock;
+    private final Executor fallbackExecutor;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder staleReads = new LongAdder();
+
+    // Calls are recorded in the ring without a lock, so the failure count may briefly lag a concurrent outcome;
+    // state changes are compare-and-set on the phase, and outcomes of calls started in an earlier phase are dropped
+    private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(State.CLOSED, 0, 0, 0, 0));
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * @param fallbackExecutor runs the lookups that have a stale copy to fall back on, so they can be given up on at
+     *                         the deadline; owned by the breaker and shut down with it
+     */
+    public RepositoryCircuitBreaker(CircuitBreakerProperties properties, Executor fallbackExecutor) {
+        this(properties, fallbackExecutor, System::nanoTime);
+    }
+
+    RepositoryCircuitBreaker(CircuitBreakerProperties properties, LongSupplier clock) {
+        this(properties, Runnable::run, clock);
+    }
+
+    private RepositoryCircuitBreaker(CircuitBreakerProperties properties, Executor fallbackExecutor,
+                                     LongSupplier clock) {
+        this.fallbackExecutor = fallbackExecutor;
+        this.outcomes = new AtomicIntegerArray(Math.max(1, properties.window()));
+        this.minimumCalls = Math.min(outcomes.length(), Math.max(1, properties.minimumCalls()));
+        this.failureRate = properties.failureRate();
+        this.deadlineNanos = properties.deadline().toNanos();
+        this.openNanos = properties.openDuration().toNanos();
+        this.trialCalls = Math.max(1, properties.trialCalls());
+        this.maxStaleness = properties.maxStaleness();
+        this.clock = clock;
+    }
+
+    /**
+     * @throws UserServiceUnavailableException without running the call while the breaker is open, or half open
+     *                                         with all trial calls taken
+     */
+    public <T> T execute(Supplier<T> call) {
+        Phase acquired = acquire();
+        long start = clock.getAsLong();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            onOutcome(acquired, isFailure(e));
+            throw e;
+        }
+        onOutcome(acquired, clock.getAsLong() - start > deadlineNanos);
+        return result;
+    }
+
+    /**
+     * The same for the reactive adapters: the breaker is consulted on subscription and the outcome recorded on the
+     * first terminal signal. A cancelled call records nothing; if it was a trial, its place goes to the next call.
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return Mono.defer(() -> {
+            Phase acquired = acquire();
+            long start = clock.getAsLong();
+            AtomicBoolean done = new AtomicBoolean();
+            return call
+                    .doOnSuccess(result -> {
+                        if (done.compareAndSet(false, true)) {
+                            onOutcome(acquired, clock.getAsLong() - start > deadlineNanos);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (done.compareAndSet(false, true)) {
+                            onOutcome(acquired, !(e instanceof RuntimeException runtime) || isFailure(runtime));
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (done.compareAndSet(false, true) && acquired.state() == State.HALF_OPEN) {
+                            releaseTrial(acquired.epoch());
+                        }
+                    });
+        });
+    }
+
+    private Phase acquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state()) {
+                case CLOSED -> {
+                    return current;
+                }
+                case OPEN -> {
+                    long remaining = current.openedAt() + openNanos - clock.getAsLong();
+                    if (remaining > 0) {
+                        throw reject(remaining);
+                    }
+                    Phase halfOpen = new Phase(State.HALF_OPEN, current.epoch() + 1, current.openedAt(), 1, 0);
+                    if (phase.compareAndSet(current, halfOpen)) {
+                        transition(State.OPEN, State.HALF_OPEN, failures.get(), calls());
+                        return halfOpen;
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (current.trialsStarted() >= trialCalls) {
+                        throw reject(openNanos);
+                    }
+                    Phase trial = new Phase(State.HALF_OPEN, current.epoch(), current.openedAt(),
+                            current.trialsStarted() + 1, current.trialsSucceeded());
+                    if (phase.compareAndSet(current, trial)) {
+                        return trial;
+                    }
+                }
+            }
+        }
+    }
+
+    private void onOutcome(Phase acquired, boolean failed) {
+        if (acquired.state() == State.HALF_OPEN) {
+            onTrialOutcome(acquired.epoch(), failed);
+            return;
+        }
+        if (phase.get() != acquired) {
+            // Started before the breaker opened; the trials decide now
+            return;
+        }
+        long index = recorded.getAndIncrement();
+        int outcome = failed ? 1 : 0;
+        int previous = outcomes.getAndSet((int) (index % outcomes.length()), outcome);
+        int failing = outcome == previous ? failures.get() : failures.addAndGet(outcome - previous);
+        int calls = (int) Math.min(index + 1, outcomes.length());
+        if (failed && calls >= minimumCalls && failing >= failureRate * calls
+                && phase.compareAndSet(acquired, opened(acquired))) {
+            transition(State.CLOSED, State.OPEN, failing, calls);
+        }
+    }
+
+    private void onTrialOutcome(long epoch, boolean failed) {
+        while (true) {
+            Phase current = phase.get();
+            if (current.epoch() != epoch) {
+                return;
+            }
+            if (failed) {
+                if (phase.compareAndSet(current, opened(current))) {
+                    transition(State.HALF_OPEN, State.OPEN, current.trialsSucceeded() + 1, current.trialsStarted());
+                    return;
+                }
+                continue;
+            }
+            int succeeded = current.trialsSucceeded() + 1;
+            if (succeeded >= trialCalls) {
+                // No closed outcome is recorded while half open, so the window can be emptied before closing
+                clearWindow();
+                if (phase.compareAndSet(current, new Phase(State.CLOSED, epoch + 1, 0, 0, 0))) {
+                    transition(State.HALF_OPEN, State.CLOSED, 0, succeeded);
+                    return;
+                }
+                continue;
+            }
+            if (phase.compareAndSet(current, new Phase(State.HALF_OPEN, epoch, current.openedAt(),
+                    current.trialsStarted(), succeeded))) {
+                return;
+            }
+        }
+    }
+
+    private void releaseTrial(long epoch) {
+        while (true) {
+            Phase current = phase.get();
+            if (current.epoch() != epoch || phase.compareAndSet(current, new Phase(State.HALF_OPEN, epoch,
+                    current.openedAt(), current.trialsStarted() - 1, current.trialsSucceeded()))) {
+                return;
+            }
+        }
+    }
+
+    private Phase opened(Phase from) {
+        return new Phase(State.OPEN, from.epoch() + 1, clock.getAsLong(), 0, 0);
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < outcomes.length(); i++) {
+            outcomes.set(i, 0);
+        }
+        failures.set(0);
+        recorded.set(0);
+    }
+
+    private int calls() {
+        return (int) Math.min(recorded.get(), outcomes.length());
+    }
+
+    private static void transition(State from, State to, int failed, int of) {
+        log.warn(LogMessage.LOG_CIRCUIT_BREAKER.getMessage(), from, to, failed, of);
+    }
+
+    private UserServiceUnavailableException reject(long retryAfterNanos) {
+        rejected.increment();
+        return new UserServiceUnavailableException(UserErrorMessage.SERVICE_UNAVAILABLE.getCode(),
+                UserErrorMessage.SERVICE_UNAVAILABLE.getMessage(), Duration.ofNanos(retryAfterNanos));
+    }
+
+    /**
+     * Business outcomes say nothing about the database's health. Neither do rejections by the concurrency limit:
+     * they mean this instance is saturated, and opening the breaker on them would turn a burst into an outage.
+     */
+    static boolean isFailure(RuntimeException e) {
+        if (e instanceof UserPersistenceException persistence) {
+            return !UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getCode().equals(persistence.getCode());
+        }
+        return !(e instanceof UserException);
+    }
+
+    public State state() {
+        return phase.get().state();
+    }
+
+    public Duration deadline() {
+        return Duration.ofNanos(deadlineNanos);
+    }
+
+    public Duration maxStaleness() {
+        return maxStaleness;
+    }
+
+    Executor fallbackExecutor() {
+        return fallbackExecutor;
+    }
+
+    void onStaleRead() {
+        staleReads.increment();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long staleReads() {
+        return staleReads.sum();
+    }
+
+    /**
+     * What the breaker is doing; {@code epoch} changes on every state change so late outcomes can be told apart.
+     */
+    private record Phase(State state, long epoch, long openedAt, int trialsStarted, int trialsSucceeded) {
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("user.repository.circuit-breaker.state", this, breaker -> breaker.state().ordinal())
+                .description("Repository circuit breaker state: 0 closed, 1 half open, 2 open")
+                .register(registry);
+        FunctionCounter.builder("user.repository.circuit-breaker.rejected", this, RepositoryCircuitBreaker::rejected)
+                .description("Repository calls rejected while the circuit breaker was open")
+                .register(registry);
+        FunctionCounter.builder("user.repository.circuit-breaker.stale-reads", this,
+                        RepositoryCircuitBreaker::staleReads)
+                .description("Lookups answered with a stale cached user because the database could not answer")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (fallbackExecutor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+/**
+ * Tells the controller that the user it is about to return came from the cache because the database could not
+ * answer, so the response can say so in {@value #HEADER}: the copy's age in seconds.
+ */
+public final class StaleRead {
+
+    public static final String HEADER = "x-stale-age";
+
+    private static final ThreadLocal<Long> CACHED_AT = new ThreadLocal<>();
+
+    private StaleRead() {
+    }
+
+    static void mark(long cachedAt) {
+        CACHED_AT.set(cachedAt);
+    }
+
+    public static void clear() {
+        CACHED_AT.remove();
+    }
+
+    /**
+     * @return whether the user returned on this thread came from the cache; unlike {@link #consumeAgeSeconds()}
+     * keeps the mark
+     */
+    public static boolean isMarked() {
+        return CACHED_AT.get() != null;
+    }
+
+    /**
+     * @return seconds since the user returned on this thread was cached, or -1 if it came from the database; clears
+     * the mark
+     */
+    public static long consumeAgeSeconds() {
+        Long cachedAt = CACHED_AT.get();
+        if (cachedAt == null) {
+            return -1;
+        }
+        CACHED_AT.remove();
+        return Math.max(0, (System.currentTimeMillis() - cachedAt) / 1000);
+    }
+}
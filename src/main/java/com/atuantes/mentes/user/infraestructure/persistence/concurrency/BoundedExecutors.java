@@ -0,0 +1,43 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for repository work handed off the caller's thread. They are not shared with {@code @Async} work and
+ * have no queue: at most {@code maxThreads} tasks run at once and the next one is rejected at once, so callers run
+ * it themselves instead of waiting behind unrelated work. Threads are virtual when virtual threads are enabled.
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    public static ThreadPoolExecutor create(String threadPrefix, int maxThreads, Environment environment) {
+        int threads = Math.max(1, maxThreads);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory(threadPrefix, environment),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory threadFactory(String threadPrefix, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor(threadPrefix).getVirtualThreadFactory();
+        }
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadPrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param initialLimit starting limit; {@code 0} starts at the connection pool size
+ * @param tolerance    how much the short-term latency may exceed the long-term baseline before the limit shrinks
+ * @param smoothing    weight given to each new limit estimate
+ * @param batchShare   fraction of the limit that {@link RequestPriority#BATCH} traffic may occupy
+ * @param retryAfter   value of the {@code Retry-After} header sent with rejections
+ */
+@ConfigurationProperties("user.concurrency.limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.5") double batchShare,
+        @DefaultValue("1s") Duration retryAfter) {
+}
@@ -0,0 +1,97 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Latency-gradient concurrency limit. A long-window average of call latency is the baseline; whenever a
+ * sample comes in slower than {@code tolerance} times that baseline the limit shrinks proportionally,
+ * otherwise it grows by roughly its square root. Queueing inside the pool or the database shows up as
+ * latency long before timeouts, so the limit converges on the concurrency the database can actually absorb.
+ * <p>
+ * Every repository call reports a sample, so sampling is lock-free: calls add to the current window of
+ * {@link #WINDOW_SAMPLES} and the one that completes it swaps in a new window and folds the window's average
+ * into the estimate with a compare-and-set.
+ */
+final class GradientLimit {
+
+    static final int WINDOW_SAMPLES = 10;
+
+    // Baseline over roughly the last 600 calls
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600.0 / WINDOW_SAMPLES + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicReference<Window> window = new AtomicReference<>(new Window());
+    private final AtomicReference<Estimate> estimate;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimate = new AtomicReference<>(new Estimate(Math.max(minLimit, Math.min(maxLimit, initialLimit)), 0));
+    }
+
+    int limit() {
+        return (int) estimate.get().limit();
+    }
+
+    void onSample(long rttNanos, int inFlight) {
+        Window current = window.get();
+        if (!current.add(rttNanos, inFlight)) {
+            return;
+        }
+        window.compareAndSet(current, new Window());
+        double shortRtt = Math.max(1, current.averageRtt());
+        int maxInFlight = current.maxInFlight.get();
+        estimate.updateAndGet(previous -> next(previous, shortRtt, maxInFlight));
+    }
+
+    private Estimate next(Estimate previous, double shortRtt, int inFlight) {
+        double longRtt = previous.longRtt() == 0
+                ? shortRtt
+                : previous.longRtt() + LONG_WINDOW_ALPHA * (shortRtt - previous.longRtt());
+
+        // After a slow period the baseline lags behind; pull it down so the limit can recover
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        double estimatedLimit = previous.limit();
+        // Do not move the limit while the application is not even using half of it
+        if (inFlight < estimatedLimit / 2) {
+            return new Estimate(estimatedLimit, longRtt);
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        return new Estimate(Math.max(minLimit, Math.min(maxLimit, newLimit)), longRtt);
+    }
+
+    private record Estimate(double limit, double longRtt) {
+    }
+
+    private static final class Window {
+
+        private final AtomicLong rttSum = new AtomicLong();
+        private final AtomicInteger samples = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        /**
+         * @return true for the sample that completes the window
+         */
+        boolean add(long rttNanos, int inFlight) {
+            rttSum.addAndGet(rttNanos);
+            maxInFlight.accumulateAndGet(inFlight, Math::max);
+            return samples.incrementAndGet() == WINDOW_SAMPLES;
+        }
+
+        double averageRtt() {
+            return (double) rttSum.get() / samples.get();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "user.concurrency.limit", name = "enabled", havingValue = "true")
+public class RepositoryConcurrencyConfig {
+
+    @Bean
+    public RepositoryConcurrencyLimiter repositoryConcurrencyLimiter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            ConcurrencyLimitProperties properties) {
+        return new RepositoryConcurrencyLimiter(properties.initialLimit() > 0 ? properties.initialLimit() : poolSize,
+                properties);
+    }
+
+    @Bean
+    public static RepositoryConcurrencyPostProcessor repositoryConcurrencyPostProcessor(
+            ObjectProvider<RepositoryConcurrencyLimiter> repositoryConcurrencyLimiter) {
+        return new RepositoryConcurrencyPostProcessor(repositoryConcurrencyLimiter);
+    }
+}
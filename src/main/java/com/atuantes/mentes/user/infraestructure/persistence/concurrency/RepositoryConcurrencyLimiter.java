@@ -0,0 +1,112 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Adaptive cap on in-flight repository calls. Callers over the current {@link GradientLimit} are rejected
+ * immediately with a 503 and a {@code Retry-After} hint instead of queueing on the pool's connection timeout.
+ * Batch traffic may only use part of the limit, so interactive lookups keep headroom while it is shed.
+ */
+@Slf4j
+public class RepositoryConcurrencyLimiter implements MeterBinder {
+
+    private final GradientLimit gradientLimit;
+    private final double batchShare;
+    private final Duration retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder[] rejected = new LongAdder[RequestPriority.values().length];
+
+    public RepositoryConcurrencyLimiter(int initialLimit, ConcurrencyLimitProperties properties) {
+        this.gradientLimit = new GradientLimit(initialLimit, properties.minLimit(), properties.maxLimit(),
+                properties.tolerance(), properties.smoothing());
+        this.batchShare = properties.batchShare();
+        this.retryAfter = properties.retryAfter();
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = new LongAdder();
+        }
+    }
+
+    public <T> T execute(Callable<T> call) throws Exception {
+        return execute(call, () -> false);
+    }
+
+    /**
+     * @param abandoned checked once the call returns or throws; an abandoned call, e.g. one cancelled because
+     *                  another answered first, frees its slot without reporting a latency it did not really have
+     */
+    public <T> T execute(Callable<T> call, BooleanSupplier abandoned) throws Exception {
+        RequestPriority priority = RequestPriority.current();
+        int limit = gradientLimit.limit();
+        int allowed = priority == RequestPriority.BATCH ? Math.max(1, (int) (limit * batchShare)) : limit;
+        if (!tryAcquire(allowed)) {
+            rejected[priority.ordinal()].increment();
+            log.debug(LogMessage.LOG_CONCURRENCY_LIMIT.getMessage(), limit, priority);
+            throw new UserServiceUnavailableException(UserErrorMessage.SERVICE_UNAVAILABLE.getCode(),
+                    UserErrorMessage.SERVICE_UNAVAILABLE.getMessage(), retryAfter);
+        }
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            int concurrent = inFlight.getAndDecrement();
+            if (!abandoned.getAsBoolean()) {
+                gradientLimit.onSample(System.nanoTime() - start, concurrent);
+            }
+        }
+    }
+
+    private boolean tryAcquire(int allowed) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public int limit() {
+        return gradientLimit.limit();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected(RequestPriority priority) {
+        return rejected[priority.ordinal()].sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("user.repository.concurrency.limit", this, RepositoryConcurrencyLimiter::limit)
+                .description("Current adaptive limit of concurrent repository calls")
+                .register(registry);
+        Gauge.builder("user.repository.concurrency.in-flight", this, RepositoryConcurrencyLimiter::inFlight)
+                .description("Repository calls currently in flight")
+                .register(registry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            FunctionCounter.builder("user.repository.concurrency.rejected", this, limiter -> limiter.rejected(priority))
+                    .description("Repository calls rejected by the concurrency limit")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+}
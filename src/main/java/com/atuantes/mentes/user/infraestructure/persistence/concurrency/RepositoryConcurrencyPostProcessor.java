@@ -0,0 +1,47 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+public class RepositoryConcurrencyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<RepositoryConcurrencyLimiter> limiter;
+
+    public RepositoryConcurrencyPostProcessor(ObjectProvider<RepositoryConcurrencyLimiter> limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (bean instanceof UserRepository repository) {
+            return wrap(repository, limiter.getObject());
+        }
+        return bean;
+    }
+
+    static UserRepository wrap(UserRepository repository, RepositoryConcurrencyLimiter limiter) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> method.getDeclaringClass() == Object.class
+                        ? invoke(repository, method, args)
+                        : limiter.execute(() -> invoke(repository, method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Exception {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import java.util.Locale;
+
+/**
+ * Priority class of the current request, used by {@link RepositoryConcurrencyLimiter} to shed batch traffic
+ * before interactive lookups. Unset threads count as {@link #INTERACTIVE}.
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BATCH;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority == null ? INTERACTIVE : priority;
+    }
+
+    public static void set(RequestPriority priority) {
+        CURRENT.set(priority);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static RequestPriority parse(String value) {
+        if (value != null && BATCH.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+            return BATCH;
+        }
+        return INTERACTIVE;
+    }
+}
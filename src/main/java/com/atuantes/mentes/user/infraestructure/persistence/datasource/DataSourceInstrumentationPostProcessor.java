@@ -0,0 +1,46 @@
+package com.atuantes.mentes.user.infraestructure.persistence.datasource;
+
+import com.atuantes.mentes.user.infraestructure.observability.PoolMonitor;
+import com.atuantes.mentes.user.infraestructure.observability.QueryMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class DataSourceInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryMonitor> queryMonitor;
+    private final ObjectProvider<PoolMonitor> poolMonitor;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceInstrumentationPostProcessor(ObjectProvider<QueryMonitor> queryMonitor,
+                                                  ObjectProvider<PoolMonitor> poolMonitor,
+                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.queryMonitor = queryMonitor;
+        this.poolMonitor = poolMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        // Runs after spring.datasource.hikari has been bound and before the pool can start
+        if (bean instanceof HikariDataSource hikariDataSource) {
+            PoolMetricsTrackerFactory.install(hikariDataSource, poolMonitor, meterRegistry);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            return new InstrumentedDataSource(dataSource, queryMonitor.getIfAvailable());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,60 @@
+package com.atuantes.mentes.user.infraestructure.persistence.datasource;
+
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.observability.event.ConnectionAcquireEvent;
+import com.atuantes.mentes.user.infraestructure.observability.QueryMonitor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final QueryMonitor queryMonitor;
+
+    public InstrumentedDataSource(DataSource targetDataSource, QueryMonitor queryMonitor) {
+        super(targetDataSource);
+        this.queryMonitor = queryMonitor;
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        long start = ServerTiming.start();
+        ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+        event.begin();
+        try {
+            Connection connection = super.getConnection();
+            event.acquired = true;
+            return intercept(connection);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.ACQUIRE, start);
+            event.commit();
+        }
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        long start = ServerTiming.start();
+        ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+        event.begin();
+        try {
+            Connection connection = super.getConnection(username, password);
+            event.acquired = true;
+            return intercept(connection);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.ACQUIRE, start);
+            event.commit();
+        }
+    }
+
+    private Connection intercept(Connection connection) {
+        if (queryMonitor == null) {
+            return connection;
+        }
+        return StatementInterceptor.wrap(connection, queryMonitor, obtainTargetDataSource());
+    }
+}
@@ -0,0 +1,83 @@
+package com.atuantes.mentes.user.infraestructure.persistence.datasource;
+
+import com.atuantes.mentes.user.infraestructure.observability.PoolMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds both {@link PoolMonitor} and the regular Micrometer {@code hikaricp.*} meters. Spring Boot only
+ * installs its Micrometer tracker on pools without one, so this factory has to include it itself.
+ * Collaborators are resolved when the pool starts, not when the data source is built.
+ */
+public class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final HikariDataSource dataSource;
+    private final ObjectProvider<PoolMonitor> poolMonitor;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    PoolMetricsTrackerFactory(HikariDataSource dataSource,
+                              ObjectProvider<PoolMonitor> poolMonitor,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.dataSource = dataSource;
+        this.poolMonitor = poolMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static void install(HikariDataSource dataSource,
+                               ObjectProvider<PoolMonitor> poolMonitor,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+        if (dataSource.getMetricsTrackerFactory() == null && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(new PoolMetricsTrackerFactory(dataSource, poolMonitor, meterRegistry));
+        }
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        List<IMetricsTracker> trackers = new ArrayList<>(2);
+        PoolMonitor monitor = poolMonitor.getIfAvailable();
+        if (monitor != null) {
+            trackers.add(monitor.register(poolName, poolStats, dataSource.getHikariConfigMXBean()));
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            trackers.add(new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats));
+        }
+        return trackers.size() == 1 ? trackers.get(0) : new CompositeMetricsTracker(trackers);
+    }
+
+    private record CompositeMetricsTracker(List<IMetricsTracker> trackers) implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            trackers.forEach(tracker -> tracker.recordConnectionCreatedMillis(connectionCreatedMillis));
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            trackers.forEach(tracker -> tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos));
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            trackers.forEach(tracker -> tracker.recordConnectionUsageMillis(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            trackers.forEach(IMetricsTracker::recordConnectionTimeout);
+        }
+
+        @Override
+        public void close() {
+            trackers.forEach(IMetricsTracker::close);
+        }
+    }
+}
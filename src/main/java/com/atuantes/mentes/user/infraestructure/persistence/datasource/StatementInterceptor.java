@@ -0,0 +1,103 @@
+package com.atuantes.mentes.user.infraestructure.persistence.datasource;
+
+import com.atuantes.mentes.user.infraestructure.observability.QueryMonitor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC proxies that time every prepared statement execution and report it, with its SQL and
+ * the JDBC types of its bind parameters, to the {@link QueryMonitor}.
+ */
+final class StatementInterceptor {
+
+    private StatementInterceptor() {
+    }
+
+    static Connection wrap(Connection connection, QueryMonitor queryMonitor, DataSource explainDataSource) {
+        return (Connection) Proxy.newProxyInstance(StatementInterceptor.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, queryMonitor, explainDataSource));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target, QueryMonitor queryMonitor,
+                                     DataSource explainDataSource) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementInterceptor.invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                String sql = (String) args[0];
+                return Proxy.newProxyInstance(StatementInterceptor.class.getClassLoader(),
+                        new Class<?>[]{PreparedStatement.class},
+                        new PreparedStatementHandler(statement, (Connection) proxy, sql, this));
+            }
+            return result;
+        }
+    }
+
+    private static final class PreparedStatementHandler implements InvocationHandler {
+
+        private final PreparedStatement target;
+        private final Connection connectionProxy;
+        private final String sql;
+        private final ConnectionHandler connection;
+        private final List<String> bindTypes = new ArrayList<>(8);
+
+        private PreparedStatementHandler(PreparedStatement target, Connection connectionProxy, String sql,
+                                         ConnectionHandler connection) {
+            this.target = target;
+            this.connectionProxy = connectionProxy;
+            this.sql = sql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordBindType(index, name.equals("setNull") ? "NULL" : name.substring(3));
+                return StatementInterceptor.invoke(target, method, args);
+            }
+            if (name.equals("clearParameters")) {
+                bindTypes.clear();
+                return StatementInterceptor.invoke(target, method, args);
+            }
+            if (name.equals("getConnection")) {
+                return connectionProxy;
+            }
+            if (!name.startsWith("execute")) {
+                return StatementInterceptor.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return StatementInterceptor.invoke(target, method, args);
+            } finally {
+                connection.queryMonitor().record(sql, bindTypes, System.nanoTime() - start,
+                        connection.explainDataSource());
+            }
+        }
+
+        private void recordBindType(int index, String type) {
+            while (bindTypes.size() < index) {
+                bindTypes.add("?");
+            }
+            bindTypes.set(index - 1, type);
+        }
+    }
+}
@@ -4,24 +4,44 @@ import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
 import com.atuantes.mentes.user.domain.message.LogMessage;
 import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.RepositoryQueryEvent;
 import com.atuantes.mentes.user.domain.service.FindUserByDocument;
 import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Repository
+@ConditionalOnProperty(prefix = "user.persistence", name = "adapter", havingValue = "spring-data",
+        matchIfMissing = true)
 @RequiredArgsConstructor
 public class FindUserByDocumentImpl implements FindUserByDocument {
 
     private final UserRepository userRepository;
+    private final DocumentHasher documentHasher;
 
     public User execute(String document, UUID transactionId) {
         log.info(LogMessage.LOG_START_REPOSITORY.getMessage(), "find user by document", transactionId);
-        User user = userRepository.findByDocument(document)
+        long start = ServerTiming.start();
+        RepositoryQueryEvent event = new RepositoryQueryEvent("findByDocument");
+        event.begin();
+        Optional<User> result = Optional.empty();
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readOnly()) {
+            result = userRepository.findByDocument(document);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.QUERY, start);
+            event.rowCount = result.isPresent() ? 1 : 0;
+            event.commit(transactionId, document, documentHasher);
+        }
+        User user = result
                 .orElseThrow(() -> new UserNotFoundException(
                         UserErrorMessage.USER_NOT_FOUND.getCode(),
                         UserErrorMessage.USER_NOT_FOUND.getMessage()
@@ -2,12 +2,17 @@ package com.atuantes.mentes.user.infraestructure.persistence.implementation;
 
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
 import com.atuantes.mentes.user.domain.message.LogMessage;
 import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.RepositoryQueryEvent;
 import com.atuantes.mentes.user.domain.service.UserInsert;
 import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
@@ -15,14 +20,20 @@ import java.util.UUID;
 
 @Slf4j
 @Repository
+@ConditionalOnProperty(prefix = "user.persistence", name = "adapter", havingValue = "spring-data",
+        matchIfMissing = true)
 @AllArgsConstructor
 public class UserInsertRepostImpl implements UserInsert {
 
     private final UserRepository userRepository;
+    private final DocumentHasher documentHasher;
 
     @Override
     public User insert(User user, UUID transactionId) {
         log.info(LogMessage.LOG_START_REPOSITORY.getMessage(), "insert user", transactionId);
+        long start = ServerTiming.start();
+        RepositoryQueryEvent event = new RepositoryQueryEvent("save");
+        event.begin();
         try {
             var persistedUser = userRepository.save(user.getFullName(),
                     user.getDocument(),
@@ -30,6 +41,7 @@ public class UserInsertRepostImpl implements UserInsert {
                     user.getPhone(),
                     user.getBirthdate(),
                     user.getCategory().name());
+            event.rowCount = persistedUser == null ? 0 : 1;
             log.info(LogMessage.LOG_END_REPOSITORY.getMessage(), "insert user", transactionId);
             return persistedUser;
         } catch (DuplicateKeyException e) {
@@ -37,10 +49,15 @@ public class UserInsertRepostImpl implements UserInsert {
                     UserErrorMessage.USER_INSERT_ERROR.getCode(), e.getMessage(), transactionId);
             throw new UserPersistenceException(UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getCode(),
                     UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getMessage());
+        } catch (UserServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(),
                     UserErrorMessage.USER_INSERT_ERROR.getCode(), e.getMessage(), transactionId);
             throw new UserPersistenceException(UserErrorMessage.USER_INSERT_ERROR.getCode(), e.getMessage());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.QUERY, start);
+            event.commit(transactionId, user.getDocument(), documentHasher);
         }
     }
 }
@@ -0,0 +1,379 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.infraestructure.observability.LatencyHistogram;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.ReplicaLagMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Find-by-document across read replicas with hedging: the lookup goes to one replica and, if it has not answered
+ * within the {@code percentile} latency of the last window, the same lookup goes to another eligible replica. The
+ * first answer wins and the other query is cancelled with {@link java.sql.Statement#cancel()}, which frees its
+ * backend and its pooled connection.
+ * <p>
+ * Every lookup earns {@code budget} of a hedge and every hedge spends a whole one, so hedges never exceed that
+ * fraction of lookups however slow the replicas get; a lookup that finds the budget spent just waits for its first
+ * query. Both queries are taken from the repository concurrency limit like any other, but the cancelled one does
+ * not feed its latency to it. With fewer than two eligible replicas there is nothing to hedge to, and the lookup
+ * runs on the caller's thread; so it does when the executor, which is this lookup's own and is shut down with it,
+ * rejects the first query, and a rejected hedge is not sent. Queries take their own connections, so callers inside
+ * a transaction must not come here.
+ * <p>
+ * The latency each lookup would have had without hedging is its first query's, up to the moment it was cancelled
+ * when it lost; the p99 win is the difference with what callers waited, so it is a lower bound.
+ */
+public class HedgedDocumentLookup implements MeterBinder, DisposableBean {
+
+    // Hedge budget in thousandths of a hedge; at most this many hedges can be saved up for a burst
+    private static final long HEDGE = 1_000;
+    private static final long MAX_CREDIT = 10 * HEDGE;
+
+    private final DataSource dataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Executor executor;
+    private final ObjectProvider<RepositoryConcurrencyLimiter> limiter;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long creditPerLookup;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong credit = new AtomicLong(HEDGE);
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LatencyHistogram observed = new LatencyHistogram();
+    private final LatencyHistogram unhedged = new LatencyHistogram();
+
+    private volatile long delayNanos;
+    private volatile double hedgeRate;
+    private volatile double p99WinMillis;
+    private long lookupsAtRotation;
+    private long hedgesAtRotation;
+
+    public HedgedDocumentLookup(DataSource dataSource, ReplicaLagMonitor replicaLagMonitor, Executor executor,
+                                ObjectProvider<RepositoryConcurrencyLimiter> limiter, HedgingProperties properties) {
+        this.dataSource = dataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.executor = executor;
+        this.limiter = limiter;
+        this.percentile = properties.percentile();
+        this.minDelayNanos = properties.minDelay().toNanos();
+        this.creditPerLookup = Math.round(properties.budget() * HEDGE);
+        this.delayNanos = Math.max(minDelayNanos, properties.initialDelay().toNanos());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hedge-window");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = properties.window().toMillis();
+        scheduler.scheduleAtFixedRate(this::rotate, window, window, TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<User> find(String document) {
+        lookups.increment();
+        long start = System.nanoTime();
+        long requiredLsn = DataSourceRoute.requiredLsn();
+        int first = eligibleReplica(requiredLsn, -1);
+        int second = first < 0 ? -1 : eligibleReplica(requiredLsn, first);
+        if (second < 0) {
+            return unhedged(document, first, start);
+        }
+        earnCredit();
+        RequestPriority priority = RequestPriority.current();
+        Attempt primary;
+        try {
+            primary = start(new Attempt(document, first), priority, requiredLsn);
+        } catch (RejectedExecutionException e) {
+            // The hedging executor is saturated
+            return unhedged(document, first, start);
+        }
+        try {
+            Optional<User> user = primary.result.get(delayNanos, TimeUnit.NANOSECONDS);
+            record(System.nanoTime() - start, System.nanoTime() - start);
+            return user;
+        } catch (TimeoutException e) {
+            // Slower than the hedge delay
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up a document", e);
+        }
+        Attempt hedge = spendCredit() ? startHedge(new Attempt(document, second), priority, requiredLsn) : null;
+        if (hedge == null) {
+            Optional<User> user = await(primary.result);
+            record(System.nanoTime() - start, System.nanoTime() - start);
+            return user;
+        }
+        hedges.increment();
+        Attempt winner = await(race(primary, hedge));
+        long elapsed = System.nanoTime() - start;
+        if (winner == hedge) {
+            primary.cancel();
+            wins.increment();
+        } else {
+            hedge.cancel();
+        }
+        record(elapsed, winner == hedge ? System.nanoTime() - start : elapsed);
+        return await(winner.result);
+    }
+
+    private Optional<User> unhedged(String document, int replica, long start) {
+        Optional<User> user = limited(new Attempt(document, replica));
+        record(System.nanoTime() - start, System.nanoTime() - start);
+        return user;
+    }
+
+    private Attempt startHedge(Attempt attempt, RequestPriority priority, long requiredLsn) {
+        try {
+            return start(attempt, priority, requiredLsn);
+        } catch (RejectedExecutionException e) {
+            // The hedging executor is saturated; the hedge was not sent, so it costs nothing
+            credit.getAndUpdate(current -> Math.min(MAX_CREDIT, current + HEDGE));
+            return null;
+        }
+    }
+
+    private Attempt start(Attempt attempt, RequestPriority priority, long requiredLsn) {
+        attempt.result = CompletableFuture.supplyAsync(() -> {
+            RequestPriority.set(priority);
+            DataSourceRoute.requireLsn(requiredLsn);
+            try {
+                return limited(attempt);
+            } finally {
+                RequestPriority.clear();
+                DataSourceRoute.clear();
+            }
+        }, executor);
+        return attempt;
+    }
+
+    /**
+     * Completes with the first attempt to succeed, or with the last failure if both fail.
+     */
+    private static CompletableFuture<Attempt> race(Attempt primary, Attempt hedge) {
+        CompletableFuture<Attempt> winner = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        for (Attempt attempt : new Attempt[]{primary, hedge}) {
+            attempt.result.whenComplete((user, error) -> {
+                if (error == null) {
+                    winner.complete(attempt);
+                } else if (failed.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    /**
+     * Runs the attempt within the concurrency limit. A cancelled loser ends early or with the cancel's
+     * {@link SQLException}, neither of which says anything about the database, so it is not sampled.
+     */
+    private Optional<User> limited(Attempt attempt) {
+        return JdbcLimits.execute(limiter, () -> {
+            try {
+                return query(attempt);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("findByDocument", JdbcUserStatements.FIND_BY_DOCUMENT, e);
+            }
+        }, () -> attempt.cancelled);
+    }
+
+    private Optional<User> query(Attempt attempt) throws SQLException {
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readFrom(attempt.replica);
+             Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(JdbcUserStatements.FIND_BY_DOCUMENT)) {
+            attempt.statement = statement;
+            if (attempt.cancelled) {
+                throw new SQLException("Lookup cancelled, the other replica answered first");
+            }
+            statement.setString(1, attempt.document);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(JdbcUserStatements.USER.mapRow(resultSet, 0)) : Optional.empty();
+            }
+        }
+    }
+
+    private int eligibleReplica(long requiredLsn, int except) {
+        int replicas = replicaLagMonitor == null ? 0 : replicaLagMonitor.replicaCount();
+        if (replicas == 0) {
+            return except < 0 ? DataSourceRoute.ANY_REPLICA : -1;
+        }
+        int start = Math.floorMod(except < 0 ? next.getAndIncrement() : except + 1, replicas);
+        for (int i = 0; i < replicas; i++) {
+            int candidate = (start + i) % replicas;
+            if (candidate != except && replicaLagMonitor.isEligible(candidate, requiredLsn)) {
+                return candidate;
+            }
+        }
+        return except < 0 ? DataSourceRoute.ANY_REPLICA : -1;
+    }
+
+    private void earnCredit() {
+        credit.getAndUpdate(current -> Math.min(MAX_CREDIT, current + creditPerLookup));
+    }
+
+    private boolean spendCredit() {
+        while (true) {
+            long current = credit.get();
+            if (current < HEDGE) {
+                return false;
+            }
+            if (credit.compareAndSet(current, current - HEDGE)) {
+                return true;
+            }
+        }
+    }
+
+    private void record(long observedNanos, long unhedgedNanos) {
+        observed.record(observedNanos);
+        unhedged.record(unhedgedNanos);
+    }
+
+    /**
+     * Ends a window: the next hedge delay is its first-query latency percentile, and the gauges take its hedge
+     * rate and p99 win.
+     */
+    synchronized void rotate() {
+        if (unhedged.count() > 0) {
+            delayNanos = Math.max(minDelayNanos, TimeUnit.MICROSECONDS.toNanos(unhedged.percentileMicros(percentile)));
+            p99WinMillis = unhedged.percentileMillis(0.99) - observed.percentileMillis(0.99);
+        }
+        long lookupCount = lookups.sum();
+        long hedgeCount = hedges.sum();
+        long windowLookups = lookupCount - lookupsAtRotation;
+        hedgeRate = windowLookups == 0 ? 0 : (double) (hedgeCount - hedgesAtRotation) / windowLookups;
+        lookupsAtRotation = lookupCount;
+        hedgesAtRotation = hedgeCount;
+        observed.reset();
+        unhedged.reset();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up a document", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+    }
+
+    public long delayNanos() {
+        return delayNanos;
+    }
+
+    public double hedgeRate() {
+        return hedgeRate;
+    }
+
+    public double p99WinMillis() {
+        return p99WinMillis;
+    }
+
+    public long lookups() {
+        return lookups.sum();
+    }
+
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    public long wins() {
+        return wins.sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("user.repository.hedge.lookups", this, HedgedDocumentLookup::lookups)
+                .description("Document lookups that went through hedging")
+                .register(registry);
+        FunctionCounter.builder("user.repository.hedge.hedged", this, HedgedDocumentLookup::hedges)
+                .description("Lookups sent to a second replica after the hedge delay")
+                .register(registry);
+        FunctionCounter.builder("user.repository.hedge.wins", this, HedgedDocumentLookup::wins)
+                .description("Hedged lookups the second replica answered first")
+                .register(registry);
+        Gauge.builder("user.repository.hedge.rate", this, HedgedDocumentLookup::hedgeRate)
+                .description("Hedges per lookup over the last window")
+                .register(registry);
+        Gauge.builder("user.repository.hedge.delay", this, lookup -> lookup.delayNanos() / 1_000_000.0)
+                .description("Milliseconds a lookup waits for its first replica before hedging")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("user.repository.hedge.p99-win", this, HedgedDocumentLookup::p99WinMillis)
+                .description("Lower bound of the p99 lookup latency hedging saved over the last window")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private static final class Attempt {
+
+        private final String document;
+        private final int replica;
+        private CompletableFuture<Optional<User>> result;
+        private volatile PreparedStatement statement;
+        private volatile boolean cancelled;
+
+        private Attempt(String document, int replica) {
+            this.document = document;
+            this.replica = replica;
+        }
+
+        void cancel() {
+            cancelled = true;
+            PreparedStatement running = statement;
+            if (running != null) {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    // The query finished or its connection is gone; either way it no longer holds the backend
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.BoundedExecutors;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.ReplicaLagMonitor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(HedgingProperties.class)
+@ConditionalOnProperty(prefix = "user.hedging", name = "enabled", havingValue = "true")
+public class HedgingConfig {
+
+    @Bean
+    public HedgedDocumentLookup hedgedDocumentLookup(DataSource dataSource,
+                                                     ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                                     ObjectProvider<RepositoryConcurrencyLimiter> limiter,
+                                                     HedgingProperties properties,
+                                                     Environment environment) {
+        return new HedgedDocumentLookup(dataSource, replicaLagMonitor.getIfAvailable(),
+                BoundedExecutors.create("hedge-lookup-", properties.maxConcurrency(), environment), limiter,
+                properties);
+    }
+}
@@ -0,0 +1,26 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param percentile     percentile of the last window's lookup latency a lookup waits for before it is hedged
+ * @param minDelay       shortest hedge delay, so a window of fast lookups does not hedge every blip
+ * @param initialDelay   hedge delay until the first window has been measured
+ * @param budget         most hedges as a fraction of lookups, which caps the extra load on the replicas
+ * @param window         period over which the delay, hedge rate and p99 win are measured
+ * @param maxConcurrency most queries in flight on the hedging executor; lookups past it run on their caller's
+ *                       thread without a hedge
+ */
+@ConfigurationProperties("user.hedging")
+public record HedgingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.95") double percentile,
+        @DefaultValue("2ms") Duration minDelay,
+        @DefaultValue("20ms") Duration initialDelay,
+        @DefaultValue("0.05") double budget,
+        @DefaultValue("10s") Duration window,
+        @DefaultValue("32") int maxConcurrency) {
+}
@@ -0,0 +1,70 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.RepositoryQueryEvent;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "user.persistence", name = "adapter", havingValue = "jdbc")
+public class JdbcFindUserByDocument implements FindUserByDocument {
+
+    private final JdbcClient jdbcClient;
+    private final ObjectProvider<RepositoryConcurrencyLimiter> limiter;
+    private final ObjectProvider<HedgedDocumentLookup> hedgedLookup;
+    private final DocumentHasher documentHasher;
+
+    public JdbcFindUserByDocument(JdbcClient jdbcClient, ObjectProvider<RepositoryConcurrencyLimiter> limiter,
+                                  ObjectProvider<HedgedDocumentLookup> hedgedLookup, DocumentHasher documentHasher) {
+        this.jdbcClient = jdbcClient;
+        this.limiter = limiter;
+        this.hedgedLookup = hedgedLookup;
+        this.documentHasher = documentHasher;
+    }
+
+    @Override
+    public User execute(String document, UUID transactionId) {
+        log.info(LogMessage.LOG_START_REPOSITORY.getMessage(), "find user by document", transactionId);
+        long start = ServerTiming.start();
+        RepositoryQueryEvent event = new RepositoryQueryEvent("findByDocument");
+        event.begin();
+        Optional<User> result = Optional.empty();
+        // Hedged queries take their own connections, which would not see a transaction's uncommitted writes
+        HedgedDocumentLookup hedged = TransactionSynchronizationManager.isActualTransactionActive() ? null
+                : hedgedLookup.getIfAvailable();
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readOnly()) {
+            result = hedged != null ? hedged.find(document)
+                    : JdbcLimits.execute(limiter, () -> jdbcClient.sql(JdbcUserStatements.FIND_BY_DOCUMENT)
+                    .param(document)
+                    .query(JdbcUserStatements.USER)
+                    .optional());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.QUERY, start);
+            event.rowCount = result.isPresent() ? 1 : 0;
+            event.commit(transactionId, document, documentHasher);
+        }
+        User user = result
+                .orElseThrow(() -> new UserNotFoundException(
+                        UserErrorMessage.USER_NOT_FOUND.getCode(),
+                        UserErrorMessage.USER_NOT_FOUND.getMessage()
+                ));
+        log.info(LogMessage.LOG_END_REPOSITORY.getMessage(), "find user by document", transactionId);
+        return user;
+    }
+}
@@ -0,0 +1,36 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Applies the repository concurrency limit to the JDBC adapters, which do not go through the
+ * {@code UserRepository} proxy that enforces it for the Spring Data adapters.
+ */
+final class JdbcLimits {
+
+    private JdbcLimits() {
+    }
+
+    static <T> T execute(ObjectProvider<RepositoryConcurrencyLimiter> limiter, Supplier<T> call) {
+        return execute(limiter, call, () -> false);
+    }
+
+    static <T> T execute(ObjectProvider<RepositoryConcurrencyLimiter> limiter, Supplier<T> call,
+                         BooleanSupplier abandoned) {
+        RepositoryConcurrencyLimiter repositoryLimiter = limiter.getIfAvailable();
+        if (repositoryLimiter == null) {
+            return call.get();
+        }
+        try {
+            return repositoryLimiter.execute(call::get, abandoned);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
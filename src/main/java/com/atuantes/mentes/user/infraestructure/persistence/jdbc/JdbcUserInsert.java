@@ -0,0 +1,73 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.RepositoryQueryEvent;
+import com.atuantes.mentes.user.domain.service.UserInsert;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "user.persistence", name = "adapter", havingValue = "jdbc")
+public class JdbcUserInsert implements UserInsert {
+
+    private final JdbcClient jdbcClient;
+    private final ObjectProvider<RepositoryConcurrencyLimiter> limiter;
+    private final DocumentHasher documentHasher;
+
+    public JdbcUserInsert(JdbcClient jdbcClient, ObjectProvider<RepositoryConcurrencyLimiter> limiter,
+                          DocumentHasher documentHasher) {
+        this.jdbcClient = jdbcClient;
+        this.limiter = limiter;
+        this.documentHasher = documentHasher;
+    }
+
+    @Override
+    public User insert(User user, UUID transactionId) {
+        log.info(LogMessage.LOG_START_REPOSITORY.getMessage(), "insert user", transactionId);
+        long start = ServerTiming.start();
+        RepositoryQueryEvent event = new RepositoryQueryEvent("save");
+        event.begin();
+        try {
+            var persistedUser = JdbcLimits.execute(limiter, () -> jdbcClient.sql(JdbcUserStatements.INSERT)
+                    .params(user.getFullName(),
+                            user.getDocument(),
+                            user.getEmail(),
+                            user.getPhone(),
+                            user.getBirthdate(),
+                            user.getCategory().name())
+                    .query((resultSet, rowNumber) -> JdbcUserStatements.applyGenerated(user, resultSet))
+                    .single());
+            event.rowCount = 1;
+            log.info(LogMessage.LOG_END_REPOSITORY.getMessage(), "insert user", transactionId);
+            return persistedUser;
+        } catch (DuplicateKeyException e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(),
+                    UserErrorMessage.USER_INSERT_ERROR.getCode(), e.getMessage(), transactionId);
+            throw new UserPersistenceException(UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getCode(),
+                    UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getMessage());
+        } catch (UserServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(),
+                    UserErrorMessage.USER_INSERT_ERROR.getCode(), e.getMessage(), transactionId);
+            throw new UserPersistenceException(UserErrorMessage.USER_INSERT_ERROR.getCode(), e.getMessage());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.QUERY, start);
+            event.commit(transactionId, user.getDocument(), documentHasher);
+        }
+    }
+}
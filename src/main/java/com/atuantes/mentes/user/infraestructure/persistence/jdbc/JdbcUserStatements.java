@@ -0,0 +1,61 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * SQL and row mapping of the hand-written JDBC adapters. The statements are constant strings with positional
+ * parameters, so pgjdbc's per-connection statement cache reuses them and promotes them to server-side prepared
+ * statements; rows are read by column index in the order of the explicit column lists.
+ */
+public final class JdbcUserStatements {
+
+    public static final String FIND_BY_DOCUMENT = "SELECT id, active, full_name, document, email, phone, birthdate, "
+            + "category, created_at, updated_at FROM users.users WHERE document = ?";
+
+    // Only server-generated columns come back; the rest are already on the inserted User
+    public static final String INSERT = "INSERT INTO users.users (full_name, document, email, phone, birthdate, "
+            + "category) VALUES (?, ?, ?, ?, ?, ?) RETURNING id, active, created_at, updated_at";
+
+    public static final RowMapper<User> USER = (resultSet, rowNumber) -> {
+        User user = new User();
+        user.setId(resultSet.getObject(1, UUID.class));
+        user.setActive(resultSet.getBoolean(2));
+        user.setFullName(resultSet.getString(3));
+        user.setDocument(resultSet.getString(4));
+        user.setEmail(resultSet.getString(5));
+        user.setPhone(resultSet.getString(6));
+        user.setBirthdate(resultSet.getObject(7, LocalDate.class));
+        String category = resultSet.getString(8);
+        user.setCategory(category == null ? null : Category.valueOf(category));
+        user.setCreatedAt(localDateTime(resultSet, 9));
+        user.setUpdatedAt(localDateTime(resultSet, 10));
+        return user;
+    };
+
+    private JdbcUserStatements() {
+    }
+
+    static User applyGenerated(User user, ResultSet resultSet) throws SQLException {
+        user.setId(resultSet.getObject(1, UUID.class));
+        user.setActive(resultSet.getBoolean(2));
+        user.setCreatedAt(localDateTime(resultSet, 3));
+        user.setUpdatedAt(localDateTime(resultSet, 4));
+        return user;
+    }
+
+    // Same conversion Spring Data JDBC applies: timestamptz as a local date-time in the JVM zone
+    private static LocalDateTime localDateTime(ResultSet resultSet, int column) throws SQLException {
+        OffsetDateTime timestamp = resultSet.getObject(column, OffsetDateTime.class);
+        return timestamp == null ? null : timestamp.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
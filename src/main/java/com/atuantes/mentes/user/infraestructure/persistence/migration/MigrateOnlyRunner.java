@@ -0,0 +1,35 @@
+package com.atuantes.mentes.user.infraestructure.persistence.migration;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Run mode for the one-off migration job ({@code --spring.profiles.active=migrate}): Flyway has already migrated
+ * while the context started, so this only reports the resulting version and exits with the context's exit code.
+ */
+@Slf4j
+@Component
+@Profile("migrate")
+@RequiredArgsConstructor
+public class MigrateOnlyRunner implements ApplicationRunner {
+
+    private final Flyway flyway;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MigrationInfo current = flyway.info().current();
+        log.info(LogMessage.LOG_MIGRATION.getMessage(), current == null ? null : current.getVersion(),
+                flyway.info().applied().length);
+        System.exit(SpringApplication.exit(context));
+    }
+}
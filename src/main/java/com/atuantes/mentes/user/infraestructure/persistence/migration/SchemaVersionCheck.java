@@ -0,0 +1,65 @@
+package com.atuantes.mentes.user.infraestructure.persistence.migration;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replaces Flyway on serving instances, where migrations are applied by the {@code migrate} run mode instead.
+ * Startup only reads the highest successfully applied version from the schema history table and fails when it is
+ * older than the migration this build expects; newer versions are accepted so instances of the previous release
+ * keep running while a migration job for the next one completes. Nothing under {@code db/migration} is scanned.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.flyway", name = "enabled", havingValue = "false")
+public class SchemaVersionCheck implements InitializingBean {
+
+    private final DataSource dataSource;
+    private final MigrationVersion expectedVersion;
+    private final String historyTable;
+
+    public SchemaVersionCheck(DataSource dataSource,
+                              @Value("${user.schema.expected-version}") String expectedVersion,
+                              @Value("${spring.flyway.table:flyway_schema_history}") String historyTable) {
+        this.dataSource = dataSource;
+        this.expectedVersion = MigrationVersion.fromVersion(expectedVersion);
+        this.historyTable = historyTable;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        MigrationVersion current = currentVersion();
+        log.info(LogMessage.LOG_SCHEMA_VERSION.getMessage(), current, expectedVersion);
+        if (current == null || current.compareTo(expectedVersion) < 0) {
+            throw new IllegalStateException("Database schema is at version " + current + " but this build requires "
+                    + expectedVersion + "; run the application with the migrate profile first");
+        }
+    }
+
+    MigrationVersion currentVersion() throws SQLException {
+        MigrationVersion current = null;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT version FROM " + historyTable
+                     + " WHERE success AND version IS NOT NULL")) {
+            while (resultSet.next()) {
+                MigrationVersion version = MigrationVersion.fromVersion(resultSet.getString(1));
+                if (current == null || version.compareTo(current) > 0) {
+                    current = version;
+                }
+            }
+        }
+        return current;
+    }
+}
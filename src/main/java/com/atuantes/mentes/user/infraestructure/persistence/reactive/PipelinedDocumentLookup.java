@@ -0,0 +1,117 @@
+package com.atuantes.mentes.user.infraestructure.persistence.reactive;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces concurrent document lookups into shared round trips. At most {@code connections} batches are in
+ * flight; lookups arriving while they are busy queue up and leave together as a single
+ * {@code document = ANY($1)} query, so in-flight requests are no longer bounded by the connection count.
+ * With no contention every lookup runs on its own, so idle latency is unchanged.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PipelinedDocumentLookup {
+
+    static final String FIND_BY_DOCUMENTS =
+            "SELECT " + UserRows.COLUMNS + " FROM users.users WHERE document = ANY($1)";
+
+    private final ConnectionFactory connectionFactory;
+    private final int connections;
+    private final int maxBatchSize;
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public PipelinedDocumentLookup(ConnectionFactory connectionFactory,
+                                   @Value("${user.reactive.lookup.connections:4}") int connections,
+                                   @Value("${user.reactive.lookup.max-batch-size:256}") int maxBatchSize) {
+        this.connectionFactory = connectionFactory;
+        this.connections = connections;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Mono<User> find(String document) {
+        return Mono.create(sink -> {
+            pending.offer(new Pending(document, sink));
+            drain();
+        });
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= connections) {
+                // A running batch drains again when it completes
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            List<Pending> batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+            Pending next;
+            while (batch.size() < maxBatchSize && (next = pending.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            execute(batch).doFinally(signal -> {
+                inFlight.decrementAndGet();
+                drain();
+            }).subscribe();
+        }
+    }
+
+    private Mono<Void> execute(List<Pending> batch) {
+        Map<String, List<MonoSink<User>>> waiters = new HashMap<>(batch.size() * 2);
+        for (Pending lookup : batch) {
+            waiters.computeIfAbsent(lookup.document(), key -> new ArrayList<>(1)).add(lookup.sink());
+        }
+        String[] documents = waiters.keySet().toArray(String[]::new);
+        return Flux.usingWhen(connectionFactory.create(),
+                        connection -> query(connection, documents),
+                        Connection::close)
+                .doOnNext(user -> {
+                    List<MonoSink<User>> sinks = waiters.remove(user.getDocument());
+                    if (sinks != null) {
+                        sinks.forEach(sink -> sink.success(user));
+                    }
+                })
+                .doOnComplete(() -> waiters.values().forEach(sinks -> sinks.forEach(MonoSink::success)))
+                .doOnError(error -> waiters.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error))))
+                .onErrorComplete()
+                .then();
+    }
+
+    private static Flux<User> query(Connection connection, String[] documents) {
+        Statement statement = connection.createStatement(FIND_BY_DOCUMENTS).bind(0, documents);
+        return Flux.from(statement.execute())
+                .concatMap(result -> result.map((row, metadata) -> UserRows.toUser(row)));
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private record Pending(String document, MonoSink<User> sink) {
+    }
+}
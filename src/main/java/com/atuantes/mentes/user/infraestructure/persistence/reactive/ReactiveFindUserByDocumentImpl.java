@@ -0,0 +1,43 @@
+package com.atuantes.mentes.user.infraestructure.persistence.reactive;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.RepositoryQueryEvent;
+import com.atuantes.mentes.user.domain.service.ReactiveFindUserByDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveFindUserByDocumentImpl implements ReactiveFindUserByDocument {
+
+    private final PipelinedDocumentLookup documentLookup;
+    private final DocumentHasher documentHasher;
+
+    @Override
+    public Mono<User> execute(String document, UUID transactionId) {
+        return Mono.defer(() -> {
+            log.info(LogMessage.LOG_START_REPOSITORY.getMessage(), "find user by document", transactionId);
+            RepositoryQueryEvent event = new RepositoryQueryEvent("findByDocument");
+            event.begin();
+            return documentLookup.find(document)
+                    .doOnNext(user -> event.rowCount = 1)
+                    .doFinally(signal -> event.commit(transactionId, document, documentHasher))
+                    .switchIfEmpty(Mono.error(() -> new UserNotFoundException(
+                            UserErrorMessage.USER_NOT_FOUND.getCode(),
+                            UserErrorMessage.USER_NOT_FOUND.getMessage())))
+                    .doOnSuccess(user ->
+                            log.info(LogMessage.LOG_END_REPOSITORY.getMessage(), "find user by document", transactionId));
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.atuantes.mentes.user.infraestructure.persistence.reactive;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserException;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.observability.event.RepositoryQueryEvent;
+import com.atuantes.mentes.user.domain.service.ReactiveUserInsert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserInsertImpl implements ReactiveUserInsert {
+
+    static final String INSERT = "INSERT INTO users.users (full_name, document, email, phone, birthdate, category) " +
+            "VALUES (:fullName, :document, :email, :phone, :birthdate, :category) RETURNING " + UserRows.COLUMNS;
+
+    private final DatabaseClient databaseClient;
+    private final DocumentHasher documentHasher;
+
+    @Override
+    public Mono<User> insert(User user, UUID transactionId) {
+        return Mono.defer(() -> {
+            log.info(LogMessage.LOG_START_REPOSITORY.getMessage(), "insert user", transactionId);
+            RepositoryQueryEvent event = new RepositoryQueryEvent("save");
+            event.begin();
+            return databaseClient.sql(INSERT)
+                    .bind("fullName", user.getFullName())
+                    .bind("document", user.getDocument())
+                    .bind("email", user.getEmail())
+                    .bind("phone", user.getPhone())
+                    .bind("birthdate", user.getBirthdate())
+                    .bind("category", user.getCategory().name())
+                    .map((row, metadata) -> UserRows.toUser(row))
+                    .one()
+                    .doOnNext(persistedUser -> {
+                        event.rowCount = 1;
+                        log.info(LogMessage.LOG_END_REPOSITORY.getMessage(), "insert user", transactionId);
+                    })
+                    .onErrorMap(error -> !(error instanceof UserException), error -> translate(error, transactionId))
+                    .doFinally(signal -> event.commit(transactionId, user.getDocument(), documentHasher));
+        });
+    }
+
+    private static UserException translate(Throwable error, UUID transactionId) {
+        log.error(LogMessage.LOG_ERROR.getMessage(), error.getClass().getName(),
+                UserErrorMessage.USER_INSERT_ERROR.getCode(), error.getMessage(), transactionId);
+        if (error instanceof DuplicateKeyException) {
+            return new UserPersistenceException(UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getCode(),
+                    UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getMessage());
+        }
+        return new UserPersistenceException(UserErrorMessage.USER_INSERT_ERROR.getCode(), error.getMessage());
+    }
+}
@@ -0,0 +1,43 @@
+package com.atuantes.mentes.user.infraestructure.persistence.reactive;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import io.r2dbc.spi.Row;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Maps {@code users.users} rows the same way Spring Data JDBC does for the blocking adapters,
+ * including reading {@code timestamptz} columns as local date-times in the JVM zone.
+ */
+final class UserRows {
+
+    static final String COLUMNS = "id, active, full_name, document, email, phone, birthdate, category, created_at, updated_at";
+
+    private UserRows() {
+    }
+
+    static User toUser(Row row) {
+        User user = new User();
+        user.setId(row.get("id", UUID.class));
+        user.setActive(Boolean.TRUE.equals(row.get("active", Boolean.class)));
+        user.setFullName(row.get("full_name", String.class));
+        user.setDocument(row.get("document", String.class));
+        user.setEmail(row.get("email", String.class));
+        user.setPhone(row.get("phone", String.class));
+        user.setBirthdate(row.get("birthdate", LocalDate.class));
+        String category = row.get("category", String.class);
+        user.setCategory(category == null ? null : Category.valueOf(category));
+        user.setCreatedAt(toLocal(row.get("created_at", OffsetDateTime.class)));
+        user.setUpdatedAt(toLocal(row.get("updated_at", OffsetDateTime.class)));
+        return user;
+    }
+
+    private static LocalDateTime toLocal(OffsetDateTime timestamp) {
+        return timestamp == null ? null : timestamp.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
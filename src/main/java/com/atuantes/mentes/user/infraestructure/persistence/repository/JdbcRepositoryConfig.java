@@ -0,0 +1,17 @@
+package com.atuantes.mentes.user.infraestructure.persistence.repository;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
+
+/**
+ * Registers {@link UserRepository} as a Spring Data JDBC repository. With R2DBC on the classpath Spring Data runs in
+ * strict mode and only assigns a repository whose domain type carries a store annotation; the explicit include
+ * filter assigns it to JDBC instead, so the domain {@code User} stays free of persistence mapping.
+ */
+@Configuration
+@EnableJdbcRepositories(basePackageClasses = UserRepository.class,
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UserRepository.class))
+public class JdbcRepositoryConfig {
+}
@@ -0,0 +1,80 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+/**
+ * Thread-bound routing decision for {@link ReadWriteRoutingDataSource}. Everything goes to the primary
+ * unless an adapter opens a {@link #readOnly()} scope; the minimum LSN comes from the client's
+ * consistency token and keeps reads away from replicas that have not replayed the client's writes. A request
+ * that will hand out a token calls {@link #trackWriteLsn()} so the primary connection it writes on records
+ * its WAL position when released.
+ */
+public final class DataSourceRoute {
+
+    public static final int ANY_REPLICA = -1;
+
+    private static final ThreadLocal<Integer> READ_TARGET = new ThreadLocal<>();
+    private static final ThreadLocal<Long> MIN_LSN = new ThreadLocal<>();
+    private static final ThreadLocal<Long> WRITE_LSN = new ThreadLocal<>();
+
+    private static final Scope RESTORE_WRITE = READ_TARGET::remove;
+
+    private DataSourceRoute() {
+    }
+
+    public static Scope readOnly() {
+        return readFrom(ANY_REPLICA);
+    }
+
+    public static Scope readFrom(int replica) {
+        Integer previous = READ_TARGET.get();
+        READ_TARGET.set(replica);
+        return previous == null ? RESTORE_WRITE : () -> READ_TARGET.set(previous);
+    }
+
+    public static Integer readTarget() {
+        return READ_TARGET.get();
+    }
+
+    public static void requireLsn(long lsn) {
+        MIN_LSN.set(lsn);
+    }
+
+    public static long requiredLsn() {
+        Long lsn = MIN_LSN.get();
+        return lsn == null ? Lsn.UNKNOWN : lsn;
+    }
+
+    public static void trackWriteLsn() {
+        WRITE_LSN.set(Lsn.UNKNOWN);
+    }
+
+    /**
+     * WAL position of the primary after this thread's last write, or {@link Lsn#UNKNOWN} when it was not
+     * tracked or no routing data source is in use.
+     */
+    public static long writeLsn() {
+        Long lsn = WRITE_LSN.get();
+        return lsn == null ? Lsn.UNKNOWN : lsn;
+    }
+
+    static boolean tracksWriteLsn() {
+        return WRITE_LSN.get() != null;
+    }
+
+    static void recordWriteLsn(long lsn) {
+        if (WRITE_LSN.get() != null) {
+            WRITE_LSN.set(lsn);
+        }
+    }
+
+    public static void clear() {
+        READ_TARGET.remove();
+        MIN_LSN.remove();
+        WRITE_LSN.remove();
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
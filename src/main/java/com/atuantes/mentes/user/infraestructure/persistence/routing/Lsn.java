@@ -0,0 +1,29 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+/**
+ * Postgres write-ahead log positions ({@code pg_lsn}, e.g. {@code 16/B374D848}) packed into a long.
+ */
+public final class Lsn {
+
+    public static final long UNKNOWN = -1L;
+
+    private Lsn() {
+    }
+
+    public static long parse(String lsn) {
+        if (lsn == null || lsn.isBlank()) {
+            return UNKNOWN;
+        }
+        int separator = lsn.indexOf('/');
+        if (separator <= 0 || separator == lsn.length() - 1) {
+            throw new IllegalArgumentException("Invalid LSN: " + lsn);
+        }
+        long high = Long.parseLong(lsn.substring(0, separator).trim(), 16);
+        long low = Long.parseLong(lsn.substring(separator + 1).trim(), 16);
+        return (high << 32) | low;
+    }
+
+    public static String format(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
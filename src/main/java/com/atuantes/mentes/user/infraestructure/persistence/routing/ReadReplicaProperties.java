@@ -0,0 +1,22 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("user.datasource.read")
+public record ReadReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        List<Replica> replicas,
+        @DefaultValue("200ms") Duration lagPollInterval,
+        @DefaultValue("10") int maximumPoolSize) {
+
+    public ReadReplicaProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    public record Replica(String url, String username, String password) {
+    }
+}
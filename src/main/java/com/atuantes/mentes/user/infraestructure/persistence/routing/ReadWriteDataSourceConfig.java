@@ -0,0 +1,71 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import com.atuantes.mentes.user.infraestructure.observability.PoolMonitor;
+import com.atuantes.mentes.user.infraestructure.persistence.datasource.PoolMetricsTrackerFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured pool with a write pool (configured from {@code spring.datasource})
+ * and one read-only pool per replica. The pools are deliberately not exposed as {@code DataSource} beans
+ * so that the routing data source stays the only one the application and instrumentation see.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "user.datasource.read", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadWritePools readWritePools(DataSourceProperties dataSourceProperties,
+                                         ReadReplicaProperties properties,
+                                         Environment environment,
+                                         ObjectProvider<PoolMonitor> poolMonitor,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource write = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(write));
+        write.setPoolName("write");
+        PoolMetricsTrackerFactory.install(write, poolMonitor, meterRegistry);
+
+        List<HikariDataSource> read = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.replicas().get(i);
+            HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username() == null ? dataSourceProperties.getUsername() : replica.username())
+                    .password(replica.password() == null ? dataSourceProperties.getPassword() : replica.password())
+                    .build();
+            dataSource.setPoolName("read-" + i);
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+            PoolMetricsTrackerFactory.install(dataSource, poolMonitor, meterRegistry);
+            read.add(dataSource);
+        }
+        return new ReadWritePools(write, List.copyOf(read));
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReadWritePools readWritePools, ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(readWritePools.read(), properties.lagPollInterval());
+    }
+
+    @Bean
+    public DataSource dataSource(ReadWritePools readWritePools, ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadWriteRoutingDataSource(readWritePools.write(), readWritePools.read(), replicaLagMonitor);
+    }
+}
@@ -0,0 +1,14 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+
+public record ReadWritePools(HikariDataSource write, List<HikariDataSource> read) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        read.forEach(HikariDataSource::close);
+        write.close();
+    }
+}
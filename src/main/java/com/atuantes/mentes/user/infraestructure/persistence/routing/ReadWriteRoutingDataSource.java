@@ -0,0 +1,92 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections to the primary unless the current thread is in a {@link DataSourceRoute} read scope,
+ * in which case a replica that is up and has replayed the required LSN is chosen round-robin. Reads fall
+ * back to the primary when no replica qualifies or the chosen one refuses the connection. Primary connections
+ * handed out while {@link DataSourceRoute#trackWriteLsn()} is on read the WAL position on release, so the
+ * consistency token costs no extra connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<? extends DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                      ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        int replica = selectReplica();
+        if (replica < 0) {
+            return primaryConnection();
+        }
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            lagMonitor.markDown(replica);
+            return primary.getConnection();
+        }
+    }
+
+    private Connection primaryConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        return DataSourceRoute.tracksWriteLsn() && !replicas.isEmpty() ? WriteLsnCapture.wrap(connection) : connection;
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    int selectReplica() {
+        Integer target = DataSourceRoute.readTarget();
+        if (target == null || replicas.isEmpty()) {
+            return -1;
+        }
+        long requiredLsn = DataSourceRoute.requiredLsn();
+        if (target != DataSourceRoute.ANY_REPLICA) {
+            return target < replicas.size() && lagMonitor.isEligible(target, requiredLsn) ? target : -1;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int candidate = (start + i) % replicas.size();
+            if (lagMonitor.isEligible(candidate, requiredLsn)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @NonNull
+    public <T> T unwrap(@NonNull Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(@NonNull Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
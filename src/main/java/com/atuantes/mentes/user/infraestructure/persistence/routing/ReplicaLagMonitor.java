@@ -0,0 +1,86 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Polls how far each replica has replayed the primary's WAL, so routing decisions never need a round
+ * trip on the request path.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final long DOWN = Long.MIN_VALUE;
+
+    private final List<? extends DataSource> replicas;
+    private final AtomicLongArray replayedLsn;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(List<? extends DataSource> replicas, Duration pollInterval) {
+        this.replicas = replicas;
+        this.replayedLsn = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            replayedLsn.set(i, Lsn.UNKNOWN);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!replicas.isEmpty()) {
+            scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void poll() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                replayedLsn.set(i, queryLsn(replicas.get(i), "SELECT pg_last_wal_replay_lsn()::text"));
+            } catch (Exception e) {
+                if (replayedLsn.getAndSet(i, DOWN) != DOWN) {
+                    log.warn(LogMessage.LOG_REPLICA_DOWN.getMessage(), i, e.getMessage());
+                }
+            }
+        }
+    }
+
+    public boolean isEligible(int replica, long requiredLsn) {
+        long replayed = replayedLsn.get(replica);
+        if (replayed == DOWN || replayed == Lsn.UNKNOWN) {
+            return false;
+        }
+        return requiredLsn == Lsn.UNKNOWN || replayed >= requiredLsn;
+    }
+
+    public void markDown(int replica) {
+        replayedLsn.set(replica, DOWN);
+    }
+
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    private static long queryLsn(DataSource dataSource, String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? Lsn.parse(resultSet.getString(1)) : Lsn.UNKNOWN;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Primary connection proxy that, when the caller releases it, reads {@code pg_current_wal_lsn()} on the same
+ * connection and records it in {@link DataSourceRoute}. Release comes after the write committed, so the
+ * position covers the commit record replicas must replay before the write is visible on them.
+ */
+@Slf4j
+final class WriteLsnCapture {
+
+    static final String CURRENT_WAL_LSN = "SELECT pg_current_wal_lsn()::text";
+
+    private WriteLsnCapture() {
+    }
+
+    static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(WriteLsnCapture.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && !target.isClosed()) {
+                capture();
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void capture() {
+            try (Statement statement = target.createStatement();
+                 ResultSet resultSet = statement.executeQuery(CURRENT_WAL_LSN)) {
+                if (resultSet.next()) {
+                    DataSourceRoute.recordWriteLsn(Lsn.parse(resultSet.getString(1)));
+                }
+            } catch (Exception e) {
+                log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "pg_current_wal_lsn",
+                        e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserInvalidDocumentException;
+import com.atuantes.mentes.user.domain.exception.model.ExceptionResponse;
+import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.message.UserMessage;
+import com.atuantes.mentes.user.domain.service.DocumentValidationService;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drives the create and lookup code paths with synthetic data: request JSON is parsed into
+ * {@link CreateUserDto}, validated, mapped to a {@link User} (which runs {@link DocumentValidationService})
+ * and written back as JSON through the application {@link ObjectMapper}, so the serializers cached there are
+ * the ones the HTTP converters use. Some documents are invalid to also compile the rejection path.
+ */
+@Component
+@Order(0)
+public class CodePathWarmUpTask implements WarmUpTask {
+
+    // The services log every call at info/debug; thousands of synthetic iterations would drown the startup log
+    static final String QUIET_LOGGER = "com.atuantes.mentes";
+
+    private static final int INVALID_EVERY = 16;
+
+    private final ObjectMapper objectMapper;
+    private final CreateUserDtoToCommand createUserDtoToCommand;
+    private final CreateUserCommandToUser createUserCommandToUser;
+    private final ObjectProvider<Validator> validator;
+    private final int iterations;
+
+    public CodePathWarmUpTask(ObjectMapper objectMapper,
+                              CreateUserDtoToCommand createUserDtoToCommand,
+                              CreateUserCommandToUser createUserCommandToUser,
+                              ObjectProvider<Validator> validator,
+                              @Value("${user.warm-up.iterations:10000}") int iterations) {
+        this.objectMapper = objectMapper;
+        this.createUserDtoToCommand = createUserDtoToCommand;
+        this.createUserCommandToUser = createUserCommandToUser;
+        this.validator = validator;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String name() {
+        return "code paths";
+    }
+
+    @Override
+    public void warmUp() throws Exception {
+        try (WarmUpLogFilter.Scope ignored = WarmUpLogFilter.quiet(QUIET_LOGGER)) {
+            Validator beanValidator = validator.getIfAvailable();
+            for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+                if (i % INVALID_EVERY == 0) {
+                    rejectDocument(i);
+                } else {
+                    createUser(i, beanValidator);
+                }
+            }
+        }
+    }
+
+    private void createUser(int seed, Validator beanValidator) throws Exception {
+        CreateUserDto request = new CreateUserDto("Warm Up " + seed, document(seed), "warm-up-" + seed + "@example.com",
+                "+55 11 90000-0000", LocalDate.of(1980 + seed % 40, 1 + seed % 12, 1 + seed % 28),
+                Category.values()[seed % Category.values().length]);
+        CreateUserDto dto = objectMapper.readValue(objectMapper.writeValueAsBytes(request), CreateUserDto.class);
+        if (beanValidator != null) {
+            beanValidator.validate(dto);
+        }
+        User user = createUserCommandToUser.toUser(createUserDtoToCommand.toCommand(dto));
+        user.setId(UUID.randomUUID());
+        user.setCreatedAt(LocalDateTime.now());
+        objectMapper.writeValueAsBytes(user);
+    }
+
+    private void rejectDocument(int seed) throws Exception {
+        // Flipping the last check digit keeps the format valid so the full verification runs before rejecting
+        String document = document(seed);
+        int last = document.charAt(10) - '0';
+        String invalid = document.substring(0, 10) + (last + 1) % 10;
+        try {
+            DocumentValidationService.documentValidation(invalid);
+        } catch (UserInvalidDocumentException e) {
+            objectMapper.writeValueAsBytes(ExceptionResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .code(e.getCode())
+                    .message(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                    .details("uri=/user")
+                    .errors(List.of(UserErrorMessage.INVALID_CPF.getMessage()))
+                    .build());
+        }
+    }
+
+    /**
+     * Builds a CPF with valid check digits from the seed.
+     */
+    public static String document(int seed) {
+        int[] digits = new int[11];
+        long base = 100_000_000L + Math.floorMod(seed * 7_919L, 900_000_000L);
+        if (base % 111_111_111L == 0) {
+            // Nine repeated digits would produce a rejected all-equal document
+            base++;
+        }
+        for (int i = 8; i >= 0; i--) {
+            digits[i] = (int) (base % 10);
+            base /= 10;
+        }
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+        StringBuilder document = new StringBuilder(11);
+        for (int digit : digits) {
+            document.append(digit);
+        }
+        return document.toString();
+    }
+
+    private static int checkDigit(int[] digits, int length) {
+        int sum = 0;
+        for (int i = 0, weight = length + 1; i < length; i++, weight--) {
+            sum += digits[i] * weight;
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
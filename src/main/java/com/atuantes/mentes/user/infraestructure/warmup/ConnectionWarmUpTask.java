@@ -0,0 +1,207 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import com.atuantes.mentes.user.infraestructure.persistence.jdbc.JdbcUserStatements;
+import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.ReadWritePools;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Opens every connection of each Hikari pool and runs both statements of the active persistence adapter on
+ * each one until the driver promotes them to server-side prepared statements (pgjdbc does so after
+ * {@code prepareThreshold} executions, 5 by default). For the Spring Data adapter the SQL is derived from the
+ * {@link UserRepository} {@link Query} annotations exactly as Spring Data expands them; the JDBC adapter's
+ * statements are used verbatim. Either way the driver's per-connection statement cache is hit by real
+ * traffic. The insert is opt-in and runs inside a transaction that is always rolled back; its documents carry a
+ * per-instance key, so instances warming up together never wait on each other's uncommitted rows in the unique
+ * document index.
+ */
+@Component
+@Order(10)
+public class ConnectionWarmUpTask implements WarmUpTask {
+
+    private static final String[] INSERT_PARAMETERS = {"fullName", "document", "email", "phone", "birthdate",
+            "category"};
+
+    private final ObjectProvider<ReadWritePools> readWritePools;
+    private final ObjectProvider<DataSource> dataSource;
+    private final int statementExecutions;
+    private final boolean prepareInsert;
+    private final String adapter;
+    private final String instanceKey = String.format("%08x", ThreadLocalRandom.current().nextInt());
+
+    private volatile boolean cancelled;
+    private volatile PreparedStatement running;
+
+    public ConnectionWarmUpTask(ObjectProvider<ReadWritePools> readWritePools,
+                                ObjectProvider<DataSource> dataSource,
+                                @Value("${user.warm-up.statement-executions:5}") int statementExecutions,
+                                @Value("${user.warm-up.prepare-insert:false}") boolean prepareInsert,
+                                @Value("${user.persistence.adapter:spring-data}") String adapter) {
+        this.readWritePools = readWritePools;
+        this.dataSource = dataSource;
+        this.statementExecutions = statementExecutions;
+        this.prepareInsert = prepareInsert;
+        this.adapter = adapter;
+    }
+
+    @Override
+    public String name() {
+        return "connections";
+    }
+
+    @Override
+    public void warmUp() throws Exception {
+        cancelled = false;
+        boolean jdbcAdapter = "jdbc".equals(adapter);
+        RepositoryQuery find = jdbcAdapter
+                ? RepositoryQuery.positional(JdbcUserStatements.FIND_BY_DOCUMENT, "document")
+                : RepositoryQuery.annotated("findByDocument", String.class);
+        RepositoryQuery insert = jdbcAdapter
+                ? RepositoryQuery.positional(JdbcUserStatements.INSERT, INSERT_PARAMETERS)
+                : RepositoryQuery.annotated("save", String.class, String.class, String.class, String.class,
+                LocalDate.class, String.class);
+        ReadWritePools pools = readWritePools.getIfAvailable();
+        if (pools != null) {
+            warmUp(pools.write(), find, prepareInsert ? insert : null);
+            for (HikariDataSource read : pools.read()) {
+                if (cancelled) {
+                    return;
+                }
+                warmUp(read, find, null);
+            }
+            return;
+        }
+        DataSource primary = dataSource.getIfAvailable();
+        if (primary != null && primary.isWrapperFor(HikariDataSource.class)) {
+            // Unwrapped so warm-up statements stay out of the query monitor and slow-query log
+            warmUp(primary.unwrap(HikariDataSource.class), find, prepareInsert ? insert : null);
+        }
+    }
+
+    private void warmUp(HikariDataSource pool, RepositoryQuery find, RepositoryQuery insert) throws SQLException {
+        // Holding every connection at once forces Hikari to open the whole pool instead of reusing one
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < pool.getMaximumPoolSize() && !cancelled; i++) {
+                try {
+                    connections.add(pool.getConnection());
+                } catch (SQLException e) {
+                    if (connections.isEmpty()) {
+                        throw e;
+                    }
+                    break;
+                }
+            }
+            for (Connection connection : connections) {
+                if (cancelled) {
+                    break;
+                }
+                prepareFind(connection, find);
+                if (insert != null) {
+                    prepareInsert(connection, insert);
+                }
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private void prepareFind(Connection connection, RepositoryQuery find) throws SQLException {
+        for (int i = 0; i < statementExecutions && !cancelled; i++) {
+            execute(connection, find, new MapSqlParameterSource("document", "00000000000"));
+        }
+    }
+
+    private void prepareInsert(Connection connection, RepositoryQuery insert) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (int i = 0; i < statementExecutions && !cancelled; i++) {
+                // Not CPFs, so they can never collide with a real row, and unique to this instance
+                String key = "w" + instanceKey + i;
+                execute(connection, insert, new MapSqlParameterSource()
+                        .addValue("fullName", "warm-up")
+                        .addValue("document", key)
+                        .addValue("email", key + "@warm-up.invalid")
+                        .addValue("phone", "0")
+                        .addValue("birthdate", LocalDate.of(2000, 1, 1))
+                        .addValue("category", "OTHER"));
+            }
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        PreparedStatement statement = running;
+        if (statement != null) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // Already finished; the loops stop at their next check
+            }
+        }
+    }
+
+    private void execute(Connection connection, RepositoryQuery statement, MapSqlParameterSource parameters)
+            throws SQLException {
+        Object[] values = statement.binder().apply(parameters);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(statement.sql())) {
+            for (int i = 0; i < values.length; i++) {
+                StatementCreatorUtils.setParameterValue(preparedStatement, i + 1, SqlTypeValue.TYPE_UNKNOWN,
+                        values[i]);
+            }
+            running = preparedStatement;
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    // Drained only so the statement completes like a repository call
+                }
+            } finally {
+                running = null;
+            }
+        }
+    }
+
+    record RepositoryQuery(String sql, Function<MapSqlParameterSource, Object[]> binder) {
+
+        static RepositoryQuery annotated(String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+            String query = UserRepository.class.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+            ParsedSql parsed = NamedParameterUtils.parseSqlStatement(query);
+            return new RepositoryQuery(NamedParameterUtils.parseSqlStatementIntoString(query),
+                    parameters -> NamedParameterUtils.buildValueArray(parsed, parameters, null));
+        }
+
+        static RepositoryQuery positional(String sql, String... parameterNames) {
+            return new RepositoryQuery(sql, parameters -> Arrays.stream(parameterNames)
+                    .map(parameters::getValue)
+                    .toArray());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contributes {@code warmUp} to the readiness group: out of service while warm-up is running, up afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpRunner warmUpRunner;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmUpRunner.isFinished() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("status", warmUpRunner.status())
+                .withDetail("elapsedMs", warmUpRunner.elapsedMillis())
+                .withDetail("tasks", warmUpRunner.results())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+/**
+ * Drops application logging below WARN on the thread running a warm-up, so thousands of synthetic iterations do not
+ * drown the startup log. Logger levels are left alone: requests served meanwhile log exactly as configured.
+ */
+final class WarmUpLogFilter extends TurboFilter {
+
+    private static final ThreadLocal<Boolean> QUIET = new ThreadLocal<>();
+
+    private final String loggerPrefix;
+
+    private WarmUpLogFilter(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    /**
+     * Quiets {@code loggerPrefix} on the calling thread until the returned scope is closed. A no-op when Logback is
+     * not the logging backend.
+     */
+    static Scope quiet(String loggerPrefix) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return () -> {
+            };
+        }
+        WarmUpLogFilter filter = new WarmUpLogFilter(loggerPrefix);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+        QUIET.set(Boolean.TRUE);
+        return () -> {
+            QUIET.remove();
+            context.getTurboFilterList().remove(filter);
+            filter.stop();
+        };
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (QUIET.get() == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
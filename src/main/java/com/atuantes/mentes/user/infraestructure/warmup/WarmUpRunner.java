@@ -0,0 +1,156 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs every {@link WarmUpTask} on a background thread once the context has started, so the web server and
+ * liveness probe are already up while JIT, pools and caches are primed. {@link WarmUpHealthIndicator} keeps
+ * the readiness group out of service until the run completes or the timeout elapses. On timeout the running task
+ * is cancelled and the instance stays out of service until it has stopped, so it cannot still be holding pool
+ * connections when traffic arrives.
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements DisposableBean {
+
+    // How long a cancelled task gets to stop before the instance reports ready regardless
+    private static final long CANCEL_GRACE_MILLIS = 10_000;
+
+    private final List<WarmUpTask> tasks;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final List<Result> results = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor;
+    private volatile Status status = Status.PENDING;
+    private volatile boolean cancelled;
+    private volatile WarmUpTask current;
+    private volatile Thread worker;
+    private volatile long startedAt;
+    private volatile long elapsedMillis;
+
+    public WarmUpRunner(ObjectProvider<WarmUpTask> tasks,
+                        @Value("${user.warm-up.enabled:true}") boolean enabled,
+                        @Value("${user.warm-up.timeout:2m}") Duration timeout) {
+        this.tasks = tasks.orderedStream().toList();
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        run();
+    }
+
+    CompletableFuture<Void> run() {
+        if (!enabled || tasks.isEmpty()) {
+            status = Status.DISABLED;
+            return CompletableFuture.completedFuture(null);
+        }
+        status = Status.RUNNING;
+        startedAt = System.nanoTime();
+        CompletableFuture<Void> tasksDone = CompletableFuture.runAsync(this::runTasks, executor);
+        return tasksDone.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, error) -> error instanceof TimeoutException)
+                .thenCompose(timedOut -> timedOut ? cancel(tasksDone) : CompletableFuture.completedFuture(false))
+                .thenAccept(timedOut -> {
+                    elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    status = timedOut ? Status.TIMED_OUT : Status.COMPLETED;
+                    log.info(LogMessage.LOG_WARM_UP.getMessage(), "all tasks", status, elapsedMillis);
+                });
+    }
+
+    private CompletableFuture<Boolean> cancel(CompletableFuture<Void> tasksDone) {
+        cancelled = true;
+        WarmUpTask task = current;
+        if (task != null) {
+            task.cancel();
+        }
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        return tasksDone.handle((ignored, error) -> true)
+                .completeOnTimeout(true, CANCEL_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void runTasks() {
+        worker = Thread.currentThread();
+        try {
+            for (WarmUpTask task : tasks) {
+                if (cancelled) {
+                    break;
+                }
+                current = task;
+                runTask(task);
+            }
+        } finally {
+            current = null;
+            worker = null;
+        }
+    }
+
+    private void runTask(WarmUpTask task) {
+        long start = System.nanoTime();
+        String error = null;
+        try {
+            task.warmUp();
+        } catch (Exception e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), task.name(), e.getMessage());
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        results.add(new Result(task.name(), error == null, millis, error));
+        log.info(LogMessage.LOG_WARM_UP.getMessage(), task.name(), error == null ? "done" : "failed", millis);
+    }
+
+    public boolean isFinished() {
+        return status != Status.PENDING && status != Status.RUNNING;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public long elapsedMillis() {
+        return isFinished() || startedAt == 0 ? elapsedMillis
+                : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    public List<Result> results() {
+        return List.copyOf(results);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED
+    }
+
+    public record Result(String task, boolean succeeded, long millis, String error) {
+    }
+}
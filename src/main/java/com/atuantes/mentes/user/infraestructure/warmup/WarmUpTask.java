@@ -0,0 +1,20 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+/**
+ * A unit of work run once after startup, before the instance reports ready. Tasks run sequentially in
+ * {@link org.springframework.core.annotation.Order} order; a failing task is recorded and skipped so a
+ * best-effort warm-up never keeps an otherwise healthy instance out of rotation.
+ */
+public interface WarmUpTask {
+
+    String name();
+
+    void warmUp() throws Exception;
+
+    /**
+     * Called from another thread when the warm-up timed out; the task should stop soon and release whatever
+     * resources it holds. The running thread is interrupted as well.
+     */
+    default void cancel() {
+    }
+}
@@ -0,0 +1,48 @@
+package com.atuantes.mentes.user.presentation.advice;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.Lsn;
+import com.atuantes.mentes.user.presentation.controller.UserController;
+import com.atuantes.mentes.user.presentation.filter.ConsistencyTokenFilter;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Hands clients that just created a user the primary's WAL position, to be sent back in
+ * {@code x-consistency-token} so their next reads only hit replicas that already replayed the insert.
+ * The position was read on the insert's own connection when it was released, so no query runs here.
+ */
+@ControllerAdvice(assignableTypes = UserController.class)
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(@Nullable Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        if (body instanceof User && HttpMethod.POST.equals(request.getMethod())) {
+            long lsn = DataSourceRoute.writeLsn();
+            if (lsn != Lsn.UNKNOWN) {
+                response.getHeaders().set(ConsistencyTokenFilter.HEADER, Lsn.format(lsn));
+            }
+        }
+        return body;
+    }
+}
@@ -3,29 +3,49 @@ package com.atuantes.mentes.user.presentation.controller;
 import com.atuantes.mentes.user.application.usecase.FindUserByDocumentUseCase;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.ControllerEvent;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker.StaleRead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
+import static com.atuantes.mentes.user.presentation.converter.ServerTimingSmileHttpMessageConverter.APPLICATION_SMILE_VALUE;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class FindUserByDocumentController {
 
     private final FindUserByDocumentUseCase findUserByDocumentUseCase;
 
-    @GetMapping(value = "/document/{document}", produces = MediaType.APPLICATION_JSON_VALUE)
+    private final DocumentHasher documentHasher;
+
+    @GetMapping(value = "/document/{document}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<User> findByDocument(@RequestHeader("x-transaction-id") UUID transactionId,
                                                @PathVariable String document) {
         log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "find user by document", transactionId);
+        ControllerEvent event = new ControllerEvent("find user by document");
+        event.begin();
         String normalizedDocument = document.replaceAll("\\D", "");
-        User user = findUserByDocumentUseCase.findUserByDocument(normalizedDocument, transactionId);
-        log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "find user by document", transactionId);
-        return ResponseEntity.ok(user);
+        StaleRead.clear();
+        try {
+            User user = findUserByDocumentUseCase.findUserByDocument(normalizedDocument, transactionId);
+            log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "find user by document", transactionId);
+            long staleAge = StaleRead.consumeAgeSeconds();
+            return staleAge < 0 ? ResponseEntity.ok(user)
+                    : ResponseEntity.ok().header(StaleRead.HEADER, String.valueOf(staleAge)).body(user);
+        } finally {
+            StaleRead.clear();
+            event.commit(transactionId, normalizedDocument, documentHasher);
+        }
     }
 }
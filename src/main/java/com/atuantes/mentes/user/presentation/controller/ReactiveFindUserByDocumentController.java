@@ -0,0 +1,45 @@
+package com.atuantes.mentes.user.presentation.controller;
+
+import com.atuantes.mentes.user.application.usecase.ReactiveFindUserByDocumentUseCase;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.ControllerEvent;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveFindUserByDocumentController {
+
+    private final ReactiveFindUserByDocumentUseCase findUserByDocumentUseCase;
+
+    private final DocumentHasher documentHasher;
+
+    @GetMapping(value = "/document/{document}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<User>> findByDocument(@RequestHeader("x-transaction-id") UUID transactionId,
+                                                     @PathVariable String document) {
+        String normalizedDocument = document.replaceAll("\\D", "");
+        return Mono.defer(() -> {
+            log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "find user by document", transactionId);
+            ControllerEvent event = new ControllerEvent("find user by document");
+            event.begin();
+            return findUserByDocumentUseCase.findUserByDocument(normalizedDocument, transactionId)
+                    .map(user -> {
+                        log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "find user by document", transactionId);
+                        return ResponseEntity.ok(user);
+                    })
+                    .doFinally(signal -> event.commit(transactionId, normalizedDocument, documentHasher));
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.atuantes.mentes.user.presentation.controller;
+
+import com.atuantes.mentes.user.application.usecase.ReactiveCreateUserUseCase;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.ControllerEvent;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/user")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserController {
+
+    private final CreateUserDtoToCommand createUserDtoToCommand;
+
+    private final ReactiveCreateUserUseCase createUserUseCase;
+
+    private final DocumentHasher documentHasher;
+
+    @PostMapping(
+            produces = MediaType.APPLICATION_JSON_VALUE,
+            consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<User>> createUser(@RequestHeader("x-transaction-id") UUID transactionId,
+                                                 @RequestBody @Valid CreateUserDto dto) {
+        return Mono.defer(() -> {
+            log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "create user", transactionId);
+            ControllerEvent event = new ControllerEvent("create user");
+            event.begin();
+            return Mono.fromCallable(() -> createUserDtoToCommand.toCommand(dto))
+                    .flatMap(command -> createUserUseCase.createUser(command, transactionId))
+                    .map(createdUser -> {
+                        log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "create user", transactionId);
+                        return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
+                    })
+                    .doFinally(signal -> event.commit(transactionId, dto.document().replaceAll("\\D", ""),
+                            documentHasher));
+        });
+    }
+}
@@ -4,11 +4,14 @@ import com.atuantes.mentes.user.application.command.CreateUserCommand;
 import com.atuantes.mentes.user.application.usecase.CreateUserUseCase;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.observability.event.ControllerEvent;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
 import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,29 +19,39 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
+import static com.atuantes.mentes.user.presentation.converter.ServerTimingSmileHttpMessageConverter.APPLICATION_SMILE_VALUE;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/user")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
 
     private final CreateUserDtoToCommand createUserDtoToCommand;
 
     private final CreateUserUseCase createUserUseCase;
 
+    private final DocumentHasher documentHasher;
+
     @PostMapping(
-            produces = MediaType.APPLICATION_JSON_VALUE,
-            consumes = MediaType.APPLICATION_JSON_VALUE)
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     public ResponseEntity<User> createUser (@RequestHeader("x-transaction-id") UUID transactionId,
                                             @RequestBody @Valid CreateUserDto dto) {
         log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "create user", transactionId);
+        ControllerEvent event = new ControllerEvent("create user");
+        event.begin();
+        try {
+            CreateUserCommand command = createUserDtoToCommand.toCommand(dto);
 
-        CreateUserCommand command = createUserDtoToCommand.toCommand(dto);
-
-        var createdUser = createUserUseCase.createUser(command, transactionId);
+            var createdUser = createUserUseCase.createUser(command, transactionId);
 
-        log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "create user", transactionId);
+            log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "create user", transactionId);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
+        } finally {
+            event.commit(transactionId, dto.document().replaceAll("\\D", ""), documentHasher);
+        }
     }
 }
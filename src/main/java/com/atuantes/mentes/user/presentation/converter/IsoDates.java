@@ -0,0 +1,139 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ISO-8601 formatting and parsing of the user dates without {@link java.time.format.DateTimeFormatter}: digits
+ * come from a precomputed two-digit table and are written into a caller-supplied buffer. The output matches
+ * {@code ISO_LOCAL_DATE} and {@code ISO_LOCAL_DATE_TIME} (seconds always present, fraction trimmed of trailing
+ * zeros) for years 0000-9999; callers fall back to the standard formatter outside that range.
+ */
+final class IsoDates {
+
+    static final int DATE_LENGTH = 10;
+    static final int DATE_TIME_MAX_LENGTH = 29;
+
+    private static final char[] TWO_DIGITS = new char[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            TWO_DIGITS[i * 2] = (char) ('0' + i / 10);
+            TWO_DIGITS[i * 2 + 1] = (char) ('0' + i % 10);
+        }
+    }
+
+    private IsoDates() {
+    }
+
+    static boolean isFormattable(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    static int formatDate(LocalDate date, char[] buffer) {
+        return writeDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), buffer);
+    }
+
+    static int formatDateTime(LocalDateTime dateTime, char[] buffer) {
+        int position = writeDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), buffer);
+        buffer[position++] = 'T';
+        position = twoDigits(dateTime.getHour(), buffer, position);
+        buffer[position++] = ':';
+        position = twoDigits(dateTime.getMinute(), buffer, position);
+        buffer[position++] = ':';
+        position = twoDigits(dateTime.getSecond(), buffer, position);
+        int nanos = dateTime.getNano();
+        if (nanos > 0) {
+            buffer[position++] = '.';
+            int digits = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                digits--;
+            }
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (char) ('0' + nanos % 10);
+                nanos /= 10;
+            }
+            position += digits;
+        }
+        return position;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd}, or returns null for any other shape so the caller can use the standard parser.
+     */
+    static LocalDate parseDate(String text) {
+        if (text.length() != DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ss} with an optional fraction of up to nine digits, or returns null for any
+     * other shape (offsets, missing seconds) so the caller can use the standard parser.
+     */
+    static LocalDateTime parseDateTime(String text) {
+        int length = text.length();
+        if (length < 19 || length == 20 || length > DATE_TIME_MAX_LENGTH || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':' || (length > 19 && text.charAt(19) != '.')) {
+            return null;
+        }
+        LocalDate date = parseDate(text.substring(0, DATE_LENGTH));
+        int hour = digits(text, 11, 13);
+        int minute = digits(text, 14, 16);
+        int second = digits(text, 17, 19);
+        int fraction = length > 19 ? digits(text, 20, length) : 0;
+        if (date == null || hour < 0 || minute < 0 || second < 0 || fraction < 0) {
+            return null;
+        }
+        for (int i = length; i < DATE_TIME_MAX_LENGTH; i++) {
+            fraction *= 10;
+        }
+        try {
+            return LocalDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second,
+                    fraction);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int writeDate(int year, int month, int day, char[] buffer) {
+        twoDigits(year / 100, buffer, 0);
+        twoDigits(year % 100, buffer, 2);
+        buffer[4] = '-';
+        twoDigits(month, buffer, 5);
+        buffer[7] = '-';
+        twoDigits(day, buffer, 8);
+        return DATE_LENGTH;
+    }
+
+    private static int twoDigits(int value, char[] buffer, int position) {
+        buffer[position] = TWO_DIGITS[value * 2];
+        buffer[position + 1] = TWO_DIGITS[value * 2 + 1];
+        return position + 2;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
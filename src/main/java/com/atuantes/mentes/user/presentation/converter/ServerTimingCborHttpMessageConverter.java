@@ -0,0 +1,38 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * CBOR for internal callers that send {@code Accept: application/cbor}. The mapper is built from the same
+ * Boot-customised builder as the JSON one, so the modules (including {@link UserJsonModule}) and date settings
+ * match and the field names and order stay identical to the JSON payloads.
+ */
+@Component
+public class ServerTimingCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    public ServerTimingCborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        super(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = ServerTiming.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.ENCODING, start);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@Component
+public class ServerTimingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = ServerTiming.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.ENCODING, start);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Streaming codecs for the user payloads, registered on the application {@code ObjectMapper} and therefore used by
+ * the HTTP message converters. Field names are pre-encoded, values go straight to the {@link JsonGenerator} or come
+ * straight from the {@link JsonParser}, and dates skip {@code DateTimeFormatter}. The JSON is identical to what
+ * databinding produced: same field order, nulls written, ISO dates. Anything outside the fast path (non-string
+ * scalars, unusual date shapes, unknown categories) is delegated to the standard deserializers so errors and
+ * coercions stay the same.
+ */
+@Component
+public class UserJsonModule extends SimpleModule {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString FULL_NAME = new SerializedString("fullName");
+    static final SerializedString ACTIVE = new SerializedString("active");
+    static final SerializedString DOCUMENT = new SerializedString("document");
+    static final SerializedString EMAIL = new SerializedString("email");
+    static final SerializedString PHONE = new SerializedString("phone");
+    static final SerializedString BIRTHDATE = new SerializedString("birthdate");
+    static final SerializedString CATEGORY = new SerializedString("category");
+    static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final SerializedString[] CATEGORY_NAMES = new SerializedString[CATEGORIES.length];
+
+    static {
+        for (Category category : CATEGORIES) {
+            CATEGORY_NAMES[category.ordinal()] = new SerializedString(category.name());
+        }
+    }
+
+    public UserJsonModule() {
+        super("UserJsonModule");
+        addSerializer(User.class, new UserSerializer());
+        addDeserializer(User.class, new UserDeserializer());
+        addSerializer(CreateUserDto.class, new CreateUserDtoSerializer());
+        addDeserializer(CreateUserDto.class, new CreateUserDtoDeserializer());
+    }
+
+    static final class UserSerializer extends StdSerializer<User> {
+
+        UserSerializer() {
+            super(User.class);
+        }
+
+        @Override
+        public void serialize(User user, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(user);
+            generator.writeFieldName(ID);
+            UUID id = user.getId();
+            if (id == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(id.toString());
+            }
+            writeString(generator, FULL_NAME, user.getFullName());
+            generator.writeFieldName(ACTIVE);
+            generator.writeBoolean(user.isActive());
+            writeString(generator, DOCUMENT, user.getDocument());
+            writeString(generator, EMAIL, user.getEmail());
+            writeString(generator, PHONE, user.getPhone());
+            writeDate(generator, provider, BIRTHDATE, user.getBirthdate());
+            writeCategory(generator, user.getCategory());
+            writeDateTime(generator, provider, CREATED_AT, user.getCreatedAt());
+            writeDateTime(generator, provider, UPDATED_AT, user.getUpdatedAt());
+            generator.writeEndObject();
+        }
+    }
+
+    static final class CreateUserDtoSerializer extends StdSerializer<CreateUserDto> {
+
+        CreateUserDtoSerializer() {
+            super(CreateUserDto.class);
+        }
+
+        @Override
+        public void serialize(CreateUserDto dto, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(dto);
+            writeString(generator, FULL_NAME, dto.fullName());
+            writeString(generator, DOCUMENT, dto.document());
+            writeString(generator, EMAIL, dto.email());
+            writeString(generator, PHONE, dto.phone());
+            writeDate(generator, provider, BIRTHDATE, dto.birthdate());
+            writeCategory(generator, dto.category());
+            generator.writeEndObject();
+        }
+    }
+
+    static final class UserDeserializer extends StdDeserializer<User> implements ContextualDeserializer {
+
+        private final Fallbacks fallbacks;
+
+        UserDeserializer() {
+            this(null);
+        }
+
+        private UserDeserializer(Fallbacks fallbacks) {
+            super(User.class);
+            this.fallbacks = fallbacks;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+                throws JsonMappingException {
+            return new UserDeserializer(Fallbacks.resolve(context));
+        }
+
+        @Override
+        public User deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            User user = new User();
+            for (String field = firstField(parser, context, User.class); field != null;
+                 field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> user.setId(readUuid(parser, context, fallbacks));
+                    case "fullName" -> user.setFullName(readString(parser, context, fallbacks));
+                    case "active" -> user.setActive(parser.getValueAsBoolean());
+                    case "document" -> user.setDocument(readString(parser, context, fallbacks));
+                    case "email" -> user.setEmail(readString(parser, context, fallbacks));
+                    case "phone" -> user.setPhone(readString(parser, context, fallbacks));
+                    case "birthdate" -> user.setBirthdate(readDate(parser, context, fallbacks));
+                    case "category" -> user.setCategory(readCategory(parser, context, fallbacks));
+                    case "createdAt" -> user.setCreatedAt(readDateTime(parser, context, fallbacks));
+                    case "updatedAt" -> user.setUpdatedAt(readDateTime(parser, context, fallbacks));
+                    default -> context.handleUnknownProperty(parser, this, User.class, field);
+                }
+            }
+            return user;
+        }
+    }
+
+    static final class CreateUserDtoDeserializer extends StdDeserializer<CreateUserDto>
+            implements ContextualDeserializer {
+
+        private final Fallbacks fallbacks;
+
+        CreateUserDtoDeserializer() {
+            this(null);
+        }
+
+        private CreateUserDtoDeserializer(Fallbacks fallbacks) {
+            super(CreateUserDto.class);
+            this.fallbacks = fallbacks;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+                throws JsonMappingException {
+            return new CreateUserDtoDeserializer(Fallbacks.resolve(context));
+        }
+
+        @Override
+        public CreateUserDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String fullName = null;
+            String document = null;
+            String email = null;
+            String phone = null;
+            LocalDate birthdate = null;
+            Category category = null;
+            for (String field = firstField(parser, context, CreateUserDto.class); field != null;
+                 field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "fullName" -> fullName = readString(parser, context, fallbacks);
+                    case "document" -> document = readString(parser, context, fallbacks);
+                    case "email" -> email = readString(parser, context, fallbacks);
+                    case "phone" -> phone = readString(parser, context, fallbacks);
+                    case "birthdate" -> birthdate = readDate(parser, context, fallbacks);
+                    case "category" -> category = readCategory(parser, context, fallbacks);
+                    default -> context.handleUnknownProperty(parser, this, CreateUserDto.class, field);
+                }
+            }
+            return new CreateUserDto(fullName, document, email, phone, birthdate, category);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeCategory(JsonGenerator generator, Category category) throws IOException {
+        generator.writeFieldName(CATEGORY);
+        if (category == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(CATEGORY_NAMES[category.ordinal()]);
+        }
+    }
+
+    private static void writeDate(JsonGenerator generator, SerializerProvider provider, SerializedString name,
+                                  LocalDate date) throws IOException {
+        generator.writeFieldName(name);
+        if (date == null) {
+            generator.writeNull();
+        } else if (IsoDates.isFormattable(date.getYear())) {
+            char[] buffer = new char[IsoDates.DATE_LENGTH];
+            generator.writeString(buffer, 0, IsoDates.formatDate(date, buffer));
+        } else {
+            provider.findValueSerializer(LocalDate.class).serialize(date, generator, provider);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator generator, SerializerProvider provider, SerializedString name,
+                                      LocalDateTime dateTime) throws IOException {
+        generator.writeFieldName(name);
+        if (dateTime == null) {
+            generator.writeNull();
+        } else if (IsoDates.isFormattable(dateTime.getYear())) {
+            char[] buffer = new char[IsoDates.DATE_TIME_MAX_LENGTH];
+            generator.writeString(buffer, 0, IsoDates.formatDateTime(dateTime, buffer));
+        } else {
+            provider.findValueSerializer(LocalDateTime.class).serialize(dateTime, generator, provider);
+        }
+    }
+
+    private static String firstField(JsonParser parser, DeserializationContext context, Class<?> type)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return parser.nextFieldName();
+        }
+        // Already positioned on the first field when called for a buffered value
+        if (token == JsonToken.FIELD_NAME) {
+            return parser.currentName();
+        }
+        context.handleUnexpectedToken(type, parser);
+        return null;
+    }
+
+    private static UUID readUuid(JsonParser parser, DeserializationContext context, Fallbacks fallbacks)
+            throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null
+                : (UUID) fallbacks.uuid().deserialize(parser, context);
+    }
+
+    private static String readString(JsonParser parser, DeserializationContext context, Fallbacks fallbacks)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (String) fallbacks.string().deserialize(parser, context);
+    }
+
+    private static LocalDate readDate(JsonParser parser, DeserializationContext context, Fallbacks fallbacks)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            LocalDate date = IsoDates.parseDate(parser.getText());
+            if (date != null) {
+                return date;
+            }
+        }
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null
+                : (LocalDate) fallbacks.date().deserialize(parser, context);
+    }
+
+    private static LocalDateTime readDateTime(JsonParser parser, DeserializationContext context, Fallbacks fallbacks)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            LocalDateTime dateTime = IsoDates.parseDateTime(parser.getText());
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null
+                : (LocalDateTime) fallbacks.dateTime().deserialize(parser, context);
+    }
+
+    private static Category readCategory(JsonParser parser, DeserializationContext context, Fallbacks fallbacks)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            String name = parser.getText();
+            for (Category category : CATEGORIES) {
+                if (category.name().equals(name)) {
+                    return category;
+                }
+            }
+        }
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null
+                : (Category) fallbacks.category().deserialize(parser, context);
+    }
+
+    /**
+     * Standard deserializers for values off the fast path, looked up once per mapper when the codec is
+     * contextualised: {@code DeserializationContext.readValue} would repeat the lookup, and the introspection of
+     * non-cached types such as {@code UUID}, on every value.
+     */
+    private record Fallbacks(JsonDeserializer<Object> uuid,
+                             JsonDeserializer<Object> string,
+                             JsonDeserializer<Object> date,
+                             JsonDeserializer<Object> dateTime,
+                             JsonDeserializer<Object> category) {
+
+        static Fallbacks resolve(DeserializationContext context) throws JsonMappingException {
+            return new Fallbacks(find(context, UUID.class), find(context, String.class), find(context, LocalDate.class),
+                    find(context, LocalDateTime.class), find(context, Category.class));
+        }
+
+        private static JsonDeserializer<Object> find(DeserializationContext context, Class<?> type)
+                throws JsonMappingException {
+            return context.findRootValueDeserializer(context.constructType(type));
+        }
+    }
+}
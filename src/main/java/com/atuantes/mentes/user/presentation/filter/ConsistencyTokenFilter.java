@@ -0,0 +1,47 @@
+package com.atuantes.mentes.user.presentation.filter;
+
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.Lsn;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "x-consistency-token";
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(HEADER);
+        if (token != null) {
+            DataSourceRoute.requireLsn(parse(token));
+        }
+        if (HttpMethod.POST.matches(request.getMethod())) {
+            DataSourceRoute.trackWriteLsn();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRoute.clear();
+        }
+    }
+
+    private static long parse(String token) {
+        try {
+            return Lsn.parse(token);
+        } catch (IllegalArgumentException e) {
+            // A token we cannot read still asks for consistency, which only the primary can guarantee
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.atuantes.mentes.user.presentation.filter;
+
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class RequestPriorityFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "x-request-priority";
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority.set(RequestPriority.parse(request.getHeader(HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestPriority.clear();
+        }
+    }
+}
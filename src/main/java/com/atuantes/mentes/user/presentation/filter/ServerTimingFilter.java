@@ -0,0 +1,45 @@
+package com.atuantes.mentes.user.presentation.filter;
+
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String OPT_IN_HEADER = "x-server-timing";
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!Boolean.parseBoolean(request.getHeader(OPT_IN_HEADER))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals("/user") || path.startsWith("/user/") || path.startsWith("/users/"));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        // The body is buffered so the header can still be added once the body encoding has been measured
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        ServerTiming.begin();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            responseWrapper.setHeader(ServerTiming.HEADER, ServerTiming.header(System.nanoTime() - start));
+            ServerTiming.end();
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+}
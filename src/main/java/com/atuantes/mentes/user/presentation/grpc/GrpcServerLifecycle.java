@@ -0,0 +1,121 @@
+package com.atuantes.mentes.user.presentation.grpc;
+
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.presentation.ratelimit.DocumentLookupRateLimiter;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server next to the web server when {@code user.grpc.enabled} is set. Calls are dispatched to the
+ * application task executor, which runs on virtual threads with the virtual-threads profile, so blocking use cases
+ * never run on the Netty event loop. The default lifecycle phase is above the web server's, so it stops first on
+ * shutdown: new calls are refused and calls in flight get {@code shutdown-grace} to finish.
+ * <p>
+ * Every call must carry {@code user.grpc.auth-token} as a bearer token, and the server refuses to start without
+ * one. TLS is used when {@code user.grpc.tls.certificate-chain} and {@code private-key} are set; otherwise the
+ * server speaks plaintext and the port must stay on the internal network.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.grpc.enabled", havingValue = "true")
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final UserGrpcService userGrpcService;
+    private final DocumentLookupRateLimiter rateLimiter;
+    private final Executor executor;
+    private final int port;
+    private final String authToken;
+    private final String certificateChain;
+    private final String privateKey;
+    private final Duration shutdownGrace;
+
+    private volatile Server server;
+
+    public GrpcServerLifecycle(UserGrpcService userGrpcService,
+                               DocumentLookupRateLimiter rateLimiter,
+                               @Qualifier("applicationTaskExecutor") Executor executor,
+                               @Value("${user.grpc.port:9696}") int port,
+                               @Value("${user.grpc.auth-token:}") String authToken,
+                               @Value("${user.grpc.tls.certificate-chain:}") String certificateChain,
+                               @Value("${user.grpc.tls.private-key:}") String privateKey,
+                               @Value("${user.grpc.shutdown-grace:10s}") Duration shutdownGrace) {
+        if (authToken.isBlank()) {
+            throw new IllegalStateException("user.grpc.auth-token is required when user.grpc.enabled is set");
+        }
+        this.userGrpcService = userGrpcService;
+        this.rateLimiter = rateLimiter;
+        this.executor = executor;
+        this.port = port;
+        this.authToken = authToken;
+        this.certificateChain = certificateChain;
+        this.privateKey = privateKey;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    @Override
+    public void start() {
+        try {
+            NettyServerBuilder builder = NettyServerBuilder.forPort(port).executor(executor);
+            if (!certificateChain.isBlank() && !privateKey.isBlank()) {
+                builder.useTransportSecurity(new File(certificateChain), new File(privateKey));
+            } else {
+                log.warn(LogMessage.LOG_GRPC_SERVER.getMessage(), "serving plaintext", port);
+            }
+            // The last interceptor added runs first, so authentication happens before anything else
+            server = builder
+                    .addService(ServerInterceptors.intercept(userGrpcService,
+                            new TransactionIdServerInterceptor(rateLimiter.getClientHeader()),
+                            new AuthTokenServerInterceptor(authToken)))
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info(LogMessage.LOG_GRPC_SERVER.getMessage(), "started", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        log.info(LogMessage.LOG_GRPC_SERVER.getMessage(), "stopping", running.getPort());
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Bound port, useful when {@code user.grpc.port} is 0.
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,78 @@
+package com.atuantes.mentes.user.presentation.grpc;
+
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import com.atuantes.mentes.user.presentation.filter.RequestPriorityFilter;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.lang.Nullable;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.UUID;
+
+/**
+ * gRPC counterpart of the {@code x-transaction-id} request header and of {@link RequestPriorityFilter}: both
+ * metadata values are read once per call and exposed through the gRPC {@link Context}. Calls without a valid
+ * transaction id are rejected with {@code INVALID_ARGUMENT}, as REST answers 400.
+ * <p>
+ * The client the document lookup rate limit charges is exposed too: the configured client metadata key or,
+ * without one, the remote address, as for REST.
+ */
+class TransactionIdServerInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> TRANSACTION_ID_HEADER =
+            Metadata.Key.of("x-transaction-id", Metadata.ASCII_STRING_MARSHALLER);
+    static final Metadata.Key<String> PRIORITY_HEADER =
+            Metadata.Key.of(RequestPriorityFilter.HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+    static final Context.Key<UUID> TRANSACTION_ID = Context.key("transaction-id");
+    static final Context.Key<RequestPriority> PRIORITY = Context.key("request-priority");
+    static final Context.Key<String> CLIENT = Context.key("client");
+
+    private final Metadata.Key<String> clientHeader;
+
+    TransactionIdServerInterceptor(@Nullable String clientHeader) {
+        this.clientHeader = clientHeader == null
+                ? null
+                : Metadata.Key.of(clientHeader, Metadata.ASCII_STRING_MARSHALLER);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        UUID transactionId;
+        try {
+            transactionId = UUID.fromString(String.valueOf(headers.get(TRANSACTION_ID_HEADER)));
+        } catch (IllegalArgumentException e) {
+            call.close(Status.INVALID_ARGUMENT.withDescription("Missing or invalid x-transaction-id header"),
+                    new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        Context context = Context.current()
+                .withValue(TRANSACTION_ID, transactionId)
+                .withValue(PRIORITY, RequestPriority.parse(headers.get(PRIORITY_HEADER)))
+                .withValue(CLIENT, client(call, headers));
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    private String client(ServerCall<?, ?> call, Metadata headers) {
+        if (clientHeader != null) {
+            String client = headers.get(clientHeader);
+            if (client != null && !client.isEmpty()) {
+                return client;
+            }
+        }
+        SocketAddress remote = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (remote instanceof InetSocketAddress address && address.getAddress() != null) {
+            return address.getAddress().getHostAddress();
+        }
+        return String.valueOf(remote);
+    }
+}
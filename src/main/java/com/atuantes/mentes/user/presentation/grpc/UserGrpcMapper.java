@@ -0,0 +1,119 @@
+package com.atuantes.mentes.user.presentation.grpc;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserException;
+import com.atuantes.mentes.user.domain.message.UserMessage;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.atuantes.mentes.user.presentation.grpc.v1.CreateUserRequest;
+import com.atuantes.mentes.user.presentation.grpc.v1.ErrorResponse;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserCategory;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserResponse;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Conversions between the protobuf messages and the types the REST layer already uses, so both interfaces go
+ * through the same validation, mapping and use cases. Proto3 has no null: empty strings and
+ * {@code USER_CATEGORY_UNSPECIFIED} map to null, and null maps back to the field default.
+ */
+final class UserGrpcMapper {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private UserGrpcMapper() {
+    }
+
+    static CreateUserDto toDto(CreateUserRequest request) {
+        return new CreateUserDto(
+                emptyToNull(request.getFullName()),
+                emptyToNull(request.getDocument()),
+                emptyToNull(request.getEmail()),
+                emptyToNull(request.getPhone()),
+                toDate(request.getBirthdate()),
+                toCategory(request.getCategoryValue()));
+    }
+
+    static UserResponse toResponse(User user) {
+        UserResponse.Builder response = UserResponse.newBuilder().setActive(user.isActive());
+        if (user.getId() != null) {
+            response.setId(user.getId().toString());
+        }
+        if (user.getFullName() != null) {
+            response.setFullName(user.getFullName());
+        }
+        if (user.getDocument() != null) {
+            response.setDocument(user.getDocument());
+        }
+        if (user.getEmail() != null) {
+            response.setEmail(user.getEmail());
+        }
+        if (user.getPhone() != null) {
+            response.setPhone(user.getPhone());
+        }
+        if (user.getBirthdate() != null) {
+            response.setBirthdate(user.getBirthdate().toString());
+        }
+        if (user.getCategory() != null) {
+            response.setCategoryValue(user.getCategory().ordinal() + UserCategory.USER_CATEGORY_FATHER_VALUE);
+        }
+        if (user.getCreatedAt() != null) {
+            response.setCreatedAt(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(user.getCreatedAt()));
+        }
+        if (user.getUpdatedAt() != null) {
+            response.setUpdatedAt(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(user.getUpdatedAt()));
+        }
+        return response.build();
+    }
+
+    static ErrorResponse toError(String code, List<String> errors) {
+        return ErrorResponse.newBuilder()
+                .setCode(code)
+                .setMessage(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                .addAllErrors(errors)
+                .build();
+    }
+
+    static ErrorResponse toError(UserException e) {
+        return toError(e.getCode(), List.of(e.getMessage()));
+    }
+
+    private static LocalDate toDate(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidFieldException("birthdate", value);
+        }
+    }
+
+    private static Category toCategory(int value) {
+        if (value == UserCategory.USER_CATEGORY_UNSPECIFIED_VALUE) {
+            return null;
+        }
+        int index = value - UserCategory.USER_CATEGORY_FATHER_VALUE;
+        if (index < 0 || index >= CATEGORIES.length) {
+            throw new InvalidFieldException("category", String.valueOf(value));
+        }
+        return CATEGORIES[index];
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * A field that cannot be converted at all, the equivalent of an unreadable REST body.
+     */
+    static final class InvalidFieldException extends IllegalArgumentException {
+
+        InvalidFieldException(String field, String value) {
+            super("Invalid value for " + field + ": " + value);
+        }
+    }
+}
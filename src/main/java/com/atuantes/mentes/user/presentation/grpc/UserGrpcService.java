@@ -0,0 +1,319 @@
+package com.atuantes.mentes.user.presentation.grpc;
+
+import com.atuantes.mentes.user.application.usecase.CreateUserUseCase;
+import com.atuantes.mentes.user.application.usecase.FindUserByDocumentUseCase;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserException;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.exception.UserTooManyRequestsException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.message.UserMessage;
+import com.atuantes.mentes.user.domain.observability.event.ControllerEvent;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.atuantes.mentes.user.presentation.grpc.v1.CreateUserRequest;
+import com.atuantes.mentes.user.presentation.grpc.v1.FindByDocumentRequest;
+import com.atuantes.mentes.user.presentation.grpc.v1.FindByDocumentResult;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserResponse;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserServiceGrpc;
+import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
+import com.atuantes.mentes.user.presentation.ratelimit.DocumentLookupRateLimiter;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * gRPC interface over the same use cases as {@code UserController} and {@code FindUserByDocumentController}:
+ * requests go through the same bean validation, DTO mapping and use cases, and errors keep the REST codes (in the
+ * {@code x-error-code} trailer for unary calls, in the result for streamed lookups).
+ * <p>
+ * {@code FindByDocuments} pipelines lookups over one stream: up to {@code user.grpc.stream-window} documents are
+ * requested from the client and looked up concurrently on the application task executor, and a new one is only
+ * requested when a result has been handed to a transport that is ready for more. A slow reader therefore stops the
+ * client from sending instead of piling results up in memory.
+ * <p>
+ * Every document looked up, unary or streamed, is charged to the caller's {@link DocumentLookupRateLimiter} bucket
+ * and every miss pays the penalty, so the stream is no cheaper a way to walk through CPF numbers than REST. Refused
+ * lookups fail with {@code RESOURCE_EXHAUSTED} (or a {@code TOO_MANY_REQUESTS} result in the stream). Unexpected
+ * errors are logged and answered with a fixed message instead of the exception's.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.grpc.enabled", havingValue = "true")
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    static final Metadata.Key<String> ERROR_CODE = Metadata.Key.of("x-error-code", Metadata.ASCII_STRING_MARSHALLER);
+
+    static final Metadata.Key<String> RETRY_AFTER = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String VALIDATION_ERROR_CODE = "VAL-0001";
+    private static final BiConsumer<String, String> NO_HEADERS = (name, value) -> {
+    };
+
+    private final CreateUserDtoToCommand createUserDtoToCommand;
+    private final CreateUserUseCase createUserUseCase;
+    private final FindUserByDocumentUseCase findUserByDocumentUseCase;
+    private final Validator validator;
+    private final DocumentLookupRateLimiter rateLimiter;
+    private final DocumentHasher documentHasher;
+    private final Executor executor;
+    private final int streamWindow;
+
+    public UserGrpcService(CreateUserDtoToCommand createUserDtoToCommand,
+                           CreateUserUseCase createUserUseCase,
+                           FindUserByDocumentUseCase findUserByDocumentUseCase,
+                           Validator validator,
+                           DocumentLookupRateLimiter rateLimiter,
+                           DocumentHasher documentHasher,
+                           @Qualifier("applicationTaskExecutor") Executor executor,
+                           @Value("${user.grpc.stream-window:64}") int streamWindow) {
+        this.createUserDtoToCommand = createUserDtoToCommand;
+        this.createUserUseCase = createUserUseCase;
+        this.findUserByDocumentUseCase = findUserByDocumentUseCase;
+        this.validator = validator;
+        this.rateLimiter = rateLimiter;
+        this.documentHasher = documentHasher;
+        this.executor = executor;
+        this.streamWindow = streamWindow;
+    }
+
+    @Override
+    public void createUser(CreateUserRequest request, StreamObserver<UserResponse> responseObserver) {
+        UUID transactionId = TransactionIdServerInterceptor.TRANSACTION_ID.get();
+        log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "grpc create user", transactionId);
+        ControllerEvent event = new ControllerEvent("grpc create user");
+        event.begin();
+        try {
+            UserResponse response = unary(() -> {
+                CreateUserDto dto = UserGrpcMapper.toDto(request);
+                Set<ConstraintViolation<CreateUserDto>> violations = validator.validate(dto);
+                if (!violations.isEmpty()) {
+                    throw invalid(violations.stream().map(ConstraintViolation::getMessage).toList());
+                }
+                return UserGrpcMapper.toResponse(
+                        createUserUseCase.createUser(createUserDtoToCommand.toCommand(dto), transactionId));
+            });
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+            log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "grpc create user", transactionId);
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+        } finally {
+            event.commit(transactionId, normalize(request.getDocument()), documentHasher);
+        }
+    }
+
+    @Override
+    public void findByDocument(FindByDocumentRequest request, StreamObserver<UserResponse> responseObserver) {
+        UUID transactionId = TransactionIdServerInterceptor.TRANSACTION_ID.get();
+        log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "grpc find user by document", transactionId);
+        ControllerEvent event = new ControllerEvent("grpc find user by document");
+        event.begin();
+        String document = normalize(request.getDocument());
+        String client = TransactionIdServerInterceptor.CLIENT.get();
+        try {
+            UserResponse response = unary(() -> UserGrpcMapper.toResponse(find(document, transactionId, client)));
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+            log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "grpc find user by document", transactionId);
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+        } finally {
+            event.commit(transactionId, document, documentHasher);
+        }
+    }
+
+    @Override
+    public StreamObserver<FindByDocumentRequest> findByDocuments(StreamObserver<FindByDocumentResult> responseObserver) {
+        ServerCallStreamObserver<FindByDocumentResult> responses =
+                (ServerCallStreamObserver<FindByDocumentResult>) responseObserver;
+        UUID transactionId = TransactionIdServerInterceptor.TRANSACTION_ID.get();
+        log.info(LogMessage.LOG_START_CONTROLLER.getMessage(), "grpc find users by document", transactionId);
+        LookupStream stream = new LookupStream(responses, transactionId, TransactionIdServerInterceptor.PRIORITY.get(),
+                TransactionIdServerInterceptor.CLIENT.get());
+        responses.disableAutoRequest();
+        responses.setOnReadyHandler(stream::onReady);
+        responses.setOnCancelHandler(stream::onCancel);
+        responses.request(streamWindow);
+        return stream;
+    }
+
+    /**
+     * Lookups of one {@code FindByDocuments} call. Results are written under the stream's lock because they
+     * complete on different executor threads and a {@link StreamObserver} is not thread-safe.
+     */
+    private final class LookupStream implements StreamObserver<FindByDocumentRequest> {
+
+        private final ServerCallStreamObserver<FindByDocumentResult> responses;
+        private final UUID transactionId;
+        private final RequestPriority priority;
+        private final String client;
+
+        private int inFlight;
+        private int owed;
+        private boolean halfClosed;
+        private boolean done;
+
+        LookupStream(ServerCallStreamObserver<FindByDocumentResult> responses, UUID transactionId,
+                     RequestPriority priority, String client) {
+            this.responses = responses;
+            this.transactionId = transactionId;
+            this.priority = priority;
+            this.client = client;
+        }
+
+        @Override
+        public void onNext(FindByDocumentRequest request) {
+            synchronized (this) {
+                inFlight++;
+            }
+            String document = normalize(request.getDocument());
+            try {
+                executor.execute(() -> complete(lookup(document)));
+            } catch (RejectedExecutionException e) {
+                complete(FindByDocumentResult.newBuilder()
+                        .setDocument(document)
+                        .setError(UserGrpcMapper.toError(UserErrorMessage.SERVICE_UNAVAILABLE.getCode(),
+                                List.of(UserErrorMessage.SERVICE_UNAVAILABLE.getMessage())))
+                        .build());
+            }
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            done = true;
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            halfClosed = true;
+            finishIfDrained();
+        }
+
+        synchronized void onReady() {
+            if (owed > 0 && !done) {
+                responses.request(owed);
+                owed = 0;
+            }
+        }
+
+        synchronized void onCancel() {
+            done = true;
+        }
+
+        private FindByDocumentResult lookup(String document) {
+            FindByDocumentResult.Builder result = FindByDocumentResult.newBuilder().setDocument(document);
+            RequestPriority.set(priority);
+            try {
+                result.setUser(UserGrpcMapper.toResponse(find(document, transactionId, client)));
+            } catch (UserException e) {
+                result.setError(UserGrpcMapper.toError(e));
+            } catch (RuntimeException e) {
+                log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "", e.getMessage());
+                result.setError(UserGrpcMapper.toError("", List.of()));
+            } finally {
+                RequestPriority.clear();
+            }
+            return result.build();
+        }
+
+        private synchronized void complete(FindByDocumentResult result) {
+            inFlight--;
+            if (done) {
+                return;
+            }
+            responses.onNext(result);
+            if (responses.isReady()) {
+                responses.request(1);
+            } else {
+                owed++;
+            }
+            finishIfDrained();
+        }
+
+        private void finishIfDrained() {
+            if (halfClosed && inFlight == 0 && !done) {
+                done = true;
+                responses.onCompleted();
+                log.info(LogMessage.LOG_END_CONTROLLER.getMessage(), "grpc find users by document", transactionId);
+            }
+        }
+    }
+
+    private User find(String document, UUID transactionId, String client) {
+        int slot = rateLimiter.acquire(client, NO_HEADERS);
+        try {
+            return findUserByDocumentUseCase.findUserByDocument(document, transactionId);
+        } catch (UserNotFoundException e) {
+            rateLimiter.penalizeMiss(slot);
+            throw e;
+        }
+    }
+
+    private static UserResponse unary(Supplier<UserResponse> call) {
+        RequestPriority.set(TransactionIdServerInterceptor.PRIORITY.get());
+        try {
+            return call.get();
+        } catch (UserException e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), e.getCode(), e.getMessage());
+            throw status(e);
+        } catch (UserGrpcMapper.InvalidFieldException e) {
+            throw invalid(List.of(e.getMessage()));
+        } catch (StatusRuntimeException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error(LogMessage.LOG_ERROR.getMessage(), e.getClass().getName(), "", e.getMessage());
+            throw Status.INTERNAL.withDescription(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage())
+                    .asRuntimeException();
+        } finally {
+            RequestPriority.clear();
+        }
+    }
+
+    static StatusRuntimeException status(UserException e) {
+        Status status = switch (e.getStatus()) {
+            case BAD_REQUEST -> Status.INVALID_ARGUMENT;
+            case NOT_FOUND -> Status.NOT_FOUND;
+            case CONFLICT -> Status.ALREADY_EXISTS;
+            case TOO_MANY_REQUESTS -> Status.RESOURCE_EXHAUSTED;
+            case SERVICE_UNAVAILABLE -> Status.UNAVAILABLE;
+            default -> Status.INTERNAL;
+        };
+        Metadata trailers = new Metadata();
+        trailers.put(ERROR_CODE, e.getCode());
+        if (e instanceof UserTooManyRequestsException tooManyRequests) {
+            long retryAfterMillis = tooManyRequests.getRetryAfter().toMillis();
+            trailers.put(RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        }
+        return status.withDescription(e.getMessage()).asRuntimeException(trailers);
+    }
+
+    private static StatusRuntimeException invalid(List<String> errors) {
+        Metadata trailers = new Metadata();
+        trailers.put(ERROR_CODE, VALIDATION_ERROR_CODE);
+        return Status.INVALID_ARGUMENT.withDescription(String.join("; ", errors)).asRuntimeException(trailers);
+    }
+
+    private static String normalize(String document) {
+        return document.replaceAll("\\D", "");
+    }
+}
@@ -5,6 +5,7 @@ import com.atuantes.mentes.user.domain.exception.UserIllegalArgumentException;
 import com.atuantes.mentes.user.domain.exception.UserInvalidDocumentException;
 import com.atuantes.mentes.user.domain.message.LogMessage;
 import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
 import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class CreateUserDtoToCommand {
 
     public CreateUserCommand toCommand(CreateUserDto dto) {
+        long start = ServerTiming.start();
         try {
             return new CreateUserCommand(
                     dto.fullName(),
@@ -31,6 +33,8 @@ public class CreateUserDtoToCommand {
                     UserErrorMessage.CREATE_USER_DTO_TO_COMMAND_MAPPER_ERROR.getCode(), e.getMessage(), null);
             throw new UserIllegalArgumentException(UserErrorMessage.CREATE_USER_DTO_TO_COMMAND_MAPPER_ERROR.getCode(),
                     UserErrorMessage.CREATE_USER_DTO_TO_COMMAND_MAPPER_ERROR.getMessage());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.MAPPING, start);
         }
     }
 }
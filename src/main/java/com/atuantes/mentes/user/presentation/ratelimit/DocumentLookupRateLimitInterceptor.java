@@ -0,0 +1,62 @@
+package com.atuantes.mentes.user.presentation.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the {@link DocumentLookupRateLimiter} to the find-by-document endpoint: the bucket is reported in the
+ * {@code RateLimit-*} response headers and a 404 charges the miss penalty. Clients are keyed by the configured
+ * header (set by the gateway) or, without one, by remote address.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentLookupRateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = DocumentLookupRateLimiter.LIMIT_HEADER;
+    public static final String REMAINING_HEADER = DocumentLookupRateLimiter.REMAINING_HEADER;
+    public static final String RESET_HEADER = DocumentLookupRateLimiter.RESET_HEADER;
+
+    private static final String SLOT_ATTRIBUTE = DocumentLookupRateLimitInterceptor.class.getName() + ".slot";
+
+    private final DocumentLookupRateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!rateLimiter.isEnabled()) {
+            return true;
+        }
+        int slot = rateLimiter.acquire(clientKey(request), response::setHeader);
+        request.setAttribute(SLOT_ATTRIBUTE, slot);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request,
+                                @NonNull HttpServletResponse response,
+                                @NonNull Object handler,
+                                @Nullable Exception ex) {
+        if (response.getStatus() == HttpStatus.NOT_FOUND.value()
+                && request.getAttribute(SLOT_ATTRIBUTE) instanceof Integer slot) {
+            rateLimiter.penalizeMiss(slot);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String clientHeader = rateLimiter.getClientHeader();
+        if (clientHeader != null) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isEmpty()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
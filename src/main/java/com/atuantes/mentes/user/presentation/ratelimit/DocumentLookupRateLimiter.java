@@ -0,0 +1,103 @@
+package com.atuantes.mentes.user.presentation.ratelimit;
+
+import com.atuantes.mentes.user.domain.exception.UserTooManyRequestsException;
+import com.atuantes.mentes.user.domain.message.LogMessage;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-client token bucket in front of every find-by-document interface. Every lookup costs one token and every
+ * lookup that ends in not found costs {@code miss-penalty} more, so clients walking through CPF numbers run dry
+ * far sooner than clients looking up users that exist. The buckets are shared, so a client spends the same budget
+ * over REST and over gRPC.
+ * <p>
+ * Off by default: behind a gateway every request shares the gateway's address, so without a client header all
+ * clients would drain one bucket. Lookups through the reactive stack are not limited.
+ */
+@Slf4j
+@Component
+public class DocumentLookupRateLimiter {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    /**
+     * Slot returned when the limiter is disabled; {@link #penalizeMiss(int)} ignores it.
+     */
+    public static final int UNLIMITED = -1;
+
+    private final boolean enabled;
+    private final String clientHeader;
+    private final long missPenalty;
+    private final String limit;
+    private final TokenBucketTable buckets;
+
+    public DocumentLookupRateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.enabled();
+        String header = properties.clientHeader();
+        this.clientHeader = header == null || header.isBlank() ? null : header;
+        this.missPenalty = properties.missPenalty() * TokenBucketTable.SCALE;
+        this.limit = Integer.toString(properties.burst());
+        this.buckets = new TokenBucketTable(properties.slots(), properties.burst(), properties.ratePerSecond());
+        if (enabled && this.clientHeader == null) {
+            log.warn(LogMessage.LOG_RATE_LIMIT.getMessage(),
+                    "no client header configured, clients are keyed by remote address");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Request header (or gRPC metadata key) naming the client, {@code null} to key clients by remote address.
+     */
+    @Nullable
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    /**
+     * Charges one lookup to the client and reports the bucket through {@code headers} (name, value).
+     *
+     * @return the client's slot, to pass to {@link #penalizeMiss(int)}, or {@link #UNLIMITED} when disabled
+     * @throws UserTooManyRequestsException when the client's bucket is empty
+     */
+    public int acquire(String client, BiConsumer<String, String> headers) {
+        if (!enabled) {
+            return UNLIMITED;
+        }
+        int slot = buckets.slot(client);
+        long remaining = buckets.tryAcquire(slot, TokenBucketTable.SCALE, buckets.now());
+        headers.accept(LIMIT_HEADER, limit);
+        if (remaining < 0) {
+            long retryAfterMillis = -remaining;
+            headers.accept(REMAINING_HEADER, "0");
+            headers.accept(RESET_HEADER, Long.toString(seconds(retryAfterMillis)));
+            throw new UserTooManyRequestsException(UserErrorMessage.TOO_MANY_REQUESTS.getCode(),
+                    UserErrorMessage.TOO_MANY_REQUESTS.getMessage(), Duration.ofMillis(retryAfterMillis));
+        }
+        headers.accept(REMAINING_HEADER, Long.toString(remaining / TokenBucketTable.SCALE));
+        headers.accept(RESET_HEADER, Long.toString(seconds(buckets.millisUntilFull(remaining))));
+        return slot;
+    }
+
+    /**
+     * Charges the miss penalty to the slot of a lookup that found no user.
+     */
+    public void penalizeMiss(int slot) {
+        if (slot != UNLIMITED) {
+            buckets.penalize(slot, missPenalty, buckets.now());
+        }
+    }
+
+    private static long seconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
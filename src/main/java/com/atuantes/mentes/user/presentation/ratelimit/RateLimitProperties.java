@@ -0,0 +1,29 @@
+package com.atuantes.mentes.user.presentation.ratelimit;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Checked when bound, so a rate or burst that would break the token arithmetic stops the startup instead of
+ * failing lookups.
+ *
+ * @param clientHeader  request header (or gRPC metadata key) naming the client; empty keys clients by remote address
+ * @param ratePerSecond tokens each client earns per second
+ * @param burst         bucket capacity in tokens; the packed bucket state holds at most 1048
+ * @param missPenalty   extra tokens charged for a lookup that finds no user
+ * @param slots         buckets in the table, rounded up to a power of two; clients beyond it share buckets
+ */
+@Validated
+@ConfigurationProperties("user.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        String clientHeader,
+        @DefaultValue("20") @Positive int ratePerSecond,
+        @DefaultValue("40") @Positive @Max(1048) int burst,
+        @DefaultValue("4") @PositiveOrZero int missPenalty,
+        @DefaultValue("65536") @Positive int slots) {
+}
@@ -0,0 +1,21 @@
+package com.atuantes.mentes.user.presentation.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitWebConfig implements WebMvcConfigurer {
+
+    private final DocumentLookupRateLimitInterceptor documentLookupRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(documentLookupRateLimitInterceptor).addPathPatterns("/users/document/**");
+    }
+}
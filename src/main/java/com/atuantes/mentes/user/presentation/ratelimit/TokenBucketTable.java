@@ -0,0 +1,107 @@
+package com.atuantes.mentes.user.presentation.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size table of token buckets, one {@code long} per slot so memory stays bounded no matter how many
+ * clients show up. Each slot packs the last refill time (upper 44 bits, milliseconds) and the remaining
+ * milli-tokens (lower 20 bits) and is updated with a single CAS. Clients hashing to the same slot share a
+ * bucket, which only ever makes their limit stricter; the hash is seeded per instance so collisions cannot
+ * be aimed at a specific client.
+ */
+final class TokenBucketTable {
+
+    static final long SCALE = 1000;
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long capacity;
+    private final long refillPerMilli;
+    private final int seed = ThreadLocalRandom.current().nextInt();
+    private final long origin = System.nanoTime();
+
+    /**
+     * @param slots            table size, rounded up to a power of two
+     * @param burst            bucket capacity in tokens
+     * @param ratePerSecond    tokens added per second, which is also milli-tokens per millisecond
+     */
+    TokenBucketTable(int slots, int burst, int ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be at least 1 token per second, got " + ratePerSecond);
+        }
+        if (burst * SCALE > TOKEN_MASK) {
+            throw new IllegalArgumentException("Burst must not exceed " + TOKEN_MASK / SCALE + " tokens");
+        }
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = burst * SCALE;
+        this.refillPerMilli = ratePerSecond;
+    }
+
+    int slot(String client) {
+        int hash = client.hashCode() ^ seed;
+        hash *= 0x9E3779B1;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    long now() {
+        // Never zero, so an untouched slot can be told apart from an empty bucket
+        return (System.nanoTime() - origin) / 1_000_000 + 1;
+    }
+
+    /**
+     * @return milli-tokens left after taking {@code cost}, or when refused, minus the milliseconds until
+     * {@code cost} would be available
+     */
+    long tryAcquire(int slot, long cost, long now) {
+        while (true) {
+            long state = slots.get(slot);
+            long tokens = available(state, now);
+            if (tokens < cost) {
+                return -Math.max(1, (cost - tokens + refillPerMilli - 1) / refillPerMilli);
+            }
+            if (slots.compareAndSet(slot, state, pack(now, tokens - cost))) {
+                return tokens - cost;
+            }
+        }
+    }
+
+    /**
+     * Takes {@code cost} milli-tokens without refusing, emptying the bucket at worst.
+     */
+    void penalize(int slot, long cost, long now) {
+        while (true) {
+            long state = slots.get(slot);
+            long tokens = Math.max(0, available(state, now) - cost);
+            if (slots.compareAndSet(slot, state, pack(now, tokens))) {
+                return;
+            }
+        }
+    }
+
+    long millisUntilFull(long tokens) {
+        return (capacity - tokens + refillPerMilli - 1) / refillPerMilli;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    private long available(long state, long now) {
+        if (state == 0) {
+            return capacity;
+        }
+        long elapsed = Math.max(0, now - (state >>> TOKEN_BITS));
+        long refill = Math.min(elapsed, capacity) * refillPerMilli;
+        return Math.min(capacity, (state & TOKEN_MASK) + refill);
+    }
+
+    private static long pack(long now, long tokens) {
+        return now << TOKEN_BITS | tokens;
+    }
+}
@@ -0,0 +1,27 @@
+-- Índice para o reconcile do cache, que busca as linhas alteradas depois de um instante
+CREATE INDEX idx_user_changed_at ON users."users" ((COALESCE(updated_at, created_at)));
+
+-- Documentos removidos (ou trocados), para o reconcile invalidar usuários que deixaram de existir
+CREATE TABLE users.user_deletions (
+    document VARCHAR(14) NOT NULL,  -- Documento que deixou de existir
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_user_deletions_deleted_at ON users.user_deletions (deleted_at);
+
+-- Função para registrar o documento removido
+CREATE OR REPLACE FUNCTION users.record_user_deletion()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' OR OLD.document IS DISTINCT FROM NEW.document THEN
+        INSERT INTO users.user_deletions (document) VALUES (OLD.document);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Trigger na tabela 'user'
+CREATE TRIGGER trg_record_user_deletion
+AFTER DELETE OR UPDATE OF document ON users."users"
+FOR EACH ROW
+EXECUTE FUNCTION users.record_user_deletion();
@@ -0,0 +1,13 @@
+-- Marca alterações com o horário do comando (clock_timestamp) e não com o início da transação (CURRENT_TIMESTAMP),
+-- para que o reconcile do cache não perca uma alteração feita numa transação que começou antes do snapshot
+ALTER TABLE users."users" ALTER COLUMN created_at SET DEFAULT clock_timestamp();
+ALTER TABLE users.user_deletions ALTER COLUMN deleted_at SET DEFAULT clock_timestamp();
+
+-- Função para atualizar updated_at
+CREATE OR REPLACE FUNCTION users.update_updated_at()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -5,6 +5,7 @@ import com.atuantes.mentes.user.domain.entity.Category;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserIllegalArgumentException;
 import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.domain.service.UserInsert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,7 +41,7 @@ class CreateUserUseCaseTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        useCase = new CreateUserUseCase(createUserCommandToUser, userInsert);
+        useCase = new CreateUserUseCase(createUserCommandToUser, userInsert, new DocumentHasher("test"));
         transactionId = UUID.randomUUID();
 
         validCommand = new CreateUserCommand();
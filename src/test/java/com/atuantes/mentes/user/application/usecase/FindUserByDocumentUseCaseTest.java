@@ -3,6 +3,7 @@ package com.atuantes.mentes.user.application.usecase;
 import com.atuantes.mentes.user.domain.entity.Category;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.domain.service.FindUserByDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,7 +33,7 @@ class FindUserByDocumentUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new FindUserByDocumentUseCase(findUserByDocument);
+        useCase = new FindUserByDocumentUseCase(findUserByDocument, new DocumentHasher("test"));
         transactionId = UUID.randomUUID();
 
         expectedUser = new User();
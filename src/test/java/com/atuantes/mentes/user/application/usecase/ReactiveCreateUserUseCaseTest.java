@@ -0,0 +1,103 @@
+package com.atuantes.mentes.user.application.usecase;
+
+import com.atuantes.mentes.user.application.command.CreateUserCommand;
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserIllegalArgumentException;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.service.ReactiveUserInsert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Given ReactiveCreateUserUseCase")
+class ReactiveCreateUserUseCaseTest {
+
+    @Mock
+    private CreateUserCommandToUser createUserCommandToUser;
+
+    @Mock
+    private ReactiveUserInsert userInsert;
+
+    private ReactiveCreateUserUseCase useCase;
+    private UUID transactionId;
+    private CreateUserCommand command;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveCreateUserUseCase(createUserCommandToUser, userInsert, new DocumentHasher("test"));
+        transactionId = UUID.randomUUID();
+
+        command = new CreateUserCommand();
+        command.setFullName("João Silva");
+        command.setDocument("00588380903");
+        command.setEmail("joao@test.com");
+        command.setPhone("11999999999");
+        command.setBirthdate(LocalDate.of(1990, 1, 1));
+        command.setCategory(Category.FATHER);
+
+        user = new User();
+        user.setFullName("João Silva");
+        user.setDocument("00588380903");
+        user.setCategory(Category.FATHER);
+    }
+
+    @Test
+    @DisplayName("When creating valid user Then should emit persisted user")
+    void whenCreatingValidUser_thenShouldEmitPersistedUser() {
+        // Given
+        User persisted = new User();
+        persisted.setId(UUID.randomUUID());
+        when(createUserCommandToUser.toUser(command)).thenReturn(user);
+        when(userInsert.insert(user, transactionId)).thenReturn(Mono.just(persisted));
+
+        // When & Then
+        StepVerifier.create(useCase.createUser(command, transactionId))
+                .expectNext(persisted)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("When mapping fails Then should emit error without inserting")
+    void whenMappingFails_thenShouldEmitErrorWithoutInserting() {
+        // Given
+        when(createUserCommandToUser.toUser(command))
+                .thenThrow(new UserIllegalArgumentException("USER-0001", "Invalid"));
+
+        // When & Then
+        StepVerifier.create(useCase.createUser(command, transactionId))
+                .expectError(UserIllegalArgumentException.class)
+                .verify();
+
+        verify(userInsert, never()).insert(any(), any());
+    }
+
+    @Test
+    @DisplayName("When insert fails Then should propagate persistence error")
+    void whenInsertFails_thenShouldPropagatePersistenceError() {
+        // Given
+        when(createUserCommandToUser.toUser(command)).thenReturn(user);
+        when(userInsert.insert(user, transactionId))
+                .thenReturn(Mono.error(new UserPersistenceException("USER-0005", "Duplicate")));
+
+        // When & Then
+        StepVerifier.create(useCase.createUser(command, transactionId))
+                .expectError(UserPersistenceException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,88 @@
+package com.atuantes.mentes.user.application.usecase;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.domain.service.ReactiveFindUserByDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Given ReactiveFindUserByDocumentUseCase")
+class ReactiveFindUserByDocumentUseCaseTest {
+
+    @Mock
+    private ReactiveFindUserByDocument findUserByDocument;
+
+    private ReactiveFindUserByDocumentUseCase useCase;
+    private UUID transactionId;
+    private User expectedUser;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveFindUserByDocumentUseCase(findUserByDocument, new DocumentHasher("test"));
+        transactionId = UUID.randomUUID();
+
+        expectedUser = new User();
+        expectedUser.setId(UUID.randomUUID());
+        expectedUser.setFullName("João Silva");
+        expectedUser.setActive(true);
+        expectedUser.setDocument("00588380903");
+        expectedUser.setEmail("joao@test.com");
+        expectedUser.setPhone("11999999999");
+        expectedUser.setBirthdate(LocalDate.of(1990, 1, 1));
+        expectedUser.setCategory(Category.FATHER);
+    }
+
+    @Test
+    @DisplayName("When finding user by valid document Then should emit user")
+    void whenFindingUserByValidDocument_thenShouldEmitUser() {
+        // Given
+        String document = "00588380903";
+        when(findUserByDocument.execute(document, transactionId)).thenReturn(Mono.just(expectedUser));
+
+        // When & Then
+        StepVerifier.create(useCase.findUserByDocument(document, transactionId))
+                .expectNext(expectedUser)
+                .verifyComplete();
+
+        verify(findUserByDocument, times(1)).execute(document, transactionId);
+    }
+
+    @Test
+    @DisplayName("When user does not exist Then should propagate UserNotFoundException")
+    void whenUserDoesNotExist_thenShouldPropagateUserNotFoundException() {
+        // Given
+        String document = "00588380903";
+        when(findUserByDocument.execute(document, transactionId))
+                .thenReturn(Mono.error(new UserNotFoundException("USER-404", "User not found")));
+
+        // When & Then
+        StepVerifier.create(useCase.findUserByDocument(document, transactionId))
+                .expectErrorMatches(error -> error instanceof UserNotFoundException
+                        && "USER-404".equals(((UserNotFoundException) error).getCode()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("When not subscribed Then should not call the port")
+    void whenNotSubscribed_thenShouldNotCallThePort() {
+        // When
+        useCase.findUserByDocument("00588380903", transactionId);
+
+        // Then
+        verifyNoInteractions(findUserByDocument);
+    }
+}
@@ -0,0 +1,111 @@
+package com.atuantes.mentes.user.domain.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given ServerTiming")
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+    }
+
+    @Test
+    @DisplayName("When recording is not active Then should not measure phases")
+    void whenRecordingIsNotActive_thenShouldNotMeasurePhases() {
+        // When
+        long start = ServerTiming.start();
+        ServerTiming.stop(ServerTiming.Phase.QUERY, start);
+
+        // Then
+        assertEquals(0L, start);
+        assertFalse(ServerTiming.isActive());
+        assertTrue(ServerTiming.header(1_000_000L).startsWith("total;"));
+    }
+
+    @Test
+    @DisplayName("When phases are recorded Then should report only measured phases and total")
+    void whenPhasesAreRecorded_thenShouldReportOnlyMeasuredPhasesAndTotal() {
+        // Given
+        ServerTiming.begin();
+
+        // When
+        ServerTiming.stop(ServerTiming.Phase.MAPPING, ServerTiming.start());
+        ServerTiming.stop(ServerTiming.Phase.QUERY, ServerTiming.start());
+        String header = ServerTiming.header(2_500_000L);
+
+        // Then
+        assertTrue(ServerTiming.isActive());
+        assertTrue(header.contains("mapping;desc=\"DTO and command mapping\";dur="));
+        assertTrue(header.contains("query;desc=\"Query execution\";dur="));
+        assertFalse(header.contains("encoding;"));
+        assertFalse(header.contains("acquire;"));
+        assertTrue(header.endsWith("total;desc=\"Total application time\";dur=2.500"));
+    }
+
+    @Test
+    @DisplayName("When a connection is acquired inside the query Then should not count the acquire as query time")
+    void whenAConnectionIsAcquiredInsideTheQuery_thenShouldNotCountTheAcquireAsQueryTime() throws InterruptedException {
+        // Given
+        ServerTiming.begin();
+        long query = ServerTiming.start();
+        long acquire = ServerTiming.start();
+        Thread.sleep(100);
+        ServerTiming.stop(ServerTiming.Phase.ACQUIRE, acquire);
+
+        // When
+        ServerTiming.stop(ServerTiming.Phase.QUERY, query);
+        String header = ServerTiming.header(200_000_000L);
+
+        // Then
+        assertTrue(duration(header, "acquire") >= 100.0);
+        assertTrue(duration(header, "query") < 50.0, header);
+    }
+
+    @Test
+    @DisplayName("When the document is validated inside the mapping Then should not count the validation as mapping")
+    void whenTheDocumentIsValidatedInsideTheMapping_thenShouldNotCountTheValidationAsMapping() throws Exception {
+        // Given
+        ServerTiming.begin();
+        ServerTiming.stop(ServerTiming.Phase.QUERY, ServerTiming.start());
+        long mapping = ServerTiming.start();
+        long validation = ServerTiming.start();
+        Thread.sleep(100);
+        ServerTiming.stop(ServerTiming.Phase.VALIDATION, validation);
+
+        // When
+        ServerTiming.stop(ServerTiming.Phase.MAPPING, mapping);
+        String header = ServerTiming.header(200_000_000L);
+
+        // Then
+        assertTrue(duration(header, "validation") >= 100.0);
+        assertTrue(duration(header, "mapping") < 50.0, header);
+    }
+
+    @Test
+    @DisplayName("When recording ends Then should stop measuring")
+    void whenRecordingEnds_thenShouldStopMeasuring() {
+        // Given
+        ServerTiming.begin();
+
+        // When
+        ServerTiming.end();
+
+        // Then
+        assertFalse(ServerTiming.isActive());
+        assertEquals(0L, ServerTiming.start());
+    }
+
+    private static double duration(String header, String metric) {
+        Matcher matcher = Pattern.compile(metric + ";desc=\"[^\"]*\";dur=([0-9.]+)").matcher(header);
+        assertTrue(matcher.find(), header);
+        return Double.parseDouble(matcher.group(1));
+    }
+}
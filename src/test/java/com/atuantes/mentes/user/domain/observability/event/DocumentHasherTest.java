@@ -0,0 +1,47 @@
+package com.atuantes.mentes.user.domain.observability.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given DocumentHasher")
+class DocumentHasherTest {
+
+    @Test
+    @DisplayName("When a document is hashed Then should ignore its formatting")
+    void whenADocumentIsHashed_thenShouldIgnoreItsFormatting() {
+        // Given
+        DocumentHasher hasher = new DocumentHasher(null);
+
+        // When & Then
+        assertEquals(hasher.hash("00588380903"), hasher.hash("005.883.809-03"));
+        assertNotEquals(hasher.hash("00588380903"), hasher.hash("00588380904"));
+        assertEquals(0L, hasher.hash(null));
+    }
+
+    @Test
+    @DisplayName("When the document key changes Then should change the hash")
+    void whenTheDocumentKeyChanges_thenShouldChangeTheHash() {
+        // Given
+        DocumentHasher first = new DocumentHasher("instance-a");
+
+        // When
+        DocumentHasher second = new DocumentHasher("instance-b");
+
+        // Then
+        assertNotEquals(first.hash("00588380903"), second.hash("00588380903"));
+        assertEquals(first.hash("00588380903"), new DocumentHasher("instance-a").hash("00588380903"),
+                "a shared key correlates recordings");
+    }
+
+    @Test
+    @DisplayName("When the key has non ASCII characters Then should hash it as UTF-8")
+    void whenTheKeyHasNonAsciiCharacters_thenShouldHashItAsUtf8() {
+        // When & Then
+        assertEquals(new DocumentHasher("chave-ção").hash("00588380903"),
+                new DocumentHasher("chave-ção").hash("00588380903"));
+        assertNotEquals(new DocumentHasher("chave-cao").hash("00588380903"),
+                new DocumentHasher("chave-ção").hash("00588380903"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.atuantes.mentes.user.infraestructure.aot;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.model.ExceptionResponse;
+import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.atuantes.mentes.user.presentation.util.ValidAgeValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given UserRuntimeHints")
+class UserRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new UserRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("When registering hints Then should allow Jackson binding of request and response types")
+    void whenRegisteringHints_thenShouldAllowJacksonBindingOfRequestAndResponseTypes() throws Exception {
+        // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CreateUserDto.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ExceptionResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(User.class.getMethod("getFullName")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CreateUserDto.class.getMethod("birthdate"))
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("When registering hints Then should allow the validator and the JDK proxies")
+    void whenRegisteringHints_thenShouldAllowTheValidatorAndTheJdkProxies() {
+        // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ValidAgeValidator.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(UserRepository.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+    }
+}
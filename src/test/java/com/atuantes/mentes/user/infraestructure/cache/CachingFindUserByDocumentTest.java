@@ -0,0 +1,114 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker.CircuitBreakerProperties;
+import com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker.CircuitBreakingFindUserByDocument;
+import com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker.RepositoryCircuitBreaker;
+import com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker.StaleRead;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given CachingFindUserByDocument")
+class CachingFindUserByDocumentTest {
+
+    private final FindUserByDocument delegate = mock(FindUserByDocument.class);
+    private final UserCache cache = mock(UserCache.class);
+    private final CachingFindUserByDocument findUserByDocument = new CachingFindUserByDocument(delegate, cache);
+    private final UUID transactionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("When the user is cached Then should not call the adapter")
+    void whenTheUserIsCached_thenShouldNotCallTheAdapter() {
+        // Given
+        User cached = new User();
+        when(cache.get("00588380903")).thenReturn(cached);
+
+        // When
+        User user = findUserByDocument.execute("00588380903", transactionId);
+
+        // Then
+        assertSame(cached, user);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("When the user is not cached Then should load and cache it")
+    void whenTheUserIsNotCached_thenShouldLoadAndCacheIt() {
+        // Given
+        User loaded = new User();
+        when(delegate.execute("00588380903", transactionId)).thenReturn(loaded);
+
+        // When
+        User user = findUserByDocument.execute("00588380903", transactionId);
+
+        // Then
+        assertSame(loaded, user);
+        verify(cache).put("00588380903", loaded);
+    }
+
+    @Test
+    @DisplayName("When the user does not exist Then should propagate and cache nothing")
+    void whenTheUserDoesNotExist_thenShouldPropagateAndCacheNothing() {
+        // Given
+        when(delegate.execute("00588380903", transactionId))
+                .thenThrow(new UserNotFoundException("USER-0007", "not found"));
+
+        // When / Then
+        assertThrows(UserNotFoundException.class, () -> findUserByDocument.execute("00588380903", transactionId));
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("When the circuit breaker under it serves a stale copy Then should not cache the copy again")
+    void whenTheCircuitBreakerUnderItServesAStaleCopy_thenShouldNotCacheTheCopyAgain() {
+        // Given
+        AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        OffHeapUserStore store = new OffHeapUserStore(64 * 1024, 2, Duration.ofMinutes(10).toMillis(), now::get);
+        User cached = new User();
+        cached.setFullName("João Silva");
+        cached.setDocument("00588380903");
+        cached.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30));
+        store.put("00588380903", cached);
+        long cachedAt = now.get();
+        now.addAndGet(Duration.ofMinutes(11).toMillis());
+        when(delegate.execute("00588380903", transactionId))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCache", store);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        RepositoryCircuitBreaker breaker = new RepositoryCircuitBreaker(new CircuitBreakerProperties(true, 10, 4,
+                0.5, Duration.ofMillis(100), Duration.ofSeconds(10), 2, Duration.ofMinutes(5), 32), executor);
+        FindUserByDocument chain = new CachingFindUserByDocument(new CircuitBreakingFindUserByDocument(delegate,
+                breaker, beanFactory.getBeanProvider(UserCache.class)), store);
+
+        try {
+            // When
+            User user = chain.execute("00588380903", transactionId);
+
+            // Then
+            assertEquals("00588380903", user.getDocument());
+            assertTrue(StaleRead.isMarked());
+            assertNull(store.get("00588380903"), "the copy must stay expired");
+            assertEquals(cachedAt, store.getStale("00588380903", Duration.ofMinutes(5)).cachedAt());
+        } finally {
+            executor.shutdownNow();
+            StaleRead.clear();
+        }
+    }
+}
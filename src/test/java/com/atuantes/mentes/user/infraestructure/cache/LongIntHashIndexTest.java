@@ -0,0 +1,60 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given LongIntHashIndex")
+class LongIntHashIndexTest {
+
+    @Test
+    @DisplayName("When puts and removes are mixed Then should agree with a HashMap")
+    void whenPutsAndRemovesAreMixed_thenShouldAgreeWithAHashMap() {
+        // Given
+        LongIntHashIndex index = new LongIntHashIndex(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) + (random.nextBoolean() ? 0 : 99_999_999_999L - 5_000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashIndex.ABSENT : removed, index.remove(key));
+            } else {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? LongIntHashIndex.ABSENT : previous, index.put(key, i));
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), index.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashIndex.ABSENT), index.get(key));
+        }
+        expected.forEach((key, value) -> assertEquals(value, index.get(key)));
+    }
+
+    @Test
+    @DisplayName("When removing with a stale value Then should keep the current mapping")
+    void whenRemovingWithAStaleValue_thenShouldKeepTheCurrentMapping() {
+        // Given
+        LongIntHashIndex index = new LongIntHashIndex(16);
+        index.put(0L, 10);
+        index.put(0L, 20);
+
+        // When
+        boolean removed = index.remove(0L, 10);
+
+        // Then
+        assertFalse(removed);
+        assertEquals(20, index.get(0L));
+        assertTrue(index.remove(0L, 20));
+        assertEquals(LongIntHashIndex.ABSENT, index.get(0L));
+    }
+}
@@ -0,0 +1,327 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given OffHeapUserStore")
+class OffHeapUserStoreTest {
+
+    private static final long TTL = 60_000;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("When a user is cached Then should return an equal copy")
+    void whenAUserIsCached_thenShouldReturnAnEqualCopy() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 4);
+        User user = user("00588380903");
+        user.setUpdatedAt(LocalDateTime.of(2024, 6, 2, 10, 15, 30, 123_456_000));
+
+        // When
+        store.put("00588380903", user);
+        User cached = store.get("00588380903");
+
+        // Then
+        assertNotSame(user, cached);
+        assertEquals(user.getId(), cached.getId());
+        assertEquals(user.getFullName(), cached.getFullName());
+        assertEquals(user.isActive(), cached.isActive());
+        assertEquals(user.getDocument(), cached.getDocument());
+        assertEquals(user.getEmail(), cached.getEmail());
+        assertEquals(user.getPhone(), cached.getPhone());
+        assertEquals(user.getBirthdate(), cached.getBirthdate());
+        assertEquals(user.getCategory(), cached.getCategory());
+        assertEquals(user.getCreatedAt(), cached.getCreatedAt());
+        assertEquals(user.getUpdatedAt(), cached.getUpdatedAt());
+        assertEquals(1, store.hits());
+    }
+
+    @Test
+    @DisplayName("When optional fields are null Then should keep them null")
+    void whenOptionalFieldsAreNull_thenShouldKeepThemNull() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 1);
+        User user = new User();
+        user.setFullName("José Álvares");
+        user.setDocument("12345678901");
+
+        // When
+        store.put("12345678901", user);
+        User cached = store.get("12345678901");
+
+        // Then
+        assertEquals("José Álvares", cached.getFullName());
+        assertEquals("12345678901", cached.getDocument());
+        assertFalse(cached.isActive());
+        assertNull(cached.getId());
+        assertNull(cached.getEmail());
+        assertNull(cached.getBirthdate());
+        assertNull(cached.getCategory());
+        assertNull(cached.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("When the document is not a CPF Then should not cache it")
+    void whenTheDocumentIsNotACpf_thenShouldNotCacheIt() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 1);
+
+        // When
+        store.put("12345678000199", user("12345678000199"));
+
+        // Then
+        assertNull(store.get("12345678000199"));
+        assertEquals(0, store.entries());
+    }
+
+    @Test
+    @DisplayName("When the entry is older than the ttl Then should miss")
+    void whenTheEntryIsOlderThanTheTtl_thenShouldMiss() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 1);
+        store.put("00588380903", user("00588380903"));
+
+        // When
+        now.addAndGet(TTL + 1);
+
+        // Then
+        assertNull(store.get("00588380903"));
+        assertEquals(1, store.misses());
+    }
+
+    @Test
+    @DisplayName("When the entry is past the ttl but within the staleness bound Then should serve it as stale")
+    void whenTheEntryIsPastTheTtlButWithinTheStalenessBound_thenShouldServeItAsStale() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 1);
+        long cachedAt = now.get();
+        store.put("00588380903", user("00588380903"));
+
+        // When
+        now.addAndGet(TTL + 1);
+
+        // Then
+        UserCache.Stale stale = store.getStale("00588380903", Duration.ofMillis(TTL));
+        assertEquals("00588380903", stale.user().getDocument());
+        assertEquals(cachedAt, stale.cachedAt());
+        assertEquals(0, store.hits() + store.misses());
+
+        // When
+        now.addAndGet(TTL);
+
+        // Then
+        assertNull(store.getStale("00588380903", Duration.ofMillis(TTL)), "expired for longer than the bound");
+    }
+
+    @Test
+    @DisplayName("When a user is replaced or invalidated Then should serve the latest state")
+    void whenAUserIsReplacedOrInvalidated_thenShouldServeTheLatestState() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 1);
+        store.put("00588380903", user("00588380903"));
+        User renamed = user("00588380903");
+        renamed.setFullName("Maria Souza");
+
+        // When
+        store.put("00588380903", renamed);
+
+        // Then
+        assertEquals("Maria Souza", store.get("00588380903").getFullName());
+        assertEquals(1, store.entries());
+
+        // When
+        store.invalidate("00588380903");
+
+        // Then
+        assertNull(store.get("00588380903"));
+    }
+
+    @Test
+    @DisplayName("When the segment is full Then should evict the oldest users first")
+    void whenTheSegmentIsFull_thenShouldEvictTheOldestUsersFirst() {
+        // Given
+        OffHeapUserStore store = store(16 * 1024, 1);
+        int users = 2_000;
+
+        // When
+        for (int i = 0; i < users; i++) {
+            store.put(document(i), user(document(i)));
+        }
+
+        // Then
+        assertTrue(store.evictions() > 0);
+        assertEquals(users - store.evictions(), store.entries());
+        assertNull(store.get(document(0)));
+        assertEquals(document(users - 1), store.get(document(users - 1)).getDocument());
+        assertTrue(store.usedBytes() <= store.capacityBytes());
+        for (int i = (int) store.evictions(); i < users; i++) {
+            assertNotNull(store.get(document(i)), "the newest users are all still cached");
+        }
+    }
+
+    @Test
+    @DisplayName("When a pinned user reaches the end of the ring Then should keep it cached")
+    void whenAPinnedUserReachesTheEndOfTheRing_thenShouldKeepItCached() {
+        // Given
+        OffHeapUserStore store = store(16 * 1024, 1);
+        store.pin(List.of(document(0), document(1), "not a cpf"));
+        int users = 2_000;
+
+        // When
+        for (int i = 0; i < users; i++) {
+            store.put(document(i), user(document(i)));
+        }
+
+        // Then
+        assertTrue(store.evictions() > 0);
+        assertEquals(document(0), store.get(document(0)).getDocument());
+        assertEquals(document(1), store.get(document(1)).getDocument());
+        assertNull(store.get(document(2)));
+        assertEquals(users - store.evictions(), store.entries());
+    }
+
+    @Test
+    @DisplayName("When resized Then should keep pinned and newest users and serve them from the new buffers")
+    void whenResized_thenShouldKeepPinnedAndNewestUsersAndServeThemFromTheNewBuffers() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 2);
+        store.pin(List.of(document(0)));
+        for (int i = 0; i < 400; i++) {
+            store.put(document(i), user(document(i)));
+        }
+        store.invalidate(document(399));
+        long entries = store.entries();
+
+        // When
+        long shrunk = store.resize(16 * 1024);
+        long afterShrink = store.entries();
+        long grown = store.resize(128 * 1024);
+        for (int i = 400; i < 800; i++) {
+            store.put(document(i), user(document(i)));
+        }
+
+        // Then
+        assertTrue(shrunk > 0);
+        assertEquals(entries - shrunk, afterShrink);
+        assertEquals(0, grown);
+        assertEquals(128 * 1024, store.capacityBytes());
+        assertEquals(document(0), store.get(document(0)).getDocument());
+        assertEquals(document(398), store.get(document(398)).getDocument());
+        assertNull(store.get(document(399)));
+        assertNull(store.get(document(1)));
+        assertEquals(shrunk, store.evictions(), "nothing is evicted once the cache has grown back");
+        assertEquals(document(799), store.get(document(799)).getDocument());
+    }
+
+    @Test
+    @DisplayName("When users are overwritten many times Then should reclaim the old records")
+    void whenUsersAreOverwrittenManyTimes_thenShouldReclaimTheOldRecords() {
+        // Given
+        OffHeapUserStore store = store(16 * 1024, 2);
+
+        // When
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 20; i++) {
+                User user = user(document(i));
+                user.setFullName("Round " + round);
+                store.put(document(i), user);
+            }
+        }
+
+        // Then
+        assertEquals(20, store.entries());
+        assertEquals(0, store.evictions());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("Round 99", store.get(document(i)).getFullName());
+        }
+    }
+
+    @Test
+    @DisplayName("When asked for the hottest users Then should return the most accessed ones")
+    void whenAskedForTheHottestUsers_thenShouldReturnTheMostAccessedOnes() throws Exception {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 4);
+        for (int i = 0; i < 50; i++) {
+            store.put(document(i), user(document(i)));
+            for (int hits = 0; hits < i % 10; hits++) {
+                store.get(document(i));
+            }
+        }
+        Set<String> hottest = new HashSet<>();
+
+        // When
+        store.forEachHottest(12, (data, offsets, count, bytes) -> {
+            for (int i = 0; i < count; i++) {
+                hottest.add(UserRecordLayout.unpack(UserRecordLayout.key(data, offsets[i])));
+            }
+        });
+
+        // Then
+        assertEquals(12, hottest.size());
+        for (int i = 0; i < 50; i++) {
+            if (i % 10 >= 8) {
+                assertTrue(hottest.contains(document(i)), "users accessed 8 or 9 times are all included");
+            } else if (i % 10 < 7) {
+                assertFalse(hottest.contains(document(i)), "users accessed fewer than 7 times are left out");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("When bound to a registry Then should publish hits, misses and size")
+    void whenBoundToARegistry_thenShouldPublishHitsMissesAndSize() {
+        // Given
+        OffHeapUserStore store = store(64 * 1024, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+        store.put("00588380903", user("00588380903"));
+
+        // When
+        store.get("00588380903");
+        store.get("00588380904");
+
+        // Then
+        assertEquals(1, registry.get("user.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("user.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("user.cache.entries").gauge().value());
+        assertTrue(registry.get("user.cache.off-heap.used").gauge().value() > 0);
+    }
+
+    private OffHeapUserStore store(long capacity, int segments) {
+        return new OffHeapUserStore(capacity, segments, TTL, now::get);
+    }
+
+    private static String document(int i) {
+        return String.format("%011d", 10_000_000_000L + i);
+    }
+
+    private static User user(String document) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName("João Silva");
+        user.setActive(true);
+        user.setDocument(document);
+        user.setEmail("joao@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.FATHER);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30));
+        return user;
+    }
+}
@@ -0,0 +1,145 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given PeerCacheHandoffTask")
+class PeerCacheHandoffTaskTest {
+
+    private static final String SECRET = "s3cr3t";
+
+    private final OffHeapUserStore peer = store();
+    private final OffHeapUserStore local = store();
+    private final UserCacheReconciler reconciler = mock(UserCacheReconciler.class);
+    private final FindUserByDocument findUserByDocument = mock(FindUserByDocument.class);
+    private final AtomicReference<String> query = new AtomicReference<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        UserCacheHandoffController controller = new UserCacheHandoffController(peer, new UserCacheProperties(true,
+                null, 2, Duration.ofMinutes(10), new UserCacheProperties.Snapshot(false, null, null, null,
+                Duration.ZERO), handoff(null, 2, SECRET), null, null));
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(UserCacheHandoffController.PATH, exchange -> {
+            query.set(exchange.getRequestURI().getQuery());
+            int limit = Integer.parseInt(exchange.getRequestURI().getQuery().replace("limit=", ""));
+            ResponseEntity<byte[]> hottest = controller.hottest(
+                    exchange.getRequestHeaders().getFirst("Authorization"), limit);
+            byte[] body = hottest.getBody() == null ? new byte[0] : hottest.getBody();
+            exchange.sendResponseHeaders(hottest.getStatusCode().value(), body.length == 0 ? -1 : body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("When a peer is running Then should restore its most accessed users and refetch the stale ones")
+    void whenAPeerIsRunning_thenShouldRestoreItsMostAccessedUsersAndRefetchTheStaleOnes() throws Exception {
+        // Given
+        for (String document : List.of("00000000001", "00000000002", "00000000003")) {
+            peer.put(document, user(document, "Peer"));
+        }
+        peer.get("00000000002");
+        peer.get("00000000002");
+        peer.get("00000000003");
+        when(reconciler.staleSince(anyLong())).thenReturn(List.of("00000000003"));
+        when(findUserByDocument.execute(eq("00000000003"), any(UUID.class))).thenAnswer(invocation -> {
+            local.put("00000000003", user("00000000003", "Database"));
+            return null;
+        });
+
+        // When
+        task(2).warmUp();
+
+        // Then
+        assertEquals("limit=2", query.get());
+        assertNull(local.get("00000000001"), "the least accessed user is left out");
+        assertEquals("Peer", local.get("00000000002").getFullName());
+        assertEquals("Database", local.get("00000000003").getFullName());
+    }
+
+    @Test
+    @DisplayName("When the secret does not match the peer's Then should be refused and leave the cache empty")
+    void whenTheSecretDoesNotMatchThePeers_thenShouldBeRefusedAndLeaveTheCacheEmpty() {
+        // Given
+        peer.put("00000000001", user("00000000001", "Peer"));
+
+        // When
+        IOException exception = assertThrows(IOException.class, () -> task(2, "guess").warmUp());
+
+        // Then
+        assertTrue(exception.getMessage().endsWith("answered 401"));
+        assertEquals(0, local.entries());
+        verifyNoInteractions(reconciler, findUserByDocument);
+    }
+
+    @Test
+    @DisplayName("When no peer answers Then should fail the task and leave the cache empty")
+    void whenNoPeerAnswers_thenShouldFailTheTaskAndLeaveTheCacheEmpty() {
+        // Given
+        server.stop(0);
+
+        // When / Then
+        assertThrows(IOException.class, () -> task(2).warmUp());
+        assertEquals(0, local.entries());
+        verifyNoInteractions(reconciler, findUserByDocument);
+    }
+
+    private PeerCacheHandoffTask task(int limit) {
+        return task(limit, SECRET);
+    }
+
+    private PeerCacheHandoffTask task(int limit, String secret) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("findUserByDocument", findUserByDocument);
+        URI peerUrl = URI.create("http://localhost:" + server.getAddress().getPort() + UserCacheHandoffController.PATH);
+        return new PeerCacheHandoffTask(local, reconciler, beanFactory.getBeanProvider(FindUserByDocument.class),
+                handoff(peerUrl, limit, secret));
+    }
+
+    private static UserCacheProperties.Handoff handoff(URI peerUrl, int limit, String secret) {
+        return new UserCacheProperties.Handoff(true, peerUrl, limit, Duration.ofSeconds(5), secret);
+    }
+
+    private static OffHeapUserStore store() {
+        return new OffHeapUserStore(64 * 1024, 2, Duration.ofMinutes(10).toMillis(), System::currentTimeMillis);
+    }
+
+    private static User user(String document, String fullName) {
+        User user = new User();
+        user.setFullName(fullName);
+        user.setDocument(document);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30));
+        return user;
+    }
+}
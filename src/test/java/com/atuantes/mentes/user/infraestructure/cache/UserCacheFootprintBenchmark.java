@@ -0,0 +1,148 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-heap map of {@link User} objects against {@link OffHeapUserStore} for the same working set. Once per fork it
+ * prints the heap retained per cached user (used heap after a full collection, before and after filling the
+ * cache), the off-heap bytes per user, and the pause of a full collection with the cache populated; the
+ * benchmark itself is a concurrent lookup, where {@code -prof gc} shows the allocation and collection cost:
+ * scripts/jmh.sh UserCacheFootprintBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=2g"})
+@Threads(4)
+public class UserCacheFootprintBenchmark {
+
+    @Param({"heap", "off-heap"})
+    public String store;
+
+    @Param({"1000000"})
+    public int users;
+
+    private UserCache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeapAfterGc();
+        OffHeapUserStore offHeap = null;
+        if ("off-heap".equals(store)) {
+            offHeap = new OffHeapUserStore(users * 256L, 16, TimeUnit.DAYS.toMillis(1), System::currentTimeMillis);
+            cache = offHeap;
+        } else {
+            cache = new HeapUserCache();
+        }
+        for (int i = 0; i < users; i++) {
+            cache.put(document(i), user(i));
+        }
+        long retained = usedHeapAfterGc() - before;
+        long pause = fullGcPauseMillis();
+        System.out.printf("%n%s: %d heap bytes per user", store, retained / users);
+        if (offHeap != null) {
+            System.out.printf(", %d off-heap bytes per user (%d index)", offHeap.usedBytes() / offHeap.entries(),
+                    offHeap.indexBytes() / offHeap.entries());
+        }
+        System.out.printf(", full GC with %d users cached: %d ms%n", users, pause);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache = null;
+    }
+
+    @Benchmark
+    public User lookup() {
+        return cache.get(document(ThreadLocalRandom.current().nextInt(users)));
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long fullGcPauseMillis() {
+        long before = collectionMillis();
+        System.gc();
+        return collectionMillis() - before;
+    }
+
+    private static long collectionMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static String document(int i) {
+        return Long.toString(10_000_000_000L + i);
+    }
+
+    private static User user(int i) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName("João da Silva " + i);
+        user.setActive(true);
+        user.setDocument(document(i));
+        user.setEmail("joao.silva" + i + "@test.com");
+        user.setPhone("119" + (10_000_000 + i % 90_000_000));
+        user.setBirthdate(LocalDate.of(1950, 1, 1).plusDays(i % 20_000));
+        user.setCategory(Category.values()[i % Category.values().length]);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30).plusSeconds(i));
+        return user;
+    }
+
+    /**
+     * The on-heap alternative: what a {@code ConcurrentHashMap} cache would hold for the same users.
+     */
+    private static final class HeapUserCache implements UserCache {
+
+        private final Map<String, User> users = new ConcurrentHashMap<>();
+
+        @Override
+        public User get(String document) {
+            return users.get(document);
+        }
+
+        @Override
+        public void put(String document, User user) {
+            users.put(document, user);
+        }
+
+        @Override
+        public void invalidate(String document) {
+            users.remove(document);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given UserCacheHandoffController")
+class UserCacheHandoffControllerTest {
+
+    private final OffHeapUserStore store = new OffHeapUserStore(64 * 1024, 2, Duration.ofMinutes(10).toMillis(),
+            System::currentTimeMillis);
+
+    @Test
+    @DisplayName("When no secret is configured Then should not serve the users")
+    void whenNoSecretIsConfigured_thenShouldNotServeTheUsers() throws Exception {
+        // Given
+        UserCacheHandoffController controller = controller(null);
+
+        // When
+        ResponseEntity<byte[]> response = controller.hottest("Bearer ", 10);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    @DisplayName("When the bearer token is missing or wrong Then should answer 401")
+    void whenTheBearerTokenIsMissingOrWrong_thenShouldAnswer401() throws Exception {
+        // Given
+        UserCacheHandoffController controller = controller("s3cr3t");
+
+        // When & Then
+        assertEquals(HttpStatus.UNAUTHORIZED, controller.hottest(null, 10).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, controller.hottest("s3cr3t", 10).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, controller.hottest("Bearer guess", 10).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("When the bearer token matches Then should serve the hottest users in the snapshot format")
+    void whenTheBearerTokenMatches_thenShouldServeTheHottestUsersInTheSnapshotFormat() throws Exception {
+        // Given
+        store.put("00588380903", user("00588380903"));
+        UserCacheHandoffController controller = controller("s3cr3t");
+
+        // When
+        ResponseEntity<byte[]> response = controller.hottest("Bearer s3cr3t", null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        OffHeapUserStore restored = new OffHeapUserStore(64 * 1024, 2, Duration.ofMinutes(10).toMillis(),
+                System::currentTimeMillis);
+        assertEquals(1, UserCacheSnapshot.restore(restored, ByteBuffer.wrap(response.getBody()), 0).records());
+        assertNotNull(restored.get("00588380903"));
+    }
+
+    private UserCacheHandoffController controller(String secret) {
+        return new UserCacheHandoffController(store, new UserCacheProperties(true, null, 2, Duration.ofMinutes(10),
+                new UserCacheProperties.Snapshot(false, null, null, null, Duration.ZERO),
+                new UserCacheProperties.Handoff(true, null, 100, Duration.ofSeconds(5), secret), null, null));
+    }
+
+    private static User user(String document) {
+        User user = new User();
+        user.setFullName("João Silva");
+        user.setDocument(document);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30));
+        return user;
+    }
+}
@@ -0,0 +1,158 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given UserCachePreloader")
+class UserCachePreloaderTest {
+
+    private final OffHeapUserStore store = new OffHeapUserStore(256 * 1024, 4, 60_000, System::currentTimeMillis);
+
+    @Test
+    @DisplayName("When splitting the documents Then should cover them in contiguous ranges open at both ends")
+    void whenSplittingTheDocuments_thenShouldCoverThemInContiguousRangesOpenAtBothEnds() {
+        // When
+        List<UserCachePreloader.Range> ranges = UserCachePreloader.ranges(4);
+
+        // Then
+        assertEquals(List.of(
+                new UserCachePreloader.Range(UserCachePreloader.SCAN_FIRST, null, "25000000000"),
+                new UserCachePreloader.Range(UserCachePreloader.SCAN, "25000000000", "50000000000"),
+                new UserCachePreloader.Range(UserCachePreloader.SCAN, "50000000000", "75000000000"),
+                new UserCachePreloader.Range(UserCachePreloader.SCAN_LAST, "75000000000", null)), ranges);
+        assertEquals(List.of(new UserCachePreloader.Range(UserCachePreloader.SCAN_ALL, null, null)),
+                UserCachePreloader.ranges(1));
+    }
+
+    @Test
+    @DisplayName("When preloading Then should stream every range through a cursor and cache its users")
+    void whenPreloading_thenShouldStreamEveryRangeThroughACursorAndCacheItsUsers() throws Exception {
+        // Given
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement firstStatement = statement(connection, UserCachePreloader.SCAN_FIRST,
+                "00588380903", "12345678901");
+        PreparedStatement lastStatement = statement(connection, UserCachePreloader.SCAN_LAST, "98765432100");
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // When
+        UserCachePreloader.Progress progress = preload(dataSource);
+
+        // Then
+        assertEquals(UserCachePreloader.Status.COMPLETED, progress.status());
+        assertEquals(2, progress.rangesDone());
+        assertEquals(3, progress.users());
+        assertEquals("00588380903", store.get("00588380903").getDocument());
+        assertNotNull(store.get("12345678901"));
+        assertNotNull(store.get("98765432100"));
+        verify(firstStatement).setFetchSize(100);
+        verify(firstStatement).setString(1, "50000000000");
+        verify(lastStatement).setString(1, "50000000000");
+        verify(connection, times(2)).setAutoCommit(false);
+        verify(connection, times(2)).setReadOnly(true);
+        verify(connection, times(2)).rollback();
+    }
+
+    @Test
+    @DisplayName("When a range fails Then should finish as failed")
+    void whenARangeFails_thenShouldFinishAsFailed() throws Exception {
+        // Given
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement(connection, UserCachePreloader.SCAN_FIRST, "00588380903");
+        statement(connection, UserCachePreloader.SCAN_LAST, "98765432100");
+        when(dataSource.getConnection()).thenReturn(connection).thenThrow(new SQLException("connection refused"));
+
+        // When
+        UserCachePreloader.Progress progress = preload(dataSource);
+
+        // Then
+        assertEquals(UserCachePreloader.Status.FAILED, progress.status());
+        assertEquals(1, progress.rangesDone());
+    }
+
+    @Test
+    @DisplayName("When a resize evicts other users during the preload Then should not stop it as full")
+    void whenAResizeEvictsOtherUsersDuringThePreload_thenShouldNotStopItAsFull() throws Exception {
+        // Given
+        for (int i = 0; i < 200; i++) {
+            String document = String.format("%011d", 10_000_000_000L + i);
+            store.put(document, user(document));
+        }
+        long evictionsBefore = store.evictions();
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement(connection, UserCachePreloader.SCAN_FIRST, "00588380903", "12345678901");
+        PreparedStatement lastStatement = statement(connection, UserCachePreloader.SCAN_LAST, "98765432100");
+        ResultSet lastRows = lastStatement.executeQuery();
+        when(lastRows.getString(3)).thenAnswer(invocation -> {
+            // The sizer shrinks the cache and grows it back while a range is being read
+            store.resize(4 * 1024);
+            store.resize(256 * 1024);
+            return "João Silva";
+        });
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // When
+        UserCachePreloader.Progress progress = preload(dataSource, 1);
+
+        // Then
+        assertTrue(store.evictions() > evictionsBefore);
+        assertEquals(UserCachePreloader.Status.COMPLETED, progress.status());
+        assertEquals(3, progress.users());
+    }
+
+    private UserCachePreloader.Progress preload(DataSource dataSource) throws Exception {
+        return preload(dataSource, 100);
+    }
+
+    private UserCachePreloader.Progress preload(DataSource dataSource, int fetchSize) throws Exception {
+        UserCachePreloader preloader = new UserCachePreloader(store, dataSource,
+                new UserCacheProperties.Preload(true, 2, fetchSize, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+        try {
+            return preloader.start().get(5, TimeUnit.SECONDS);
+        } finally {
+            preloader.destroy();
+        }
+    }
+
+    private static PreparedStatement statement(Connection connection, String sql, String... documents)
+            throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(sql)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        Boolean[] more = new Boolean[documents.length];
+        Arrays.fill(more, true);
+        more[documents.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, more);
+        String[] rest = Arrays.copyOfRange(documents, 1, documents.length);
+        when(resultSet.getString(4)).thenReturn(documents[0], rest);
+        when(resultSet.getObject(1, UUID.class)).thenAnswer(invocation -> UUID.randomUUID());
+        when(resultSet.getString(3)).thenReturn("João Silva");
+        when(resultSet.getString(8)).thenReturn("FATHER");
+        return statement;
+    }
+
+    private static User user(String document) {
+        User user = new User();
+        user.setFullName("Maria Souza");
+        user.setDocument(document);
+        return user;
+    }
+}
@@ -0,0 +1,124 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given UserCacheSizer")
+class UserCacheSizerTest {
+
+    private static final long MEMORY_LIMIT = 256 * 1024;
+
+    private final AtomicLong uptime = new AtomicLong(10_000);
+    private final OffHeapUserStore store = new OffHeapUserStore(256 * 1024, 4, 60_000, System::currentTimeMillis);
+    private final UserCacheSizer sizer = sizer(MEMORY_LIMIT);
+
+    @Test
+    @DisplayName("When memory stays short after collections Then should halve down to the minimum")
+    void whenMemoryStaysShortAfterCollections_thenShouldHalveDownToTheMinimum() {
+        // Given
+        for (int i = 0; i < 2_000; i++) {
+            store.put(document(i), user(document(i)));
+        }
+        long entries = store.entries();
+
+        // When
+        for (int collection = 0; collection < 5; collection++) {
+            collect(sizer, MEMORY_LIMIT, 0.9, uptime.getAndAdd(1_000));
+        }
+
+        // Then
+        assertEquals(32 * 1024, store.capacityBytes());
+        assertTrue(store.entries() < entries);
+        assertNotNull(store.get(document(1_999)), "the newest users are kept");
+    }
+
+    @Test
+    @DisplayName("When a collection started before the last resize Then should not shrink again")
+    void whenACollectionStartedBeforeTheLastResize_thenShouldNotShrinkAgain() {
+        // Given
+        collect(sizer, MEMORY_LIMIT, 0.9, uptime.get() - 1);
+
+        // When
+        collect(sizer, MEMORY_LIMIT, 0.95, uptime.get() - 1);
+
+        // Then
+        assertEquals(128 * 1024, store.capacityBytes());
+    }
+
+    @Test
+    @DisplayName("When headroom returns Then should grow back by quarters after the cooldown")
+    void whenHeadroomReturns_thenShouldGrowBackByQuartersAfterTheCooldown() {
+        // Given
+        collect(sizer, MEMORY_LIMIT, 0.9, uptime.get() - 1);
+        collect(sizer, MEMORY_LIMIT, 0.9, uptime.incrementAndGet());
+
+        // When
+        collect(sizer, MEMORY_LIMIT, 0.3, uptime.addAndGet(1_000));
+        long beforeCooldown = store.capacityBytes();
+        collect(sizer, MEMORY_LIMIT, 0.3, uptime.addAndGet(60_000));
+        long afterCooldown = store.capacityBytes();
+        for (int collection = 0; collection < 5; collection++) {
+            collect(sizer, MEMORY_LIMIT, 0.3, uptime.addAndGet(60_000));
+        }
+
+        // Then
+        assertEquals(64 * 1024, beforeCooldown);
+        assertEquals(128 * 1024, afterCooldown);
+        assertEquals(256 * 1024, store.capacityBytes());
+    }
+
+    @Test
+    @DisplayName("When memory in use is between the thresholds Then should keep the size")
+    void whenMemoryInUseIsBetweenTheThresholds_thenShouldKeepTheSize() {
+        // When
+        collect(sizer, MEMORY_LIMIT, 0.7, uptime.get());
+
+        // Then
+        assertEquals(256 * 1024, store.capacityBytes());
+    }
+
+    @Test
+    @DisplayName("When the pressure comes from elsewhere than the cache Then should keep the size")
+    void whenThePressureComesFromElsewhereThanTheCache_thenShouldKeepTheSize() {
+        // Given
+        long memoryLimit = 8 * 1024 * 1024;
+        UserCacheSizer heapBound = sizer(memoryLimit);
+
+        // When
+        collect(heapBound, memoryLimit, 0.95, uptime.get());
+
+        // Then
+        assertEquals(256 * 1024, store.capacityBytes());
+    }
+
+    private UserCacheSizer sizer(long memoryLimit) {
+        return new UserCacheSizer(store, new UserCacheProperties.Sizing(true, DataSize.ofKilobytes(32), 0.85, 0.6,
+                Duration.ofMinutes(1), 0.1), memoryLimit, uptime::get);
+    }
+
+    /**
+     * @param pressure memory in use after the collection, as a fraction of {@code memoryLimit}
+     */
+    private static void collect(UserCacheSizer sizer, long memoryLimit, double pressure, long started) {
+        sizer.onCollection((long) (memoryLimit * pressure), 0, started);
+    }
+
+    private static String document(int i) {
+        return String.format("%011d", 10_000_000_000L + i);
+    }
+
+    private static User user(String document) {
+        User user = new User();
+        user.setFullName("João Silva");
+        user.setActive(true);
+        user.setDocument(document);
+        return user;
+    }
+}
@@ -0,0 +1,192 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given UserCacheSnapshotService")
+class UserCacheSnapshotServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private JdbcClient jdbcClient;
+    private UserCacheProperties.Snapshot properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(UserCacheReconciler.CHANGED_SINCE)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        jdbcClient = JdbcClient.create(dataSource);
+        properties = new UserCacheProperties.Snapshot(true, directory.resolve("users.snapshot"),
+                Duration.ofMinutes(1), Duration.ofHours(24), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("When restoring Then should invalidate the users whose row is newer than the cached version")
+    void whenRestoring_thenShouldInvalidateTheUsersWhoseRowIsNewerThanTheCachedVersion() throws Exception {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 8, 30);
+        OffHeapUserStore before = store();
+        before.put("00588380903", user("00588380903", createdAt));
+        before.put("12345678901", user("12345678901", createdAt));
+        before.put("98765432100", user("98765432100", createdAt));
+        UserCacheSnapshot.Summary written = UserCacheSnapshot.write(before, properties.path(),
+                System.currentTimeMillis(), properties.clockSkew().toMillis());
+        // Changed after the snapshot, changed before it was cached, and not cached at all
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("12345678901", "98765432100", "11111111111");
+        when(resultSet.getObject(2, OffsetDateTime.class)).thenReturn(offset(createdAt.plusSeconds(1)),
+                offset(createdAt), offset(createdAt));
+        OffHeapUserStore after = store();
+        UserCacheSnapshotService service = new UserCacheSnapshotService(after, new UserCacheReconciler(after,
+                jdbcClient, properties), Runnable::run, properties);
+
+        // When
+        service.restore();
+
+        // Then
+        OffsetDateTime watermark = OffsetDateTime.ofInstant(Instant.ofEpochMilli(written.watermark()), ZoneOffset.UTC);
+        verify(statement).setObject(eq(1), eq(watermark));
+        verify(statement).setObject(eq(2), eq(watermark));
+        assertNotNull(after.get("00588380903"));
+        assertNull(after.get("12345678901"));
+        assertNotNull(after.get("98765432100"));
+    }
+
+    @Test
+    @DisplayName("When a cached user was deleted since the snapshot Then should invalidate it")
+    void whenACachedUserWasDeletedSinceTheSnapshot_thenShouldInvalidateIt() throws Exception {
+        // Given
+        OffHeapUserStore before = store();
+        before.put("00588380903", user("00588380903", null));
+        before.put("12345678901", user("12345678901", null));
+        UserCacheSnapshot.write(before, properties.path(), System.currentTimeMillis(), 5_000);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("12345678901");
+        when(resultSet.getObject(2, OffsetDateTime.class)).thenReturn(null);
+        OffHeapUserStore after = store();
+        UserCacheSnapshotService service = new UserCacheSnapshotService(after, new UserCacheReconciler(after,
+                jdbcClient, properties), Runnable::run, properties);
+
+        // When
+        service.restore();
+
+        // Then
+        assertNotNull(after.get("00588380903"));
+        assertNull(after.get("12345678901"));
+    }
+
+    @Test
+    @DisplayName("When writing before the reconcile has run Then should keep the previous snapshot")
+    void whenWritingBeforeTheReconcileHasRun_thenShouldKeepThePreviousSnapshot() throws Exception {
+        // Given
+        OffHeapUserStore before = store();
+        before.put("00588380903", user("00588380903", null));
+        UserCacheSnapshot.write(before, properties.path(), System.currentTimeMillis(), 5_000);
+        byte[] previous = Files.readAllBytes(properties.path());
+        when(resultSet.next()).thenReturn(false);
+        OffHeapUserStore after = store();
+        List<Runnable> pending = new ArrayList<>();
+        UserCacheSnapshotService service = new UserCacheSnapshotService(after, new UserCacheReconciler(after,
+                jdbcClient, properties), pending::add, properties);
+        service.restore();
+        after.put("12345678901", user("12345678901", null));
+
+        // When
+        service.write();
+        byte[] beforeReconcile = Files.readAllBytes(properties.path());
+        pending.forEach(Runnable::run);
+        service.write();
+
+        // Then
+        assertArrayEquals(previous, beforeReconcile);
+        assertEquals(2, UserCacheSnapshot.restore(store(), properties.path(), 0).records());
+    }
+
+    @Test
+    @DisplayName("When the reconcile fails Then should drop everything restored")
+    void whenTheReconcileFails_thenShouldDropEverythingRestored() throws Exception {
+        // Given
+        OffHeapUserStore before = store();
+        before.put("00588380903", user("00588380903", null));
+        UserCacheSnapshot.write(before, properties.path(), System.currentTimeMillis(), 5_000);
+        when(statement.executeQuery()).thenThrow(new SQLException("connection refused"));
+        OffHeapUserStore after = store();
+        UserCacheSnapshotService service = new UserCacheSnapshotService(after, new UserCacheReconciler(after,
+                jdbcClient, properties), Runnable::run, properties);
+
+        // When
+        service.restore();
+
+        // Then
+        assertEquals(0, after.entries());
+    }
+
+    @Test
+    @DisplayName("When writing before the restore was attempted Then should keep the previous snapshot")
+    void whenWritingBeforeTheRestoreWasAttempted_thenShouldKeepThePreviousSnapshot() throws Exception {
+        // Given
+        OffHeapUserStore before = store();
+        before.put("00588380903", user("00588380903", null));
+        UserCacheSnapshot.write(before, properties.path(), System.currentTimeMillis(), 5_000);
+        byte[] previous = Files.readAllBytes(properties.path());
+        OffHeapUserStore empty = store();
+        UserCacheSnapshotService service = new UserCacheSnapshotService(empty, new UserCacheReconciler(empty,
+                jdbcClient, properties), Runnable::run, properties);
+
+        // When
+        service.write();
+
+        // Then
+        assertArrayEquals(previous, Files.readAllBytes(properties.path()));
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    private static OffHeapUserStore store() {
+        return new OffHeapUserStore(new UserCacheProperties(true, DataSize.ofKilobytes(64), 2, Duration.ofMinutes(10),
+                null, null, null, null));
+    }
+
+    private static OffsetDateTime offset(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+
+    private static User user(String document, LocalDateTime createdAt) {
+        User user = new User();
+        user.setFullName("João Silva");
+        user.setDocument(document);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+}
@@ -0,0 +1,178 @@
+package com.atuantes.mentes.user.infraestructure.cache;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Given UserCacheSnapshot")
+class UserCacheSnapshotTest {
+
+    private static final long TTL = 60_000;
+    private static final long SKEW = 5_000;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("When a store is written and restored Then should hold the same live users")
+    void whenAStoreIsWrittenAndRestored_thenShouldHoldTheSameLiveUsers() throws IOException {
+        // Given
+        OffHeapUserStore source = store(16 * 1024);
+        for (int i = 0; i < 500; i++) {
+            source.put(document(i), user(i, "Round 1"));
+            now.incrementAndGet();
+        }
+        source.put(document(499), user(499, "Round 2"));
+        source.invalidate(document(498));
+        Path file = directory.resolve("users.snapshot");
+        List<String> cached = IntStream.range(0, 498).mapToObj(UserCacheSnapshotTest::document)
+                .filter(document -> source.get(document) != null)
+                .toList();
+
+        // When
+        UserCacheSnapshot.Summary written = UserCacheSnapshot.write(source, file, now.get(), SKEW);
+        now.addAndGet(TTL / 2);
+        OffHeapUserStore target = store(16 * 1024);
+        UserCacheSnapshot.Summary restored = UserCacheSnapshot.restore(target, file, 0);
+
+        // Then
+        assertEquals(source.entries(), written.records());
+        assertEquals(written, restored);
+        assertEquals(source.entries(), target.entries());
+        assertEquals(Files.size(file), written.bytes());
+        assertNull(target.get(document(498)));
+        assertEquals("Round 2", target.get(document(499)).getFullName());
+        assertFalse(cached.isEmpty());
+        for (String document : cached) {
+            assertEquals("Round 1", target.get(document).getFullName());
+        }
+        assertTrue(written.watermark() < 1_700_000_000_000L + 500 - SKEW);
+        now.addAndGet(TTL / 2 + 1);
+        assertNull(target.get(document(499)), "restored users expire when they would have without the restart");
+    }
+
+    @Test
+    @DisplayName("When a snapshot is written Then should be readable and writable by its owner only")
+    void whenASnapshotIsWritten_thenShouldBeReadableAndWritableByItsOwnerOnly() throws IOException {
+        // Given
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        OffHeapUserStore source = store(16 * 1024);
+        source.put(document(1), user(1, "Round 1"));
+        Path file = directory.resolve("users.snapshot");
+
+        // When
+        UserCacheSnapshot.write(source, file, now.get(), SKEW);
+
+        // Then
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    @DisplayName("When the snapshot is older than allowed Then should restore nothing")
+    void whenTheSnapshotIsOlderThanAllowed_thenShouldRestoreNothing() throws IOException {
+        // Given
+        OffHeapUserStore source = store(16 * 1024);
+        source.put(document(1), user(1, "Round 1"));
+        Path file = directory.resolve("users.snapshot");
+        UserCacheSnapshot.write(source, file, now.get(), SKEW);
+        OffHeapUserStore target = store(16 * 1024);
+
+        // When
+        UserCacheSnapshot.Summary restored = UserCacheSnapshot.restore(target, file, now.get() + 1);
+
+        // Then
+        assertNull(restored);
+        assertEquals(0, target.entries());
+    }
+
+    @Test
+    @DisplayName("When users were cached before the horizon Then should skip them and move the watermark up")
+    void whenUsersWereCachedBeforeTheHorizon_thenShouldSkipThemAndMoveTheWatermarkUp() throws IOException {
+        // Given
+        OffHeapUserStore source = new OffHeapUserStore(16 * 1024, 2, Long.MAX_VALUE / 2, now::get);
+        source.put(document(1), user(1, "Round 1"));
+        long horizon = now.addAndGet(1_000);
+        source.put(document(2), user(2, "Round 1"));
+        Path file = directory.resolve("users.snapshot");
+        UserCacheSnapshot.Summary written = UserCacheSnapshot.write(source, file, now.get(), SKEW);
+        OffHeapUserStore target = store(16 * 1024);
+
+        // When
+        UserCacheSnapshot.Summary restored = UserCacheSnapshot.restore(target, file, horizon);
+
+        // Then
+        assertEquals(1, restored.records());
+        assertNull(target.get(document(1)));
+        assertNotNull(target.get(document(2)));
+        assertEquals(written.watermark() + 1_000, restored.watermark());
+        assertEquals(horizon - SKEW, restored.watermark());
+    }
+
+    @Test
+    @DisplayName("When the snapshot has another layout version or is truncated Then should restore nothing")
+    void whenTheSnapshotHasAnotherLayoutVersionOrIsTruncated_thenShouldRestoreNothing() throws IOException {
+        // Given
+        OffHeapUserStore source = store(16 * 1024);
+        source.put(document(1), user(1, "Round 1"));
+        Path versioned = directory.resolve("versioned.snapshot");
+        Path truncated = directory.resolve("truncated.snapshot");
+        UserCacheSnapshot.write(source, versioned, now.get(), SKEW);
+        UserCacheSnapshot.write(source, truncated, now.get(), SKEW);
+        try (FileChannel channel = FileChannel.open(versioned, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, UserRecordLayout.VERSION + 1), Integer.BYTES);
+        }
+        try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        OffHeapUserStore target = store(16 * 1024);
+
+        // When / Then
+        assertNull(UserCacheSnapshot.restore(target, versioned, 0));
+        assertNull(UserCacheSnapshot.restore(target, truncated, 0));
+        assertNull(UserCacheSnapshot.restore(target, directory.resolve("missing.snapshot"), 0));
+        assertEquals(0, target.entries());
+    }
+
+    private OffHeapUserStore store(long capacity) {
+        return new OffHeapUserStore(capacity, 2, TTL, now::get);
+    }
+
+    private static String document(int i) {
+        return String.format("%011d", 10_000_000_000L + i);
+    }
+
+    private static User user(int i, String fullName) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName(fullName);
+        user.setActive(true);
+        user.setDocument(document(i));
+        user.setEmail("joao" + i + "@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.FATHER);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30));
+        return user;
+    }
+}
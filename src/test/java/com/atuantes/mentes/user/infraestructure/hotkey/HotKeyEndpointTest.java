@@ -0,0 +1,32 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given HotKeyEndpoint")
+class HotKeyEndpointTest {
+
+    @Test
+    @DisplayName("When reporting hot keys Then should show masked documents and their hash only")
+    void whenReportingHotKeys_thenShouldShowMaskedDocumentsAndTheirHashOnly() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 2);
+        DocumentHasher documentHasher = new DocumentHasher("test");
+        for (int i = 0; i < 10; i++) {
+            tracker.record("00588380903");
+        }
+
+        // When
+        HotKeyEndpoint.HotKeyReport report = new HotKeyEndpoint(tracker, documentHasher).hotKeys();
+
+        // Then
+        HotKeyEndpoint.HotKey hotKey = report.hotKeys().get(0);
+        assertEquals(10, report.lookups());
+        assertEquals("*********03", hotKey.document());
+        assertEquals(documentHasher.hash("00588380903"), hotKey.documentHash());
+        assertFalse(report.toString().contains("00588380903"));
+    }
+}
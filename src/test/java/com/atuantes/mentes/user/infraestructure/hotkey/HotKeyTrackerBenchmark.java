@@ -0,0 +1,84 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost the {@link HotKeyTracker} adds to every lookup, over a skewed stream of documents: a tenth of the lookups go
+ * to eight hot documents, the rest spread over a million. {@code baseline} only picks and reads the document, so the
+ * difference between the two is the tracking overhead:
+ * scripts/jmh.sh HotKeyTrackerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class HotKeyTrackerBenchmark {
+
+    private static final int STREAM = 1 << 20;
+
+    @Param({"32"})
+    public int topK;
+
+    private final String[] documents = new String[STREAM];
+    private HotKeyTracker tracker;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < STREAM; i++) {
+            long document = random.nextInt(10) == 0 ? random.nextInt(8) : random.nextInt(1_000_000);
+            documents[i] = String.format("%011d", 10_000_000_000L + document);
+        }
+        tracker = new HotKeyTracker(16384, 4, topK);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next = ThreadLocalRandom.current().nextInt();
+
+        String next(String[] documents) {
+            return documents[next++ & (STREAM - 1)];
+        }
+    }
+
+    @Benchmark
+    public int baseline(Cursor cursor) {
+        return touch(cursor.next(documents));
+    }
+
+    @Benchmark
+    public int record(Cursor cursor) {
+        String document = cursor.next(documents);
+        int touched = touch(document);
+        tracker.record(document);
+        return touched;
+    }
+
+    private static int touch(String document) {
+        // A request has just parsed its document, so it is in cache by the time it is tracked
+        int sum = 0;
+        for (int i = 0; i < document.length(); i++) {
+            sum += document.charAt(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,134 @@
+package com.atuantes.mentes.user.infraestructure.hotkey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given HotKeyTracker")
+class HotKeyTrackerTest {
+
+    @Test
+    @DisplayName("When a few documents dominate the lookups Then should report them with their share")
+    void whenAFewDocumentsDominateTheLookups_thenShouldReportThemWithTheirShare() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 4);
+
+        // When
+        for (int round = 0; round < 1_000; round++) {
+            tracker.record(document(round));
+            tracker.record("00588380903");
+            if (round % 2 == 0) {
+                tracker.record("12345678901");
+            }
+        }
+
+        // Then
+        List<HotKeyTracker.HotKey> hotKeys = tracker.hotKeys();
+        assertEquals(2_500, tracker.total());
+        assertEquals("00588380903", hotKeys.get(0).document());
+        assertEquals("12345678901", hotKeys.get(1).document());
+        assertTrue(hotKeys.get(0).estimate() >= 1_000, "a count-min sketch never undercounts");
+        assertEquals(0.4, hotKeys.get(0).share(), 0.02);
+        assertEquals(0.2, hotKeys.get(1).share(), 0.02);
+        assertEquals(4, hotKeys.size());
+    }
+
+    @Test
+    @DisplayName("When a document stops being looked up Then should be replaced after a few windows")
+    void whenADocumentStopsBeingLookedUp_thenShouldBeReplacedAfterAFewWindows() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 2);
+        for (int i = 0; i < 1_000; i++) {
+            tracker.record("00588380903");
+            tracker.record("12345678901");
+        }
+
+        // When
+        for (int window = 0; window < 5; window++) {
+            tracker.decay();
+            for (int i = 0; i < 200; i++) {
+                tracker.record("12345678901");
+                tracker.record("98765432100");
+            }
+        }
+
+        // Then
+        Set<String> documents = tracker.hotKeys().stream()
+                .map(HotKeyTracker.HotKey::document)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("12345678901", "98765432100"), documents);
+    }
+
+    @Test
+    @DisplayName("When a window ends Then should decay the counts and hand the heavy hitters to the listeners")
+    void whenAWindowEnds_thenShouldDecayTheCountsAndHandTheHeavyHittersToTheListeners() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 2);
+        List<List<String>> received = new ArrayList<>();
+        tracker.addListener(received::add);
+        tracker.addListener(documents -> {
+            throw new IllegalStateException("a failing listener does not stop the others");
+        });
+        for (int i = 0; i < 100; i++) {
+            tracker.record("00588380903");
+        }
+
+        // When
+        tracker.decay();
+
+        // Then
+        assertEquals(List.of(List.of("00588380903")), received);
+        assertEquals(50, tracker.total());
+        assertEquals(50, tracker.hotKeys().get(0).estimate());
+    }
+
+    @Test
+    @DisplayName("When bound to a registry Then should publish promotions and the heavy hitters' share")
+    void whenBoundToARegistry_thenShouldPublishPromotionsAndTheHeavyHittersShare() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tracker.bindTo(registry);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            tracker.record("00588380903");
+        }
+        tracker.record("12345678901");
+
+        // Then
+        assertEquals(1, registry.get("user.hot-keys.promotions").functionCounter().count());
+        assertEquals(0.75, registry.get("user.hot-keys.top-share").gauge().value(), 0.001);
+    }
+
+    @Test
+    @DisplayName("When documents share a string hash Then the sketch should count them apart")
+    void whenDocumentsShareAStringHash_thenTheSketchShouldCountThemApart() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(1 << 16, 4);
+        long first = CountMinSketch.hash("00603766192", 7);
+        long second = CountMinSketch.hash("05997937942", 7);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            sketch.increment(first);
+        }
+
+        // Then
+        assertEquals("00603766192".hashCode(), "05997937942".hashCode());
+        assertNotEquals(first, second);
+        assertEquals(10, sketch.estimate(first));
+        assertEquals(0, sketch.estimate(second));
+    }
+
+    private static String document(int i) {
+        return String.format("%011d", 10_000_000_000L + i);
+    }
+}
@@ -0,0 +1,39 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Given FlightRecordingEndpoint")
+class FlightRecordingEndpointTest {
+
+    @Test
+    @DisplayName("When a dump has been streamed Then should delete its file")
+    void whenADumpHasBeenStreamed_thenShouldDeleteItsFile() throws Exception {
+        // Given
+        Path file = Files.createTempFile("ma-service-", ".jfr");
+        Files.write(file, new byte[]{1, 2, 3});
+        FlightRecordingService service = mock(FlightRecordingService.class);
+        when(service.dump()).thenReturn(Optional.of(file));
+        Resource dump = new FlightRecordingEndpoint(service).dump("dump");
+
+        // When
+        byte[] content;
+        try (InputStream in = dump.getInputStream()) {
+            content = in.readAllBytes();
+        }
+
+        // Then
+        assertEquals(3, content.length);
+        assertFalse(Files.exists(file));
+    }
+}
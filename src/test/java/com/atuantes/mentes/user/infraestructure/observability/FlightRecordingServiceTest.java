@@ -0,0 +1,122 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.atuantes.mentes.user.domain.observability.event.ControllerEvent;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given FlightRecordingService")
+class FlightRecordingServiceTest {
+
+    private FlightRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FlightRecordingService(false, "default", Duration.ofMinutes(5), 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("When continuous recording is disabled Then should not start on startup")
+    void whenContinuousRecordingIsDisabled_thenShouldNotStartOnStartup() {
+        // When
+        service.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals("CLOSED", service.status().state());
+        assertNull(service.status().id());
+    }
+
+    @Test
+    @DisplayName("When recording is started twice Then should keep a single running recording")
+    void whenRecordingIsStartedTwice_thenShouldKeepSingleRunningRecording() {
+        // When
+        var first = service.start(null);
+        var second = service.start("profile");
+
+        // Then
+        assertEquals("RUNNING", first.state());
+        assertEquals(first.id(), second.id());
+    }
+
+    @Test
+    @DisplayName("When dumping a running recording Then should contain user events with hashed document")
+    void whenDumpingRunningRecording_thenShouldContainUserEventsWithHashedDocument() throws Exception {
+        // Given
+        UUID transactionId = UUID.randomUUID();
+        DocumentHasher documentHasher = new DocumentHasher("test");
+        service.start(null);
+        ControllerEvent event = new ControllerEvent("find user by document");
+        event.begin();
+
+        // When
+        event.commit(transactionId, "00588380903", documentHasher);
+        Path file = service.dump().orElseThrow();
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.atuantes.mentes.user.Controller"))
+                .filter(e -> transactionId.toString().equals(e.getString("transactionId")))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals(documentHasher.hash("00588380903"), events.get(0).getLong("documentHash"));
+        assertEquals("find user by document", events.get(0).getString("operation"));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("When dumping a running recording Then should leave out the environment and system properties")
+    void whenDumpingRunningRecording_thenShouldLeaveOutTheEnvironmentAndSystemProperties() throws Exception {
+        // Given
+        service.start(null);
+
+        // When
+        Path file = service.dump().orElseThrow();
+
+        // Then
+        List<String> types = RecordingFile.readAllEvents(file).stream()
+                .map(e -> e.getEventType().getName())
+                .distinct()
+                .toList();
+        assertFalse(types.isEmpty());
+        assertFalse(types.contains("jdk.InitialEnvironmentVariable"));
+        assertFalse(types.contains("jdk.InitialSystemProperty"));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("When dumping without a running recording Then should return empty")
+    void whenDumpingWithoutRunningRecording_thenShouldReturnEmpty() throws Exception {
+        // When & Then
+        assertTrue(service.dump().isEmpty());
+    }
+
+    @Test
+    @DisplayName("When recording is stopped Then should report closed state")
+    void whenRecordingIsStopped_thenShouldReportClosedState() {
+        // Given
+        service.start(null);
+
+        // When
+        var status = service.stop();
+
+        // Then
+        assertEquals("CLOSED", status.state());
+    }
+}
@@ -0,0 +1,78 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given LatencyHistogram")
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    @DisplayName("When no samples are recorded Then should report zero")
+    void whenNoSamplesAreRecorded_thenShouldReportZero() {
+        // When
+        var summary = histogram.summary();
+
+        // Then
+        assertEquals(0, summary.count());
+        assertEquals(0.0, summary.p99Ms());
+        assertEquals(0.0, summary.meanMs());
+    }
+
+    @Test
+    @DisplayName("When samples are recorded Then should estimate percentiles within bucket precision")
+    void whenSamplesAreRecorded_thenShouldEstimatePercentilesWithinBucketPrecision() {
+        // Given
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        // When
+        double p50 = histogram.percentileMillis(0.50);
+        double p99 = histogram.percentileMillis(0.99);
+
+        // Then
+        assertEquals(1000, histogram.count());
+        assertEquals(500.0, p50, 500.0 * 0.13);
+        assertEquals(990.0, p99, 990.0 * 0.13);
+        assertEquals(1000.0, histogram.maxMillis());
+        assertEquals(500.5, histogram.meanMillis(), 0.01);
+    }
+
+    @Test
+    @DisplayName("When bucket index is computed Then upper bound should contain the value")
+    void whenBucketIndexIsComputed_thenUpperBoundShouldContainValue() {
+        for (long micros : new long[]{0, 1, 7, 8, 15, 16, 100, 1_000, 123_456, 10_000_000}) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(LatencyHistogram.upperBound(index) >= micros);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBound(index - 1) < micros);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("When histogram is reset Then should drop all samples")
+    void whenHistogramIsReset_thenShouldDropAllSamples() {
+        // Given
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        // When
+        histogram.reset();
+
+        // Then
+        assertEquals(0, histogram.count());
+        assertEquals(0.0, histogram.maxMillis());
+    }
+}
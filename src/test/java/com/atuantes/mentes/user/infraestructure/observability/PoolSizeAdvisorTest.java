@@ -0,0 +1,134 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given PoolSizeAdvisor")
+class PoolSizeAdvisorTest {
+
+    private PoolMonitor poolMonitor;
+    private PoolSizeAdvisor advisor;
+
+    @BeforeEach
+    void setUp() {
+        poolMonitor = new PoolMonitor();
+        advisor = new PoolSizeAdvisor(poolMonitor, Duration.ofSeconds(30), false, 2, 50, 0.85);
+    }
+
+    @Test
+    @DisplayName("When checkouts queue with normal usage time Then should report pool bound and grow")
+    void whenCheckoutsQueueWithNormalUsageTime_thenShouldReportPoolBoundAndGrow() {
+        // Given
+        advisor.advise("primary", new PoolMonitor.Window(1000, 1, 5, 8, 0, 0), 10, 0, 1, 0.1);
+
+        // When
+        PoolSizeAdvisor.Advice advice = advisor.advise("primary",
+                new PoolMonitor.Window(2000, 40, 5, 8, 400, 0), 10, 6, 1, 0.1);
+
+        // Then
+        assertEquals(PoolSizeAdvisor.Bottleneck.POOL_BOUND, advice.bottleneck());
+        assertEquals(10.0, advice.busyConnections(), 1e-9);
+        assertEquals(14, advice.recommendedMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("When usage time doubles over the baseline Then should report db bound and not grow")
+    void whenUsageTimeDoublesOverTheBaseline_thenShouldReportDbBoundAndNotGrow() {
+        // Given
+        advisor.advise("primary", new PoolMonitor.Window(1000, 1, 5, 8, 0, 0), 10, 0, 1, 0.1);
+
+        // When
+        PoolSizeAdvisor.Advice advice = advisor.advise("primary",
+                new PoolMonitor.Window(1000, 200, 30, 80, 900, 3), 10, 20, 1, 0.1);
+
+        // Then
+        assertEquals(PoolSizeAdvisor.Bottleneck.DB_BOUND, advice.bottleneck());
+        assertTrue(advice.recommendedMaximumPoolSize() <= 10);
+    }
+
+    @Test
+    @DisplayName("When process cpu is saturated Then should report cpu bound")
+    void whenProcessCpuIsSaturated_thenShouldReportCpuBound() {
+        // When
+        PoolSizeAdvisor.Advice advice = advisor.advise("primary",
+                new PoolMonitor.Window(1000, 20, 5, 8, 300, 0), 10, 4, 1, 0.95);
+
+        // Then
+        assertEquals(PoolSizeAdvisor.Bottleneck.CPU_BOUND, advice.bottleneck());
+        assertTrue(advice.recommendedMaximumPoolSize() <= 10);
+    }
+
+    @Test
+    @DisplayName("When pool is oversized and idle Then should shrink one step within bounds")
+    void whenPoolIsOversizedAndIdle_thenShouldShrinkOneStepWithinBounds() {
+        // When
+        PoolSizeAdvisor.Advice advice = advisor.advise("primary",
+                new PoolMonitor.Window(10, 0.1, 2, 3, 0, 0), 10, 0, 1, 0.1);
+        PoolSizeAdvisor.Advice atMinimum = advisor.advise("primary",
+                new PoolMonitor.Window(0, 0, 0, 0, 0, 0), 2, 0, 1, 0.1);
+
+        // Then
+        assertEquals(PoolSizeAdvisor.Bottleneck.NONE, advice.bottleneck());
+        assertEquals(9, advice.recommendedMaximumPoolSize());
+        assertEquals(2, atMinimum.recommendedMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("When applying advice Then should resize the pool configuration")
+    void whenApplyingAdvice_thenShouldResizeThePoolConfiguration() {
+        // Given
+        PoolSizeAdvisor applying = new PoolSizeAdvisor(poolMonitor, Duration.ofSeconds(30), true, 2, 50, 1.1);
+        HikariConfig config = new HikariConfig();
+        config.setMaximumPoolSize(10);
+        IMetricsTracker tracker = poolMonitor.register("primary", stats(0), config);
+        tracker.recordConnectionUsageMillis(1);
+
+        // When
+        applying.evaluate();
+
+        // Then
+        assertEquals(9, config.getMaximumPoolSize());
+        assertEquals(1, applying.advice().size());
+    }
+
+    @Test
+    @DisplayName("When tracker records checkouts Then should drain them as one window")
+    void whenTrackerRecordsCheckouts_thenShouldDrainThemAsOneWindow() {
+        // Given
+        HikariConfig config = new HikariConfig();
+        IMetricsTracker tracker = poolMonitor.register("primary", stats(0), config);
+        tracker.recordConnectionAcquiredNanos(5_000_000L);
+        tracker.recordConnectionAcquiredNanos(10_000L);
+        tracker.recordConnectionUsageMillis(4);
+        tracker.recordConnectionUsageMillis(6);
+        tracker.recordConnectionTimeout();
+
+        // When
+        PoolMonitor.Window window = poolMonitor.pools().get(0).drain();
+        PoolMonitor.Window next = poolMonitor.pools().get(0).drain();
+
+        // Then
+        assertEquals(2, window.checkouts());
+        assertEquals(1, window.waitedCheckouts());
+        assertEquals(1, window.timeouts());
+        assertEquals(5.0, window.usageMeanMs(), 1e-9);
+        assertEquals(0, next.checkouts());
+    }
+
+    private static PoolStats stats(int pending) {
+        return new PoolStats(0) {
+            @Override
+            protected void update() {
+                pendingThreads = pending;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.atuantes.mentes.user.infraestructure.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Given QueryMonitor")
+class QueryMonitorTest {
+
+    private static final String SQL = "SELECT id FROM users.users WHERE document = ?";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private QueryMonitor queryMonitor;
+
+    @BeforeEach
+    void setUp() {
+        queryMonitor = new QueryMonitor(Duration.ofMillis(100), 2, false, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryMonitor.destroy();
+    }
+
+    @Test
+    @DisplayName("When query is faster than threshold Then should only record latency")
+    void whenQueryIsFasterThanThreshold_thenShouldOnlyRecordLatency() {
+        // When
+        queryMonitor.record(SQL, List.of("String"), TimeUnit.MILLISECONDS.toNanos(5), dataSource);
+
+        // Then
+        assertEquals(1, queryMonitor.latencies().get(SQL).count());
+        assertTrue(queryMonitor.recentSlowQueries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("When queries exceed threshold Then should keep the most recent ones in the ring buffer")
+    void whenQueriesExceedThreshold_thenShouldKeepMostRecentInRingBuffer() {
+        // When
+        for (int i = 1; i <= 3; i++) {
+            queryMonitor.record(SQL, List.of("String"), TimeUnit.MILLISECONDS.toNanos(100L * i + 100), dataSource);
+        }
+
+        // Then
+        var recent = queryMonitor.recentSlowQueries();
+        assertEquals(2, recent.size());
+        assertEquals(400.0, recent.get(0).durationMs());
+        assertEquals(300.0, recent.get(1).durationMs());
+        assertEquals(List.of("String"), recent.get(0).bindTypes());
+    }
+
+    @Test
+    @DisplayName("When explaining a query Then should prepare a generic plan and clean up the session")
+    void whenExplainingQuery_thenShouldPrepareGenericPlanAndCleanUpSession() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("Index Scan using idx_user_document on users");
+        queryMonitor.record(SQL, List.of("String"), TimeUnit.MILLISECONDS.toNanos(150), dataSource);
+
+        // When
+        queryMonitor.explain(SQL, 1, dataSource);
+
+        // Then
+        verify(statement).execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        verify(statement).execute(startsWith("PREPARE ma_explain_"));
+        verify(statement).executeQuery(matches("EXPLAIN \\(ANALYZE off, BUFFERS\\) EXECUTE ma_explain_\\d+\\(NULL\\)"));
+        verify(statement).execute(startsWith("DEALLOCATE ma_explain_"));
+        verify(connection).rollback();
+        assertEquals("Index Scan using idx_user_document on users\n", queryMonitor.recentSlowQueries().get(0).plan());
+    }
+
+    @Test
+    @DisplayName("When converting JDBC placeholders Then should number them and skip literals")
+    void whenConvertingJdbcPlaceholders_thenShouldNumberThemAndSkipLiterals() {
+        // When
+        String converted = QueryMonitor.toPositionalParameters("SELECT '?' FROM t WHERE a = ? AND b = ?");
+
+        // Then
+        assertEquals("SELECT '?' FROM t WHERE a = $1 AND b = $2", converted);
+    }
+}
@@ -0,0 +1,173 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given CircuitBreakingFindUserByDocument")
+class CircuitBreakingFindUserByDocumentTest {
+
+    private final FindUserByDocument delegate = mock(FindUserByDocument.class);
+    private final UserCache cache = mock(UserCache.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final RepositoryCircuitBreaker breaker = new RepositoryCircuitBreaker(properties(), executor);
+    private final CircuitBreakingFindUserByDocument findUserByDocument;
+    private final UUID transactionId = UUID.randomUUID();
+
+    CircuitBreakingFindUserByDocumentTest() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCache", cache);
+        findUserByDocument = new CircuitBreakingFindUserByDocument(delegate, breaker,
+                beanFactory.getBeanProvider(UserCache.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        breaker.destroy();
+        StaleRead.clear();
+        ServerTiming.end();
+    }
+
+    @Test
+    @DisplayName("When the database fails and a stale copy exists Then should serve it and mark the read")
+    void whenTheDatabaseFailsAndAStaleCopyExists_thenShouldServeItAndMarkTheRead() {
+        // Given
+        User cached = new User();
+        when(cache.getStale(eq("00588380903"), any())).thenReturn(
+                new UserCache.Stale(cached, System.currentTimeMillis() - 30_000));
+        when(delegate.execute("00588380903", transactionId))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When
+        User user = findUserByDocument.execute("00588380903", transactionId);
+
+        // Then
+        assertSame(cached, user);
+        assertEquals(30, StaleRead.consumeAgeSeconds());
+        assertEquals(1, breaker.staleReads());
+    }
+
+    @Test
+    @DisplayName("When the query exceeds the deadline Then should serve the stale copy without waiting for it")
+    void whenTheQueryExceedsTheDeadline_thenShouldServeTheStaleCopyWithoutWaitingForIt() {
+        // Given
+        User cached = new User();
+        CountDownLatch release = new CountDownLatch(1);
+        when(cache.getStale(eq("00588380903"), any())).thenReturn(new UserCache.Stale(cached, 0));
+        when(delegate.execute("00588380903", transactionId)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new User();
+        });
+
+        // When
+        long start = System.nanoTime();
+        User user = findUserByDocument.execute("00588380903", transactionId);
+        release.countDown();
+
+        // Then
+        assertSame(cached, user);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    @DisplayName("When the user no longer exists Then should propagate instead of serving the stale copy")
+    void whenTheUserNoLongerExists_thenShouldPropagateInsteadOfServingTheStaleCopy() {
+        // Given
+        when(cache.getStale(eq("00588380903"), any())).thenReturn(new UserCache.Stale(new User(), 0));
+        when(delegate.execute("00588380903", transactionId))
+                .thenThrow(new UserNotFoundException("USER-0007", "not found"));
+
+        // When / Then
+        assertThrows(UserNotFoundException.class, () -> findUserByDocument.execute("00588380903", transactionId));
+        assertEquals(-1, StaleRead.consumeAgeSeconds());
+    }
+
+    @Test
+    @DisplayName("When the breaker is open and nothing is cached Then should fail fast")
+    void whenTheBreakerIsOpenAndNothingIsCached_thenShouldFailFast() {
+        // Given
+        when(delegate.execute(any(), any())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+        for (int i = 0; i < 4; i++) {
+            assertThrows(DataAccessResourceFailureException.class,
+                    () -> findUserByDocument.execute("00588380903", transactionId));
+        }
+
+        // When / Then
+        assertThrows(UserServiceUnavailableException.class,
+                () -> findUserByDocument.execute("00588380903", transactionId));
+        verify(delegate, times(4)).execute(any(), any());
+    }
+
+    @Test
+    @DisplayName("When the lookup runs on the fallback executor Then should report its timings in the request's")
+    void whenTheLookupRunsOnTheFallbackExecutor_thenShouldReportItsTimingsInTheRequests() {
+        // Given
+        ServerTiming.begin();
+        Thread caller = Thread.currentThread();
+        when(cache.getStale(eq("00588380903"), any())).thenReturn(new UserCache.Stale(new User(), 0));
+        when(delegate.execute("00588380903", transactionId)).thenAnswer(invocation -> {
+            assertNotSame(caller, Thread.currentThread());
+            ServerTiming.stop(ServerTiming.Phase.QUERY, ServerTiming.start());
+            return new User();
+        });
+
+        // When
+        findUserByDocument.execute("00588380903", transactionId);
+
+        // Then
+        assertTrue(ServerTiming.header(1).startsWith("query;"));
+    }
+
+    @Test
+    @DisplayName("When the fallback executor is full Then should run the lookup on the caller's thread")
+    void whenTheFallbackExecutorIsFull_thenShouldRunTheLookupOnTheCallersThread() {
+        // Given
+        RepositoryCircuitBreaker saturated = new RepositoryCircuitBreaker(properties(), runnable -> {
+            throw new RejectedExecutionException("full");
+        });
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("userCache", cache);
+        CircuitBreakingFindUserByDocument lookup = new CircuitBreakingFindUserByDocument(delegate, saturated,
+                beanFactory.getBeanProvider(UserCache.class));
+        Thread caller = Thread.currentThread();
+        User loaded = new User();
+        when(cache.getStale(eq("00588380903"), any())).thenReturn(new UserCache.Stale(new User(), 0));
+        when(delegate.execute("00588380903", transactionId)).thenAnswer(invocation -> {
+            assertSame(caller, Thread.currentThread());
+            return loaded;
+        });
+
+        // When
+        User user = lookup.execute("00588380903", transactionId);
+
+        // Then
+        assertSame(loaded, user);
+        assertFalse(StaleRead.isMarked());
+    }
+
+    private static CircuitBreakerProperties properties() {
+        return new CircuitBreakerProperties(true, 10, 4, 0.5, Duration.ofMillis(100), Duration.ofSeconds(10), 2,
+                Duration.ofMinutes(5), 32);
+    }
+}
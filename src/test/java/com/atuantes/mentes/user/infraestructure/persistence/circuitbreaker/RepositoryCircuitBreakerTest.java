@@ -0,0 +1,180 @@
+package com.atuantes.mentes.user.infraestructure.persistence.circuitbreaker;
+
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given RepositoryCircuitBreaker")
+class RepositoryCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RepositoryCircuitBreaker breaker = new RepositoryCircuitBreaker(
+            new CircuitBreakerProperties(true, 10, 4, 0.5, Duration.ofMillis(100), Duration.ofSeconds(10), 2,
+                    Duration.ofMinutes(5), 32),
+            now::get);
+
+    @Test
+    @DisplayName("When half of the calls fail Then should open and reject with the time left as retry after")
+    void whenHalfOfTheCallsFail_thenShouldOpenAndRejectWithTheTimeLeftAsRetryAfter() {
+        // Given
+        succeed();
+        succeed();
+        fail();
+        fail();
+
+        // When
+        now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        UserServiceUnavailableException rejection = assertThrows(UserServiceUnavailableException.class,
+                () -> breaker.execute(() -> Assertions.fail("an open breaker does not run the call")));
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Duration.ofSeconds(6), rejection.getRetryAfter());
+        assertEquals(1, breaker.rejected());
+    }
+
+    @Test
+    @DisplayName("When business outcomes are thrown Then should not count them as failures")
+    void whenBusinessOutcomesAreThrown_thenShouldNotCountThemAsFailures() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThrows(UserNotFoundException.class, () -> breaker.execute(() -> {
+                throw new UserNotFoundException("USER-0007", "not found");
+            }));
+            assertThrows(UserPersistenceException.class, () -> breaker.execute(() -> {
+                throw new UserPersistenceException(UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getCode(), "duplicate");
+            }));
+        }
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("When calls answer past the deadline Then should count them as failures")
+    void whenCallsAnswerPastTheDeadline_thenShouldCountThemAsFailures() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> now.addAndGet(TimeUnit.MILLISECONDS.toNanos(150)));
+        }
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    @DisplayName("When the open duration has passed Then should let the trial calls through and close once they succeed")
+    void whenTheOpenDurationHasPassed_thenShouldLetTheTrialCallsThroughAndCloseOnceTheySucceed() {
+        // Given
+        openBreaker();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // When
+        breaker.execute(() -> {
+            assertEquals(RepositoryCircuitBreaker.State.HALF_OPEN, breaker.state());
+            breaker.execute(() -> {
+                assertThrows(UserServiceUnavailableException.class, () -> breaker.execute(() -> "third trial"),
+                        "only two trial calls at a time");
+                return "second trial";
+            });
+            return "first trial";
+        });
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("When a trial call fails Then should open again")
+    void whenATrialCallFails_thenShouldOpenAgain() {
+        // Given
+        openBreaker();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // When
+        fail();
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(UserServiceUnavailableException.class, this::succeed);
+    }
+
+    @Test
+    @DisplayName("When the concurrency limit rejects calls Then should not count them as failures")
+    void whenTheConcurrencyLimitRejectsCalls_thenShouldNotCountThemAsFailures() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThrows(UserServiceUnavailableException.class, () -> breaker.execute(() -> {
+                throw new UserServiceUnavailableException(UserErrorMessage.SERVICE_UNAVAILABLE.getCode(),
+                        "saturated", Duration.ofSeconds(1));
+            }));
+        }
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("When reactive calls fail Then should open and reject them on subscription")
+    void whenReactiveCallsFail_thenShouldOpenAndRejectThemOnSubscription() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(breaker.execute(Mono.error(new DataAccessResourceFailureException("refused"))))
+                    .expectError(DataAccessResourceFailureException.class)
+                    .verify();
+        }
+
+        // When & Then
+        assertEquals(RepositoryCircuitBreaker.State.OPEN, breaker.state());
+        StepVerifier.create(breaker.execute(Mono.just("ok")))
+                .expectError(UserServiceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("When a reactive trial call is cancelled Then should give its place to the next call")
+    void whenAReactiveTrialCallIsCancelled_thenShouldGiveItsPlaceToTheNextCall() {
+        // Given
+        openBreaker();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        StepVerifier.create(breaker.execute(Mono.never())).thenCancel().verify();
+        StepVerifier.create(breaker.execute(Mono.never())).thenCancel().verify();
+
+        // When
+        succeed();
+        succeed();
+
+        // Then
+        assertEquals(RepositoryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertEquals(RepositoryCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void succeed() {
+        breaker.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThrows(DataAccessResourceFailureException.class, () -> breaker.execute(() -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        }));
+    }
+}
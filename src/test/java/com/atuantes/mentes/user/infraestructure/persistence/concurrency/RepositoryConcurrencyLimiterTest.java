@@ -0,0 +1,203 @@
+package com.atuantes.mentes.user.infraestructure.persistence.concurrency;
+
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given RepositoryConcurrencyLimiter")
+class RepositoryConcurrencyLimiterTest {
+
+    private static final ConcurrencyLimitProperties PROPERTIES =
+            new ConcurrencyLimitProperties(true, 0, 1, 100, 1.5, 0.2, 0.5, Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        RequestPriority.clear();
+    }
+
+    @Test
+    @DisplayName("When under the limit Then should run the call and release the slot")
+    void whenUnderTheLimit_thenShouldRunTheCallAndReleaseTheSlot() throws Exception {
+        // Given
+        RepositoryConcurrencyLimiter limiter = new RepositoryConcurrencyLimiter(2, PROPERTIES);
+
+        // When
+        String result = limiter.execute(() -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(0, limiter.inFlight());
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("When calls are abandoned Then should release their slots without moving the limit")
+    void whenCallsAreAbandoned_thenShouldReleaseTheirSlotsWithoutMovingTheLimit() throws Exception {
+        // Given
+        RepositoryConcurrencyLimiter abandoning = new RepositoryConcurrencyLimiter(1, PROPERTIES);
+        RepositoryConcurrencyLimiter sampling = new RepositoryConcurrencyLimiter(1, PROPERTIES);
+
+        // When
+        for (int i = 0; i < 10 * GradientLimit.WINDOW_SAMPLES; i++) {
+            abandoning.execute(() -> "cancelled", () -> true);
+            sampling.execute(() -> "ok", () -> false);
+        }
+
+        // Then
+        assertEquals(0, abandoning.inFlight());
+        assertEquals(1, abandoning.limit());
+        assertTrue(sampling.limit() > 1);
+    }
+
+    @Test
+    @DisplayName("When the limit is reached Then should reject immediately with retry after")
+    void whenLimitIsReached_thenShouldRejectImmediatelyWithRetryAfter() throws Exception {
+        // Given
+        RepositoryConcurrencyLimiter limiter = new RepositoryConcurrencyLimiter(1, PROPERTIES);
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> holder = executor.submit(() -> limiter.execute(() -> {
+                acquired.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertTrue(acquired.await(5, TimeUnit.SECONDS));
+
+            // When
+            UserServiceUnavailableException exception = assertThrows(UserServiceUnavailableException.class,
+                    () -> limiter.execute(() -> "rejected"));
+
+            // Then
+            assertEquals(UserErrorMessage.SERVICE_UNAVAILABLE.getCode(), exception.getCode());
+            assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+            assertEquals(1, limiter.rejected(RequestPriority.INTERACTIVE));
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            assertEquals(0, limiter.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("When batch traffic fills its share Then should reject batch but admit interactive")
+    void whenBatchTrafficFillsItsShare_thenShouldRejectBatchButAdmitInteractive() throws Exception {
+        // Given
+        RepositoryConcurrencyLimiter limiter = new RepositoryConcurrencyLimiter(4, PROPERTIES);
+        RequestPriority.set(RequestPriority.BATCH);
+
+        // When
+        Object interactive = limiter.execute(() -> limiter.execute(() -> {
+            // Two batch calls in flight use the whole batch share of a limit of four
+            assertThrows(UserServiceUnavailableException.class, () -> limiter.execute(() -> "batch"));
+            RequestPriority.set(RequestPriority.INTERACTIVE);
+            return limiter.execute(() -> "interactive");
+        }));
+
+        // Then
+        assertEquals("interactive", interactive);
+        assertEquals(1, limiter.rejected(RequestPriority.BATCH));
+        assertEquals(0, limiter.rejected(RequestPriority.INTERACTIVE));
+    }
+
+    @Test
+    @DisplayName("When the call fails Then should release the slot")
+    void whenCallFails_thenShouldReleaseTheSlot() {
+        // Given
+        RepositoryConcurrencyLimiter limiter = new RepositoryConcurrencyLimiter(1, PROPERTIES);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> limiter.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Then
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("When bound to a registry Then should publish limit and rejection metrics")
+    void whenBoundToRegistry_thenShouldPublishLimitAndRejectionMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RepositoryConcurrencyLimiter limiter = new RepositoryConcurrencyLimiter(8, PROPERTIES);
+
+        // When
+        limiter.bindTo(registry);
+
+        // Then
+        assertEquals(8.0, registry.get("user.repository.concurrency.limit").gauge().value());
+        assertEquals(0.0, registry.get("user.repository.concurrency.rejected")
+                .tag("priority", "batch").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("When the limiter is enabled Then should bind its metrics to the application meter registry")
+    void whenTheLimiterIsEnabled_thenShouldBindItsMetricsToTheApplicationMeterRegistry() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class,
+                        SimpleMetricsExportAutoConfiguration.class))
+                .withUserConfiguration(RepositoryConcurrencyConfig.class)
+                .withPropertyValues("user.concurrency.limit.enabled=true",
+                        "spring.datasource.hikari.maximum-pool-size=6")
+                .run(context -> {
+                    MeterRegistry registry = context.getBean(MeterRegistry.class);
+                    assertEquals(6.0, registry.get("user.repository.concurrency.limit").gauge().value());
+                    assertNotNull(registry.find("user.repository.concurrency.in-flight").gauge());
+                });
+    }
+
+    @Test
+    @DisplayName("When latency rises above the baseline Then should shrink the limit")
+    void whenLatencyRisesAboveTheBaseline_thenShouldShrinkTheLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 2, 100, 1.5, 0.2);
+        for (int i = 0; i < 20 * GradientLimit.WINDOW_SAMPLES; i++) {
+            limit.onSample(1_000_000L, 20);
+        }
+        int healthy = limit.limit();
+
+        // When
+        for (int i = 0; i < 20 * GradientLimit.WINDOW_SAMPLES; i++) {
+            limit.onSample(10_000_000L, limit.limit());
+        }
+
+        // Then
+        assertTrue(healthy >= 20);
+        assertTrue(limit.limit() < healthy / 2);
+        assertTrue(limit.limit() >= 2);
+    }
+
+    @Test
+    @DisplayName("When the limit is barely used Then should not grow it")
+    void whenLimitIsBarelyUsed_thenShouldNotGrowIt() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 2, 100, 1.5, 0.2);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(1_000_000L, 1);
+        }
+
+        // Then
+        assertEquals(20, limit.limit());
+    }
+}
@@ -0,0 +1,98 @@
+package com.atuantes.mentes.user.infraestructure.persistence.datasource;
+
+import com.atuantes.mentes.user.infraestructure.observability.QueryMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Given InstrumentedDataSource")
+class InstrumentedDataSourceTest {
+
+    private static final String SQL = "SELECT id FROM users.users WHERE document = ?";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private QueryMonitor queryMonitor;
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new InstrumentedDataSource(target, queryMonitor);
+    }
+
+    @Test
+    @DisplayName("When prepared statement is executed Then should report SQL, bind types and latency")
+    void whenPreparedStatementIsExecuted_thenShouldReportSqlBindTypesAndLatency() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+        // When
+        try (Connection instrumented = dataSource.getConnection();
+             PreparedStatement statement = instrumented.prepareStatement(SQL)) {
+            statement.setString(1, "00588380903");
+            assertSame(resultSet, statement.executeQuery());
+            assertSame(instrumented, statement.getConnection());
+        }
+
+        // Then
+        verify(preparedStatement).setString(1, "00588380903");
+        verify(queryMonitor).record(eq(SQL), eq(List.of("String")), anyLong(), eq(target));
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("When statement execution fails Then should still report latency and rethrow")
+    void whenStatementExecutionFails_thenShouldStillReportLatencyAndRethrow() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenThrow(new SQLException("canceled"));
+
+        // When & Then
+        Connection instrumented = dataSource.getConnection();
+        PreparedStatement statement = instrumented.prepareStatement(SQL);
+        assertThrows(SQLException.class, statement::executeQuery);
+        verify(queryMonitor).record(eq(SQL), eq(List.of()), anyLong(), eq(target));
+    }
+
+    @Test
+    @DisplayName("When no query monitor is available Then should return the pooled connection untouched")
+    void whenNoQueryMonitorIsAvailable_thenShouldReturnPooledConnectionUntouched() throws Exception {
+        // Given
+        dataSource = new InstrumentedDataSource(target, null);
+        when(target.getConnection()).thenReturn(connection);
+
+        // When & Then
+        assertSame(connection, dataSource.getConnection());
+    }
+}
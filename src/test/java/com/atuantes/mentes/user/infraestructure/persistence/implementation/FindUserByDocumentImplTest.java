@@ -3,6 +3,7 @@ package com.atuantes.mentes.user.infraestructure.persistence.implementation;
 import com.atuantes.mentes.user.domain.entity.Category;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,7 +32,7 @@ class FindUserByDocumentImplTest {
 
     @BeforeEach
     void setUp() {
-        findUserByDocument = new FindUserByDocumentImpl(userRepository);
+        findUserByDocument = new FindUserByDocumentImpl(userRepository, new DocumentHasher("test"));
         transactionId = UUID.randomUUID();
 
         expectedUser = new User();
@@ -4,6 +4,7 @@ import com.atuantes.mentes.user.domain.entity.Category;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
 import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.infraestructure.persistence.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,7 +32,7 @@ class UserInsertRepostImplTest {
 
     @BeforeEach
     void setUp() {
-        userInsertRepostImpl = new UserInsertRepostImpl(userRepository);
+        userInsertRepostImpl = new UserInsertRepostImpl(userRepository, new DocumentHasher("test"));
     }
 
     @Test
@@ -0,0 +1,183 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.DataSourceRoute;
+import com.atuantes.mentes.user.infraestructure.persistence.routing.ReplicaLagMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given HedgedDocumentLookup")
+class HedgedDocumentLookupTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Connection[] replicas = {mock(Connection.class), mock(Connection.class)};
+    private final PreparedStatement[] statements = {mock(PreparedStatement.class), mock(PreparedStatement.class)};
+    private HedgedDocumentLookup lookup;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(replicaLagMonitor.replicaCount()).thenReturn(2);
+        when(replicaLagMonitor.isEligible(anyInt(), anyLong())).thenReturn(true);
+        when(dataSource.getConnection()).thenAnswer(invocation -> replicas[DataSourceRoute.readTarget()]);
+        for (int i = 0; i < replicas.length; i++) {
+            when(replicas[i].prepareStatement(JdbcUserStatements.FIND_BY_DOCUMENT)).thenReturn(statements[i]);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookup.destroy();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("When the first replica is slower than the delay Then should take the hedge's answer and cancel it")
+    void whenTheFirstReplicaIsSlowerThanTheDelay_thenShouldTakeTheHedgesAnswerAndCancelIt() throws Exception {
+        // Given
+        lookup = lookup(1.0);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelled.countDown();
+            return null;
+        }).when(statements[0]).cancel();
+        when(statements[0].executeQuery()).thenAnswer(invocation -> {
+            cancelled.await(5, TimeUnit.SECONDS);
+            throw new SQLException("canceling statement due to user request");
+        });
+        fast(statements[1]);
+
+        // When
+        Optional<User> user = lookup.find("00588380903");
+
+        // Then
+        assertEquals("00588380903", user.orElseThrow().getDocument());
+        assertEquals(0, cancelled.getCount(), "the losing query is cancelled");
+        assertEquals(1, lookup.hedges());
+        assertEquals(1, lookup.wins());
+    }
+
+    @Test
+    @DisplayName("When the first replica answers within the delay Then should not hedge")
+    void whenTheFirstReplicaAnswersWithinTheDelay_thenShouldNotHedge() throws Exception {
+        // Given
+        lookup = lookup(1.0);
+        fast(statements[0]);
+
+        // When
+        Optional<User> user = lookup.find("00588380903");
+
+        // Then
+        assertTrue(user.isPresent());
+        assertEquals(0, lookup.hedges());
+        verifyNoInteractions(replicas[1]);
+    }
+
+    @Test
+    @DisplayName("When the hedge budget is spent Then should wait for the first replica")
+    void whenTheHedgeBudgetIsSpent_thenShouldWaitForTheFirstReplica() throws Exception {
+        // Given
+        lookup = lookup(0.0);
+        when(statements[0].executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(400);
+            return row();
+        });
+        when(statements[1].executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(400);
+            return row();
+        });
+
+        // When
+        lookup.find("00588380903");
+        lookup.find("00588380903");
+
+        // Then
+        assertEquals(1, lookup.hedges(), "the starting credit covers one hedge and a zero budget adds none");
+        assertEquals(2, lookup.lookups());
+    }
+
+    @Test
+    @DisplayName("When a window ends Then should derive the delay from its latency percentile and report the hedge rate")
+    void whenAWindowEnds_thenShouldDeriveTheDelayFromItsLatencyPercentileAndReportTheHedgeRate() throws Exception {
+        // Given
+        lookup = lookup(1.0);
+        fast(statements[0]);
+        fast(statements[1]);
+        for (int i = 0; i < 20; i++) {
+            lookup.find("00588380903");
+        }
+
+        // When
+        lookup.rotate();
+
+        // Then
+        assertTrue(lookup.delayNanos() < TimeUnit.MILLISECONDS.toNanos(200), "fast lookups shorten the delay");
+        assertTrue(lookup.delayNanos() >= TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(0.0, lookup.hedgeRate());
+    }
+
+    @Test
+    @DisplayName("When the executor is saturated Then should run the lookup on the caller's thread without hedging")
+    void whenTheExecutorIsSaturated_thenShouldRunTheLookupOnTheCallersThreadWithoutHedging() throws Exception {
+        // Given
+        lookup = lookup(1.0, runnable -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        fast(statements[0]);
+        fast(statements[1]);
+
+        // When
+        Optional<User> user = lookup.find("00588380903");
+
+        // Then
+        assertTrue(user.isPresent());
+        assertEquals(1, lookup.lookups());
+        assertEquals(0, lookup.hedges());
+    }
+
+    private HedgedDocumentLookup lookup(double budget) {
+        return lookup(budget, executor);
+    }
+
+    private HedgedDocumentLookup lookup(double budget, Executor executor) {
+        return new HedgedDocumentLookup(dataSource, replicaLagMonitor, executor,
+                new StaticListableBeanFactory().getBeanProvider(RepositoryConcurrencyLimiter.class),
+                new HedgingProperties(true, 0.95, Duration.ofMillis(1), Duration.ofMillis(200), budget,
+                        Duration.ofHours(1), 32));
+    }
+
+    private static void fast(PreparedStatement statement) throws SQLException {
+        when(statement.executeQuery()).thenAnswer(invocation -> row());
+    }
+
+    private static ResultSet row() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(4)).thenReturn("00588380903");
+        return resultSet;
+    }
+}
@@ -0,0 +1,122 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given JdbcFindUserByDocument")
+class JdbcFindUserByDocumentTest {
+
+    private DataSource dataSource;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private JdbcFindUserByDocument findUserByDocument;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(JdbcUserStatements.FIND_BY_DOCUMENT)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        findUserByDocument = new JdbcFindUserByDocument(JdbcClient.create(dataSource),
+                new StaticListableBeanFactory().getBeanProvider(RepositoryConcurrencyLimiter.class),
+                new StaticListableBeanFactory().getBeanProvider(HedgedDocumentLookup.class),
+                new DocumentHasher("test"));
+    }
+
+    @Test
+    @DisplayName("When the document exists Then should map the row by column index")
+    void whenTheDocumentExists_thenShouldMapTheRowByColumnIndex() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        OffsetDateTime createdAt = OffsetDateTime.of(2024, 5, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1, UUID.class)).thenReturn(id);
+        when(resultSet.getBoolean(2)).thenReturn(true);
+        when(resultSet.getString(3)).thenReturn("João Silva");
+        when(resultSet.getString(4)).thenReturn("00588380903");
+        when(resultSet.getString(5)).thenReturn("joao@test.com");
+        when(resultSet.getString(6)).thenReturn("11999999999");
+        when(resultSet.getObject(7, LocalDate.class)).thenReturn(LocalDate.of(1990, 1, 1));
+        when(resultSet.getString(8)).thenReturn("FATHER");
+        when(resultSet.getObject(9, OffsetDateTime.class)).thenReturn(createdAt);
+
+        // When
+        User user = findUserByDocument.execute("00588380903", UUID.randomUUID());
+
+        // Then
+        verify(statement).setString(1, "00588380903");
+        assertEquals(id, user.getId());
+        assertTrue(user.isActive());
+        assertEquals("João Silva", user.getFullName());
+        assertEquals("00588380903", user.getDocument());
+        assertEquals("joao@test.com", user.getEmail());
+        assertEquals("11999999999", user.getPhone());
+        assertEquals(LocalDate.of(1990, 1, 1), user.getBirthdate());
+        assertEquals(Category.FATHER, user.getCategory());
+        assertEquals(createdAt.toInstant(),
+                user.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant());
+        assertNull(user.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("When the document does not exist Then should throw UserNotFoundException")
+    void whenTheDocumentDoesNotExist_thenShouldThrowUserNotFoundException() throws Exception {
+        // Given
+        when(resultSet.next()).thenReturn(false);
+
+        // When / Then
+        assertThrows(UserNotFoundException.class,
+                () -> findUserByDocument.execute("00588380903", UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("When a transaction is active Then should query on its connection instead of hedging")
+    void whenATransactionIsActive_thenShouldQueryOnItsConnectionInsteadOfHedging() throws Exception {
+        // Given
+        HedgedDocumentLookup hedged = mock(HedgedDocumentLookup.class);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("hedgedDocumentLookup", hedged);
+        JdbcFindUserByDocument hedgedFind = new JdbcFindUserByDocument(JdbcClient.create(dataSource),
+                new StaticListableBeanFactory().getBeanProvider(RepositoryConcurrencyLimiter.class),
+                beanFactory.getBeanProvider(HedgedDocumentLookup.class),
+                new DocumentHasher("test"));
+        when(resultSet.next()).thenReturn(false);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        try {
+            assertThrows(UserNotFoundException.class, () -> hedgedFind.execute("00588380903", UUID.randomUUID()));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Then
+        verify(statement).executeQuery();
+        verifyNoInteractions(hedged);
+    }
+}
@@ -0,0 +1,95 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RepositoryConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given JdbcUserInsert")
+class JdbcUserInsertTest {
+
+    private PreparedStatement statement;
+    private JdbcUserInsert userInsert;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(JdbcUserStatements.INSERT)).thenReturn(statement);
+        userInsert = new JdbcUserInsert(JdbcClient.create(dataSource),
+                new StaticListableBeanFactory().getBeanProvider(RepositoryConcurrencyLimiter.class),
+                new DocumentHasher("test"));
+
+        user = new User();
+        user.setFullName("João Silva");
+        user.setDocument("00588380903");
+        user.setEmail("joao@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.FATHER);
+    }
+
+    @Test
+    @DisplayName("When inserting user Then should bind the columns in order and apply the generated values")
+    void whenInsertingUser_thenShouldBindTheColumnsInOrderAndApplyTheGeneratedValues() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1, UUID.class)).thenReturn(id);
+        when(resultSet.getBoolean(2)).thenReturn(true);
+        when(resultSet.getObject(3, OffsetDateTime.class)).thenReturn(OffsetDateTime.now());
+
+        // When
+        User result = userInsert.insert(user, UUID.randomUUID());
+
+        // Then
+        verify(statement).setString(1, "João Silva");
+        verify(statement).setString(2, "00588380903");
+        verify(statement).setString(3, "joao@test.com");
+        verify(statement).setString(4, "11999999999");
+        verify(statement).setObject(5, LocalDate.of(1990, 1, 1));
+        verify(statement).setString(6, "FATHER");
+        assertSame(user, result);
+        assertEquals(id, result.getId());
+        assertTrue(result.isActive());
+        assertNotNull(result.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("When the document already exists Then should throw UserPersistenceException")
+    void whenTheDocumentAlreadyExists_thenShouldThrowUserPersistenceException() throws Exception {
+        // Given
+        when(statement.executeQuery()).thenThrow(new SQLException("duplicate key value", "23505"));
+
+        // When
+        UserPersistenceException exception = assertThrows(UserPersistenceException.class,
+                () -> userInsert.insert(user, UUID.randomUUID()));
+
+        // Then
+        assertEquals(UserErrorMessage.DUPLICATE_DOCUMENT_ERROR.getCode(), exception.getCode());
+    }
+}
@@ -0,0 +1,111 @@
+package com.atuantes.mentes.user.infraestructure.persistence.jdbc;
+
+import com.atuantes.mentes.Application;
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserPersistenceException;
+import com.atuantes.mentes.user.domain.service.FindUserByDocument;
+import com.atuantes.mentes.user.domain.service.UserInsert;
+import com.atuantes.mentes.user.infraestructure.warmup.CodePathWarmUpTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the Spring Data and the JDBC adapters end to end against the local database (see docker/).
+ * Not a unit test; run it with scripts/jmh.sh UserAdapterBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserAdapterBenchmark {
+
+    private static final String EMAIL_DOMAIN = "@jmh.invalid";
+    private static final int SEED_BASE = 700_000_000;
+
+    @Param({"spring-data", "jdbc"})
+    public String adapter;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private ConfigurableApplicationContext context;
+    private FindUserByDocument findUserByDocument;
+    private UserInsert userInsert;
+    private String document;
+    private UUID transactionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("user.persistence.adapter=" + adapter,
+                        "spring.flyway.enabled=true",
+                        "user.warm-up.enabled=false",
+                        "user.jfr.continuous=false",
+                        "user.concurrency.limit.enabled=false",
+                        "logging.level.com.atuantes.mentes=warn")
+                .run();
+        findUserByDocument = context.getBean(FindUserByDocument.class);
+        userInsert = context.getBean(UserInsert.class);
+        transactionId = UUID.randomUUID();
+        document = CodePathWarmUpTask.document(SEED_BASE);
+        try {
+            userInsert.insert(user(document, "seed"), transactionId);
+        } catch (UserPersistenceException e) {
+            // Left over from an earlier run
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(JdbcClient.class)
+                .sql("DELETE FROM users.users WHERE email LIKE ?")
+                .param("%" + EMAIL_DOMAIN)
+                .update();
+        context.close();
+    }
+
+    @Benchmark
+    public User findByDocument() {
+        return findUserByDocument.execute(document, transactionId);
+    }
+
+    @Benchmark
+    public User insert() {
+        int next = sequence.incrementAndGet();
+        return userInsert.insert(user(CodePathWarmUpTask.document(SEED_BASE + next), String.valueOf(next)),
+                transactionId);
+    }
+
+    private static User user(String document, String suffix) {
+        User user = new User();
+        user.setFullName("JMH " + suffix);
+        user.setDocument(document);
+        user.setEmail("jmh-" + suffix + EMAIL_DOMAIN);
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.OTHER);
+        return user;
+    }
+}
@@ -0,0 +1,113 @@
+package com.atuantes.mentes.user.infraestructure.persistence.migration;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given SchemaVersionCheck")
+class SchemaVersionCheckTest {
+
+    @Test
+    @DisplayName("When the schema is at the expected version Then should start")
+    void whenTheSchemaIsAtTheExpectedVersion_thenShouldStart() throws Exception {
+        // Given
+        SchemaVersionCheck check = check("1.3.0", "1.0.0", "1.3.0", "1.2.0");
+
+        // When / Then
+        assertDoesNotThrow(check::afterPropertiesSet);
+        assertEquals(MigrationVersion.fromVersion("1.3.0"), check("1.3.0", "1.0.0", "1.3.0", "1.2.0").currentVersion());
+    }
+
+    @Test
+    @DisplayName("When the schema is newer than expected Then should start")
+    void whenTheSchemaIsNewerThanExpected_thenShouldStart() {
+        // Given
+        SchemaVersionCheck check = check("1.3.0", "1.0.0", "1.2.0", "1.3.0", "1.10.0");
+
+        // When / Then
+        assertDoesNotThrow(check::afterPropertiesSet);
+    }
+
+    @Test
+    @DisplayName("When the schema is older than expected Then should refuse to start")
+    void whenTheSchemaIsOlderThanExpected_thenShouldRefuseToStart() {
+        // Given
+        SchemaVersionCheck check = check("1.3.0", "1.0.0", "1.2.0");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class, check::afterPropertiesSet);
+
+        // Then
+        assertTrue(exception.getMessage().contains("version 1.2.0 but this build requires 1.3.0"));
+    }
+
+    @Test
+    @DisplayName("When no migration has been applied Then should refuse to start")
+    void whenNoMigrationHasBeenApplied_thenShouldRefuseToStart() {
+        // Given
+        SchemaVersionCheck check = check("1.3.0");
+
+        // When / Then
+        assertThrows(IllegalStateException.class, check::afterPropertiesSet);
+    }
+
+    @Test
+    @DisplayName("When reading the configured version Then should match the newest migration script")
+    void whenReadingTheConfiguredVersion_thenShouldMatchTheNewestMigrationScript() throws Exception {
+        // Given
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"))
+                .forEach(environment.getPropertySources()::addLast);
+        Resource[] migrations = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/V*__*.sql");
+
+        // When
+        MigrationVersion newest = Arrays.stream(migrations)
+                .map(resource -> resource.getFilename().substring(1, resource.getFilename().indexOf("__")))
+                .map(MigrationVersion::fromVersion)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        // Then
+        assertEquals(newest, MigrationVersion.fromVersion(environment.getProperty("user.schema.expected-version")));
+    }
+
+    private static SchemaVersionCheck check(String expected, String... applied) {
+        try {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(resultSet);
+            // One true per applied version, then false
+            Boolean[] next = new Boolean[applied.length];
+            Arrays.fill(next, Boolean.FALSE);
+            Arrays.fill(next, 0, Math.max(0, applied.length - 1), Boolean.TRUE);
+            when(resultSet.next()).thenReturn(applied.length > 0, next);
+            if (applied.length > 0) {
+                when(resultSet.getString(1)).thenReturn(applied[0], Arrays.copyOfRange(applied, 1, applied.length));
+            }
+            return new SchemaVersionCheck(dataSource, expected, "flyway_schema_history");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.atuantes.mentes.user.infraestructure.persistence.reactive;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given PipelinedDocumentLookup")
+class PipelinedDocumentLookupTest {
+
+    private ConnectionFactory connectionFactory;
+    private Connection connection;
+    private Statement statement;
+    private final Set<String> stored = Set.of("00588380903");
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = mock(ConnectionFactory.class);
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+        when(connection.createStatement(anyString())).thenReturn(statement);
+        when(connection.close()).thenReturn(Mono.empty());
+        when(statement.bind(anyInt(), any())).thenReturn(statement);
+    }
+
+    @Test
+    @DisplayName("When document exists Then should emit the mapped user")
+    void whenDocumentExists_thenShouldEmitTheMappedUser() {
+        // Given
+        stubResults(Mono.empty());
+        PipelinedDocumentLookup lookup = new PipelinedDocumentLookup(connectionFactory, 2, 16);
+
+        // When & Then
+        StepVerifier.create(lookup.find("00588380903"))
+                .assertNext(user -> {
+                    assertEquals("00588380903", user.getDocument());
+                    assertEquals(Category.FATHER, user.getCategory());
+                    assertTrue(user.isActive());
+                })
+                .verifyComplete();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("When document does not exist Then should complete empty")
+    void whenDocumentDoesNotExist_thenShouldCompleteEmpty() {
+        // Given
+        stubResults(Mono.empty());
+        PipelinedDocumentLookup lookup = new PipelinedDocumentLookup(connectionFactory, 2, 16);
+
+        // When & Then
+        StepVerifier.create(lookup.find("11144477735")).verifyComplete();
+        assertEquals(0, lookup.inFlight());
+    }
+
+    @Test
+    @DisplayName("When connections are busy Then should coalesce queued lookups into one query")
+    void whenConnectionsAreBusy_thenShouldCoalesceQueuedLookupsIntoOneQuery() {
+        // Given
+        Sinks.Empty<Void> firstQueryGate = Sinks.empty();
+        stubResults(firstQueryGate.asMono());
+        PipelinedDocumentLookup lookup = new PipelinedDocumentLookup(connectionFactory, 1, 16);
+
+        // When
+        Mono<User> first = lookup.find("00588380903").cache();
+        first.subscribe();
+        Mono<User> second = lookup.find("00588380903").cache();
+        Mono<User> third = lookup.find("11144477735").cache();
+        second.subscribe();
+        third.subscribe();
+        firstQueryGate.tryEmitEmpty();
+
+        // Then
+        StepVerifier.create(first).expectNextCount(1).verifyComplete();
+        StepVerifier.create(second).expectNextCount(1).verifyComplete();
+        StepVerifier.create(third).verifyComplete();
+
+        ArgumentCaptor<Object> documents = ArgumentCaptor.forClass(Object.class);
+        verify(statement, times(2)).bind(eq(0), documents.capture());
+        assertArrayEquals(new String[]{"00588380903"}, (String[]) documents.getAllValues().get(0));
+        assertEquals(Set.of("00588380903", "11144477735"),
+                Set.copyOf(Arrays.asList((String[]) documents.getAllValues().get(1))));
+        assertEquals(0, lookup.inFlight());
+    }
+
+    @Test
+    @DisplayName("When the query fails Then should fail every waiter and release the slot")
+    void whenQueryFails_thenShouldFailEveryWaiterAndReleaseTheSlot() {
+        // Given
+        when(statement.execute()).thenAnswer(invocation -> Flux.error(new IllegalStateException("connection reset")));
+        PipelinedDocumentLookup lookup = new PipelinedDocumentLookup(connectionFactory, 1, 16);
+
+        // When & Then
+        StepVerifier.create(lookup.find("00588380903"))
+                .expectErrorMessage("connection reset")
+                .verify(Duration.ofSeconds(5));
+        assertEquals(0, lookup.inFlight());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubResults(Mono<Void> firstQueryDelay) {
+        List<Mono<Void>> delays = new ArrayList<>(List.of(firstQueryDelay));
+        when(statement.execute()).thenAnswer(invocation -> {
+            Mono<Void> delay = delays.isEmpty() ? Mono.empty() : delays.remove(0);
+            Result result = mock(Result.class);
+            when(result.map(any(BiFunction.class))).thenAnswer(mapInvocation -> {
+                BiFunction<Row, RowMetadata, User> mapper = mapInvocation.getArgument(0);
+                return Flux.fromIterable(stored).map(document -> mapper.apply(row(document), null));
+            });
+            return delay.thenMany(Flux.just(result));
+        });
+    }
+
+    private static Row row(String document) {
+        Row row = mock(Row.class);
+        when(row.get("document", String.class)).thenReturn(document);
+        when(row.get("full_name", String.class)).thenReturn("João Silva");
+        when(row.get("active", Boolean.class)).thenReturn(true);
+        when(row.get("category", String.class)).thenReturn("FATHER");
+        return row;
+    }
+}
@@ -0,0 +1,168 @@
+package com.atuantes.mentes.user.infraestructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Given ReadWriteRoutingDataSource")
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica0, replica1), lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoute.clear();
+    }
+
+    @Test
+    @DisplayName("When no read scope is open Then should use the primary")
+    void whenNoReadScopeIsOpen_thenShouldUsePrimary() throws Exception {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica0, replica1, lagMonitor);
+    }
+
+    @Test
+    @DisplayName("When the write LSN is tracked Then should read it on the primary connection as it is released")
+    void whenTheWriteLsnIsTracked_thenShouldReadItOnThePrimaryConnectionAsItIsReleased() throws Exception {
+        // Given
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(WriteLsnCapture.CURRENT_WAL_LSN)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("0/16B3748");
+        DataSourceRoute.trackWriteLsn();
+
+        // When
+        Connection connection = dataSource.getConnection();
+        long beforeRelease = DataSourceRoute.writeLsn();
+        connection.close();
+
+        // Then
+        assertEquals(Lsn.UNKNOWN, beforeRelease);
+        assertEquals(Lsn.parse("0/16B3748"), DataSourceRoute.writeLsn());
+        InOrder inOrder = inOrder(statement, primaryConnection);
+        inOrder.verify(statement).executeQuery(WriteLsnCapture.CURRENT_WAL_LSN);
+        inOrder.verify(primaryConnection).close();
+        verify(primary, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("When reading with an eligible replica Then should use the replica")
+    void whenReadingWithEligibleReplica_thenShouldUseReplica() throws Exception {
+        // Given
+        when(lagMonitor.isEligible(anyInt(), eq(Lsn.UNKNOWN))).thenReturn(true);
+        when(replica0.getConnection()).thenReturn(replicaConnection);
+
+        // When
+        Connection connection;
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readOnly()) {
+            connection = dataSource.getConnection();
+        }
+
+        // Then
+        assertSame(replicaConnection, connection);
+        assertNull(DataSourceRoute.readTarget());
+    }
+
+    @Test
+    @DisplayName("When replicas have not replayed the client's writes Then should read from the primary")
+    void whenReplicasHaveNotReplayedClientWrites_thenShouldReadFromPrimary() throws Exception {
+        // Given
+        long token = Lsn.parse("0/16B3748");
+        DataSourceRoute.requireLsn(token);
+        when(lagMonitor.isEligible(anyInt(), eq(token))).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection;
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readOnly()) {
+            connection = dataSource.getConnection();
+        }
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(lagMonitor, times(2)).isEligible(anyInt(), eq(token));
+    }
+
+    @Test
+    @DisplayName("When chosen replica refuses the connection Then should mark it down and fall back to primary")
+    void whenChosenReplicaRefusesConnection_thenShouldMarkItDownAndFallBackToPrimary() throws Exception {
+        // Given
+        when(lagMonitor.isEligible(1, Lsn.UNKNOWN)).thenReturn(true);
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection;
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.readFrom(1)) {
+            connection = dataSource.getConnection();
+        }
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(lagMonitor).markDown(1);
+    }
+
+    @Test
+    @DisplayName("When formatting a parsed LSN Then should round trip")
+    void whenFormattingParsedLsn_thenShouldRoundTrip() {
+        // When
+        long lsn = Lsn.parse("16/B374D848");
+
+        // Then
+        assertEquals((0x16L << 32) | 0xB374D848L, lsn);
+        assertEquals("16/B374D848", Lsn.format(lsn));
+        assertEquals(Lsn.UNKNOWN, Lsn.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> Lsn.parse("not-a-lsn"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.atuantes.mentes.user.domain.mapper.CreateUserCommandToUser;
+import com.atuantes.mentes.user.domain.service.DocumentValidationService;
+import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given CodePathWarmUpTask")
+class CodePathWarmUpTaskTest {
+
+    @Test
+    @DisplayName("When generating documents Then every document should pass validation")
+    void whenGeneratingDocuments_thenEveryDocumentShouldPassValidation() {
+        // When / Then
+        for (int seed = 0; seed < 5_000; seed++) {
+            String document = CodePathWarmUpTask.document(seed);
+            assertEquals(11, document.length());
+            assertDoesNotThrow(() -> DocumentValidationService.documentValidation(document), document);
+        }
+    }
+
+    @Test
+    @DisplayName("When warming up Then should run the code paths without leaving a log filter behind")
+    void whenWarmingUp_thenShouldRunTheCodePathsWithoutLeavingALogFilterBehind() throws Exception {
+        // Given
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        int filters = context.getTurboFilterList().size();
+        CodePathWarmUpTask task = new CodePathWarmUpTask(JsonMapper.builder().findAndAddModules().build(),
+                new CreateUserDtoToCommand(), new CreateUserCommandToUser(),
+                new StaticListableBeanFactory().getBeanProvider(Validator.class), 64);
+
+        // When
+        task.warmUp();
+
+        // Then
+        assertEquals(filters, context.getTurboFilterList().size());
+    }
+
+    @Test
+    @DisplayName("When quieted Then should drop application logs on the warm-up thread only")
+    void whenQuieted_thenShouldDropApplicationLogsOnTheWarmUpThreadOnly() throws Exception {
+        // Given
+        Logger logger = (Logger) LoggerFactory.getLogger(DocumentValidationService.class);
+        Level configured = logger.getLevel();
+        assertTrue(logger.isInfoEnabled());
+
+        // When
+        try (WarmUpLogFilter.Scope ignored = WarmUpLogFilter.quiet(CodePathWarmUpTask.QUIET_LOGGER)) {
+            // Then
+            assertFalse(logger.isInfoEnabled());
+            assertTrue(logger.isWarnEnabled());
+            assertTrue(CompletableFuture.supplyAsync(logger::isInfoEnabled).get(5, TimeUnit.SECONDS),
+                    "request threads keep logging as configured");
+            assertTrue(LoggerFactory.getLogger("org.springframework.web").isInfoEnabled());
+        }
+        assertTrue(logger.isInfoEnabled());
+        assertEquals(configured, logger.getLevel());
+    }
+}
@@ -0,0 +1,163 @@
+package com.atuantes.mentes.user.infraestructure.warmup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given WarmUpRunner")
+class WarmUpRunnerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WarmUpRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        runner.destroy();
+    }
+
+    @Test
+    @DisplayName("When tasks are running Then readiness should be out of service until they finish")
+    void whenTasksAreRunning_thenReadinessShouldBeOutOfServiceUntilTheyFinish() throws Exception {
+        // Given
+        runner = runner(true, Duration.ofSeconds(10), task("blocking", () -> release.await()));
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator(runner);
+
+        // When
+        var finished = runner.run();
+
+        // Then
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        release.countDown();
+        finished.get(5, TimeUnit.SECONDS);
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(WarmUpRunner.Status.COMPLETED, runner.status());
+    }
+
+    @Test
+    @DisplayName("When a task fails Then should record it and still run the remaining tasks")
+    void whenATaskFails_thenShouldRecordItAndStillRunTheRemainingTasks() throws Exception {
+        // Given
+        runner = runner(true, Duration.ofSeconds(10),
+                task("failing", () -> {
+                    throw new IllegalStateException("database unavailable");
+                }),
+                task("succeeding", () -> {
+                }));
+
+        // When
+        runner.run().get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(runner.isFinished());
+        assertEquals(2, runner.results().size());
+        assertFalse(runner.results().get(0).succeeded());
+        assertEquals("IllegalStateException: database unavailable", runner.results().get(0).error());
+        assertTrue(runner.results().get(1).succeeded());
+    }
+
+    @Test
+    @DisplayName("When warm-up exceeds the timeout Then should stop waiting and report ready")
+    void whenWarmUpExceedsTheTimeout_thenShouldStopWaitingAndReportReady() throws Exception {
+        // Given
+        runner = runner(true, Duration.ofMillis(50), task("blocking", () -> release.await()));
+
+        // When
+        runner.run().get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(WarmUpRunner.Status.TIMED_OUT, runner.status());
+        assertTrue(runner.isFinished());
+    }
+
+    @Test
+    @DisplayName("When warm-up times out Then should cancel the task and stay out of service until it stops")
+    void whenWarmUpTimesOut_thenShouldCancelTheTaskAndStayOutOfServiceUntilItStops() throws Exception {
+        // Given
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        runner = runner(true, Duration.ofMillis(50), new WarmUpTask() {
+            @Override
+            public String name() {
+                return "holding connections";
+            }
+
+            @Override
+            public void warmUp() {
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = stopped.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // Ignored, like a blocking JDBC call; it only stops once released
+                    }
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.countDown();
+            }
+        });
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator(runner);
+
+        // When
+        var finished = runner.run();
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        stopped.countDown();
+        finished.get(5, TimeUnit.SECONDS);
+        assertEquals(WarmUpRunner.Status.TIMED_OUT, runner.status());
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("When warm-up is disabled Then should be ready immediately")
+    void whenWarmUpIsDisabled_thenShouldBeReadyImmediately() {
+        // Given
+        runner = runner(false, Duration.ofSeconds(10), task("never", () -> fail("should not run")));
+
+        // When
+        runner.start();
+
+        // Then
+        assertEquals(WarmUpRunner.Status.DISABLED, runner.status());
+        assertTrue(runner.results().isEmpty());
+    }
+
+    private static WarmUpRunner runner(boolean enabled, Duration timeout, WarmUpTask... tasks) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        for (WarmUpTask task : tasks) {
+            beanFactory.addBean(task.name(), task);
+        }
+        return new WarmUpRunner(beanFactory.getBeanProvider(WarmUpTask.class), enabled, timeout);
+    }
+
+    private static WarmUpTask task(String name, Work work) {
+        return new WarmUpTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void warmUp() throws Exception {
+                work.run();
+            }
+        };
+    }
+
+    private interface Work {
+        void run() throws Exception;
+    }
+}
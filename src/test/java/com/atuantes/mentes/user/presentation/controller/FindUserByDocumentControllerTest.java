@@ -4,6 +4,7 @@ import com.atuantes.mentes.user.application.usecase.FindUserByDocumentUseCase;
 import com.atuantes.mentes.user.domain.entity.Category;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,7 +35,7 @@ class FindUserByDocumentControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new FindUserByDocumentController(findUserByDocumentUseCase);
+        controller = new FindUserByDocumentController(findUserByDocumentUseCase, new DocumentHasher("test"));
         transactionId = UUID.randomUUID();
 
         expectedUser = new User();
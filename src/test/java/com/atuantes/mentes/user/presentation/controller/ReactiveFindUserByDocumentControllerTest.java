@@ -0,0 +1,99 @@
+package com.atuantes.mentes.user.presentation.controller;
+
+import com.atuantes.mentes.user.application.usecase.ReactiveFindUserByDocumentUseCase;
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveFindUserByDocumentController.class)
+@DisplayName("Given ReactiveFindUserByDocumentController")
+class ReactiveFindUserByDocumentControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveFindUserByDocumentUseCase findUserByDocumentUseCase;
+
+    @MockitoBean
+    private DocumentHasher documentHasher;
+
+    private UUID transactionId;
+    private User expectedUser;
+
+    @BeforeEach
+    void setUp() {
+        transactionId = UUID.randomUUID();
+
+        expectedUser = new User();
+        expectedUser.setId(UUID.randomUUID());
+        expectedUser.setFullName("João Silva");
+        expectedUser.setActive(true);
+        expectedUser.setDocument("00588380903");
+        expectedUser.setEmail("joao@test.com");
+        expectedUser.setPhone("11999999999");
+        expectedUser.setBirthdate(LocalDate.of(1990, 1, 1));
+        expectedUser.setCategory(Category.FATHER);
+    }
+
+    @Test
+    @DisplayName("When finding user by formatted document Then should normalize and return 200")
+    void whenFindingUserByFormattedDocument_thenShouldNormalizeAndReturn200() {
+        // Given
+        when(findUserByDocumentUseCase.findUserByDocument("00588380903", transactionId))
+                .thenReturn(Mono.just(expectedUser));
+
+        // When & Then
+        webTestClient.get().uri("/users/document/{document}", "005.883.809-03")
+                .header("x-transaction-id", transactionId.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.document").isEqualTo("00588380903")
+                .jsonPath("$.fullName").isEqualTo("João Silva");
+
+        verify(findUserByDocumentUseCase, times(1)).findUserByDocument("00588380903", transactionId);
+    }
+
+    @Test
+    @DisplayName("When user does not exist Then should return 404 with error code")
+    void whenUserDoesNotExist_thenShouldReturn404WithErrorCode() {
+        // Given
+        when(findUserByDocumentUseCase.findUserByDocument("00588380903", transactionId))
+                .thenReturn(Mono.error(new UserNotFoundException("USER-0004", "User not found")));
+
+        // When & Then
+        webTestClient.get().uri("/users/document/{document}", "00588380903")
+                .header("x-transaction-id", transactionId.toString())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("USER-0004")
+                .jsonPath("$.errors[0]").isEqualTo("User not found");
+    }
+
+    @Test
+    @DisplayName("When transaction id header is missing Then should return 400")
+    void whenTransactionIdHeaderIsMissing_thenShouldReturn400() {
+        // When & Then
+        webTestClient.get().uri("/users/document/{document}", "00588380903")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(findUserByDocumentUseCase);
+    }
+}
@@ -5,23 +5,39 @@ import com.atuantes.mentes.user.application.usecase.CreateUserUseCase;
 import com.atuantes.mentes.user.domain.entity.Category;
 import com.atuantes.mentes.user.domain.entity.User;
 import com.atuantes.mentes.user.domain.exception.UserIllegalArgumentException;
+import com.atuantes.mentes.user.domain.exception.UserServiceUnavailableException;
+import com.atuantes.mentes.user.domain.exception.model.ExceptionResponse;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
 import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
 import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
+import com.atuantes.mentes.user.presentation.ratelimit.DocumentLookupRateLimiter;
+import com.atuantes.mentes.user.presentation.ratelimit.RateLimitProperties;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import static com.atuantes.mentes.user.presentation.converter.ServerTimingSmileHttpMessageConverter.APPLICATION_SMILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -29,6 +45,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
+@Import(DocumentLookupRateLimiter.class)
+@EnableConfigurationProperties(RateLimitProperties.class)
 @DisplayName("Given UserController")
 class UserControllerTest {
 
@@ -44,6 +62,9 @@ class UserControllerTest {
     @MockitoBean
     private CreateUserUseCase createUserUseCase;
 
+    @MockitoBean
+    private DocumentHasher documentHasher;
+
     private UUID transactionId;
     private CreateUserDto validDto;
     private CreateUserCommand validCommand;
@@ -136,6 +157,25 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.category").value(category.toString()));
     }
 
+    @Test
+    @DisplayName("When repository sheds load Then should return 503 with Retry-After")
+    void whenRepositoryShedsLoad_thenShouldReturn503WithRetryAfter() throws Exception {
+        // Given
+        when(createUserDtoToCommand.toCommand(any(CreateUserDto.class))).thenReturn(validCommand);
+        when(createUserUseCase.createUser(any(CreateUserCommand.class), any(UUID.class)))
+                .thenThrow(new UserServiceUnavailableException("USER-0008", "Service unavailable",
+                        Duration.ofMillis(1500)));
+
+        // When & Then
+        mockMvc.perform(post("/user")
+                        .header("x-transaction-id", transactionId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validDto)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("USER-0008"));
+    }
+
     @Test
     @DisplayName("When creating user without transaction id Then should return 400 BAD REQUEST")
     void whenCreatingUserWithoutTransactionId_thenShouldReturn400BadRequest() throws Exception {
@@ -382,4 +422,105 @@ class UserControllerTest {
                         .content(objectMapper.writeValueAsString(validDto)))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("When client sends and accepts CBOR Then should answer with the same fields in CBOR")
+    void whenClientSendsAndAcceptsCbor_thenShouldAnswerWithTheSameFieldsInCbor() throws Exception {
+        // Given
+        ObjectMapper cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        when(createUserDtoToCommand.toCommand(validDto)).thenReturn(validCommand);
+        when(createUserUseCase.createUser(any(CreateUserCommand.class), any(UUID.class))).thenReturn(createdUser);
+
+        // When
+        byte[] body = mockMvc.perform(post("/user")
+                        .header("x-transaction-id", transactionId.toString())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(validDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertEquals(fieldNames(objectMapper.readTree(objectMapper.writeValueAsBytes(createdUser))),
+                fieldNames(cborMapper.readTree(body)));
+        User user = cborMapper.readValue(body, User.class);
+        assertEquals(createdUser.getId(), user.getId());
+        assertEquals(createdUser.getFullName(), user.getFullName());
+        assertEquals(createdUser.getBirthdate(), user.getBirthdate());
+        assertEquals(createdUser.getCategory(), user.getCategory());
+    }
+
+    @Test
+    @DisplayName("When client sends and accepts Smile Then should answer in Smile")
+    void whenClientSendsAndAcceptsSmile_thenShouldAnswerInSmile() throws Exception {
+        // Given
+        ObjectMapper smileMapper = SmileMapper.builder().addModule(new JavaTimeModule()).build();
+        when(createUserDtoToCommand.toCommand(validDto)).thenReturn(validCommand);
+        when(createUserUseCase.createUser(any(CreateUserCommand.class), any(UUID.class))).thenReturn(createdUser);
+
+        // When
+        byte[] body = mockMvc.perform(post("/user")
+                        .header("x-transaction-id", transactionId.toString())
+                        .contentType(APPLICATION_SMILE)
+                        .accept(APPLICATION_SMILE)
+                        .content(smileMapper.writeValueAsBytes(validDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        User user = smileMapper.readValue(body, User.class);
+        assertEquals(createdUser.getId(), user.getId());
+        assertEquals(createdUser.getFullName(), user.getFullName());
+        assertEquals(createdUser.getBirthdate(), user.getBirthdate());
+        assertEquals(createdUser.getCategory(), user.getCategory());
+    }
+
+    @Test
+    @DisplayName("When CBOR request is invalid Then should answer the error response in CBOR")
+    void whenCborRequestIsInvalid_thenShouldAnswerTheErrorResponseInCbor() throws Exception {
+        // Given
+        ObjectMapper cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        CreateUserDto invalidDto = new CreateUserDto(null, "00588380903", "joao@test.com", "11999999999",
+                LocalDate.of(1990, 1, 1), Category.FATHER);
+
+        // When
+        byte[] body = mockMvc.perform(post("/user")
+                        .header("x-transaction-id", transactionId.toString())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(invalidDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        ExceptionResponse response = cborMapper.readValue(body, ExceptionResponse.class);
+        assertEquals("VAL-0001", response.code());
+        assertEquals(List.of("timestamp", "code", "message", "details", "errors"), fieldNames(cborMapper.readTree(body)));
+    }
+
+    @Test
+    @DisplayName("When client accepts any media type Then should answer in JSON")
+    void whenClientAcceptsAnyMediaType_thenShouldAnswerInJson() throws Exception {
+        // Given
+        when(createUserDtoToCommand.toCommand(any(CreateUserDto.class))).thenReturn(validCommand);
+        when(createUserUseCase.createUser(any(CreateUserCommand.class), any(UUID.class))).thenReturn(createdUser);
+
+        // When & Then
+        mockMvc.perform(post("/user")
+                        .header("x-transaction-id", transactionId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.ALL)
+                        .content(objectMapper.writeValueAsString(validDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,104 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.infraestructure.warmup.CodePathWarmUpTask;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and encode/decode time of the negotiable response formats, for a single user and for a batch.
+ * The payload size of each combination is printed once per fork:
+ * scripts/jmh.sh UserBinaryFormatBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserBinaryFormatBenchmark {
+
+    private static final TypeReference<List<User>> USERS = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1", "100"})
+    public int batch;
+
+    private ObjectMapper objectMapper;
+    private Object response;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = new Jackson2ObjectMapperBuilder()
+                .factory(factory)
+                .modules(new JavaTimeModule(), new UserJsonModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<User> users = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            users.add(user(i));
+        }
+        response = batch == 1 ? users.get(0) : users;
+        payload = objectMapper.writeValueAsBytes(response);
+        System.out.printf("%n%s x%d: %d bytes (%d per user)%n", format, batch, payload.length, payload.length / batch);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return batch == 1 ? objectMapper.readValue(payload, User.class) : objectMapper.readValue(payload, USERS);
+    }
+
+    private static User user(int seed) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName("João Silva " + seed);
+        user.setActive(true);
+        user.setDocument(CodePathWarmUpTask.document(seed));
+        user.setEmail("joao" + seed + "@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1).plusDays(seed));
+        user.setCategory(Category.values()[seed % Category.values().length]);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30, 15, 123_456_000));
+        user.setUpdatedAt(user.getCreatedAt());
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode throughput of databinding against {@link UserJsonModule}. Add {@code -prof gc} for the
+ * allocation rate per operation: scripts/jmh.sh UserJsonBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserJsonBenchmark {
+
+    @Param({"databinding", "streaming"})
+    public String codec;
+
+    private ObjectMapper objectMapper;
+    private User user;
+    private byte[] request;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        if (codec.equals("streaming")) {
+            objectMapper.registerModule(new UserJsonModule());
+        }
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName("João Silva");
+        user.setActive(true);
+        user.setDocument("00588380903");
+        user.setEmail("joao@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.FATHER);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30, 15, 123_456_000));
+        request = objectMapper.writeValueAsBytes(new CreateUserDto("João Silva", "00588380903", "joao@test.com",
+                "11999999999", LocalDate.of(1990, 1, 1), Category.FATHER));
+    }
+
+    @Benchmark
+    public byte[] encodeUser() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public CreateUserDto decodeCreateUserDto() throws Exception {
+        return objectMapper.readValue(request, CreateUserDto.class);
+    }
+}
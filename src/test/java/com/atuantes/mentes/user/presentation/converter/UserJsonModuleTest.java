@@ -0,0 +1,171 @@
+package com.atuantes.mentes.user.presentation.converter;
+
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.presentation.dto.CreateUserDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given UserJsonModule")
+class UserJsonModuleTest {
+
+    // Configured like the Spring Boot ObjectMapper
+    private final ObjectMapper databinding = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ObjectMapper streaming = databinding.copy().registerModule(new UserJsonModule());
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 120, 500_000_000, 123_456_789, 100_000})
+    @DisplayName("When writing a user Then should produce the same JSON as databinding")
+    void whenWritingAUser_thenShouldProduceTheSameJsonAsDatabinding(int nanos) throws Exception {
+        // Given
+        User user = user();
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 0, 0, nanos));
+        user.setUpdatedAt(nanos == 0 ? null : LocalDateTime.of(999, 12, 31, 23, 59, 59, nanos));
+
+        // When
+        String json = streaming.writeValueAsString(user);
+
+        // Then
+        assertEquals(databinding.writeValueAsString(user), json);
+    }
+
+    @Test
+    @DisplayName("When reading a user Then should restore every field")
+    void whenReadingAUser_thenShouldRestoreEveryField() throws Exception {
+        // Given
+        User user = user();
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30, 15, 250_000_000));
+
+        // When
+        User result = streaming.readValue(databinding.writeValueAsBytes(user), User.class);
+
+        // Then
+        assertEquals(databinding.writeValueAsString(user), databinding.writeValueAsString(result));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-05-01T08:30", "2024-05-01T08:30:15.1", "2024-05-01T08:30:15Z", "2024-02-30T08:30:15"})
+    @DisplayName("When reading a user with other date-time shapes Then should behave like databinding")
+    void whenReadingAUserWithOtherDateTimeShapes_thenShouldBehaveLikeDatabinding(String createdAt) throws Exception {
+        // Given
+        String json = "{\"id\":\"7f1c1f7e-93a4-4c55-9a57-2a1f0c1f5b10\",\"createdAt\":\"" + createdAt + "\"}";
+        Object expected;
+        try {
+            expected = databinding.readValue(json, User.class).getCreatedAt();
+        } catch (InvalidFormatException e) {
+            expected = InvalidFormatException.class;
+        }
+
+        // When
+        Object result;
+        try {
+            result = streaming.readValue(json, User.class).getCreatedAt();
+        } catch (InvalidFormatException e) {
+            result = InvalidFormatException.class;
+        }
+
+        // Then
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("When reading a request Then should match databinding including coercions and unknown fields")
+    void whenReadingARequest_thenShouldMatchDatabindingIncludingCoercionsAndUnknownFields() throws Exception {
+        // Given
+        String json = """
+                {"fullName":"João Silva","document":12345678909,"extra":{"nested":[1,2]},"email":"joao@test.com",
+                 "phone":null,"birthdate":"1990-02-28","category":"MOTHER"}""";
+
+        // When
+        CreateUserDto result = streaming.readValue(json, CreateUserDto.class);
+
+        // Then
+        assertEquals(databinding.readValue(json, CreateUserDto.class), result);
+        assertEquals("12345678909", result.document());
+        assertEquals(Category.MOTHER, result.category());
+    }
+
+    @Test
+    @DisplayName("When a request is written and read back Then should be equal")
+    void whenARequestIsWrittenAndReadBack_thenShouldBeEqual() throws Exception {
+        // Given
+        CreateUserDto dto = new CreateUserDto("João Silva", "00588380903", "joao@test.com", "11999999999",
+                LocalDate.of(1990, 1, 1), Category.FATHER);
+
+        // When
+        String json = streaming.writeValueAsString(dto);
+
+        // Then
+        assertEquals(databinding.writeValueAsString(dto), json);
+        assertEquals(dto, streaming.readValue(json, CreateUserDto.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"category\":\"UNCLE\"", "\"birthdate\":\"1990-13-01\""})
+    @DisplayName("When a value is invalid Then should fail like databinding")
+    void whenAValueIsInvalid_thenShouldFailLikeDatabinding(String field) {
+        // Given
+        String json = "{\"fullName\":\"João Silva\"," + field + "}";
+
+        // When / Then
+        assertThrows(InvalidFormatException.class, () -> streaming.readValue(json, CreateUserDto.class));
+    }
+
+    @Test
+    @DisplayName("When formatting random dates Then should match the ISO formatters")
+    void whenFormattingRandomDates_thenShouldMatchTheIsoFormatters() {
+        // Given
+        Random random = new Random(42);
+        char[] buffer = new char[IsoDates.DATE_TIME_MAX_LENGTH];
+
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    List.of(0, random.nextInt(1_000_000_000), random.nextInt(1000) * 1_000_000).get(i % 3));
+
+            // When
+            String dateTimeText = new String(buffer, 0, IsoDates.formatDateTime(dateTime, buffer));
+            String dateText = new String(buffer, 0, IsoDates.formatDate(dateTime.toLocalDate(), buffer));
+
+            // Then
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime), dateTimeText);
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.format(dateTime), dateText);
+            assertEquals(dateTime.toLocalDate(), IsoDates.parseDate(dateText));
+            assertEquals(dateTime, IsoDates.parseDateTime(dateTimeText));
+        }
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(UUID.fromString("7f1c1f7e-93a4-4c55-9a57-2a1f0c1f5b10"));
+        user.setFullName("João \"Jota\" Silva");
+        user.setActive(true);
+        user.setDocument("00588380903");
+        user.setEmail("joao@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.GRANDFATHER);
+        return user;
+    }
+}
@@ -0,0 +1,88 @@
+package com.atuantes.mentes.user.presentation.filter;
+
+import com.atuantes.mentes.user.domain.observability.ServerTiming;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given ServerTimingFilter")
+class ServerTimingFilterTest {
+
+    private ServerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ServerTimingFilter();
+    }
+
+    @Test
+    @DisplayName("When request opts in on user endpoint Then should add Server-Timing header and keep body")
+    void whenRequestOptsInOnUserEndpoint_thenShouldAddServerTimingHeaderAndKeepBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/document/00588380903");
+        request.addHeader(ServerTimingFilter.OPT_IN_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean recording = new AtomicBoolean();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req,
+                                   HttpServletResponse res) throws IOException {
+                recording.set(ServerTiming.isActive());
+                ServerTiming.stop(ServerTiming.Phase.QUERY, ServerTiming.start());
+                res.getWriter().write("{}");
+            }
+        });
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertTrue(recording.get());
+        assertFalse(ServerTiming.isActive());
+        assertEquals("{}", response.getContentAsString());
+        String header = response.getHeader(ServerTiming.HEADER);
+        assertNotNull(header);
+        assertTrue(header.contains("query;"));
+        assertTrue(header.contains("total;"));
+    }
+
+    @Test
+    @DisplayName("When request does not opt in Then should not add Server-Timing header")
+    void whenRequestDoesNotOptIn_thenShouldNotAddServerTimingHeader() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/user");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertNull(response.getHeader(ServerTiming.HEADER));
+    }
+
+    @Test
+    @DisplayName("When request opts in on other endpoint Then should not add Server-Timing header")
+    void whenRequestOptsInOnOtherEndpoint_thenShouldNotAddServerTimingHeader() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.addHeader(ServerTimingFilter.OPT_IN_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertNull(response.getHeader(ServerTiming.HEADER));
+    }
+}
@@ -0,0 +1,394 @@
+package com.atuantes.mentes.user.presentation.grpc;
+
+import com.atuantes.mentes.user.application.command.CreateUserCommand;
+import com.atuantes.mentes.user.application.usecase.CreateUserUseCase;
+import com.atuantes.mentes.user.application.usecase.FindUserByDocumentUseCase;
+import com.atuantes.mentes.user.domain.entity.Category;
+import com.atuantes.mentes.user.domain.entity.User;
+import com.atuantes.mentes.user.domain.exception.UserNotFoundException;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import com.atuantes.mentes.user.domain.message.UserMessage;
+import com.atuantes.mentes.user.domain.observability.event.DocumentHasher;
+import com.atuantes.mentes.user.infraestructure.persistence.concurrency.RequestPriority;
+import com.atuantes.mentes.user.presentation.grpc.v1.CreateUserRequest;
+import com.atuantes.mentes.user.presentation.grpc.v1.FindByDocumentRequest;
+import com.atuantes.mentes.user.presentation.grpc.v1.FindByDocumentResult;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserCategory;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserResponse;
+import com.atuantes.mentes.user.presentation.grpc.v1.UserServiceGrpc;
+import com.atuantes.mentes.user.presentation.mapper.CreateUserDtoToCommand;
+import com.atuantes.mentes.user.presentation.ratelimit.DocumentLookupRateLimiter;
+import com.atuantes.mentes.user.presentation.ratelimit.RateLimitProperties;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Given UserGrpcService")
+class UserGrpcServiceTest {
+
+    private static final int STREAM_WINDOW = 4;
+    private static final String AUTH_TOKEN = "s3cr3t";
+
+    private final CreateUserUseCase createUserUseCase = mock(CreateUserUseCase.class);
+    private final FindUserByDocumentUseCase findUserByDocumentUseCase = mock(FindUserByDocumentUseCase.class);
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final UUID transactionId = UUID.randomUUID();
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        start(new DocumentLookupRateLimiter(new RateLimitProperties(false, "", 1, 1, 4, 1024)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        stop();
+        executor.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("When creating a valid user Then should return the created user")
+    void whenCreatingAValidUser_thenShouldReturnTheCreatedUser() {
+        // Given
+        User created = user("00588380903");
+        when(createUserUseCase.createUser(any(CreateUserCommand.class), eq(transactionId))).thenReturn(created);
+
+        // When
+        UserResponse response = stub().createUser(CreateUserRequest.newBuilder()
+                .setFullName("João Silva")
+                .setDocument("00588380903")
+                .setEmail("joao@test.com")
+                .setPhone("11999999999")
+                .setBirthdate("1990-01-01")
+                .setCategory(UserCategory.USER_CATEGORY_MOTHER)
+                .build());
+
+        // Then
+        assertEquals(created.getId().toString(), response.getId());
+        assertEquals(UserCategory.USER_CATEGORY_FATHER, response.getCategory());
+        assertEquals("2024-05-01T08:30:00", response.getCreatedAt());
+        assertEquals("", response.getUpdatedAt());
+        verify(createUserUseCase).createUser(argThat(command -> command.getCategory() == Category.MOTHER
+                && command.getBirthdate().equals(LocalDate.of(1990, 1, 1))), eq(transactionId));
+    }
+
+    @Test
+    @DisplayName("When creating an invalid user Then should fail with INVALID_ARGUMENT and the validation code")
+    void whenCreatingAnInvalidUser_thenShouldFailWithInvalidArgumentAndTheValidationCode() {
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub().createUser(CreateUserRequest.newBuilder().setFullName("João Silva").build()));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        assertEquals("VAL-0001", exception.getTrailers().get(UserGrpcService.ERROR_CODE));
+        assertTrue(exception.getStatus().getDescription().contains("A categoria é obrigatória"));
+        verifyNoInteractions(createUserUseCase);
+    }
+
+    @Test
+    @DisplayName("When the user is not found Then should fail with NOT_FOUND and the use case code")
+    void whenTheUserIsNotFound_thenShouldFailWithNotFoundAndTheUseCaseCode() {
+        // Given
+        when(findUserByDocumentUseCase.findUserByDocument("00588380903", transactionId))
+                .thenThrow(new UserNotFoundException("USER-0007", "not found"));
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub().findByDocument(FindByDocumentRequest.newBuilder().setDocument("005.883.809-03").build()));
+
+        // Then
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+        assertEquals("USER-0007", exception.getTrailers().get(UserGrpcService.ERROR_CODE));
+    }
+
+    @Test
+    @DisplayName("When the transaction id is missing Then should fail with INVALID_ARGUMENT")
+    void whenTheTransactionIdIsMissing_thenShouldFailWithInvalidArgument() {
+        // Given
+        Metadata authorization = new Metadata();
+        authorization.put(AuthTokenServerInterceptor.AUTHORIZATION_HEADER, "Bearer " + AUTH_TOKEN);
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> UserServiceGrpc.newBlockingStub(channel)
+                        .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(authorization))
+                        .findByDocument(FindByDocumentRequest.newBuilder().setDocument("00588380903").build()));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        verifyNoInteractions(findUserByDocumentUseCase);
+    }
+
+    @Test
+    @DisplayName("When the bearer token is missing or wrong Then should fail with UNAUTHENTICATED")
+    void whenTheBearerTokenIsMissingOrWrong_thenShouldFailWithUnauthenticated() {
+        // Given
+        Metadata wrongToken = headers();
+        wrongToken.put(AuthTokenServerInterceptor.AUTHORIZATION_HEADER, "Bearer guess");
+        Metadata noToken = new Metadata();
+        noToken.put(TransactionIdServerInterceptor.TRANSACTION_ID_HEADER, transactionId.toString());
+        FindByDocumentRequest request = FindByDocumentRequest.newBuilder().setDocument("00588380903").build();
+
+        // When
+        StatusRuntimeException wrong = assertThrows(StatusRuntimeException.class,
+                () -> UserServiceGrpc.newBlockingStub(channel)
+                        .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(wrongToken))
+                        .findByDocument(request));
+        StatusRuntimeException missing = assertThrows(StatusRuntimeException.class,
+                () -> UserServiceGrpc.newBlockingStub(channel)
+                        .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(noToken))
+                        .findByDocument(request));
+
+        // Then
+        assertEquals(Status.Code.UNAUTHENTICATED, wrong.getStatus().getCode());
+        assertEquals(Status.Code.UNAUTHENTICATED, missing.getStatus().getCode());
+        verifyNoInteractions(findUserByDocumentUseCase);
+    }
+
+    @Test
+    @DisplayName("When an unexpected error occurs Then should fail with INTERNAL and a fixed message")
+    void whenAnUnexpectedErrorOccurs_thenShouldFailWithInternalAndAFixedMessage() {
+        // Given
+        when(findUserByDocumentUseCase.findUserByDocument("00588380903", transactionId))
+                .thenThrow(new IllegalStateException("relation \"users\" does not exist"));
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub().findByDocument(FindByDocumentRequest.newBuilder().setDocument("00588380903").build()));
+
+        // Then
+        assertEquals(Status.Code.INTERNAL, exception.getStatus().getCode());
+        assertEquals(UserMessage.ERROR_OCCURS_WHILE_PROCESSING_REQUEST.getMessage(),
+                exception.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("When lookups miss Then should charge the penalty and fail with RESOURCE_EXHAUSTED")
+    void whenLookupsMiss_thenShouldChargeThePenaltyAndFailWithResourceExhausted() throws Exception {
+        // Given
+        stop();
+        start(new DocumentLookupRateLimiter(new RateLimitProperties(true, "", 1, 5, 4, 1024)));
+        when(findUserByDocumentUseCase.findUserByDocument("00588380903", transactionId))
+                .thenThrow(new UserNotFoundException("USER-0007", "not found"));
+        FindByDocumentRequest request = FindByDocumentRequest.newBuilder().setDocument("00588380903").build();
+        assertThrows(StatusRuntimeException.class, () -> stub().findByDocument(request));
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub().findByDocument(request));
+
+        // Then
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, exception.getStatus().getCode());
+        assertEquals(UserErrorMessage.TOO_MANY_REQUESTS.getCode(),
+                exception.getTrailers().get(UserGrpcService.ERROR_CODE));
+        assertNotNull(exception.getTrailers().get(UserGrpcService.RETRY_AFTER));
+        verify(findUserByDocumentUseCase, times(1)).findUserByDocument("00588380903", transactionId);
+    }
+
+    @Test
+    @DisplayName("When a stream looks up more documents than the budget Then should refuse the rest")
+    void whenAStreamLooksUpMoreDocumentsThanTheBudget_thenShouldRefuseTheRest() throws Exception {
+        // Given
+        stop();
+        start(new DocumentLookupRateLimiter(new RateLimitProperties(true, "", 1, 3, 4, 1024)));
+        when(findUserByDocumentUseCase.findUserByDocument(any(), eq(transactionId)))
+                .thenAnswer(invocation -> user(invocation.getArgument(0)));
+        List<FindByDocumentResult> results = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // When
+        StreamObserver<FindByDocumentRequest> requests = UserServiceGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers()))
+                .findByDocuments(new StreamObserver<>() {
+                    @Override
+                    public void onNext(FindByDocumentResult result) {
+                        results.add(result);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+        for (int i = 0; i < 5; i++) {
+            requests.onNext(FindByDocumentRequest.newBuilder().setDocument(String.format("%011d", i)).build());
+        }
+        requests.onCompleted();
+
+        // Then
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(5, results.size());
+        assertEquals(3, results.stream().filter(FindByDocumentResult::hasUser).count());
+        assertEquals(2, results.stream()
+                .filter(result -> result.getError().getCode().equals(UserErrorMessage.TOO_MANY_REQUESTS.getCode()))
+                .count());
+        verify(findUserByDocumentUseCase, times(3)).findUserByDocument(any(), eq(transactionId));
+    }
+
+    @Test
+    @DisplayName("When streaming lookups Then should answer every document and never exceed the window")
+    void whenStreamingLookups_thenShouldAnswerEveryDocumentAndNeverExceedTheWindow() throws Exception {
+        // Given
+        int documents = 200;
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        Set<RequestPriority> priorities = ConcurrentHashMap.newKeySet();
+        when(findUserByDocumentUseCase.findUserByDocument(any(), eq(transactionId))).thenAnswer(invocation -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            priorities.add(RequestPriority.current());
+            try {
+                Thread.sleep(2);
+                String document = invocation.getArgument(0);
+                if (document.endsWith("7")) {
+                    throw new UserNotFoundException("USER-0007", "not found");
+                }
+                return user(document);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        });
+        Metadata headers = headers();
+        headers.put(TransactionIdServerInterceptor.PRIORITY_HEADER, "batch");
+        Set<String> found = ConcurrentHashMap.newKeySet();
+        Set<String> missing = ConcurrentHashMap.newKeySet();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // When
+        UserServiceGrpc.newStub(channel).withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .findByDocuments(new ClientResponseObserver<FindByDocumentRequest, FindByDocumentResult>() {
+
+                    private int sent;
+
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<FindByDocumentRequest> requests) {
+                        requests.setOnReadyHandler(() -> {
+                            while (requests.isReady() && sent < documents) {
+                                requests.onNext(FindByDocumentRequest.newBuilder()
+                                        .setDocument(String.format("%011d", sent++))
+                                        .build());
+                            }
+                            if (sent == documents) {
+                                sent++;
+                                requests.onCompleted();
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void onNext(FindByDocumentResult result) {
+                        (result.hasUser() ? found : missing).add(result.getDocument());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        error.set(t);
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+
+        // Then
+        assertTrue(completed.await(30, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertEquals(documents / 10, missing.size());
+        assertEquals(documents - documents / 10, found.size());
+        assertTrue(maxConcurrent.get() <= STREAM_WINDOW, "at most the window is in flight");
+        assertTrue(maxConcurrent.get() > 1, "lookups are pipelined");
+        assertEquals(Set.of(RequestPriority.BATCH), priorities);
+    }
+
+    private void start(DocumentLookupRateLimiter rateLimiter) throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        UserGrpcService service = new UserGrpcService(new CreateUserDtoToCommand(), createUserUseCase,
+                findUserByDocumentUseCase, validatorFactory.getValidator(), rateLimiter, new DocumentHasher("test"),
+                executor, STREAM_WINDOW);
+        server = InProcessServerBuilder.forName(name)
+                .executor(executor)
+                .addService(ServerInterceptors.intercept(service,
+                        new TransactionIdServerInterceptor(rateLimiter.getClientHeader()),
+                        new AuthTokenServerInterceptor(AUTH_TOKEN)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    private void stop() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private UserServiceGrpc.UserServiceBlockingStub stub() {
+        return UserServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers()));
+    }
+
+    private Metadata headers() {
+        Metadata headers = new Metadata();
+        headers.put(TransactionIdServerInterceptor.TRANSACTION_ID_HEADER, transactionId.toString());
+        headers.put(AuthTokenServerInterceptor.AUTHORIZATION_HEADER, "Bearer " + AUTH_TOKEN);
+        return headers;
+    }
+
+    private static User user(String document) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName("João Silva");
+        user.setActive(true);
+        user.setDocument(document);
+        user.setEmail("joao@test.com");
+        user.setPhone("11999999999");
+        user.setBirthdate(LocalDate.of(1990, 1, 1));
+        user.setCategory(Category.FATHER);
+        user.setCreatedAt(LocalDateTime.of(2024, 5, 1, 8, 30));
+        return user;
+    }
+}
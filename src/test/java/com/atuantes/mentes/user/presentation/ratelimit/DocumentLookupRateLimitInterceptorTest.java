@@ -0,0 +1,153 @@
+package com.atuantes.mentes.user.presentation.ratelimit;
+
+import com.atuantes.mentes.user.domain.exception.UserTooManyRequestsException;
+import com.atuantes.mentes.user.domain.message.UserErrorMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Given DocumentLookupRateLimitInterceptor")
+class DocumentLookupRateLimitInterceptorTest {
+
+    private static final Object HANDLER = new Object();
+
+    @Test
+    @DisplayName("When client is within its budget Then should pass and report rate limit headers")
+    void whenClientIsWithinItsBudget_thenShouldPassAndReportRateLimitHeaders() {
+        // Given
+        DocumentLookupRateLimitInterceptor interceptor = interceptor(5, 4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request("10.0.0.1"), response, HANDLER);
+
+        // Then
+        assertTrue(proceed);
+        assertEquals("5", response.getHeader(DocumentLookupRateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("4", response.getHeader(DocumentLookupRateLimitInterceptor.REMAINING_HEADER));
+        assertNotNull(response.getHeader(DocumentLookupRateLimitInterceptor.RESET_HEADER));
+    }
+
+    @Test
+    @DisplayName("When budget is exhausted Then should reject with too many requests")
+    void whenBudgetIsExhausted_thenShouldRejectWithTooManyRequests() {
+        // Given
+        DocumentLookupRateLimitInterceptor interceptor = interceptor(2, 4);
+        interceptor.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), HANDLER);
+        interceptor.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), HANDLER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        UserTooManyRequestsException exception = assertThrows(UserTooManyRequestsException.class,
+                () -> interceptor.preHandle(request("10.0.0.1"), response, HANDLER));
+
+        // Then
+        assertEquals(UserErrorMessage.TOO_MANY_REQUESTS.getCode(), exception.getCode());
+        assertFalse(exception.getRetryAfter().isNegative());
+        assertEquals("0", response.getHeader(DocumentLookupRateLimitInterceptor.REMAINING_HEADER));
+        assertTrue(interceptor.preHandle(request("10.0.0.2"), new MockHttpServletResponse(), HANDLER));
+    }
+
+    @Test
+    @DisplayName("When lookups miss Then should drain the client budget faster")
+    void whenLookupsMiss_thenShouldDrainTheClientBudgetFaster() {
+        // Given
+        DocumentLookupRateLimitInterceptor interceptor = interceptor(10, 4);
+        MockHttpServletRequest request = request("10.0.0.1");
+        MockHttpServletResponse notFound = new MockHttpServletResponse();
+        interceptor.preHandle(request, notFound, HANDLER);
+        notFound.setStatus(404);
+
+        // When
+        interceptor.afterCompletion(request, notFound, HANDLER, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request("10.0.0.1"), response, HANDLER);
+
+        // Then
+        assertEquals("4", response.getHeader(DocumentLookupRateLimitInterceptor.REMAINING_HEADER));
+    }
+
+    @Test
+    @DisplayName("When client header is configured Then should key buckets by client id")
+    void whenClientHeaderIsConfigured_thenShouldKeyBucketsByClientId() {
+        // Given
+        DocumentLookupRateLimitInterceptor interceptor = new DocumentLookupRateLimitInterceptor(
+                new DocumentLookupRateLimiter(new RateLimitProperties(true, "x-client-id", 1, 1, 4, 1024)));
+        MockHttpServletRequest first = request("10.0.0.1");
+        first.addHeader("x-client-id", "partner-a");
+        MockHttpServletRequest second = request("10.0.0.1");
+        second.addHeader("x-client-id", "partner-b");
+
+        // When & Then
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), HANDLER));
+        assertTrue(interceptor.preHandle(second, new MockHttpServletResponse(), HANDLER));
+    }
+
+    @Test
+    @DisplayName("When disabled Then should not limit")
+    void whenDisabled_thenShouldNotLimit() {
+        // Given
+        DocumentLookupRateLimitInterceptor interceptor =
+                new DocumentLookupRateLimitInterceptor(new DocumentLookupRateLimiter(
+                        new RateLimitProperties(false, "", 1, 1, 4, 1024)));
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), HANDLER));
+        }
+    }
+
+    @Test
+    @DisplayName("When tokens refill Then should grant again after the wait")
+    void whenTokensRefill_thenShouldGrantAgainAfterTheWait() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(16, 1, 10);
+        int slot = table.slot("client");
+        assertEquals(0, table.tryAcquire(slot, TokenBucketTable.SCALE, 1));
+
+        // When
+        long refused = table.tryAcquire(slot, TokenBucketTable.SCALE, 50);
+        long granted = table.tryAcquire(slot, TokenBucketTable.SCALE, 101);
+
+        // Then
+        assertEquals(-51, refused);
+        assertEquals(0, granted);
+    }
+
+    @Test
+    @DisplayName("When the rate is not positive Then should fail at bind time")
+    void whenTheRateIsNotPositive_thenShouldFailAtBindTime() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(RateLimitTestConfig.class)
+                .withPropertyValues("user.rate-limit.enabled=true", "user.rate-limit.rate-per-second=0")
+                .run(context -> {
+                    assertNotNull(context.getStartupFailure());
+                    assertInstanceOf(BindValidationException.class,
+                            NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure()));
+                });
+    }
+
+    private static DocumentLookupRateLimitInterceptor interceptor(int burst, int missPenalty) {
+        return new DocumentLookupRateLimitInterceptor(
+                new DocumentLookupRateLimiter(new RateLimitProperties(true, "", 1, burst, missPenalty, 1024)));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/document/00588380903");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    @Import(DocumentLookupRateLimiter.class)
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class RateLimitTestConfig {
+    }
+}